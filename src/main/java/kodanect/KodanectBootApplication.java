@@ -1,13 +1,55 @@
 package kodanect;
 
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.config.properties.ActionLogIngestProperties;
+import kodanect.common.config.properties.ActionLogParameterProperties;
+import kodanect.common.config.properties.ActionLogReadAggregationProperties;
+import kodanect.common.config.properties.ActionLogSamplingProperties;
+import kodanect.common.config.properties.ActionLogSinkProperties;
+import kodanect.common.config.properties.ActionLogSpoolProperties;
+import kodanect.common.config.properties.ActionLogStorageProperties;
+import kodanect.common.config.properties.ActionLogSystemInfoProperties;
+import kodanect.common.config.properties.ActionLogTextProperties;
+import kodanect.common.config.properties.ActionLogWriterProperties;
+import kodanect.common.config.properties.BoardCountProperties;
+import kodanect.common.config.properties.FirstPageCacheProperties;
 import kodanect.common.config.properties.GlobalsProperties;
+import kodanect.common.config.properties.LatencyProperties;
+import kodanect.common.config.properties.MemorialDetailCacheProperties;
+import kodanect.common.config.properties.MemorialEmotionProperties;
+import kodanect.common.config.properties.ReadCountProperties;
+import kodanect.common.config.properties.SearchCacheProperties;
+import kodanect.common.config.properties.ViewDedupProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(GlobalsProperties.class)
+@EnableConfigurationProperties({
+		GlobalsProperties.class,
+		ActionLogBufferProperties.class,
+		ActionLogFlushProperties.class,
+		ActionLogIngestProperties.class,
+		ActionLogParameterProperties.class,
+		ActionLogReadAggregationProperties.class,
+		ActionLogSamplingProperties.class,
+		ActionLogSinkProperties.class,
+		ActionLogSpoolProperties.class,
+		ActionLogStorageProperties.class,
+		ActionLogSystemInfoProperties.class,
+		ActionLogTextProperties.class,
+		ActionLogWriterProperties.class,
+		BoardCountProperties.class,
+		FirstPageCacheProperties.class,
+		LatencyProperties.class,
+		MemorialDetailCacheProperties.class,
+		MemorialEmotionProperties.class,
+		ReadCountProperties.class,
+		SearchCacheProperties.class,
+		ViewDedupProperties.class
+})
 @EnableScheduling
 public class KodanectBootApplication {
 
@@ -0,0 +1,136 @@
+package kodanect.common.boardcount;
+
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판별 전체 게시글 수를 메모리에 유지하여, 목록 조회 시 COUNT(*) 없이 반환하는 컴포넌트입니다.
+ *
+ * - 게시판별 값은 처음 조회할 때 DB에서 한 번 읽습니다.
+ * - 게시글 등록/소프트 삭제 시 각 서비스가 {@link #increment}/{@link #decrement}를 호출합니다.
+ *   트랜잭션 안에서 호출하면 커밋 이후에 반영하고, 롤백되면 반영하지 않습니다.
+ * - reconcileIntervalMillis마다 DB 값과 비교하여 보정합니다.
+ *   (관리자 화면 등 이 서버를 거치지 않은 변경, 최초 로딩/보정과 동시에 일어난 등록·삭제의 오차를 바로잡습니다.)
+ *
+ * 검색 조건이 있는 목록의 개수는 대상이 아니며, 기존대로 조건별 COUNT 쿼리를 사용합니다.
+ * 단일 인스턴스 서버 기준이며, 다른 인스턴스의 변경은 보정 주기마다 반영됩니다.
+ */
+@Component
+public class BoardCountRegistry {
+
+    private static final SecureLogger log = SecureLogger.getLogger(BoardCountRegistry.class);
+
+    private static final long UNLOADED = -1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CountedBoard, AtomicLong> counts = new EnumMap<>(CountedBoard.class);
+
+    public BoardCountRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        for (CountedBoard board : CountedBoard.values()) {
+            counts.put(board, new AtomicLong(UNLOADED));
+        }
+    }
+
+    /**
+     * 게시판의 전체 게시글 수를 반환합니다. (처음 호출 시에만 DB 조회)
+     *
+     * @param board 게시판
+     * @return 삭제되지 않은 게시글 수
+     */
+    public long get(CountedBoard board) {
+        long count = counts.get(board).get();
+        return count != UNLOADED ? count : load(board);
+    }
+
+    /**
+     * 게시글 등록을 반영합니다.
+     *
+     * @param board 게시판
+     */
+    public void increment(CountedBoard board) {
+        adjustAfterCommit(board, 1L);
+    }
+
+    /**
+     * 게시글 (소프트) 삭제를 반영합니다.
+     *
+     * @param board 게시판
+     */
+    public void decrement(CountedBoard board) {
+        adjustAfterCommit(board, -1L);
+    }
+
+    /**
+     * 이미 읽어 온 게시판의 값을 DB 값으로 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${board-count.reconcile-interval-millis:300000}",
+            initialDelayString = "${board-count.reconcile-interval-millis:300000}")
+    public void reconcile() {
+        for (CountedBoard board : CountedBoard.values()) {
+            AtomicLong count = counts.get(board);
+
+            if (count.get() == UNLOADED) {
+                continue;
+            }
+
+            try {
+                long actual = query(board);
+                long previous = count.getAndSet(actual);
+
+                if (previous != actual) {
+                    log.info("[게시글 수] {} 보정: {} -> {}", board, previous, actual);
+                }
+            } catch (DataAccessException e) {
+                log.warn("[게시글 수] {} 보정 실패, 기존 값 유지: {}", board, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized long load(CountedBoard board) {
+        AtomicLong count = counts.get(board);
+
+        if (count.get() == UNLOADED) {
+            count.set(query(board));
+        }
+        return count.get();
+    }
+
+    private void adjustAfterCommit(CountedBoard board, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(board, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(board, delta);
+            }
+        });
+    }
+
+    /**
+     * 아직 읽어 오지 않은 게시판은 변경하지 않습니다. (처음 조회할 때 DB 값을 읽음)
+     */
+    private void adjust(CountedBoard board, long delta) {
+        counts.get(board).getAndUpdate(current -> current == UNLOADED ? UNLOADED : Math.max(0L, current + delta));
+    }
+
+    private long query(CountedBoard board) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + board.getTableName() + " WHERE del_flag = 'N'", Long.class);
+        return count != null ? count : 0L;
+    }
+
+}
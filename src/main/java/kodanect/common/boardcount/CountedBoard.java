@@ -0,0 +1,22 @@
+package kodanect.common.boardcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 게시글 수를 {@link BoardCountRegistry}에서 관리하는 게시판과 해당 테이블 정보입니다.
+ *
+ * 게시글 수는 삭제되지 않은(del_flag = 'N') 행 수입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CountedBoard {
+
+    HEAVEN("tb25_410_heaven_letter"),
+    MEMORIAL("tb25_400_memorial"),
+    DONATION("tb25_420_donation_story"),
+    RECIPIENT("tb25_430_recipient_letter");
+
+    private final String tableName;
+
+}
@@ -1,27 +1,56 @@
 package kodanect.common.buffer;
 
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.common.constant.UserActionKey;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * 백엔드 로그를 세션 ID 및 CRUD 단위로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<UserActionKey, Queue<BackendLogDto>>}
+ * - 버퍼 구조: {@link KeyedLogBuffer} ({@link BoundedKeyedLogBuffer}, backend=OFF_HEAP이면 {@link OffHeapKeyedLogBuffer})
  * - HTTP Method를 기반으로 {@link CrudCode}를 분류하여 그룹핑합니다.
- * - 동시성 안전을 위해 {@link ConcurrentHashMap}과 {@link ConcurrentLinkedQueue}를 사용합니다.
- * - 특정 임계치(threshold)를 넘은 경우 또는 전체 배출 시 로그를 추출합니다.
+ * - 키별 최대 건수와 전체 메모리 예산을 넘으면 {@link OverflowPolicy}에 따라 처리합니다.
+ * - 키별 임계 건수 또는 고수위에 도달하면 {@link LogBufferReadyEvent}를 발행합니다.
+ * - 특정 임계치(threshold)를 넘었거나 오래된 경우, 또는 전체 배출 시 로그를 추출합니다.
  */
 @Component
 public class BackendLogBuffer {
 
     private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<UserActionKey, Queue<BackendLogDto>> buffer = new ConcurrentHashMap<>();
+    private final KeyedLogBuffer<BackendLogDto> buffer;
+
+    public BackendLogBuffer(ActionLogBufferProperties properties,
+                            ActionLogFlushProperties flushProperties,
+                            ApplicationEventPublisher eventPublisher) {
+        Consumer<CrudCode> overflowListener = code -> eventPublisher.publishEvent(new LogBufferOverflowEvent(code));
+        BiConsumer<CrudCode, FlushTrigger> readyListener =
+                (code, trigger) -> eventPublisher.publishEvent(new LogBufferReadyEvent(code, trigger));
+
+        this.buffer = properties.getBackend() == LogBufferBackend.OFF_HEAP
+                ? new OffHeapKeyedLogBuffer<>(
+                        "backend",
+                        properties,
+                        flushProperties,
+                        BackendLogBuffer::toFields,
+                        BackendLogBuffer::fromFields,
+                        overflowListener,
+                        readyListener)
+                : new BoundedKeyedLogBuffer<>(
+                        "backend",
+                        properties,
+                        flushProperties,
+                        BackendLogBuffer::estimateBytes,
+                        overflowListener,
+                        readyListener);
+    }
 
     /**
      * 백엔드 로그를 버퍼에 추가합니다.
@@ -40,7 +69,7 @@ public class BackendLogBuffer {
         CrudCode crudCode = CrudCode.fromHttpMethod(log.getHttpMethod());
         UserActionKey key = new UserActionKey(sessionId, crudCode);
 
-        buffer.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(log);
+        buffer.add(key, log);
     }
 
     /**
@@ -53,29 +82,20 @@ public class BackendLogBuffer {
      * @return 배출된 사용자 액션 키 및 해당 로그 목록
      */
     public Map<UserActionKey, List<BackendLogDto>> drainIfThresholdMet(CrudCode code, int threshold) {
-        Map<UserActionKey, List<BackendLogDto>> result = new HashMap<>();
-
-        for (Map.Entry<UserActionKey, Queue<BackendLogDto>> entry : buffer.entrySet()) {
-            UserActionKey key = entry.getKey();
-
-            if (key.getCrudCode() != code) {
-                continue;
-            }
-
-            Queue<BackendLogDto> queue = entry.getValue();
-
-            if (queue.size() >= threshold) {
-                List<BackendLogDto> drained = new ArrayList<>();
-
-                while (!queue.isEmpty() && drained.size() < threshold) {
-                    drained.add(queue.poll());
-                }
-
-                result.put(key, drained);
-            }
-        }
+        return buffer.drainIfThresholdMet(code, threshold);
+    }
 
-        return result;
+    /**
+     * 주어진 CRUD 코드에 해당하는 키 중, 로그 개수가 임계값 이상이거나
+     * 가장 오래된 로그가 최대 보관 시간을 넘긴 키의 로그를 모두 추출합니다.
+     *
+     * @param code         필터링할 CRUD 코드
+     * @param threshold    로그 배출 임계값
+     * @param maxAgeMillis 최대 보관 시간(ms)
+     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     */
+    public Map<UserActionKey, List<BackendLogDto>> drainDue(CrudCode code, int threshold, long maxAgeMillis) {
+        return buffer.drainDue(code, threshold, maxAgeMillis);
     }
 
     /**
@@ -84,23 +104,77 @@ public class BackendLogBuffer {
      * @return 모든 사용자 액션 키 및 해당 로그 목록
      */
     public Map<UserActionKey, List<BackendLogDto>> drainAll() {
-        Map<UserActionKey, List<BackendLogDto>> result = new HashMap<>();
+        return buffer.drainAll();
+    }
+
+    /**
+     * @return 현재 버퍼에 보관 중인 로그 건수
+     */
+    public int getBufferedCount() {
+        return buffer.getBufferedCount();
+    }
 
-        for (Map.Entry<UserActionKey, Queue<BackendLogDto>> entry : buffer.entrySet()) {
-            Queue<BackendLogDto> queue = entry.getValue();
-            List<BackendLogDto> drained = new ArrayList<>();
+    /**
+     * @return 현재 버퍼에 보관 중인 로그의 추정 바이트 수
+     */
+    public long getBufferedBytes() {
+        return buffer.getBufferedBytes();
+    }
 
-            while (!queue.isEmpty()) {
-                drained.add(queue.poll());
-            }
+    /**
+     * @return 용량 초과로 버려진 누적 로그 건수
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
 
-            if (!drained.isEmpty()) {
-                result.put(entry.getKey(), drained);
-            }
-        }
+    /**
+     * @return 가장 오래된 로그의 보관 시간(ms), 비어 있으면 0
+     */
+    public long getOldestEntryAgeMillis() {
+        return buffer.getOldestEntryAgeMillis();
+    }
+
+    /**
+     * @return CRUD 코드별 키 수, 로그 건수, 가장 오래된 로그의 보관 시간
+     */
+    public Map<CrudCode, BufferStats> getStatsByCrudCode() {
+        return buffer.getStatsByCrudCode();
+    }
+
+    private static int estimateBytes(BackendLogDto log) {
+        return BoundedKeyedLogBuffer.estimateBytes(
+                log.getHttpMethod(),
+                log.getEndpoint(),
+                log.getController(),
+                log.getMethod(),
+                log.getParameters(),
+                log.getTimestamp()
+        );
+    }
+
+    private static String[] toFields(BackendLogDto log) {
+        return new String[]{
+                log.getHttpMethod(),
+                log.getEndpoint(),
+                log.getController(),
+                log.getMethod(),
+                log.getParameters(),
+                log.getTimestamp()
+        };
+    }
 
-        buffer.clear();
-        return result;
+    private static BackendLogDto fromFields(String[] fields) {
+        int index = 0;
+
+        return BackendLogDto.builder()
+                .httpMethod(fields[index++])
+                .endpoint(fields[index++])
+                .controller(fields[index++])
+                .method(fields[index++])
+                .parameters(fields[index++])
+                .timestamp(fields[index++])
+                .build();
     }
 
 }
@@ -0,0 +1,506 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 용량이 제한된 {@link KeyedLogBuffer} 구현체입니다.
+ *
+ * - 키별 저장소: 최대 perKeyCapacity 건을 보관하는 링 형태의 세그먼트 ({@link ArrayDeque})
+ * - 전체 사용량: 건수와 추정 바이트를 원자적 카운터로 관리하여 O(1)로 조회합니다.
+ * - 용량 초과: 키별 최대 건수 또는 전체 메모리 예산을 넘으면 {@link OverflowPolicy}를 적용합니다.
+ *   키별 최대 건수를 넘으면 해당 키에서, 전체 메모리 예산을 넘으면 전체 버퍼에서 가장 오래된 로그를 밀어냅니다.
+ *   전체 메모리 예산은 추가 전에 원자적으로 선점하므로 동시 추가 중에도 초과되지 않습니다.
+ * - 비워진 세그먼트는 배출 시 맵에서 제거되어 키 맵이 무한히 커지지 않습니다.
+ * - 배출 설정이 주어지면 키별 임계 건수 또는 고수위에 도달했을 때 배출 신호를 한 번 발행합니다.
+ *   고수위 신호는 사용량이 저수위 아래로 내려간 뒤에야 다시 발행됩니다. ({@link BufferPressure})
+ *   신호와 조기 배출 요청은 세그먼트 잠금 안에서 기록만 하고 잠금을 푼 뒤 발행합니다.
+ * - 전체 적재 순서를 잠금 없는 큐로 따로 보관하여, 전체 예산 초과 시 가장 오래된 로그를 세그먼트를 훑지 않고 O(1)로 찾습니다.
+ *   배출 등으로 이미 빠진 항목은 큐에 표시만 남기고, 그 수가 보관 건수보다 많아지면 한 번에 정리합니다.
+ *
+ * 세그먼트 단위로만 잠금을 사용하므로 서로 다른 세션 간 경합은 발생하지 않으며, 한 번에 하나의 세그먼트만 잠급니다.
+ *
+ * @param <T> 버퍼링할 로그 타입
+ */
+public class BoundedKeyedLogBuffer<T> implements KeyedLogBuffer<T> {
+
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int BYTES_PER_CHAR = 2;
+    private static final int MIN_STALE_BEFORE_COMPACT = 1024;
+
+    private final Map<UserActionKey, Segment<T>> segments = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry<T>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicInteger staleOrderEntries = new AtomicInteger();
+    private final AtomicBoolean compacting = new AtomicBoolean(false);
+
+    private final int perKeyCapacity;
+    private final ToIntFunction<T> sizeEstimator;
+    private final BufferPressure pressure;
+
+    /**
+     * 배출 신호 없이 용량 제한만 적용하는 버퍼를 생성합니다.
+     *
+     * @param name             로그 출력용 버퍼 이름
+     * @param properties       버퍼 용량 및 초과 정책 설정
+     * @param sizeEstimator    로그 한 건의 추정 바이트 계산 함수
+     * @param overflowListener FLUSH_EARLY 정책에서 조기 배출을 요청할 콜백
+     */
+    public BoundedKeyedLogBuffer(String name,
+                                 ActionLogBufferProperties properties,
+                                 ToIntFunction<T> sizeEstimator,
+                                 Consumer<CrudCode> overflowListener) {
+        this(name, properties, null, sizeEstimator, overflowListener, (code, trigger) -> { });
+    }
+
+    /**
+     * @param name             로그 출력용 버퍼 이름
+     * @param properties       버퍼 용량 및 초과 정책 설정
+     * @param flushProperties  키별 임계 건수 및 고수위/저수위 설정 (null이면 배출 신호를 발행하지 않음)
+     * @param sizeEstimator    로그 한 건의 추정 바이트 계산 함수
+     * @param overflowListener FLUSH_EARLY 정책에서 조기 배출을 요청할 콜백
+     * @param readyListener    배출 조건 도달 시 호출할 콜백
+     */
+    public BoundedKeyedLogBuffer(String name,
+                                 ActionLogBufferProperties properties,
+                                 ActionLogFlushProperties flushProperties,
+                                 ToIntFunction<T> sizeEstimator,
+                                 Consumer<CrudCode> overflowListener,
+                                 BiConsumer<CrudCode, FlushTrigger> readyListener) {
+        this.perKeyCapacity = Math.max(1, properties.getPerKeyCapacity());
+        this.sizeEstimator = sizeEstimator;
+        this.pressure = new BufferPressure(name, properties, flushProperties, overflowListener, readyListener);
+    }
+
+    /**
+     * 문자열 필드로 구성된 로그 객체의 힙 점유량을 대략적으로 계산합니다.
+     *
+     * @param fields 로그 객체의 문자열 필드 값
+     * @return 추정 바이트 수
+     */
+    public static int estimateBytes(String... fields) {
+        int size = OBJECT_OVERHEAD_BYTES;
+
+        for (String field : fields) {
+            if (field != null) {
+                size += STRING_OVERHEAD_BYTES + field.length() * BYTES_PER_CHAR;
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public void add(UserActionKey key, T value) {
+        if (key == null || value == null) {
+            return;
+        }
+
+        Entry<T> entry = new Entry<>(value, sizeEstimator.applyAsInt(value));
+        BufferPressure.Signals signals = new BufferPressure.Signals(key.getCrudCode());
+
+        boolean added = tryAdd(key, entry, signals);
+        while (!added) {
+            added = tryAdd(key, entry, signals);
+        }
+
+        pressure.publish(signals);
+        compactInsertionOrder();
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainIfThresholdMet(CrudCode code, int threshold) {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+
+        for (Map.Entry<UserActionKey, Segment<T>> segmentEntry : segments.entrySet()) {
+            UserActionKey key = segmentEntry.getKey();
+
+            if (key.getCrudCode() != code) {
+                continue;
+            }
+
+            List<T> drained = drain(key, segmentEntry.getValue(), threshold, threshold);
+
+            if (!drained.isEmpty()) {
+                result.put(key, drained);
+            }
+        }
+
+        pressure.onDrained(code, bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainDue(CrudCode code, int threshold, long maxAgeMillis) {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+        long now = System.nanoTime();
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+
+        for (Map.Entry<UserActionKey, Segment<T>> segmentEntry : segments.entrySet()) {
+            UserActionKey key = segmentEntry.getKey();
+            Segment<T> segment = segmentEntry.getValue();
+
+            if (key.getCrudCode() != code || !isDue(segment, threshold, now, maxAgeNanos)) {
+                continue;
+            }
+
+            List<T> drained = drain(key, segment, 0, Integer.MAX_VALUE);
+
+            if (!drained.isEmpty()) {
+                result.put(key, drained);
+            }
+        }
+
+        pressure.onDrained(code, bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainAll() {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+
+        for (Map.Entry<UserActionKey, Segment<T>> segmentEntry : segments.entrySet()) {
+            List<T> drained = drain(segmentEntry.getKey(), segmentEntry.getValue(), 0, Integer.MAX_VALUE);
+
+            if (!drained.isEmpty()) {
+                result.put(segmentEntry.getKey(), drained);
+            }
+        }
+
+        pressure.onDrainedAll(bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public int getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    @Override
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return pressure.getDroppedCount();
+    }
+
+    @Override
+    public long getOldestEntryAgeMillis() {
+        long oldest = Long.MAX_VALUE;
+
+        for (Segment<T> segment : segments.values()) {
+            synchronized (segment) {
+                Entry<T> first = segment.entries.peekFirst();
+
+                if (first != null) {
+                    oldest = Math.min(oldest, first.enqueuedNanos);
+                }
+            }
+        }
+
+        return oldest == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest);
+    }
+
+    @Override
+    public Map<CrudCode, BufferStats> getStatsByCrudCode() {
+        Map<CrudCode, int[]> counts = new EnumMap<>(CrudCode.class);
+        Map<CrudCode, Long> oldest = new EnumMap<>(CrudCode.class);
+
+        for (Map.Entry<UserActionKey, Segment<T>> segmentEntry : segments.entrySet()) {
+            CrudCode code = segmentEntry.getKey().getCrudCode();
+            Segment<T> segment = segmentEntry.getValue();
+
+            synchronized (segment) {
+                Entry<T> first = segment.entries.peekFirst();
+
+                if (first == null) {
+                    continue;
+                }
+
+                int[] count = counts.computeIfAbsent(code, c -> new int[2]);
+                count[0]++;
+                count[1] += segment.entries.size();
+                oldest.merge(code, first.enqueuedNanos, Math::min);
+            }
+        }
+
+        long now = System.nanoTime();
+        Map<CrudCode, BufferStats> stats = new EnumMap<>(CrudCode.class);
+
+        for (CrudCode code : CrudCode.values()) {
+            int[] count = counts.get(code);
+
+            stats.put(code, count == null
+                    ? BufferStats.EMPTY
+                    : new BufferStats(count[0], count[1], TimeUnit.NANOSECONDS.toMillis(now - oldest.get(code))));
+        }
+
+        return stats;
+    }
+
+    /**
+     * 세그먼트에 로그를 추가합니다.
+     *
+     * 전체 메모리 예산은 세그먼트 잠금을 잡기 전에 먼저 선점하므로, 동시에 추가되더라도 예산을 넘지 않습니다.
+     * 배출 과정에서 이미 닫힌 세그먼트를 만난 경우 선점한 예산을 돌려주고 false를 반환하며, 호출자는 새 세그먼트로 재시도합니다.
+     * 배출 신호는 signals에 기록만 하며, 호출자가 잠금 밖에서 발행합니다.
+     */
+    private boolean tryAdd(UserActionKey key, Entry<T> entry, BufferPressure.Signals signals) {
+        if (!reserveBytes(key.getCrudCode(), entry.bytes, signals)) {
+            return true;
+        }
+
+        Segment<T> segment = segments.computeIfAbsent(key, Segment::new);
+
+        synchronized (segment) {
+            if (segment.closed) {
+                bufferedBytes.addAndGet(-entry.bytes);
+                return false;
+            }
+
+            if (segment.entries.size() >= perKeyCapacity) {
+                if (!pressure.admitOnOverflow(key.getCrudCode(), bufferedCount.get(), bufferedBytes.get(), signals)) {
+                    bufferedBytes.addAndGet(-entry.bytes);
+                    pressure.recordDrop();
+                    return true;
+                }
+
+                remove(segment.entries.pollFirst());
+                pressure.recordDrop();
+            }
+
+            entry.segment = segment;
+            segment.entries.addLast(entry);
+            insertionOrder.offer(entry);
+            bufferedCount.incrementAndGet();
+            pressure.signalIfReady(segment.entries.size(), bufferedBytes.get(), signals);
+            return true;
+        }
+    }
+
+    /**
+     * 전체 메모리 예산에서 로그 한 건의 바이트를 선점합니다.
+     *
+     * 예산이 부족하면 초과 정책으로 수용 여부를 한 번 결정한 뒤, 예산이 확보될 때까지 전체 버퍼에서 가장 오래된 로그를 밀어냅니다.
+     * 로그 한 건이 예산보다 크거나, 수용되지 않았거나, 더 밀어낼 로그가 없으면 새 로그를 버리고 false를 반환합니다.
+     */
+    private boolean reserveBytes(CrudCode code, int bytes, BufferPressure.Signals signals) {
+        if (bytes > pressure.getMaxBytes()) {
+            pressure.recordDrop();
+            return false;
+        }
+
+        boolean admitted = false;
+
+        while (true) {
+            long current = bufferedBytes.get();
+
+            if (current + bytes <= pressure.getMaxBytes()) {
+                if (bufferedBytes.compareAndSet(current, current + bytes)) {
+                    return true;
+                }
+                continue;
+            }
+
+            if (!admitted && !pressure.admitOnOverflow(code, bufferedCount.get(), current, signals)) {
+                pressure.recordDrop();
+                return false;
+            }
+
+            admitted = true;
+
+            if (!evictOldest()) {
+                pressure.recordDrop();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 전체 적재 순서 큐의 맨 앞에서 아직 버퍼에 남아 있는 가장 오래된 로그를 찾아 밀어냅니다.
+     *
+     * 같은 키의 로그는 세그먼트 잠금 안에서 세그먼트와 큐에 같은 순서로 들어가므로, 남아 있는 맨 앞 항목은 항상 그 세그먼트의 첫 로그입니다.
+     * 이미 빠진 항목은 건너뛰며, 한 번에 하나의 세그먼트만 잠급니다.
+     *
+     * @return 로그를 밀어냈으면 true, 밀어낼 로그가 없으면 false
+     */
+    private boolean evictOldest() {
+        Entry<T> candidate;
+
+        while ((candidate = insertionOrder.poll()) != null) {
+            Segment<T> segment = candidate.segment;
+
+            synchronized (segment) {
+                if (candidate.removed) {
+                    staleOrderEntries.decrementAndGet();
+                    continue;
+                }
+
+                if (segment.entries.peekFirst() == candidate) {
+                    segment.entries.pollFirst();
+                } else {
+                    segment.entries.removeFirstOccurrence(candidate);
+                }
+
+                candidate.removed = true;
+                candidate.value = null;
+                release(candidate);
+                pressure.recordDrop();
+                closeIfEmpty(segment.key, segment);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 이미 빠진 항목이 보관 건수보다 많이 쌓이면 전체 적재 순서 큐에서 한 번에 제거합니다.
+     *
+     * 정리 비용은 그동안 빠진 항목 수에 비례하므로 항목당 상수 시간으로 분산되며, 세그먼트 잠금 밖에서 한 스레드만 수행합니다.
+     */
+    private void compactInsertionOrder() {
+        if (staleOrderEntries.get() <= Math.max(MIN_STALE_BEFORE_COMPACT, bufferedCount.get())
+                || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int[] removedCount = {0};
+
+            insertionOrder.removeIf(entry -> {
+                if (entry.removed) {
+                    removedCount[0]++;
+                    return true;
+                }
+                return false;
+            });
+
+            staleOrderEntries.addAndGet(-removedCount[0]);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private boolean isDue(Segment<T> segment, int threshold, long now, long maxAgeNanos) {
+        synchronized (segment) {
+            Entry<T> oldest = segment.entries.peekFirst();
+
+            return oldest != null
+                    && (segment.entries.size() >= threshold || now - oldest.enqueuedNanos >= maxAgeNanos);
+        }
+    }
+
+    /**
+     * 세그먼트에서 최대 maxSize 건을 추출합니다.
+     *
+     * 보관 건수가 minSize 미만이면 추출하지 않으며, 비워진 세그먼트는 닫고 맵에서 제거합니다.
+     */
+    private List<T> drain(UserActionKey key, Segment<T> segment, int minSize, int maxSize) {
+        synchronized (segment) {
+            int size = segment.entries.size();
+
+            if (size == 0 || size < minSize) {
+                closeIfEmpty(key, segment);
+                return List.of();
+            }
+
+            List<T> drained = new ArrayList<>(Math.min(size, maxSize));
+
+            while (drained.size() < maxSize && !segment.entries.isEmpty()) {
+                Entry<T> entry = segment.entries.pollFirst();
+                drained.add(entry.value);
+                remove(entry);
+            }
+
+            closeIfEmpty(key, segment);
+            return drained;
+        }
+    }
+
+    private void closeIfEmpty(UserActionKey key, Segment<T> segment) {
+        if (segment.entries.isEmpty()) {
+            segment.closed = true;
+            segments.remove(key, segment);
+        }
+    }
+
+    /**
+     * 세그먼트에서 꺼낸 로그를 사용량에서 빼고, 전체 적재 순서 큐에는 빠진 항목으로 표시합니다.
+     * 세그먼트 잠금 안에서 호출합니다.
+     */
+    private void remove(Entry<T> entry) {
+        entry.removed = true;
+        entry.value = null;
+        staleOrderEntries.incrementAndGet();
+        release(entry);
+    }
+
+    private void release(Entry<T> entry) {
+        bufferedCount.decrementAndGet();
+        bufferedBytes.addAndGet(-entry.bytes);
+    }
+
+    /**
+     * 로그 값과 추정 바이트, 적재 시각을 함께 보관하는 항목입니다.
+     *
+     * 세그먼트와 값, 빠짐 표시는 세그먼트 잠금 안에서 바뀌며, 빠진 항목은 전체 적재 순서 큐에 남더라도 값을 붙잡지 않습니다.
+     */
+    private static final class Entry<T> {
+
+        private final int bytes;
+        private final long enqueuedNanos;
+        private T value;
+        private Segment<T> segment;
+        private volatile boolean removed;
+
+        private Entry(T value, int bytes) {
+            this.value = value;
+            this.bytes = bytes;
+            this.enqueuedNanos = System.nanoTime();
+        }
+
+    }
+
+    /**
+     * 하나의 사용자 액션 키에 대한 로그 저장소입니다.
+     * 모든 접근은 세그먼트 자신을 모니터로 동기화합니다.
+     */
+    private static final class Segment<T> {
+
+        private final UserActionKey key;
+        private final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+        private boolean closed;
+
+        private Segment(UserActionKey key) {
+            this.key = key;
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.exception.config.SecureLogger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * {@link KeyedLogBuffer} 구현체가 공유하는 용량 초과 처리와 배출 신호 상태입니다.
+ *
+ * - 용량 초과 시 {@link OverflowPolicy}에 따라 새 로그의 수용 여부를 결정하고 유실 건수를 집계합니다.
+ * - 키별 임계 건수 신호는 CRUD 코드가 배출될 때까지 한 번만 발행합니다.
+ * - 고수위 신호는 사용량이 저수위 아래로 내려간 뒤에야 다시 발행합니다.
+ * - 신호 발행 여부는 세그먼트 잠금 안에서 {@link Signals}에 기록만 하고, 호출자가 잠금을 푼 뒤 {@link #publish(Signals)}로 발행합니다.
+ *   리스너가 호출 스레드에서 배출을 실행하더라도(CallerRuns) 세그먼트 잠금을 잡은 채 다시 진입하지 않습니다.
+ */
+final class BufferPressure {
+
+    private static final SecureLogger log = SecureLogger.getLogger(BufferPressure.class);
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final AtomicLong overflowSequence = new AtomicLong();
+    private final AtomicBoolean overflowing = new AtomicBoolean(false);
+    private final Set<CrudCode> flushRequested = ConcurrentHashMap.newKeySet();
+    private final Set<CrudCode> readySignaled = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean highWatermarkArmed = new AtomicBoolean(true);
+
+    private final String name;
+    private final long maxBytes;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final Consumer<CrudCode> overflowListener;
+    private final ActionLogFlushProperties flushProperties;
+    private final BiConsumer<CrudCode, FlushTrigger> readyListener;
+
+    BufferPressure(String name,
+                   ActionLogBufferProperties properties,
+                   ActionLogFlushProperties flushProperties,
+                   Consumer<CrudCode> overflowListener,
+                   BiConsumer<CrudCode, FlushTrigger> readyListener) {
+        this.name = name;
+        this.maxBytes = properties.getMaxBytes();
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.sampleRate = Math.max(1, properties.getSampleRate());
+        this.overflowListener = overflowListener;
+        this.flushProperties = flushProperties;
+        this.readyListener = readyListener;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 용량 초과 시 초과 정책에 따라 새 로그의 수용 여부를 결정합니다.
+     *
+     * 수용된 경우 호출자는 해당 키의 가장 오래된 로그를 밀어내야 하며, 수용되지 않은 경우 새 로그를 버립니다.
+     * 조기 배출 요청은 signals에 기록되며 {@link #publish(Signals)}에서 발행됩니다.
+     */
+    boolean admitOnOverflow(CrudCode code, int bufferedCount, long bufferedBytes, Signals signals) {
+        if (overflowing.compareAndSet(false, true)) {
+            log.warn("[{}] 로그 버퍼 용량 초과 - 정책: {}, 보관 건수: {}, 추정 바이트: {}",
+                    name, overflowPolicy, bufferedCount, bufferedBytes);
+        }
+
+        return switch (overflowPolicy) {
+            case SAMPLE -> overflowSequence.incrementAndGet() % sampleRate == 0;
+            case FLUSH_EARLY -> {
+                if (flushRequested.add(code)) {
+                    signals.overflowFlush = true;
+                }
+                yield true;
+            }
+            case DROP_OLDEST -> true;
+        };
+    }
+
+    void recordDrop() {
+        droppedCount.increment();
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 키별 임계 건수 또는 고수위에 도달했으면 배출 신호를 signals에 기록합니다.
+     */
+    void signalIfReady(int keySize, long bufferedBytes, Signals signals) {
+        if (flushProperties == null) {
+            return;
+        }
+
+        if (keySize >= flushProperties.thresholdOf(signals.code) && readySignaled.add(signals.code)) {
+            signals.keyCount = true;
+        }
+
+        if (bufferedBytes >= flushProperties.getHighWatermarkBytes() && highWatermarkArmed.compareAndSet(true, false)) {
+            signals.highWatermark = true;
+        }
+    }
+
+    /**
+     * 기록된 신호를 발행합니다. 세그먼트 잠금을 잡지 않은 상태에서 호출해야 합니다.
+     */
+    void publish(Signals signals) {
+        if (signals.overflowFlush) {
+            overflowListener.accept(signals.code);
+        }
+
+        if (signals.keyCount) {
+            readyListener.accept(signals.code, FlushTrigger.KEY_COUNT);
+        }
+
+        if (signals.highWatermark) {
+            readyListener.accept(signals.code, FlushTrigger.HIGH_WATERMARK);
+        }
+    }
+
+    /**
+     * 한 CRUD 코드의 배출이 끝난 뒤 신호 상태를 초기화합니다.
+     */
+    void onDrained(CrudCode code, long bufferedBytes) {
+        flushRequested.remove(code);
+        readySignaled.remove(code);
+        reset(bufferedBytes);
+    }
+
+    /**
+     * 전체 배출이 끝난 뒤 신호 상태를 초기화합니다.
+     */
+    void onDrainedAll(long bufferedBytes) {
+        flushRequested.clear();
+        readySignaled.clear();
+        reset(bufferedBytes);
+    }
+
+    private void reset(long bufferedBytes) {
+        if (bufferedBytes <= maxBytes) {
+            overflowing.set(false);
+        }
+
+        if (flushProperties != null && bufferedBytes <= flushProperties.getLowWatermarkBytes()) {
+            highWatermarkArmed.set(true);
+        }
+    }
+
+    /**
+     * 로그 한 건을 추가하는 동안 결정된 신호입니다.
+     * 추가하는 스레드 안에서만 사용하므로 동기화하지 않습니다.
+     */
+    static final class Signals {
+
+        private final CrudCode code;
+        private boolean overflowFlush;
+        private boolean keyCount;
+        private boolean highWatermark;
+
+        Signals(CrudCode code) {
+            this.code = code;
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package kodanect.common.buffer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 버퍼의 CRUD 코드별 보관 현황 스냅샷입니다.
+ *
+ * 세그먼트를 하나씩 잠그며 집계하므로 여러 값이 정확히 같은 시점의 값은 아닙니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class BufferStats {
+
+    /**
+     * 빈 버퍼의 현황
+     */
+    public static final BufferStats EMPTY = new BufferStats(0, 0, 0L);
+
+    /**
+     * 로그가 남아 있는 사용자 액션 키 수
+     */
+    private final int keyCount;
+
+    /**
+     * 보관 중인 로그 건수
+     */
+    private final int recordCount;
+
+    /**
+     * 가장 오래된 로그의 보관 시간(ms)
+     */
+    private final long oldestEntryAgeMillis;
+
+}
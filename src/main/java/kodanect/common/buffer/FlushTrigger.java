@@ -0,0 +1,40 @@
+package kodanect.common.buffer;
+
+/**
+ * 액션 로그 배출을 일으킨 원인을 나타내는 Enum입니다.
+ *
+ * 스케줄러는 배출 원인을 메트릭 태그로 기록하여 배출 결정 과정을 확인할 수 있게 합니다.
+ */
+public enum FlushTrigger {
+
+    /**
+     * 키 하나에 쌓인 로그 건수가 임계값에 도달
+     */
+    KEY_COUNT,
+
+    /**
+     * 버퍼 추정 바이트가 고수위(high watermark)에 도달
+     */
+    HIGH_WATERMARK,
+
+    /**
+     * 가장 오래된 로그의 보관 시간이 최대 보관 시간을 초과
+     */
+    AGE,
+
+    /**
+     * 버퍼 용량 초과({@link OverflowPolicy#FLUSH_EARLY})
+     */
+    OVERFLOW,
+
+    /**
+     * 스풀 정리를 위한 주기적 전체 배출
+     */
+    PERIODIC,
+
+    /**
+     * 애플리케이션 종료 전 전체 배출
+     */
+    SHUTDOWN
+
+}
@@ -1,27 +1,56 @@
 package kodanect.common.buffer;
 
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.common.constant.UserActionKey;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * 프론트엔드 로그를 세션 ID 및 CRUD 단위로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<UserActionKey, Queue<FrontendLogDto>>}
+ * - 버퍼 구조: {@link KeyedLogBuffer} ({@link BoundedKeyedLogBuffer}, backend=OFF_HEAP이면 {@link OffHeapKeyedLogBuffer})
  * - 이벤트 타입을 기반으로 {@link CrudCode}를 분류하여 그룹핑합니다.
- * - 동시성 안전을 위해 {@link ConcurrentHashMap}과 {@link ConcurrentLinkedQueue} 사용합니다.
- * - 특정 임계치(threshold)를 넘은 경우 또는 전체 배출 시 로그를 추출합니다.
+ * - 키별 최대 건수와 전체 메모리 예산을 넘으면 {@link OverflowPolicy}에 따라 처리합니다.
+ * - 키별 임계 건수 또는 고수위에 도달하면 {@link LogBufferReadyEvent}를 발행합니다.
+ * - 특정 임계치(threshold)를 넘었거나 오래된 경우, 또는 전체 배출 시 로그를 추출합니다.
  */
 @Component
 public class FrontendLogBuffer {
 
     private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<UserActionKey, Queue<FrontendLogDto>> buffer = new ConcurrentHashMap<>();
+    private final KeyedLogBuffer<FrontendLogDto> buffer;
+
+    public FrontendLogBuffer(ActionLogBufferProperties properties,
+                             ActionLogFlushProperties flushProperties,
+                             ApplicationEventPublisher eventPublisher) {
+        Consumer<CrudCode> overflowListener = code -> eventPublisher.publishEvent(new LogBufferOverflowEvent(code));
+        BiConsumer<CrudCode, FlushTrigger> readyListener =
+                (code, trigger) -> eventPublisher.publishEvent(new LogBufferReadyEvent(code, trigger));
+
+        this.buffer = properties.getBackend() == LogBufferBackend.OFF_HEAP
+                ? new OffHeapKeyedLogBuffer<>(
+                        "frontend",
+                        properties,
+                        flushProperties,
+                        FrontendLogBuffer::toFields,
+                        FrontendLogBuffer::fromFields,
+                        overflowListener,
+                        readyListener)
+                : new BoundedKeyedLogBuffer<>(
+                        "frontend",
+                        properties,
+                        flushProperties,
+                        FrontendLogBuffer::estimateBytes,
+                        overflowListener,
+                        readyListener);
+    }
 
     /**
      * 프론트엔드 로그를 버퍼에 추가합니다.
@@ -41,8 +70,24 @@ public class FrontendLogBuffer {
             CrudCode crudCode = CrudCode.fromEventType(log.getEventType());
             UserActionKey key = new UserActionKey(sessionId, crudCode);
 
-            buffer.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(log);
+            buffer.add(key, log);
+        }
+    }
+
+    /**
+     * 프론트엔드 로그 한 건을 버퍼에 추가합니다.
+     *
+     * 스트리밍 수집에서 레코드를 읽는 즉시 리스트 없이 추가할 때 사용합니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param log       프론트엔드 로그
+     */
+    public void add(String sessionId, FrontendLogDto log) {
+        if (UNKNOWN_SESSION_ID.equals(sessionId) || log == null) {
+            return;
         }
+
+        buffer.add(new UserActionKey(sessionId, CrudCode.fromEventType(log.getEventType())), log);
     }
 
     /**
@@ -55,54 +100,96 @@ public class FrontendLogBuffer {
      * @return 배출된 사용자 액션 키 및 해당 로그 목록
      */
     public Map<UserActionKey, List<FrontendLogDto>> drainIfThresholdMet(CrudCode code, int threshold) {
-        Map<UserActionKey, List<FrontendLogDto>> result = new HashMap<>();
-
-        for (Map.Entry<UserActionKey, Queue<FrontendLogDto>> entry : buffer.entrySet()) {
-            UserActionKey key = entry.getKey();
+        return buffer.drainIfThresholdMet(code, threshold);
+    }
 
-            if (key.getCrudCode() != code) {
-                continue;
-            }
+    /**
+     * 주어진 CRUD 코드에 해당하는 키 중, 로그 개수가 임계값 이상이거나
+     * 가장 오래된 로그가 최대 보관 시간을 넘긴 키의 로그를 모두 추출합니다.
+     *
+     * @param code         필터링할 CRUD 코드
+     * @param threshold    로그 배출 임계값
+     * @param maxAgeMillis 최대 보관 시간(ms)
+     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     */
+    public Map<UserActionKey, List<FrontendLogDto>> drainDue(CrudCode code, int threshold, long maxAgeMillis) {
+        return buffer.drainDue(code, threshold, maxAgeMillis);
+    }
 
-            Queue<FrontendLogDto> queue = entry.getValue();
+    /**
+     * 버퍼에 저장된 모든 로그를 배출하고 버퍼를 초기화합니다.
+     *
+     * @return 모든 사용자 액션 키 및 해당 로그 목록
+     */
+    public Map<UserActionKey, List<FrontendLogDto>> drainAll() {
+        return buffer.drainAll();
+    }
 
-            if (queue.size() >= threshold) {
-                List<FrontendLogDto> drained = new ArrayList<>();
+    /**
+     * @return 현재 버퍼에 보관 중인 로그 건수
+     */
+    public int getBufferedCount() {
+        return buffer.getBufferedCount();
+    }
 
-                while (!queue.isEmpty() && drained.size() < threshold) {
-                    drained.add(queue.poll());
-                }
+    /**
+     * @return 현재 버퍼에 보관 중인 로그의 추정 바이트 수
+     */
+    public long getBufferedBytes() {
+        return buffer.getBufferedBytes();
+    }
 
-                result.put(key, drained);
-            }
-        }
+    /**
+     * @return 용량 초과로 버려진 누적 로그 건수
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
 
-        return result;
+    /**
+     * @return 가장 오래된 로그의 보관 시간(ms), 비어 있으면 0
+     */
+    public long getOldestEntryAgeMillis() {
+        return buffer.getOldestEntryAgeMillis();
     }
 
     /**
-     * 버퍼에 저장된 모든 로그를 배출하고 버퍼를 초기화합니다.
-     *
-     * @return 모든 사용자 액션 키 및 해당 로그 목록
+     * @return CRUD 코드별 키 수, 로그 건수, 가장 오래된 로그의 보관 시간
      */
-    public Map<UserActionKey, List<FrontendLogDto>> drainAll() {
-        Map<UserActionKey, List<FrontendLogDto>> result = new HashMap<>();
+    public Map<CrudCode, BufferStats> getStatsByCrudCode() {
+        return buffer.getStatsByCrudCode();
+    }
 
-        for (Map.Entry<UserActionKey, Queue<FrontendLogDto>> entry : buffer.entrySet()) {
-            Queue<FrontendLogDto> queue = entry.getValue();
-            List<FrontendLogDto> drained = new ArrayList<>();
+    private static int estimateBytes(FrontendLogDto log) {
+        return BoundedKeyedLogBuffer.estimateBytes(
+                log.getEventType(),
+                log.getElementId(),
+                log.getPageUrl(),
+                log.getReferrerUrl(),
+                log.getTimestamp()
+        );
+    }
 
-            while (!queue.isEmpty()) {
-                drained.add(queue.poll());
-            }
+    private static String[] toFields(FrontendLogDto log) {
+        return new String[]{
+                log.getEventType(),
+                log.getElementId(),
+                log.getPageUrl(),
+                log.getReferrerUrl(),
+                log.getTimestamp()
+        };
+    }
 
-            if (!drained.isEmpty()) {
-                result.put(entry.getKey(), drained);
-            }
-        }
+    private static FrontendLogDto fromFields(String[] fields) {
+        int index = 0;
 
-        buffer.clear();
-        return result;
+        return FrontendLogDto.builder()
+                .eventType(fields[index++])
+                .elementId(fields[index++])
+                .pageUrl(fields[index++])
+                .referrerUrl(fields[index++])
+                .timestamp(fields[index++])
+                .build();
     }
 
 }
@@ -0,0 +1,79 @@
+package kodanect.common.buffer;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link UserActionKey} 단위로 로그를 보관하는 버퍼 엔진의 공통 인터페이스입니다.
+ *
+ * 프론트엔드/백엔드 로그 버퍼는 이 인터페이스를 통해 실제 저장 구조와 분리되며,
+ * 키별 건수, 전체 사용량, 유실 건수를 O(1)로 조회할 수 있어야 합니다.
+ *
+ * @param <T> 버퍼링할 로그 타입
+ */
+public interface KeyedLogBuffer<T> {
+
+    /**
+     * 로그를 지정한 키의 버퍼에 추가합니다.
+     * 용량을 초과한 경우 구현체의 {@link OverflowPolicy}에 따라 처리됩니다.
+     *
+     * @param key 사용자 액션 키
+     * @param log 로그 객체
+     */
+    void add(UserActionKey key, T log);
+
+    /**
+     * 주어진 CRUD 코드의 키 중, 로그 개수가 임계값 이상인 키에서 최대 임계값만큼 추출합니다.
+     *
+     * @param code      필터링할 CRUD 코드
+     * @param threshold 로그 배출 임계값
+     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     */
+    Map<UserActionKey, List<T>> drainIfThresholdMet(CrudCode code, int threshold);
+
+    /**
+     * 주어진 CRUD 코드의 키 중, 로그 개수가 임계값 이상이거나 가장 오래된 로그가 최대 보관 시간을 넘긴 키의 로그를 모두 추출합니다.
+     *
+     * @param code         필터링할 CRUD 코드
+     * @param threshold    로그 배출 임계값
+     * @param maxAgeMillis 최대 보관 시간(ms)
+     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     */
+    Map<UserActionKey, List<T>> drainDue(CrudCode code, int threshold, long maxAgeMillis);
+
+    /**
+     * 버퍼에 저장된 모든 로그를 배출합니다.
+     *
+     * @return 모든 사용자 액션 키 및 해당 로그 목록
+     */
+    Map<UserActionKey, List<T>> drainAll();
+
+    /**
+     * @return 현재 버퍼에 보관 중인 로그 건수
+     */
+    int getBufferedCount();
+
+    /**
+     * @return 현재 버퍼에 보관 중인 로그의 추정 바이트 수
+     */
+    long getBufferedBytes();
+
+    /**
+     * @return 용량 초과로 버려진 누적 로그 건수
+     */
+    long getDroppedCount();
+
+    /**
+     * @return 버퍼에 남아 있는 가장 오래된 로그의 보관 시간(ms), 비어 있으면 0
+     */
+    long getOldestEntryAgeMillis();
+
+    /**
+     * @return CRUD 코드별 키 수, 로그 건수, 가장 오래된 로그의 보관 시간 (로그가 없는 코드도 포함)
+     */
+    Map<CrudCode, BufferStats> getStatsByCrudCode();
+
+}
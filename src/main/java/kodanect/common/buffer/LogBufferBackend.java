@@ -0,0 +1,18 @@
+package kodanect.common.buffer;
+
+/**
+ * 프론트엔드/백엔드 로그 버퍼의 저장 방식입니다.
+ */
+public enum LogBufferBackend {
+
+    /**
+     * 로그 객체를 힙에 그대로 보관합니다. ({@link BoundedKeyedLogBuffer})
+     */
+    HEAP,
+
+    /**
+     * 로그를 적재 시점에 직렬화하여 힙 밖의 direct 버퍼 청크에 보관합니다. ({@link OffHeapKeyedLogBuffer})
+     */
+    OFF_HEAP
+
+}
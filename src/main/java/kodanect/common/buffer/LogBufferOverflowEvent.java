@@ -0,0 +1,21 @@
+package kodanect.common.buffer;
+
+import kodanect.common.constant.CrudCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link OverflowPolicy#FLUSH_EARLY} 정책에서 버퍼 용량이 초과되었을 때 발행되는 이벤트입니다.
+ *
+ * 스케줄러가 이 이벤트를 수신하여 해당 CRUD 코드의 로그를 주기와 무관하게 배출합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LogBufferOverflowEvent {
+
+    /**
+     * 용량을 초과한 로그의 CRUD 코드
+     */
+    private final CrudCode crudCode;
+
+}
@@ -0,0 +1,26 @@
+package kodanect.common.buffer;
+
+import kodanect.common.constant.CrudCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 버퍼가 배출 조건(키별 임계 건수 또는 고수위)에 도달했을 때 발행되는 이벤트입니다.
+ *
+ * 스케줄러가 이 이벤트를 수신하여 점검 주기를 기다리지 않고 즉시 배출합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LogBufferReadyEvent {
+
+    /**
+     * 배출 조건에 도달한 로그의 CRUD 코드
+     */
+    private final CrudCode crudCode;
+
+    /**
+     * 배출 조건 ({@link FlushTrigger#KEY_COUNT} 또는 {@link FlushTrigger#HIGH_WATERMARK})
+     */
+    private final FlushTrigger trigger;
+
+}
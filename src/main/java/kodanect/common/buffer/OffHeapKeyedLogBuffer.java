@@ -0,0 +1,746 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 로그를 적재 시점에 직렬화하여 힙 밖에 보관하는 {@link KeyedLogBuffer} 구현체입니다.
+ *
+ * - 로그 객체는 문자열 필드 배열로 변환한 뒤 [length(4)] [UTF-8 bytes] 형태로 {@link OffHeapLogArena}에 기록합니다.
+ *   (null은 length = -1)
+ * - 키별 세그먼트는 레코드 참조, 길이, 적재 시각만 원시 타입 배열로 보관하므로
+ *   최대 보관 시간 동안 힙에 남는 로그 객체가 없어 old 영역으로 승격되는 객체가 줄어듭니다.
+ * - 배출 시점에 로그 객체로 복원하며, 복원된 객체는 저장 직후 버려지는 단기 객체입니다.
+ * - 사용량은 직렬화된 실제 바이트로 계산합니다. ({@link BoundedKeyedLogBuffer}의 힙 추정치보다 작습니다.)
+ * - 용량 초과와 배출 신호는 {@link BoundedKeyedLogBuffer}와 같은 규칙({@link BufferPressure})을 따릅니다.
+ *   전체 예산은 추가 전에 원자적으로 선점하며, 예산 초과 시 전체 버퍼에서 가장 오래된 레코드를 밀어냅니다.
+ *   살아 있는 레코드가 남은 청크는 재사용되지 않으므로 예산 안에서도 아레나 공간이 부족할 수 있으며,
+ *   이 경우에도 청크가 비워질 때까지 가장 오래된 레코드를 밀어낸 뒤 다시 할당합니다.
+ * - 가장 오래된 레코드는 적재 순서대로 (세그먼트, 세그먼트 내 순번)을 기록한 링({@link InsertionOrder})에서 찾습니다.
+ *   배출로 이미 빠진 레코드는 밀어낼 때 건너뛰며, 빠진 항목이 쌓이면 링을 압축합니다.
+ * - 직렬화용 임시 배열과 복원용 임시 배열을 분리하여, 추가 중 같은 스레드에서 배출이 실행되더라도 기록 중인 레코드를 덮어쓰지 않습니다.
+ *
+ * @param <T> 버퍼링할 로그 타입
+ */
+public class OffHeapKeyedLogBuffer<T> implements KeyedLogBuffer<T> {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int INITIAL_SEGMENT_CAPACITY = 8;
+    private static final int INITIAL_SCRATCH_BYTES = 1024;
+    private static final int ASCII_LIMIT = 0x80;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BITS_PER_BYTE = 8;
+    private static final int MIN_STALE_BEFORE_COMPACT = 1024;
+
+    private static final ThreadLocal<byte[][]> ENCODE_SCRATCH = ThreadLocal.withInitial(() -> new byte[][]{
+            new byte[INITIAL_SCRATCH_BYTES]
+    });
+    private static final ThreadLocal<byte[][]> DECODE_SCRATCH = ThreadLocal.withInitial(() -> new byte[][]{
+            new byte[INITIAL_SCRATCH_BYTES]
+    });
+
+    private final Map<UserActionKey, Segment> segments = new ConcurrentHashMap<>();
+    private final InsertionOrder insertionOrder = new InsertionOrder();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private final int perKeyCapacity;
+    private final int chunkBytes;
+    private final OffHeapLogArena arena;
+    private final Function<T, String[]> encoder;
+    private final Function<String[], T> decoder;
+    private final BufferPressure pressure;
+
+    /**
+     * @param name             로그 출력용 버퍼 이름
+     * @param properties       버퍼 용량, 초과 정책, 청크 크기 설정
+     * @param flushProperties  키별 임계 건수 및 고수위/저수위 설정 (null이면 배출 신호를 발행하지 않음)
+     * @param encoder          로그 객체를 문자열 필드 배열로 변환하는 함수
+     * @param decoder          문자열 필드 배열을 로그 객체로 복원하는 함수
+     * @param overflowListener FLUSH_EARLY 정책에서 조기 배출을 요청할 콜백
+     * @param readyListener    배출 조건 도달 시 호출할 콜백
+     */
+    public OffHeapKeyedLogBuffer(String name,
+                                 ActionLogBufferProperties properties,
+                                 ActionLogFlushProperties flushProperties,
+                                 Function<T, String[]> encoder,
+                                 Function<String[], T> decoder,
+                                 Consumer<CrudCode> overflowListener,
+                                 BiConsumer<CrudCode, FlushTrigger> readyListener) {
+        int chunkBytes = Math.max(INITIAL_SCRATCH_BYTES, properties.getArenaChunkBytes());
+        long maxChunks = properties.getMaxBytes() / chunkBytes + 2;
+
+        this.perKeyCapacity = Math.max(1, properties.getPerKeyCapacity());
+        this.chunkBytes = chunkBytes;
+        this.arena = new OffHeapLogArena(chunkBytes, (int) Math.min(Integer.MAX_VALUE, maxChunks));
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.pressure = new BufferPressure(name, properties, flushProperties, overflowListener, readyListener);
+    }
+
+    @Override
+    public void add(UserActionKey key, T value) {
+        if (key == null || value == null) {
+            return;
+        }
+
+        int length = encode(encoder.apply(value));
+        byte[] record = ENCODE_SCRATCH.get()[0];
+        BufferPressure.Signals signals = new BufferPressure.Signals(key.getCrudCode());
+
+        boolean added = tryAdd(key, record, length, signals);
+        while (!added) {
+            added = tryAdd(key, record, length, signals);
+        }
+
+        pressure.publish(signals);
+        compactInsertionOrder();
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainIfThresholdMet(CrudCode code, int threshold) {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+
+        for (Map.Entry<UserActionKey, Segment> segmentEntry : segments.entrySet()) {
+            UserActionKey key = segmentEntry.getKey();
+
+            if (key.getCrudCode() != code) {
+                continue;
+            }
+
+            List<T> drained = drain(key, segmentEntry.getValue(), threshold, threshold);
+
+            if (!drained.isEmpty()) {
+                result.put(key, drained);
+            }
+        }
+
+        pressure.onDrained(code, bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainDue(CrudCode code, int threshold, long maxAgeMillis) {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+        long now = System.nanoTime();
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+
+        for (Map.Entry<UserActionKey, Segment> segmentEntry : segments.entrySet()) {
+            UserActionKey key = segmentEntry.getKey();
+            Segment segment = segmentEntry.getValue();
+
+            if (key.getCrudCode() != code || !isDue(segment, threshold, now, maxAgeNanos)) {
+                continue;
+            }
+
+            List<T> drained = drain(key, segment, 0, Integer.MAX_VALUE);
+
+            if (!drained.isEmpty()) {
+                result.put(key, drained);
+            }
+        }
+
+        pressure.onDrained(code, bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public Map<UserActionKey, List<T>> drainAll() {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+
+        for (Map.Entry<UserActionKey, Segment> segmentEntry : segments.entrySet()) {
+            List<T> drained = drain(segmentEntry.getKey(), segmentEntry.getValue(), 0, Integer.MAX_VALUE);
+
+            if (!drained.isEmpty()) {
+                result.put(segmentEntry.getKey(), drained);
+            }
+        }
+
+        pressure.onDrainedAll(bufferedBytes.get());
+        compactInsertionOrder();
+        return result;
+    }
+
+    @Override
+    public int getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    @Override
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return pressure.getDroppedCount();
+    }
+
+    @Override
+    public long getOldestEntryAgeMillis() {
+        long oldest = Long.MAX_VALUE;
+
+        for (Segment segment : segments.values()) {
+            synchronized (segment) {
+                if (segment.size > 0) {
+                    oldest = Math.min(oldest, segment.firstEnqueuedNanos());
+                }
+            }
+        }
+
+        return oldest == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest);
+    }
+
+    @Override
+    public Map<CrudCode, BufferStats> getStatsByCrudCode() {
+        Map<CrudCode, int[]> counts = new EnumMap<>(CrudCode.class);
+        Map<CrudCode, Long> oldest = new EnumMap<>(CrudCode.class);
+
+        for (Map.Entry<UserActionKey, Segment> segmentEntry : segments.entrySet()) {
+            CrudCode code = segmentEntry.getKey().getCrudCode();
+            Segment segment = segmentEntry.getValue();
+
+            synchronized (segment) {
+                if (segment.size == 0) {
+                    continue;
+                }
+
+                int[] count = counts.computeIfAbsent(code, c -> new int[2]);
+                count[0]++;
+                count[1] += segment.size;
+                oldest.merge(code, segment.firstEnqueuedNanos(), Math::min);
+            }
+        }
+
+        long now = System.nanoTime();
+        Map<CrudCode, BufferStats> stats = new EnumMap<>(CrudCode.class);
+
+        for (CrudCode code : CrudCode.values()) {
+            int[] count = counts.get(code);
+
+            stats.put(code, count == null
+                    ? BufferStats.EMPTY
+                    : new BufferStats(count[0], count[1], TimeUnit.NANOSECONDS.toMillis(now - oldest.get(code))));
+        }
+
+        return stats;
+    }
+
+    /**
+     * @return 아레나에 할당된 direct 버퍼의 전체 바이트 수
+     */
+    public long getArenaCapacityBytes() {
+        return arena.getCapacityBytes();
+    }
+
+    /**
+     * 세그먼트에 직렬화된 레코드를 추가합니다.
+     *
+     * 전체 메모리 예산과 아레나 공간은 세그먼트 잠금을 잡기 전에 먼저 확보하므로, 동시에 추가되더라도 예산을 넘지 않고
+     * 공간을 확보하려고 다른 세그먼트의 레코드를 밀어낼 때 두 세그먼트 잠금을 함께 잡지 않습니다.
+     * 배출 과정에서 이미 닫힌 세그먼트를 만난 경우 확보한 예산과 공간을 돌려주고 false를 반환하며, 호출자는 새 세그먼트로 재시도합니다.
+     * 신호는 signals에 기록만 하며, 발행은 호출자가 잠금 밖에서 수행합니다.
+     */
+    private boolean tryAdd(UserActionKey key, byte[] record, int length, BufferPressure.Signals signals) {
+        if (!reserveBytes(key.getCrudCode(), length, signals)) {
+            return true;
+        }
+
+        long ref = allocate(length);
+
+        if (ref == OffHeapLogArena.NO_SPACE) {
+            bufferedBytes.addAndGet(-length);
+            pressure.recordDrop();
+            return true;
+        }
+
+        arena.write(ref, record, length);
+
+        Segment segment = segments.computeIfAbsent(key, Segment::new);
+
+        synchronized (segment) {
+            if (segment.closed) {
+                arena.release(ref);
+                bufferedBytes.addAndGet(-length);
+                return false;
+            }
+
+            if (segment.size >= perKeyCapacity) {
+                if (!pressure.admitOnOverflow(key.getCrudCode(), bufferedCount.get(), bufferedBytes.get(), signals)) {
+                    arena.release(ref);
+                    bufferedBytes.addAndGet(-length);
+                    pressure.recordDrop();
+                    return true;
+                }
+
+                release(segment.firstRef(), segment.firstLength());
+                segment.removeFirst();
+                pressure.recordDrop();
+            }
+
+            long sequence = segment.nextSequence();
+            segment.addLast(ref, length, System.nanoTime());
+            synchronized (insertionOrder) {
+                insertionOrder.offer(segment, sequence);
+            }
+            bufferedCount.incrementAndGet();
+            pressure.signalIfReady(segment.size, bufferedBytes.get(), signals);
+            return true;
+        }
+    }
+
+    /**
+     * 아레나에서 레코드 공간을 할당합니다.
+     *
+     * 살아 있는 레코드가 남은 청크는 재사용되지 않으므로 예산 안에서도 공간이 부족할 수 있습니다.
+     * 이 경우 가장 오래된 레코드를 밀어내 청크를 비운 뒤 다시 할당하며, 밀어낼 레코드가 없으면 {@link OffHeapLogArena#NO_SPACE}를 반환합니다.
+     */
+    private long allocate(int length) {
+        while (true) {
+            long ref = arena.allocate(length);
+
+            if (ref != OffHeapLogArena.NO_SPACE || !evictOldest()) {
+                return ref;
+            }
+        }
+    }
+
+    /**
+     * 전체 메모리 예산에서 레코드 한 건의 바이트를 선점합니다.
+     *
+     * 예산이 부족하면 초과 정책으로 수용 여부를 한 번 결정한 뒤, 예산이 확보될 때까지 전체 버퍼에서 가장 오래된 레코드를 밀어냅니다.
+     * 레코드 한 건이 예산 또는 청크보다 크거나, 수용되지 않았거나, 더 밀어낼 레코드가 없으면 새 로그를 버리고 false를 반환합니다.
+     */
+    private boolean reserveBytes(CrudCode code, int length, BufferPressure.Signals signals) {
+        if (length > pressure.getMaxBytes() || length > chunkBytes) {
+            pressure.recordDrop();
+            return false;
+        }
+
+        boolean admitted = false;
+
+        while (true) {
+            long current = bufferedBytes.get();
+
+            if (current + length <= pressure.getMaxBytes()) {
+                if (bufferedBytes.compareAndSet(current, current + length)) {
+                    return true;
+                }
+                continue;
+            }
+
+            if (!admitted && !pressure.admitOnOverflow(code, bufferedCount.get(), current, signals)) {
+                pressure.recordDrop();
+                return false;
+            }
+
+            admitted = true;
+
+            if (!evictOldest()) {
+                pressure.recordDrop();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 적재 순서 링에서 가장 먼저 들어온 레코드를 찾아 밀어냅니다.
+     *
+     * 링의 항목은 배출로 이미 빠졌을 수 있으므로, 세그먼트의 순번과 비교하여 남아 있는 레코드를 만날 때까지 건너뜁니다.
+     * 링 잠금과 세그먼트 잠금은 함께 잡지 않습니다.
+     *
+     * @return 레코드를 밀어냈으면 true, 더 밀어낼 레코드가 없으면 false
+     */
+    private boolean evictOldest() {
+        while (true) {
+            Segment segment;
+            long sequence;
+
+            synchronized (insertionOrder) {
+                if (insertionOrder.size == 0) {
+                    return false;
+                }
+
+                segment = insertionOrder.firstSegment();
+                sequence = insertionOrder.firstSequence();
+                insertionOrder.removeFirst();
+            }
+
+            synchronized (segment) {
+                if (segment.size == 0 || !segment.contains(sequence)) {
+                    continue;
+                }
+
+                release(segment.firstRef(), segment.firstLength());
+                segment.removeFirst();
+                pressure.recordDrop();
+                closeIfEmpty(segment.key, segment);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 배출로 빠진 항목이 살아 있는 레코드 수보다 많이 쌓였으면 적재 순서 링을 압축합니다.
+     */
+    private void compactInsertionOrder() {
+        int live = bufferedCount.get();
+
+        synchronized (insertionOrder) {
+            if (insertionOrder.size - live > Math.max(MIN_STALE_BEFORE_COMPACT, live)) {
+                insertionOrder.compact();
+            }
+        }
+    }
+
+    private boolean isDue(Segment segment, int threshold, long now, long maxAgeNanos) {
+        synchronized (segment) {
+            return segment.size > 0
+                    && (segment.size >= threshold || now - segment.firstEnqueuedNanos() >= maxAgeNanos);
+        }
+    }
+
+    /**
+     * 세그먼트에서 최대 maxSize 건을 읽어 로그 객체로 복원합니다.
+     *
+     * 보관 건수가 minSize 미만이면 추출하지 않으며, 비워진 세그먼트는 닫고 맵에서 제거합니다.
+     */
+    private List<T> drain(UserActionKey key, Segment segment, int minSize, int maxSize) {
+        synchronized (segment) {
+            int size = segment.size;
+
+            if (size == 0 || size < minSize) {
+                closeIfEmpty(key, segment);
+                return List.of();
+            }
+
+            List<T> drained = new ArrayList<>(Math.min(size, maxSize));
+
+            while (drained.size() < maxSize && segment.size > 0) {
+                long ref = segment.firstRef();
+                int length = segment.firstLength();
+
+                drained.add(decoder.apply(read(ref, length)));
+                release(ref, length);
+                segment.removeFirst();
+            }
+
+            closeIfEmpty(key, segment);
+            return drained;
+        }
+    }
+
+    private void closeIfEmpty(UserActionKey key, Segment segment) {
+        if (segment.size == 0) {
+            segment.closed = true;
+            segments.remove(key, segment);
+        }
+    }
+
+    private void release(long ref, int length) {
+        arena.release(ref);
+        bufferedCount.decrementAndGet();
+        bufferedBytes.addAndGet(-length);
+    }
+
+    /**
+     * 문자열 필드를 스레드별 임시 배열에 기록합니다.
+     *
+     * ASCII 문자열은 문자 단위로 바로 기록하고, 그 외 문자열만 UTF-8 바이트 배열을 생성합니다.
+     *
+     * @return 기록한 바이트 수 (기록된 배열은 {@code ENCODE_SCRATCH.get()[0]})
+     */
+    private static int encode(String[] fields) {
+        byte[][] holder = ENCODE_SCRATCH.get();
+        int position = 0;
+
+        for (String field : fields) {
+            if (field == null) {
+                ensureCapacity(holder, position, LENGTH_BYTES);
+                position = putInt(holder[0], position, NULL_LENGTH);
+                continue;
+            }
+
+            if (isAscii(field)) {
+                int length = field.length();
+                ensureCapacity(holder, position, LENGTH_BYTES + length);
+
+                byte[] buffer = holder[0];
+                position = putInt(buffer, position, length);
+
+                for (int i = 0; i < length; i++) {
+                    buffer[position++] = (byte) field.charAt(i);
+                }
+            } else {
+                byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(holder, position, LENGTH_BYTES + bytes.length);
+                position = putInt(holder[0], position, bytes.length);
+                System.arraycopy(bytes, 0, holder[0], position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * 아레나의 레코드를 문자열 필드 배열로 읽습니다.
+     */
+    private String[] read(long ref, int length) {
+        byte[][] holder = DECODE_SCRATCH.get();
+        ensureCapacity(holder, 0, length);
+
+        byte[] buffer = holder[0];
+        arena.read(ref, buffer, length);
+
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+
+        while (position < length) {
+            int fieldLength = getInt(buffer, position);
+            position += LENGTH_BYTES;
+
+            if (fieldLength == NULL_LENGTH) {
+                fields.add(null);
+                continue;
+            }
+
+            fields.add(new String(buffer, position, fieldLength, StandardCharsets.UTF_8));
+            position += fieldLength;
+        }
+
+        return fields.toArray(new String[0]);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= ASCII_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void ensureCapacity(byte[][] holder, int position, int bytes) {
+        if (holder[0].length < position + bytes) {
+            holder[0] = Arrays.copyOf(holder[0], Math.max(holder[0].length * 2, position + bytes));
+        }
+    }
+
+    private static int putInt(byte[] buffer, int position, int value) {
+        for (int i = LENGTH_BYTES - 1; i >= 0; i--) {
+            buffer[position + i] = (byte) (value >>> ((LENGTH_BYTES - 1 - i) * BITS_PER_BYTE));
+        }
+        return position + LENGTH_BYTES;
+    }
+
+    private static int getInt(byte[] buffer, int position) {
+        int value = 0;
+
+        for (int i = 0; i < LENGTH_BYTES; i++) {
+            value = (value << BITS_PER_BYTE) | (buffer[position + i] & BYTE_MASK);
+        }
+        return value;
+    }
+
+    /**
+     * 하나의 사용자 액션 키에 대한 레코드 참조 링 버퍼입니다.
+     * 레코드마다 객체를 만들지 않도록 참조, 길이, 적재 시각을 원시 타입 배열로 보관하며,
+     * 모든 접근은 세그먼트 자신을 모니터로 동기화합니다.
+     *
+     * 레코드는 세그먼트 안에서 0부터 증가하는 순번을 가지며, 맨 앞 레코드의 순번은 지금까지 빠진 레코드 수와 같습니다.
+     * 빠진 레코드 수는 세그먼트 잠금 안에서만 늘리고, 적재 순서 링을 압축할 때는 잠금 없이 읽습니다.
+     */
+    private static final class Segment {
+
+        private final UserActionKey key;
+        private long[] refs = new long[INITIAL_SEGMENT_CAPACITY];
+        private int[] lengths = new int[INITIAL_SEGMENT_CAPACITY];
+        private long[] enqueuedNanos = new long[INITIAL_SEGMENT_CAPACITY];
+        private int head;
+        private int size;
+        private volatile long removedCount;
+        private boolean closed;
+
+        private Segment(UserActionKey key) {
+            this.key = key;
+        }
+
+        private long nextSequence() {
+            return removedCount + size;
+        }
+
+        private boolean contains(long sequence) {
+            return sequence >= removedCount && sequence < removedCount + size;
+        }
+
+        private void addLast(long ref, int length, long nanos) {
+            if (size == refs.length) {
+                grow();
+            }
+
+            int index = (head + size) % refs.length;
+            refs[index] = ref;
+            lengths[index] = length;
+            enqueuedNanos[index] = nanos;
+            size++;
+        }
+
+        private long firstRef() {
+            return refs[head];
+        }
+
+        private int firstLength() {
+            return lengths[head];
+        }
+
+        private long firstEnqueuedNanos() {
+            return enqueuedNanos[head];
+        }
+
+        private void removeFirst() {
+            head = (head + 1) % refs.length;
+            size--;
+            removedCount++;
+
+            if (size == 0) {
+                head = 0;
+            }
+        }
+
+        private void grow() {
+            int capacity = refs.length * 2;
+            long[] newRefs = new long[capacity];
+            int[] newLengths = new int[capacity];
+            long[] newNanos = new long[capacity];
+
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % refs.length;
+                newRefs[i] = refs[index];
+                newLengths[i] = lengths[index];
+                newNanos[i] = enqueuedNanos[index];
+            }
+
+            refs = newRefs;
+            lengths = newLengths;
+            enqueuedNanos = newNanos;
+            head = 0;
+        }
+
+    }
+
+    /**
+     * 전체 버퍼의 적재 순서를 (세그먼트, 세그먼트 내 순번) 쌍으로 기록하는 링 버퍼입니다.
+     * 레코드마다 객체를 만들지 않도록 원시 타입 배열로 보관하며, 모든 접근은 링 자신을 모니터로 동기화합니다.
+     * 세그먼트 잠금 안에서 링 잠금을 잡을 수는 있지만, 링 잠금 안에서 세그먼트 잠금을 잡지 않습니다.
+     */
+    private static final class InsertionOrder {
+
+        private Segment[] segments = new Segment[INITIAL_SEGMENT_CAPACITY];
+        private long[] sequences = new long[INITIAL_SEGMENT_CAPACITY];
+        private int head;
+        private int size;
+
+        private void offer(Segment segment, long sequence) {
+            if (size == segments.length) {
+                resize(segments.length * 2);
+            }
+
+            int index = (head + size) % segments.length;
+            segments[index] = segment;
+            sequences[index] = sequence;
+            size++;
+        }
+
+        private Segment firstSegment() {
+            return segments[head];
+        }
+
+        private long firstSequence() {
+            return sequences[head];
+        }
+
+        private void removeFirst() {
+            segments[head] = null;
+            head = (head + 1) % segments.length;
+            size--;
+
+            if (size == 0) {
+                head = 0;
+            }
+        }
+
+        /**
+         * 세그먼트에서 이미 빠진 레코드의 항목을 제거합니다.
+         * 세그먼트 잠금을 잡지 않으므로 빠진 레코드를 일부 남길 수 있지만, 남은 항목은 밀어낼 때 다시 걸러집니다.
+         * 살아 있는 레코드의 항목은 그 레코드가 빠지기 전까지 세그먼트의 빠진 레코드 수보다 작아지지 않으므로 잘못 제거되지 않습니다.
+         */
+        private void compact() {
+            int capacity = Math.max(INITIAL_SEGMENT_CAPACITY, Integer.highestOneBit(Math.max(1, size)));
+            Segment[] newSegments = new Segment[capacity];
+            long[] newSequences = new long[capacity];
+            int kept = 0;
+
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % segments.length;
+                Segment segment = segments[index];
+                long sequence = sequences[index];
+
+                if (sequence < segment.removedCount) {
+                    continue;
+                }
+
+                if (kept == newSegments.length) {
+                    newSegments = Arrays.copyOf(newSegments, kept * 2);
+                    newSequences = Arrays.copyOf(newSequences, kept * 2);
+                }
+
+                newSegments[kept] = segment;
+                newSequences[kept] = sequence;
+                kept++;
+            }
+
+            segments = newSegments;
+            sequences = newSequences;
+            head = 0;
+            size = kept;
+        }
+
+        private void resize(int capacity) {
+            Segment[] newSegments = new Segment[capacity];
+            long[] newSequences = new long[capacity];
+
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % segments.length;
+                newSegments[i] = segments[index];
+                newSequences[i] = sequences[index];
+            }
+
+            segments = newSegments;
+            sequences = newSequences;
+            head = 0;
+        }
+
+    }
+
+}
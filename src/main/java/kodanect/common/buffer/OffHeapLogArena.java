@@ -0,0 +1,172 @@
+package kodanect.common.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 직렬화된 로그 레코드를 힙 밖의 direct {@link ByteBuffer} 청크에 순차 기록하는 아레나입니다.
+ *
+ * - 레코드는 현재 청크의 끝에 이어 붙이며, 위치는 [청크 번호(상위 32비트) | 오프셋(하위 32비트)] 형태의 long 참조로 반환합니다.
+ * - 청크별로 살아 있는 레코드 수를 세고, 모두 해제된 청크는 통째로 재사용합니다. (레코드 단위 해제/압축은 하지 않습니다.)
+ * - 청크는 필요할 때 할당하며 최대 maxChunks 개까지만 만듭니다. 더 이상 공간이 없으면 {@link #NO_SPACE}를 반환합니다.
+ *
+ * 할당/해제는 아레나 단위로 동기화하고, 바이트 복사는 잠금 밖에서 절대 위치 연산으로 수행합니다.
+ * 청크 배열은 늘어날 때마다 복사본으로 교체하므로 잠금 없이 읽어도 이미 만들어진 청크는 항상 보입니다.
+ * 할당된 레코드가 해제되기 전까지 해당 청크는 재사용되지 않으므로 복사 구간이 겹치지 않습니다.
+ */
+final class OffHeapLogArena {
+
+    /**
+     * 공간 부족으로 할당하지 못했음을 나타내는 참조 값
+     */
+    static final long NO_SPACE = -1L;
+
+    private static final int OFFSET_BITS = 32;
+    private static final long OFFSET_MASK = 0xFFFF_FFFFL;
+    private static final int INITIAL_CHUNK_SLOTS = 8;
+
+    private final int chunkBytes;
+    private final int maxChunks;
+    private final ArrayDeque<Chunk> freeChunks = new ArrayDeque<>();
+    private volatile Chunk[] chunks;
+    private int allocatedChunks;
+    private Chunk current;
+
+    /**
+     * @param chunkBytes 청크 하나의 크기
+     * @param maxChunks  최대 청크 수
+     */
+    OffHeapLogArena(int chunkBytes, int maxChunks) {
+        this.chunkBytes = chunkBytes;
+        this.maxChunks = Math.max(1, maxChunks);
+        this.chunks = new Chunk[Math.min(this.maxChunks, INITIAL_CHUNK_SLOTS)];
+    }
+
+    /**
+     * 레코드 공간을 예약합니다.
+     *
+     * @param length 레코드 바이트 수
+     * @return 레코드 참조, 공간이 없으면 {@link #NO_SPACE}
+     */
+    synchronized long allocate(int length) {
+        if (length > chunkBytes) {
+            return NO_SPACE;
+        }
+
+        if (current == null || current.writeOffset + length > chunkBytes) {
+            Chunk next = nextChunk();
+
+            if (next == null) {
+                return NO_SPACE;
+            }
+
+            Chunk previous = current;
+            current = next;
+
+            if (previous != null && previous.liveRecords == 0) {
+                recycle(previous);
+            }
+        }
+
+        int offset = current.writeOffset;
+        current.writeOffset += length;
+        current.liveRecords++;
+        return ((long) current.index << OFFSET_BITS) | offset;
+    }
+
+    /**
+     * 레코드 공간을 해제합니다. 청크의 모든 레코드가 해제되면 청크를 재사용 대상으로 돌려놓습니다.
+     *
+     * @param ref 레코드 참조
+     */
+    synchronized void release(long ref) {
+        Chunk chunk = chunks[chunkIndex(ref)];
+
+        if (--chunk.liveRecords > 0) {
+            return;
+        }
+
+        if (chunk == current) {
+            chunk.writeOffset = 0;
+        } else {
+            recycle(chunk);
+        }
+    }
+
+    /**
+     * 예약한 공간에 레코드 바이트를 기록합니다.
+     */
+    void write(long ref, byte[] source, int length) {
+        chunks[chunkIndex(ref)].buffer.put(offset(ref), source, 0, length);
+    }
+
+    /**
+     * 레코드 바이트를 읽어 대상 배열의 앞부분에 복사합니다.
+     */
+    void read(long ref, byte[] target, int length) {
+        chunks[chunkIndex(ref)].buffer.get(offset(ref), target, 0, length);
+    }
+
+    /**
+     * @return 할당된 청크의 전체 바이트 수
+     */
+    synchronized long getCapacityBytes() {
+        return (long) allocatedChunks * chunkBytes;
+    }
+
+    private Chunk nextChunk() {
+        Chunk free = freeChunks.pollFirst();
+
+        if (free != null) {
+            return free;
+        }
+
+        if (allocatedChunks == maxChunks) {
+            return null;
+        }
+
+        Chunk[] slots = chunks;
+
+        if (allocatedChunks == slots.length) {
+            slots = Arrays.copyOf(slots, (int) Math.min(maxChunks, slots.length * 2L));
+        }
+
+        Chunk chunk = new Chunk(allocatedChunks, ByteBuffer.allocateDirect(chunkBytes));
+        slots[allocatedChunks++] = chunk;
+        chunks = slots;
+        return chunk;
+    }
+
+    private void recycle(Chunk chunk) {
+        chunk.writeOffset = 0;
+        freeChunks.addLast(chunk);
+    }
+
+    private static int chunkIndex(long ref) {
+        return (int) (ref >>> OFFSET_BITS);
+    }
+
+    private static int offset(long ref) {
+        return (int) (ref & OFFSET_MASK);
+    }
+
+    /**
+     * direct 버퍼 하나와 쓰기 위치, 살아 있는 레코드 수입니다.
+     * 쓰기 위치와 레코드 수는 아레나 잠금 안에서만 변경합니다.
+     */
+    private static final class Chunk {
+
+        private final int index;
+        private final ByteBuffer buffer;
+        private int writeOffset;
+        private int liveRecords;
+
+        private Chunk(int index, ByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package kodanect.common.buffer;
+
+/**
+ * 로그 버퍼가 용량(키별 최대 건수 또는 전체 메모리 예산)을 초과했을 때 적용하는 정책입니다.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 가장 오래된 로그를 버리고 새 로그를 수용합니다.
+     * 키별 최대 건수를 넘으면 해당 키에서, 전체 메모리 예산을 넘으면 전체 버퍼에서 가장 오래된 로그를 버립니다.
+     */
+    DROP_OLDEST,
+
+    /**
+     * 초과 구간 동안 N건 중 1건만 수용하고 나머지는 버립니다.
+     * 수용된 로그는 가장 오래된 로그를 밀어내고 저장됩니다.
+     */
+    SAMPLE,
+
+    /**
+     * 조기 배출(flush)을 요청한 뒤, 배출 전까지는 가장 오래된 로그를 버립니다.
+     */
+    FLUSH_EARLY
+
+}
@@ -1,25 +1,47 @@
 package kodanect.common.buffer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import kodanect.common.config.properties.ActionLogSystemInfoProperties;
 import kodanect.domain.logging.dto.SystemInfoDto;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 사용자 시스템 정보를 세션 ID를 기준으로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<String, SystemInfoDto>}
- * - 동시성 안전을 위해 {@link ConcurrentHashMap} 사용합니다.
+ * - 버퍼 구조: 만료 시간과 최대 건수가 지정된 Caffeine {@link Cache}
+ * - 배출되지 않은 세션도 sessionId 쿠키 유효 시간(기본 24시간)이 지나면 자동으로 제거됩니다.
  * - 동일 세션 ID에 대해 한 번만 저장되며, 이후 덮어쓰기 방지합니다.
+ * - 브라우저/OS/디바이스/로케일 조합은 반복되므로 같은 값의 {@link SystemInfoDto}는 하나의 인스턴스를 공유(intern)합니다.
+ * - 보관 세션 수와 추정 바이트를 조회할 수 있습니다.
  * - 백엔드 로그와 함께 시스템 정보를 연결하기 위한 목적입니다.
  */
 @Component
 public class SystemInfoBuffer {
 
     private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<String, SystemInfoDto> buffer = new ConcurrentHashMap<>();
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Cache<String, SystemInfoDto> buffer;
+    private final Cache<SystemInfoDto, SystemInfoDto> internPool;
+    private final AtomicLong sessionBytes = new AtomicLong();
+
+    public SystemInfoBuffer(ActionLogSystemInfoProperties properties) {
+        this.buffer = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxEntries())
+                .executor(Runnable::run)
+                .removalListener((String sessionId, SystemInfoDto systemInfo, RemovalCause cause) ->
+                        sessionBytes.addAndGet(-entryBytes(sessionId)))
+                .build();
+        this.internPool = Caffeine.newBuilder()
+                .maximumSize(properties.getInternMaxEntries())
+                .build();
+    }
 
     /**
      * 시스템 정보를 버퍼에 추가합니다.
@@ -35,7 +57,11 @@ public class SystemInfoBuffer {
             return;
         }
 
-        buffer.putIfAbsent(sessionId, systemInfo);
+        SystemInfoDto interned = internPool.get(systemInfo, value -> value);
+
+        if (buffer.asMap().putIfAbsent(sessionId, interned) == null) {
+            sessionBytes.addAndGet(entryBytes(sessionId));
+        }
     }
 
     /**
@@ -48,7 +74,7 @@ public class SystemInfoBuffer {
         if (sessionId == null || sessionId.isBlank()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(buffer.get(sessionId));
+        return Optional.ofNullable(buffer.getIfPresent(sessionId));
     }
 
     /**
@@ -57,7 +83,52 @@ public class SystemInfoBuffer {
      * @param sessionId 삭제 대상 세션 ID
      */
     public void remove(String sessionId) {
-        buffer.remove(sessionId);
+        if (sessionId != null) {
+            buffer.invalidate(sessionId);
+        }
+    }
+
+    /**
+     * 만료된 항목을 정리한 뒤 보관 중인 세션 수를 반환합니다.
+     *
+     * @return 현재 보관 중인 세션 수
+     */
+    public long getEntryCount() {
+        buffer.cleanUp();
+        return buffer.estimatedSize();
+    }
+
+    /**
+     * 세션 항목과 공유 중인 시스템 정보 인스턴스의 추정 바이트 합계를 계산합니다.
+     *
+     * @return 추정 바이트 수
+     */
+    public long getApproximateBytes() {
+        long internedBytes = 0;
+
+        for (SystemInfoDto systemInfo : internPool.asMap().keySet()) {
+            internedBytes += BoundedKeyedLogBuffer.estimateBytes(
+                    systemInfo.getBrowserName(),
+                    systemInfo.getBrowserVersion(),
+                    systemInfo.getOperatingSystem(),
+                    systemInfo.getDevice(),
+                    systemInfo.getLocale(),
+                    systemInfo.getIpAddress()
+            );
+        }
+
+        return sessionBytes.get() + internedBytes;
+    }
+
+    /**
+     * @return 중복 제거 후 공유 중인 서로 다른 시스템 정보 조합 수
+     */
+    public long getDistinctSystemInfoCount() {
+        return internPool.estimatedSize();
+    }
+
+    private static long entryBytes(String sessionId) {
+        return ENTRY_OVERHEAD_BYTES + BoundedKeyedLogBuffer.estimateBytes(sessionId);
     }
 
 }
@@ -1,11 +1,12 @@
 package kodanect.common.config.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import eu.bitwalker.useragentutils.*;
 import kodanect.common.exception.config.SecureLogger;
 import kodanect.common.constant.MdcKey;
+import kodanect.common.useragent.UserAgentResolver;
+import kodanect.domain.logging.event.RequestActionContext;
+import kodanect.domain.logging.event.RequestActionEvent;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
+import kodanect.domain.logging.sampling.ActionLogSampler;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -15,22 +16,28 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * 컨트롤러 계층 진입 시 사용자 요청 메타데이터를 MDC에 설정하는 AOP 컴포넌트
+ * 컨트롤러 계층 진입 시 사용자 요청 메타데이터를 캡처하는 AOP 컴포넌트
  *
  * 주요 기능:
- * - 세션 쿠키(sessionId)가 존재하는 요청에 한해 MDC 설정
- * - User-Agent 분석을 통해 브라우저, OS, 디바이스 정보 수집
- * - 클라이언트 IP, HTTP 메서드, 엔드포인트, 컨트롤러명, 메서드명, 파라미터, 타임스탬프 저장
- * - 수집된 정보를 SLF4J MDC에 등록
- * - 모든 작업이 완료된 후에는 MDC가 반드시 초기화됩니다.
+ * - 세션 쿠키(sessionId)가 존재하는 요청에 한해 동작
+ * - {@link ActionLogSampler}가 제외한 요청은 메타데이터를 수집하지 않고 바로 실행
+ * - 파라미터는 {@link ActionLogParameterExtractor}가 메서드별 추출 계획으로 마스킹/길이 제한하여 JSON으로 기록
+ * - User-Agent 분석을 통해 브라우저, OS, 디바이스 정보 수집 (분석 결과는 {@link UserAgentResolver}가 캐싱)
+ * - 클라이언트 IP, HTTP 메서드, 엔드포인트, 컨트롤러명, 메서드명, 파라미터, 타임스탬프를
+ *   불변 {@link RequestActionEvent}로 캡처하여 {@link RequestActionContext}에 보관
+ *   (파라미터 JSON 기록과 User-Agent 분석은 이벤트를 실제로 조회하는 요청에서만 수행)
+ * - 파라미터는 DEBUG 레벨에서만 호출 로그에 함께 출력
+ * - 로그 상관관계 추적을 위해 세션 ID와 IP만 SLF4J MDC에 등록
+ * - 모든 작업이 완료된 후에는 이벤트와 MDC가 반드시 초기화됩니다.
  */
 @Aspect
 @Component
@@ -39,12 +46,14 @@ public class ActionLogMdcAspect {
 
     private static final String SESSION_ID_COOKIE_NAME = "sessionId";
     private static final SecureLogger log = SecureLogger.getLogger(ActionLogMdcAspect.class);
-    private final ObjectMapper objectMapper;
+    private final ActionLogParameterExtractor parameterExtractor;
+    private final UserAgentResolver userAgentResolver;
+    private final ActionLogSampler sampler;
 
     /**
-     * 컨트롤러 메서드 실행 전후로 MDC 메타데이터를 설정하고 정리합니다.
+     * 컨트롤러 메서드 실행 전후로 요청 이벤트와 MDC를 설정하고 정리합니다.
      *
-     * 세션 쿠키(sessionId)가 존재하는 요청에 대해서만 MDC를 설정합니다.
+     * 세션 쿠키(sessionId)가 존재하고 샘플링에 포함된 요청에 대해서만 이벤트를 캡처합니다.
      *
      * @param joinPoint 현재 실행 중인 컨트롤러 메서드 조인 포인트
      * @return 원래의 메서드 실행 결과
@@ -61,50 +70,75 @@ public class ActionLogMdcAspect {
         HttpServletRequest request = attributes.getRequest();
         String sessionId = extractSessionIdFromCookie(request);
 
-        if (sessionId == null || sessionId.isBlank()) {
+        if (sessionId == null || sessionId.isBlank()
+                || !sampler.shouldSample(sessionId, request.getMethod(), extractMappedPath(request))) {
             return joinPoint.proceed();
         }
 
         try {
             String ipAddress = orUnknown(extractClientIp(request));
             String httpMethod = orUnknown(request.getMethod());
-            String endpoint = orUnknown(request.getRequestURI());
-            String controllerClassName = joinPoint.getSignature().getDeclaringTypeName();
             String controllerSimpleName = joinPoint.getSignature().getDeclaringType().getSimpleName();
             String methodName = joinPoint.getSignature().getName();
-            Map<String, String> params = extractParameters(joinPoint);
-            String parametersJson = objectMapper.writeValueAsString(params);
-            String userAgentString = request.getHeader("User-Agent");
-            UserAgent userAgent = UserAgent.parseUserAgentString(userAgentString);
-            Version browserVersion = userAgent.getBrowserVersion();
-            OperatingSystem os = userAgent.getOperatingSystem();
-            String locale = orUnknown(request.getLocale().toLanguageTag());
+
+            RequestActionContext.set(captureEvent(joinPoint, request, sessionId, ipAddress, httpMethod));
 
             MDC.put(MdcKey.SESSION_ID, sessionId);
             MDC.put(MdcKey.IP_ADDRESS, ipAddress);
-            MDC.put(MdcKey.HTTP_METHOD, httpMethod);
-            MDC.put(MdcKey.ENDPOINT, endpoint);
-            MDC.put(MdcKey.CONTROLLER, controllerClassName);
-            MDC.put(MdcKey.METHOD, methodName);
-            MDC.put(MdcKey.PARAMETERS, parametersJson);
-            MDC.put(MdcKey.TIMESTAMP, Instant.now().toString());
-            MDC.put(MdcKey.BROWSER_NAME, orUnknown(userAgent.getBrowser().getName()));
-            MDC.put(MdcKey.BROWSER_VERSION, orUnknown(browserVersion != null ? browserVersion.getVersion() : null));
-            MDC.put(MdcKey.OPERATING_SYSTEM, orUnknown(os != null ? os.getName() : null));
-            MDC.put(MdcKey.DEVICE, orUnknown(os != null ? os.getDeviceType().getName() : null));
-            MDC.put(MdcKey.LOCALE, locale);
-
-            log.info("[{}] {}.{} 호출 (세션: {}, IP: {}, 파라미터: {})",
-                    httpMethod, controllerSimpleName, methodName, sessionId, ipAddress, parametersJson);
+
+            log.info("[{}] {}.{} 호출 (세션: {}, IP: {})",
+                    httpMethod, controllerSimpleName, methodName, sessionId, ipAddress);
+
+            if (log.isDebugEnabled()) {
+                RequestActionContext.current().ifPresent(event ->
+                        log.debug("[{}] {}.{} 파라미터: {}", httpMethod, controllerSimpleName, methodName, event.getParameters()));
+            }
 
             return joinPoint.proceed();
-        } catch (JsonProcessingException e) {
-            throw new ActionLogJsonSerializationException("MDC 파라미터 추출");
         } finally {
+            RequestActionContext.clear();
             MDC.clear();
         }
     }
 
+    /**
+     * 요청 이벤트 생성 함수를 만듭니다.
+     *
+     * 요청 객체에서 읽어야 하는 값은 지금 읽어 두고, 파라미터 JSON 기록과 User-Agent 분석은
+     * 이벤트가 실제로 조회될 때({@link RequestActionContext#current()}) 수행합니다.
+     */
+    private Supplier<RequestActionEvent> captureEvent(ProceedingJoinPoint joinPoint,
+                                                      HttpServletRequest request,
+                                                      String sessionId,
+                                                      String ipAddress,
+                                                      String httpMethod) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Object[] args = joinPoint.getArgs();
+        String endpoint = orUnknown(request.getRequestURI());
+        String timestamp = Instant.now().toString();
+        String userAgentHeader = request.getHeader("User-Agent");
+        String locale = orUnknown(request.getLocale().toLanguageTag());
+
+        return () -> {
+            try {
+                return RequestActionEvent.builder()
+                        .sessionId(sessionId)
+                        .ipAddress(ipAddress)
+                        .httpMethod(httpMethod)
+                        .endpoint(endpoint)
+                        .controller(signature.getDeclaringTypeName())
+                        .method(signature.getName())
+                        .parameters(parameterExtractor.extract(signature, args))
+                        .timestamp(timestamp)
+                        .userAgent(userAgentResolver.resolve(userAgentHeader))
+                        .locale(locale)
+                        .build();
+            } catch (IOException e) {
+                throw new ActionLogJsonSerializationException("MDC 파라미터 추출");
+            }
+        };
+    }
+
     /**
      * HttpServletRequest의 쿠키에서 sessionId 값을 추출합니다.
      *
@@ -125,34 +159,16 @@ public class ActionLogMdcAspect {
     }
 
     /**
-     * AOP 조인 포인트로부터 메서드 파라미터 이름과 값을 추출합니다.
+     * 요청에 매핑된 엔드포인트 패턴을 반환합니다.
      *
-     * - HttpServletRequest 타입의 파라미터는 제외되지 않고 toString 처리됩니다.
-     * - 각 파라미터 값은 문자열로 변환되며, null 값은 "null", toString 실패 시 "NON_STRINGIFIABLE"로 대체됩니다.
+     * 패턴(예: /notices/{id})은 경로 변수 값과 무관하므로 샘플링 비율 캐시의 키로 사용할 수 있습니다.
      *
-     * @param joinPoint 현재 실행 중인 컨트롤러 메서드 조인 포인트
-     * @return 파라미터 이름과 문자열 값의 Map
+     * @param request 현재 요청
+     * @return 매핑 패턴 (없으면 요청 URI)
      */
-    private Map<String, String> extractParameters(ProceedingJoinPoint joinPoint) {
-        Map<String, String> paramMap = new HashMap<>();
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] names = signature.getParameterNames();
-        Object[] values = joinPoint.getArgs();
-
-        for (int i = 0; i < names.length; i++) {
-            Object value = values[i];
-
-            String stringValue;
-
-            try {
-                stringValue = (value != null) ? value.toString() : "null";
-            } catch (Exception e) {
-                stringValue = "NON_STRINGIFIABLE";
-            }
-
-            paramMap.put(names[i], stringValue);
-        }
-        return paramMap;
+    private String extractMappedPath(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
     }
 
     /**
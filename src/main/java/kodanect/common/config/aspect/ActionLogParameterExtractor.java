@@ -0,0 +1,348 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogParameterProperties;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartRequest;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpSession;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 컨트롤러 메서드의 파라미터를 액션 로그용 JSON 문자열로 기록하는 컴포넌트입니다.
+ *
+ * 메서드별로 파라미터 이름과 처리 방식을 한 번만 계산하여 캐싱하고(추출 계획),
+ * 요청마다 중간 Map이나 인자 전체의 toString() 결과를 만들지 않고 {@link JsonGenerator}에 바로 기록합니다.
+ *
+ * - 서블릿 요청/응답, 세션, 멀티파트 파일, 검증 결과 등은 기록하지 않습니다.
+ * - 이름에 설정된 키워드(기본: passcode, password)가 포함된 파라미터나 필드는 마스킹합니다.
+ * - kodanect 패키지의 DTO는 필드 단위로, Map은 엔트리 단위로 한 단계만 펼쳐 기록합니다.
+ * - 문자열 값은 최대 길이까지만 기록하며, 컬렉션/배열은 크기만 기록합니다.
+ */
+@Component
+public class ActionLogParameterExtractor {
+
+    static final String REDACTED = "******";
+    static final String NON_STRINGIFIABLE = "NON_STRINGIFIABLE";
+
+    private static final String DTO_PACKAGE_PREFIX = "kodanect.";
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final List<Class<?>> SKIPPED_TYPES = List.of(
+            ServletRequest.class,
+            ServletResponse.class,
+            HttpSession.class,
+            MultipartFile.class,
+            MultipartRequest.class,
+            Errors.class,
+            InputStream.class,
+            Reader.class
+    );
+
+    private final JsonFactory jsonFactory;
+    private final ActionLogParameterProperties properties;
+    private final ConcurrentMap<Method, ParameterPlan[]> methodPlans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, PropertyPlan[]> beanPlans = new ConcurrentHashMap<>();
+
+    public ActionLogParameterExtractor(ObjectMapper objectMapper, ActionLogParameterProperties properties) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.properties = properties;
+    }
+
+    /**
+     * 파라미터 값을 JSON 객체 문자열로 기록합니다.
+     *
+     * @param signature 컨트롤러 메서드 시그니처
+     * @param args      실제 인자 값
+     * @return 파라미터 이름을 키로 하는 JSON 문자열
+     * @throws IOException JSON 기록 실패 시
+     */
+    public String extract(MethodSignature signature, Object[] args) throws IOException {
+        ParameterPlan[] plans = methodPlans.get(signature.getMethod());
+
+        if (plans == null) {
+            plans = methodPlans.computeIfAbsent(signature.getMethod(), method -> planParameters(method, signature.getParameterNames()));
+        }
+
+        StringWriter writer = new StringWriter(INITIAL_BUFFER_SIZE);
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+
+            for (int i = 0; i < plans.length && i < args.length; i++) {
+                writeParameter(generator, plans[i], args[i]);
+            }
+
+            generator.writeEndObject();
+        }
+
+        return writer.toString();
+    }
+
+    private ParameterPlan[] planParameters(Method method, String[] names) {
+        Class<?>[] types = method.getParameterTypes();
+        ParameterPlan[] plans = new ParameterPlan[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            String name = (names != null && i < names.length) ? names[i] : "arg" + i;
+            plans[i] = new ParameterPlan(name, kindOf(name, types[i]));
+        }
+        return plans;
+    }
+
+    private PropertyPlan[] planProperties(Class<?> type) {
+        List<PropertyPlan> plans = new ArrayList<>();
+
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                Method getter = descriptor.getReadMethod();
+
+                if (getter == null || isSkipped(descriptor.getPropertyType())) {
+                    continue;
+                }
+
+                getter.setAccessible(true);
+                plans.add(new PropertyPlan(descriptor.getName(), getter, isRedacted(descriptor.getName())));
+            }
+        } catch (IntrospectionException | RuntimeException e) {
+            return new PropertyPlan[0];
+        }
+
+        return plans.toArray(new PropertyPlan[0]);
+    }
+
+    private Kind kindOf(String name, Class<?> type) {
+        if (isSkipped(type)) {
+            return Kind.SKIP;
+        }
+        if (isRedacted(name)) {
+            return Kind.REDACT;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Kind.MAP;
+        }
+        if (!isSimple(type) && !type.isArray() && type.getName().startsWith(DTO_PACKAGE_PREFIX)) {
+            return Kind.BEAN;
+        }
+        return Kind.VALUE;
+    }
+
+    private void writeParameter(JsonGenerator generator, ParameterPlan plan, Object value) throws IOException {
+        if (plan.kind == Kind.SKIP || isSkippedValue(value)) {
+            return;
+        }
+
+        generator.writeFieldName(plan.name);
+
+        switch (plan.kind) {
+            case REDACT -> generator.writeString(REDACTED);
+            case MAP -> writeMap(generator, (Map<?, ?>) value);
+            case BEAN -> writeBean(generator, value);
+            default -> writeValue(generator, value);
+        }
+    }
+
+    private void writeBean(JsonGenerator generator, Object bean) throws IOException {
+        if (bean == null) {
+            generator.writeNull();
+            return;
+        }
+
+        PropertyPlan[] plans = beanPlans.computeIfAbsent(bean.getClass(), this::planProperties);
+        generator.writeStartObject();
+
+        for (PropertyPlan plan : plans) {
+            Object value;
+
+            try {
+                value = plan.getter.invoke(bean);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                value = NON_STRINGIFIABLE;
+            }
+
+            if (isSkippedValue(value)) {
+                continue;
+            }
+
+            generator.writeFieldName(plan.name);
+
+            if (plan.redacted) {
+                generator.writeString(REDACTED);
+            } else {
+                writeValue(generator, value);
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeMap(JsonGenerator generator, Map<?, ?> map) throws IOException {
+        if (map == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+
+            if (isSkippedValue(entry.getValue())) {
+                continue;
+            }
+
+            generator.writeFieldName(key);
+
+            if (isRedacted(key)) {
+                generator.writeString(REDACTED);
+            } else {
+                writeValue(generator, entry.getValue());
+            }
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * 단일 값을 문자열로 기록합니다.
+     *
+     * 문자열은 최대 길이까지만 잘라 기록하므로 큰 본문도 잘린 부분만 복사됩니다.
+     */
+    private void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeString("null");
+        } else if (value instanceof CharSequence) {
+            generator.writeString(truncate((CharSequence) value));
+        } else if (value instanceof Collection) {
+            generator.writeString(value.getClass().getSimpleName() + "(size=" + ((Collection<?>) value).size() + ")");
+        } else if (value instanceof Map) {
+            generator.writeString(value.getClass().getSimpleName() + "(size=" + ((Map<?, ?>) value).size() + ")");
+        } else if (value.getClass().isArray()) {
+            generator.writeString(value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]");
+        } else {
+            generator.writeString(truncate(stringify(value)));
+        }
+    }
+
+    private String truncate(CharSequence value) {
+        int maxLength = properties.getMaxValueLength();
+
+        if (value.length() <= maxLength) {
+            return value.toString();
+        }
+        return value.subSequence(0, maxLength) + "...(+" + (value.length() - maxLength) + ")";
+    }
+
+    private String stringify(Object value) {
+        try {
+            return value.toString();
+        } catch (Exception e) {
+            return NON_STRINGIFIABLE;
+        }
+    }
+
+    private boolean isRedacted(String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+
+        for (String keyword : properties.getRedactKeywords()) {
+            if (lowerName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSkipped(Class<?> type) {
+        Class<?> target = type.isArray() ? type.getComponentType() : type;
+
+        for (Class<?> skipped : SKIPPED_TYPES) {
+            if (skipped.isAssignableFrom(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSkippedValue(Object value) {
+        return value != null && isSkipped(value.getClass());
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive()
+                || type.isEnum()
+                || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type)
+                || Boolean.class == type
+                || Character.class == type
+                || TemporalAccessor.class.isAssignableFrom(type)
+                || UUID.class == type;
+    }
+
+    /**
+     * 파라미터 처리 방식
+     */
+    private enum Kind {
+        SKIP,
+        REDACT,
+        MAP,
+        BEAN,
+        VALUE
+    }
+
+    /**
+     * 메서드 파라미터 하나에 대한 추출 계획
+     */
+    private static final class ParameterPlan {
+
+        private final String name;
+        private final Kind kind;
+
+        private ParameterPlan(String name, Kind kind) {
+            this.name = name;
+            this.kind = kind;
+        }
+
+    }
+
+    /**
+     * DTO 필드 하나에 대한 추출 계획
+     */
+    private static final class PropertyPlan {
+
+        private final String name;
+        private final Method getter;
+        private final boolean redacted;
+
+        private PropertyPlan(String name, Method getter, boolean redacted) {
+            this.name = name;
+            this.getter = getter;
+            this.redacted = redacted;
+        }
+
+    }
+
+}
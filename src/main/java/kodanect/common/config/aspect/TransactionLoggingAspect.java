@@ -1,27 +1,38 @@
 package kodanect.common.config.aspect;
 
 import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.metrics.LatencyGroup;
+import kodanect.common.metrics.LatencyRecorder;
+import kodanect.common.metrics.LatencyRegistry;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 /**
- * 트랜잭션 수행 시간 로깅 AOP
+ * 트랜잭션 수행 시간 로깅 및 지연 시간 측정 AOP
  *
  * 목적:
- * - @Transactional이 선언된 클래스 또는 메서드에 대해 트랜잭션 실행 시간을 로깅
+ * - 서비스 구현체 메서드의 실행 시간을 로깅하고 지연 시간 히스토그램에 기록
+ * - 컨트롤러 엔드포인트의 실행 시간을 요청 매핑 패턴별 히스토그램에 기록
  * - 예외 발생 시 에러 로그 출력
  *
  * 적용 대상:
- * - 클래스 또는 메서드에 @Transactional이 명시된 모든 빈
+ * - kodanect.domain..service.impl 패키지의 모든 메서드
+ * - kodanect.domain..controller 패키지의 모든 메서드
  *
  * 특징:
- * - 트랜잭션 시작/종료 시점의 로그 출력
- * - 예외 발생 시 해당 메서드 정보와 예외 메시지 함께 로깅
+ * - System.nanoTime()으로 측정하며, 예외로 끝난 호출도 지연 시간에 포함
+ * - 측정 결과는 {@link LatencyRegistry}를 통해 /actuator/latency 로 조회
+ * - 트랜잭션 시작/종료 시점의 로그는 debug 레벨로 출력
  */
 @Aspect
 @Component
@@ -30,9 +41,12 @@ import org.springframework.stereotype.Component;
 public class TransactionLoggingAspect {
 
     private static final SecureLogger log = SecureLogger.getLogger(TransactionLoggingAspect.class);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final LatencyRegistry latencyRegistry;
 
     /**
-     * 트랜잭션 수행 전후 로그 출력
+     * 트랜잭션 수행 전후 로그 출력 및 서비스 메서드 지연 시간 기록
      *
      * @param joinPoint 트랜잭션 대상 메서드 정보
      * @return 원래 메서드의 실행 결과
@@ -48,16 +62,65 @@ public class TransactionLoggingAspect {
                 ? target.getClass().getSimpleName() : "UnknownClass";
 
         log.debug("Starting transaction for {}.{}", className, methodName);
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.debug("Transaction completed for {}.{} in {}ms", className, methodName, executionTime);
+            long executionTime = System.nanoTime() - startTime;
+            log.debug("Transaction completed for {}.{} in {}ms", className, methodName, executionTime / NANOS_PER_MILLI);
             return result;
         } catch (Exception e) {
             log.error("Transaction failed for {}.{} - {}", className, methodName, e.getMessage());
             throw e;
+        } finally {
+            record(LatencyGroup.SERVICE, className + "." + methodName, startTime);
+        }
+    }
+
+    /**
+     * 컨트롤러 엔드포인트 지연 시간 기록
+     *
+     * 요청 매핑 패턴(예: GET /remembrance/{donateSeq})을 대상 이름으로 사용하며,
+     * 패턴을 알 수 없으면 컨트롤러명.메서드명을 사용합니다.
+     *
+     * @param joinPoint 컨트롤러 메서드 정보
+     * @return 원래 메서드의 실행 결과
+     * @throws Throwable 원래 메서드에서 발생하는 예외 그대로 전달
+     */
+    @Around("execution(* kodanect.domain..controller..*(..))")
+    public Object measureEndpoint(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startTime = System.nanoTime();
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            record(LatencyGroup.ENDPOINT, endpointName(joinPoint), startTime);
         }
     }
+
+    private void record(LatencyGroup group, String name, long startTime) {
+        if (!latencyRegistry.isEnabled()) {
+            return;
+        }
+
+        LatencyRecorder recorder = latencyRegistry.recorder(group, name);
+        recorder.record(System.nanoTime() - startTime);
+    }
+
+    private String endpointName(ProceedingJoinPoint joinPoint) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes instanceof ServletRequestAttributes) {
+            Object pattern = attributes.getAttribute(
+                    HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+            if (pattern != null) {
+                return ((ServletRequestAttributes) attributes).getRequest().getMethod() + " " + pattern;
+            }
+        }
+
+        Signature signature = joinPoint.getSignature();
+        return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+    }
+
 }
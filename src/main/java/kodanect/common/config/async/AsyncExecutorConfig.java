@@ -1,14 +1,10 @@
 package kodanect.common.config.async;
 
-import kodanect.common.decorator.MdcTaskDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
-
 /**
  * 비동기 작업 처리를 위한 Executor 설정
  *
@@ -25,26 +21,38 @@ public class AsyncExecutorConfig {
     private static final int LOG_EXECUTOR_QUEUE_CAPACITY = 100;
     private static final int LOG_EXECUTOR_AWAIT_TERMINATION_SECONDS = 5;
 
+    /**
+     * 로그 Executor의 거부 정책 Bean
+     *
+     * 호출 스레드에서 실행된 횟수를 액션 로그 모니터링 엔드포인트와 메트릭에서 조회할 수 있도록 Bean으로 등록
+     *
+     * @return 실행 횟수를 집계하는 CallerRunsPolicy
+     */
+    @Bean
+    public CountingCallerRunsPolicy logExecutorRejectionPolicy() {
+        return new CountingCallerRunsPolicy();
+    }
+
     /**
      * 로그 비동기 처리 전용 Executor Bean
      *
      * 로그 식별을 위한 스레드 이름 prefix 설정
-     * MDC context 전파를 위한 TaskDecorator 설정
+     * 로그 작업은 필요한 값을 RequestActionEvent 인자로 전달받으므로 MDC 복사(TaskDecorator)는 사용하지 않음
      * 낮은 처리 빈도에 맞춰 최소 리소스로 구성
-     * 큐 초과 시 작업 유실 방지를 위한 CallerRunsPolicy 적용
+     * 큐 초과 시 작업 유실 방지를 위한 CallerRunsPolicy 적용 (호출 스레드 실행 횟수 집계)
      * 스레드 종료 전 작업 완료 보장
      *
+     * @param rejectionPolicy 큐 초과 시 적용할 거부 정책
      * @return 로그 비동기 처리를 위한 Executor
      */
     @Bean("logExecutor")
-    public Executor logExecutor() {
+    public ThreadPoolTaskExecutor logExecutor(CountingCallerRunsPolicy rejectionPolicy) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(LOG_EXECUTOR_CORE_POOL_SIZE);
         executor.setMaxPoolSize(LOG_EXECUTOR_MAX_POOL_SIZE);
         executor.setQueueCapacity(LOG_EXECUTOR_QUEUE_CAPACITY);
         executor.setThreadNamePrefix("log-worker-");
-        executor.setTaskDecorator(new MdcTaskDecorator());
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(rejectionPolicy);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(LOG_EXECUTOR_AWAIT_TERMINATION_SECONDS);
         executor.initialize();
@@ -0,0 +1,33 @@
+package kodanect.common.config.async;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 큐가 가득 찬 작업을 호출 스레드에서 실행하면서 그 횟수를 집계하는 거부 정책입니다.
+ *
+ * {@link ThreadPoolExecutor.CallerRunsPolicy}와 동일하게 동작하며,
+ * 로그 작업이 요청 스레드로 되돌아간 빈도를 모니터링하는 데 사용합니다.
+ */
+public class CountingCallerRunsPolicy implements RejectedExecutionHandler {
+
+    private final ThreadPoolExecutor.CallerRunsPolicy delegate = new ThreadPoolExecutor.CallerRunsPolicy();
+    private final LongAdder callerRunsCount = new LongAdder();
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            callerRunsCount.increment();
+        }
+        delegate.rejectedExecution(task, executor);
+    }
+
+    /**
+     * @return 호출 스레드에서 실행된 누적 작업 수
+     */
+    public long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+
+}
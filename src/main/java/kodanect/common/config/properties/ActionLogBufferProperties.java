@@ -0,0 +1,51 @@
+package kodanect.common.config.properties;
+
+import kodanect.common.buffer.LogBufferBackend;
+import kodanect.common.buffer.OverflowPolicy;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 버퍼 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.buffer.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - perKeyCapacity: 사용자 액션 키(세션 + CRUD) 하나에 보관할 수 있는 최대 로그 수
+ * - maxBytes: 버퍼 하나가 사용할 수 있는 전체 메모리 예산(추정 바이트)
+ * - overflowPolicy: 용량 초과 시 적용할 정책
+ * - sampleRate: SAMPLE 정책에서 초과 구간 동안 N건 중 1건만 수용
+ * - backend: 로그 보관 방식 (HEAP: 객체 그대로, OFF_HEAP: 직렬화하여 direct 버퍼 청크에 보관)
+ * - arenaChunkBytes: OFF_HEAP 방식에서 한 번에 할당하는 direct 버퍼 청크 크기
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.buffer")
+@ConstructorBinding
+public class ActionLogBufferProperties {
+
+    private final int perKeyCapacity;
+    private final long maxBytes;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final LogBufferBackend backend;
+    private final int arenaChunkBytes;
+
+    public ActionLogBufferProperties(
+            @DefaultValue("1000") int perKeyCapacity,
+            @DefaultValue("16777216") long maxBytes,
+            @DefaultValue("DROP_OLDEST") OverflowPolicy overflowPolicy,
+            @DefaultValue("10") int sampleRate,
+            @DefaultValue("HEAP") LogBufferBackend backend,
+            @DefaultValue("1048576") int arenaChunkBytes
+    ) {
+        this.perKeyCapacity = perKeyCapacity;
+        this.maxBytes = maxBytes;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.backend = backend;
+        this.arenaChunkBytes = arenaChunkBytes;
+    }
+
+}
@@ -0,0 +1,72 @@
+package kodanect.common.config.properties;
+
+import kodanect.common.constant.CrudCode;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 적응형 배출 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.flush.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - readThreshold / otherThreshold: 키 하나에 이 건수가 쌓이면 즉시 배출 (R / C·U·D·X)
+ * - readMaxAgeMillis / otherMaxAgeMillis: 가장 오래된 로그가 이 시간을 넘기면 배출
+ * - highWatermarkBytes: 버퍼 추정 바이트가 이 값을 넘으면 전체 배출
+ * - lowWatermarkBytes: 전체 배출 후 이 값 아래로 내려가야 다시 고수위 신호를 발행
+ * - checkIntervalMillis: 경과 시간 및 사용량 점검 주기
+ * - fullFlushIntervalMillis: 스풀 정리를 위한 전체 배출 주기
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.flush")
+@ConstructorBinding
+public class ActionLogFlushProperties {
+
+    private final int readThreshold;
+    private final int otherThreshold;
+    private final long readMaxAgeMillis;
+    private final long otherMaxAgeMillis;
+    private final long highWatermarkBytes;
+    private final long lowWatermarkBytes;
+    private final long checkIntervalMillis;
+    private final long fullFlushIntervalMillis;
+
+    public ActionLogFlushProperties(
+            @DefaultValue("100") int readThreshold,
+            @DefaultValue("10") int otherThreshold,
+            @DefaultValue("300000") long readMaxAgeMillis,
+            @DefaultValue("60000") long otherMaxAgeMillis,
+            @DefaultValue("8388608") long highWatermarkBytes,
+            @DefaultValue("4194304") long lowWatermarkBytes,
+            @DefaultValue("1000") long checkIntervalMillis,
+            @DefaultValue("1800000") long fullFlushIntervalMillis
+    ) {
+        this.readThreshold = readThreshold;
+        this.otherThreshold = otherThreshold;
+        this.readMaxAgeMillis = readMaxAgeMillis;
+        this.otherMaxAgeMillis = otherMaxAgeMillis;
+        this.highWatermarkBytes = highWatermarkBytes;
+        this.lowWatermarkBytes = Math.min(lowWatermarkBytes, highWatermarkBytes);
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.fullFlushIntervalMillis = fullFlushIntervalMillis;
+    }
+
+    /**
+     * @param code CRUD 코드
+     * @return 해당 CRUD 코드의 키별 배출 임계 건수
+     */
+    public int thresholdOf(CrudCode code) {
+        return code == CrudCode.R ? readThreshold : otherThreshold;
+    }
+
+    /**
+     * @param code CRUD 코드
+     * @return 해당 CRUD 코드의 최대 보관 시간(ms)
+     */
+    public long maxAgeMillisOf(CrudCode code) {
+        return code == CrudCode.R ? readMaxAgeMillis : otherMaxAgeMillis;
+    }
+
+}
@@ -0,0 +1,37 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 프론트엔드 로그 NDJSON 일괄 수집 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.ingest.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - maxRecords: 요청 1건에 담을 수 있는 최대 로그 건수
+ * - maxBytes: 요청 본문의 최대 바이트 수 (gzip 압축 상태 기준)
+ * - maxDecompressedBytes: 압축 해제 후 본문의 최대 바이트 수
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.ingest")
+@ConstructorBinding
+public class ActionLogIngestProperties {
+
+    private final int maxRecords;
+    private final long maxBytes;
+    private final long maxDecompressedBytes;
+
+    public ActionLogIngestProperties(
+            @DefaultValue("1000") int maxRecords,
+            @DefaultValue("262144") long maxBytes,
+            @DefaultValue("4194304") long maxDecompressedBytes
+    ) {
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+    }
+
+}
@@ -0,0 +1,39 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 액션 로그 요청 파라미터 수집 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.parameters.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - maxValueLength: 파라미터 값 하나에 기록할 최대 문자 수 (초과분은 잘라냄)
+ * - redactKeywords: 이름에 포함되면 값을 마스킹할 키워드 목록 (대소문자 무시)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.parameters")
+@ConstructorBinding
+public class ActionLogParameterProperties {
+
+    private final int maxValueLength;
+    private final List<String> redactKeywords;
+
+    public ActionLogParameterProperties(
+            @DefaultValue("200") int maxValueLength,
+            @DefaultValue({"passcode", "password"}) List<String> redactKeywords
+    ) {
+        this.maxValueLength = maxValueLength;
+        this.redactKeywords = redactKeywords.stream()
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+}
@@ -0,0 +1,33 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 조회(R) 액션 로그 사전 집계 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.read-aggregation.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 조회 로그를 건별로 보관하지 않고 (URL, 브라우저, 디바이스, 분) 단위 건수로 집계할지 여부
+ * - maxBuckets: 동시에 보관할 수 있는 최대 집계 버킷 수 (초과 시 건별 로그로 처리)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.read-aggregation")
+@ConstructorBinding
+public class ActionLogReadAggregationProperties {
+
+    private final boolean enabled;
+    private final int maxBuckets;
+
+    public ActionLogReadAggregationProperties(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100000") int maxBuckets
+    ) {
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+    }
+
+}
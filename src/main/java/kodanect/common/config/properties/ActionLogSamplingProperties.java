@@ -0,0 +1,52 @@
+package kodanect.common.config.properties;
+
+import kodanect.common.constant.CrudCode;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 액션 로그 샘플링 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.sampling.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 샘플링 사용 여부 (false이면 모든 요청을 기록)
+ * - defaultRate: 별도 설정이 없는 요청의 기록 비율 (0.0 ~ 1.0)
+ * - crudRates: HTTP 메서드로 분류한 CRUD 코드별 기록 비율 (예: crud-rates.R=0.1)
+ * - endpointRates: 엔드포인트 패턴(Ant 스타일)별 기록 비율, 선언 순서대로 처음 일치하는 패턴 적용
+ *   (예: endpoint-rates[/action-logs]=1.0, 우선순위: endpointRates > crudRates > defaultRate)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.sampling")
+@ConstructorBinding
+public class ActionLogSamplingProperties {
+
+    private final boolean enabled;
+    private final double defaultRate;
+    private final Map<CrudCode, Double> crudRates;
+    private final Map<String, Double> endpointRates;
+
+    public ActionLogSamplingProperties(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("1.0") double defaultRate,
+            Map<CrudCode, Double> crudRates,
+            Map<String, Double> endpointRates
+    ) {
+        this.enabled = enabled;
+        this.defaultRate = defaultRate;
+        this.crudRates = (crudRates == null || crudRates.isEmpty())
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(crudRates));
+        this.endpointRates = (endpointRates == null || endpointRates.isEmpty())
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(endpointRates));
+    }
+
+}
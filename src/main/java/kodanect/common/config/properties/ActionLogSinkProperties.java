@@ -0,0 +1,55 @@
+package kodanect.common.config.properties;
+
+import kodanect.domain.logging.sink.ActionLogSinkType;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 액션 로그 저장소 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.sink.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - types: 사용할 저장소 목록 (둘 이상이면 나열 순서대로 모두 기록하며, 첫 번째가 주 저장소)
+ * - fileDirectory: 파일 저장소의 NDJSON 파일 디렉터리
+ * - fileMaxBytes: 파일 하나의 최대 크기 (압축 후 바이트, 초과 시 새 파일로 교체)
+ * - fileRollInterval: 파일 하나에 기록하는 최대 기간 (경과 시 새 파일로 교체)
+ * - fileMaxFiles: 보관할 최대 파일 수 (초과 시 오래된 파일부터 삭제)
+ * - fileBatchSize: gzip 멤버 하나에 묶어 기록할 최대 행 수
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.sink")
+@ConstructorBinding
+public class ActionLogSinkProperties {
+
+    private final List<ActionLogSinkType> types;
+    private final String fileDirectory;
+    private final long fileMaxBytes;
+    private final Duration fileRollInterval;
+    private final int fileMaxFiles;
+    private final int fileBatchSize;
+
+    public ActionLogSinkProperties(
+            @DefaultValue("DATABASE") List<ActionLogSinkType> types,
+            @DefaultValue("./logs/action-log") String fileDirectory,
+            @DefaultValue("67108864") long fileMaxBytes,
+            @DefaultValue("1h") Duration fileRollInterval,
+            @DefaultValue("168") int fileMaxFiles,
+            @DefaultValue("1000") int fileBatchSize
+    ) {
+        this.types = (types == null || types.isEmpty())
+                ? List.of(ActionLogSinkType.DATABASE)
+                : List.copyOf(types);
+        this.fileDirectory = fileDirectory;
+        this.fileMaxBytes = fileMaxBytes;
+        this.fileRollInterval = fileRollInterval;
+        this.fileMaxFiles = fileMaxFiles;
+        this.fileBatchSize = fileBatchSize;
+    }
+
+}
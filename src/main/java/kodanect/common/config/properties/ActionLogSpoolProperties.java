@@ -0,0 +1,37 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 스풀(write-ahead 파일) 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.spool.* 값을 바인딩하며,
+ * 값이 없을 경우 스풀은 비활성화됩니다.
+ *
+ * - enabled: 스풀 사용 여부
+ * - directory: 세그먼트 파일을 저장할 디렉터리
+ * - segmentBytes: 세그먼트 파일 하나의 크기 (메모리 매핑 단위)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.spool")
+@ConstructorBinding
+public class ActionLogSpoolProperties {
+
+    private final boolean enabled;
+    private final String directory;
+    private final int segmentBytes;
+
+    public ActionLogSpoolProperties(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("./spool/action-log") String directory,
+            @DefaultValue("8388608") int segmentBytes
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+}
@@ -0,0 +1,38 @@
+package kodanect.common.config.properties;
+
+import kodanect.domain.logging.storage.ActionLogStorageMode;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 저장소(테이블 분할, 보관 기간) 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.storage.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - mode: 저장 방식 (SINGLE: 단일 테이블, DAILY: 일별 테이블, MONTHLY: 월별 테이블)
+ * - retentionDays: 원본 로그 보관 일수 (경과한 분할 테이블은 일별 집계로 압축 후 삭제)
+ * - retentionCron: 보관 기간 정리 작업 실행 주기
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.storage")
+@ConstructorBinding
+public class ActionLogStorageProperties {
+
+    private final ActionLogStorageMode mode;
+    private final int retentionDays;
+    private final String retentionCron;
+
+    public ActionLogStorageProperties(
+            @DefaultValue("SINGLE") ActionLogStorageMode mode,
+            @DefaultValue("90") int retentionDays,
+            @DefaultValue("0 30 3 * * *") String retentionCron
+    ) {
+        this.mode = mode;
+        this.retentionDays = retentionDays;
+        this.retentionCron = retentionCron;
+    }
+
+}
@@ -0,0 +1,39 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 시스템 정보 버퍼 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.system-info.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - ttl: 세션별 시스템 정보 보관 시간 (sessionId 쿠키 유효 시간과 동일한 24시간)
+ * - maxEntries: 보관할 최대 세션 수
+ * - internMaxEntries: 중복 제거를 위해 공유하는 서로 다른 시스템 정보 조합의 최대 수
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.system-info")
+@ConstructorBinding
+public class ActionLogSystemInfoProperties {
+
+    private final Duration ttl;
+    private final long maxEntries;
+    private final long internMaxEntries;
+
+    public ActionLogSystemInfoProperties(
+            @DefaultValue("24h") Duration ttl,
+            @DefaultValue("100000") long maxEntries,
+            @DefaultValue("10000") long internMaxEntries
+    ) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.internMaxEntries = internMaxEntries;
+    }
+
+}
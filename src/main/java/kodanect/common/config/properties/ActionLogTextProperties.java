@@ -0,0 +1,37 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 본문(log_text) 직렬화 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.text.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - compressionEnabled: deflate 압축 사용 여부
+ * - compressionMinBytes: 직렬화된 JSON이 이 크기 이상일 때만 압축
+ * - compressionLevel: deflate 압축 레벨 (1~9, -1은 기본 레벨)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.text")
+@ConstructorBinding
+public class ActionLogTextProperties {
+
+    private final boolean compressionEnabled;
+    private final int compressionMinBytes;
+    private final int compressionLevel;
+
+    public ActionLogTextProperties(
+            @DefaultValue("true") boolean compressionEnabled,
+            @DefaultValue("512") int compressionMinBytes,
+            @DefaultValue("-1") int compressionLevel
+    ) {
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinBytes = compressionMinBytes;
+        this.compressionLevel = compressionLevel;
+    }
+
+}
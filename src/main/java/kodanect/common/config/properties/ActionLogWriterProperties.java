@@ -0,0 +1,37 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 액션 로그 일괄 저장(JDBC batch) 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.writer.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - chunkSize: 한 번의 batch INSERT 및 커밋 단위 행 수
+ * - maxRetries: 청크 저장 실패 시 재시도 횟수
+ * - retryBackoffMillis: 재시도 간 대기 시간 (시도 횟수에 비례하여 증가)
+ */
+@Getter
+@ConfigurationProperties(prefix = "action-log.writer")
+@ConstructorBinding
+public class ActionLogWriterProperties {
+
+    private final int chunkSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+
+    public ActionLogWriterProperties(
+            @DefaultValue("500") int chunkSize,
+            @DefaultValue("3") int maxRetries,
+            @DefaultValue("200") long retryBackoffMillis
+    ) {
+        this.chunkSize = chunkSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+}
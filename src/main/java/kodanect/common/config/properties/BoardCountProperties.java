@@ -0,0 +1,29 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시판별 전체 게시글 수 관리 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 board-count.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - reconcileIntervalMillis: 메모리의 게시글 수를 DB 값으로 보정하는 주기 (ms)
+ */
+@Getter
+@ConfigurationProperties(prefix = "board-count")
+@ConstructorBinding
+public class BoardCountProperties {
+
+    private final long reconcileIntervalMillis;
+
+    public BoardCountProperties(
+            @DefaultValue("300000") long reconcileIntervalMillis
+    ) {
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+    }
+
+}
@@ -0,0 +1,39 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시판 목록 첫 페이지 캐시 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 first-page-cache.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 캐시 사용 여부 (false면 매 요청 DB 조회)
+ * - maxPageSize: 캐시할 최대 페이지 크기 (더 큰 요청은 캐시하지 않음, 게시판당 항목 수 상한)
+ * - expireAfterWrite: 첫 페이지를 보관하는 최대 기간 (조회 수, 댓글 수 등 무효화 대상이 아닌 값의 반영 주기)
+ */
+@Getter
+@ConfigurationProperties(prefix = "first-page-cache")
+@ConstructorBinding
+public class FirstPageCacheProperties {
+
+    private final boolean enabled;
+    private final int maxPageSize;
+    private final Duration expireAfterWrite;
+
+    public FirstPageCacheProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("50") int maxPageSize,
+            @DefaultValue("30s") Duration expireAfterWrite
+    ) {
+        this.enabled = enabled;
+        this.maxPageSize = maxPageSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+}
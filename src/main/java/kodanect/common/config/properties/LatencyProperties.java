@@ -0,0 +1,33 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 서비스 메서드 및 컨트롤러 엔드포인트 지연 시간 측정 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 latency.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 지연 시간 히스토그램 기록 여부
+ * - significantDigits: 히스토그램 유효 자릿수 (0~5, 클수록 정밀하지만 메모리 사용 증가)
+ */
+@Getter
+@ConfigurationProperties(prefix = "latency")
+@ConstructorBinding
+public class LatencyProperties {
+
+    private final boolean enabled;
+    private final int significantDigits;
+
+    public LatencyProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("2") int significantDigits
+    ) {
+        this.enabled = enabled;
+        this.significantDigits = significantDigits;
+    }
+
+}
@@ -0,0 +1,39 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 기증자 추모관 상세 조회 응답 캐시 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 memorial.detail-cache.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 캐시 사용 여부 (false면 매 요청 DB 조회)
+ * - maxWeightBytes: 캐시에 보관할 응답의 추정 크기 합계 상한 (byte)
+ * - expireAfterWrite: 응답을 캐시에 보관하는 최대 기간 (무효화되지 않는 하늘나라 편지 조회 수 등의 반영 주기)
+ */
+@Getter
+@ConfigurationProperties(prefix = "memorial.detail-cache")
+@ConstructorBinding
+public class MemorialDetailCacheProperties {
+
+    private final boolean enabled;
+    private final long maxWeightBytes;
+    private final Duration expireAfterWrite;
+
+    public MemorialDetailCacheProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("16777216") long maxWeightBytes,
+            @DefaultValue("10m") Duration expireAfterWrite
+    ) {
+        this.enabled = enabled;
+        this.maxWeightBytes = maxWeightBytes;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+}
@@ -0,0 +1,41 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 기증자 추모관 이모지 카운트 지연 반영(write-behind) 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 memorial.emotion.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - flushIntervalMillis: 누적된 이모지 카운트를 DB에 반영하는 주기 (ms)
+ * - batchSize: 한 트랜잭션에서 반영할 최대 게시글 수
+ * - stripes: 게시글별 카운터의 분할 수 (0이면 CPU 수 기준 자동, 2의 거듭제곱으로 올림)
+ * - idRefreshIntervalMillis: 게시글 존재 확인용 번호 목록을 다시 읽는 주기 (ms)
+ */
+@Getter
+@ConfigurationProperties(prefix = "memorial.emotion")
+@ConstructorBinding
+public class MemorialEmotionProperties {
+
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final int stripes;
+    private final long idRefreshIntervalMillis;
+
+    public MemorialEmotionProperties(
+            @DefaultValue("5000") long flushIntervalMillis,
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("0") int stripes,
+            @DefaultValue("600000") long idRefreshIntervalMillis
+    ) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        this.stripes = stripes;
+        this.idRefreshIntervalMillis = idRefreshIntervalMillis;
+    }
+
+}
@@ -0,0 +1,33 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 조회 수 지연 반영(write-behind) 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 read-count.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - flushIntervalMillis: 누적된 조회 수를 DB에 반영하는 주기 (ms)
+ * - batchSize: UPDATE 문 하나에 포함할 최대 게시글 수
+ */
+@Getter
+@ConfigurationProperties(prefix = "read-count")
+@ConstructorBinding
+public class ReadCountProperties {
+
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    public ReadCountProperties(
+            @DefaultValue("5000") long flushIntervalMillis,
+            @DefaultValue("500") int batchSize
+    ) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+    }
+
+}
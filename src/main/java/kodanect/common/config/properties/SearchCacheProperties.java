@@ -0,0 +1,39 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시판 검색 결과(전체 개수, 첫 페이지) 캐시 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 search-cache.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - enabled: 캐시 사용 여부 (false면 매 요청 DB 조회)
+ * - maximumSize: 보관할 항목(검색 조건별 개수 또는 첫 페이지) 수 상한
+ * - expireAfterWrite: 항목을 보관하는 최대 기간 (조회 수 등 무효화 대상이 아닌 값의 반영 주기)
+ */
+@Getter
+@ConfigurationProperties(prefix = "search-cache")
+@ConstructorBinding
+public class SearchCacheProperties {
+
+    private final boolean enabled;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    public SearchCacheProperties(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("2000") long maximumSize,
+            @DefaultValue("30s") Duration expireAfterWrite
+    ) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+}
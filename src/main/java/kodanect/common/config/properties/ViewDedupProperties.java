@@ -0,0 +1,40 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 조회 수 중복 증가 방지 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 view-dedup.* 값을 바인딩하며,
+ * 값이 없을 경우 기본값이 사용됩니다.
+ *
+ * - window: 같은 IP의 같은 게시글 조회를 중복으로 보는 최소 시간 (실제로는 window ~ 2 × window)
+ * - expectedViews: 한 window 동안 들어올 것으로 예상하는 (게시글, IP) 조합 수
+ * - falsePositiveRate: expectedViews 만큼 기록했을 때 처음 조회를 중복으로 잘못 판단할 비율 (0 초과 1 미만)
+ *   expectedViews를 넘게 들어와도 메모리는 늘지 않으며, 오판 비율만 높아집니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "view-dedup")
+@ConstructorBinding
+public class ViewDedupProperties {
+
+    private final Duration window;
+    private final int expectedViews;
+    private final double falsePositiveRate;
+
+    public ViewDedupProperties(
+            @DefaultValue("30m") Duration window,
+            @DefaultValue("1000000") int expectedViews,
+            @DefaultValue("0.01") double falsePositiveRate
+    ) {
+        this.window = window;
+        this.expectedViews = expectedViews;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+}
@@ -0,0 +1,61 @@
+package kodanect.common.config.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogSinkProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.sink.ActionLogSink;
+import kodanect.domain.logging.sink.ActionLogSinkType;
+import kodanect.domain.logging.sink.FanOutActionLogSink;
+import kodanect.domain.logging.sink.FileActionLogSink;
+import kodanect.domain.logging.writer.ActionLogWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * action-log.sink.types 설정에 따라 액션 로그 배출에 사용할 {@link ActionLogSink}를 구성하는 설정 클래스입니다.
+ *
+ * - DATABASE: {@link ActionLogWriter} (기본값)
+ * - FILE: {@link FileActionLogSink}
+ * - 둘 이상 지정하면 나열 순서대로 {@link FanOutActionLogSink}로 묶으며, 첫 번째가 주 저장소가 됩니다.
+ *
+ * {@link ActionLogWriter}도 {@link ActionLogSink} 빈이므로 이 빈을 {@link Primary}로 지정합니다.
+ */
+@Configuration
+public class ActionLogSinkConfig {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogSinkConfig.class);
+
+    /**
+     * 배출에 사용할 저장소를 생성합니다.
+     *
+     * 파일 저장소는 이 빈의 소멸 시점(close)에 함께 닫힙니다.
+     *
+     * @param properties   저장소 설정
+     * @param writer       DATABASE 저장소
+     * @param objectMapper NDJSON 직렬화에 사용할 ObjectMapper
+     * @return 액션 로그 저장소
+     */
+    @Bean
+    @Primary
+    public ActionLogSink actionLogSink(ActionLogSinkProperties properties,
+                                       ActionLogWriter writer,
+                                       ObjectMapper objectMapper) {
+        List<ActionLogSink> sinks = new ArrayList<>();
+
+        for (ActionLogSinkType type : properties.getTypes()) {
+            sinks.add(switch (type) {
+                case DATABASE -> writer;
+                case FILE -> new FileActionLogSink(objectMapper.getFactory(), properties);
+            });
+        }
+
+        ActionLogSink sink = sinks.size() == 1 ? sinks.get(0) : new FanOutActionLogSink(sinks);
+        log.info("[액션 로그 저장소] 사용 저장소: {}", sink.getName());
+        return sink;
+    }
+
+}
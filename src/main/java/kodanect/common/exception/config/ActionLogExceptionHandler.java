@@ -4,6 +4,8 @@ import kodanect.common.exception.custom.AbstractCustomException;
 import kodanect.common.response.ApiResponse;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
 import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.exception.FrontendLogIngestLimitException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.Ordered;
@@ -13,7 +15,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_JSON_SERIALIZATION_FAIL;
+import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_INGEST_LIMIT;
 import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_LIST_EMPTY;
+import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_STREAM_INVALID;
 
 /**
  * 액션 로그 관련 예외를 처리하는 핸들러 클래스
@@ -46,6 +50,24 @@ public class ActionLogExceptionHandler {
         return handle(ex, FRONTEND_LOG_LIST_EMPTY, "프론트엔드 로그 리스트는 비어 있을 수 없습니다.");
     }
 
+    /**
+     * NDJSON 일괄 수집 제한 초과 시 예외 처리
+     * - 레코드 수 또는 본문 바이트 수가 제한을 넘은 경우
+     */
+    @ExceptionHandler(FrontendLogIngestLimitException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIngestLimit(FrontendLogIngestLimitException ex) {
+        return handle(ex, FRONTEND_LOG_INGEST_LIMIT, "로그 수집 제한을 초과했습니다.");
+    }
+
+    /**
+     * NDJSON 본문 해석 실패 시 예외 처리
+     * - 잘못된 JSON 레코드 또는 손상된 gzip 스트림인 경우
+     */
+    @ExceptionHandler(InvalidFrontendLogStreamException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidStream(InvalidFrontendLogStreamException ex) {
+        return handle(ex, FRONTEND_LOG_STREAM_INVALID, "로그 스트림을 해석할 수 없습니다.");
+    }
+
     /**
      * 공통 처리 메서드
      */
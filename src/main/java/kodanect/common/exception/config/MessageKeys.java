@@ -66,6 +66,9 @@ public final class MessageKeys {
     // 액션 로그 관련
     public static final String ACTION_LOG_JSON_SERIALIZATION_FAIL = "error.actionlog.json.serialization";
     public static final String FRONTEND_LOG_LIST_EMPTY = "error.frontend.log.empty";
+    public static final String ACTION_LOG_WRITE_FAIL = "error.actionlog.write";
+    public static final String FRONTEND_LOG_INGEST_LIMIT = "error.frontend.log.ingest.limit";
+    public static final String FRONTEND_LOG_STREAM_INVALID = "error.frontend.log.stream.invalid";
 
     private MessageKeys() {}
 
@@ -25,6 +25,10 @@ public class SecureLogger {
         return new SecureLogger(LoggerFactory.getLogger(clazz));
     }
 
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
     public boolean isInfoEnabled() {
         return delegate.isInfoEnabled();
     }
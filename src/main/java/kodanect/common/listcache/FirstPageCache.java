@@ -0,0 +1,108 @@
+package kodanect.common.listcache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.FirstPageCacheProperties;
+import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.response.PreSerializedCursorPaginationResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 목록 첫 페이지(cursor 없음) 응답을 게시판, 페이지 크기별로 직렬화된 JSON과 함께 보관하는 캐시입니다.
+ *
+ * - 캐시에 없으면 loader로 조회한 응답을 애플리케이션 ObjectMapper로 한 번 직렬화하여 보관합니다.
+ *   이후 요청은 DB 조회 없이 보관한 응답을 반환하고, 응답 작성 시에도 보관한 바이트를 그대로 씁니다.
+ * - 같은 게시판, 같은 크기의 동시 요청은 한 번만 DB를 조회합니다.
+ * - 게시글 등록/수정/삭제(익명 여부 변경 포함) 시 해당 게시판의 모든 크기를 무효화합니다.
+ *   트랜잭션 안에서 무효화하면 커밋 이후에 한 번 더 무효화하여, 커밋 전 값이 다시 보관되지 않게 합니다.
+ * - maxPageSize보다 큰 요청은 캐시하지 않으므로 게시판당 항목 수는 maxPageSize개 이하입니다.
+ * - 무효화 대상이 아닌 값(조회 수, 댓글 수 등)과 무효화와 동시에 진행 중이던 조회 결과는 expireAfterWrite 이후 다시 조회됩니다.
+ *
+ * 메트릭 (cache=board.first-page, board=게시판): cache.gets {result=hit|miss}, cache.puts, cache.evictions, cache.size
+ *
+ * 단일 인스턴스 서버 기준입니다. (다른 인스턴스의 쓰기는 expireAfterWrite 이후 반영)
+ */
+@Component
+public class FirstPageCache {
+
+    static final String CACHE_NAME = "board.first-page";
+
+    private final boolean enabled;
+    private final int maxPageSize;
+    private final ObjectMapper objectMapper;
+    private final Map<CountedBoard, Cache<Integer, CursorPaginationResponse<?, ?>>> caches = new EnumMap<>(CountedBoard.class);
+
+    public FirstPageCache(FirstPageCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxPageSize = properties.getMaxPageSize();
+        this.objectMapper = objectMapper;
+
+        for (CountedBoard board : CountedBoard.values()) {
+            Cache<Integer, CursorPaginationResponse<?, ?>> cache = Caffeine.newBuilder()
+                    .maximumSize(Math.max(0, maxPageSize))
+                    .expireAfterWrite(properties.getExpireAfterWrite())
+                    .recordStats()
+                    .build();
+
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, "board", board.name());
+            caches.put(board, cache);
+        }
+    }
+
+    /**
+     * 게시판 목록 첫 페이지를 반환하며, 없으면 loader로 조회하여 보관합니다.
+     * 보관 값은 여러 요청이 공유하므로 호출자는 응답을 변경하지 않아야 합니다.
+     *
+     * @param board  게시판
+     * @param size   페이지 크기
+     * @param loader 첫 페이지 조회 함수 (예외는 그대로 전달되며 보관하지 않음)
+     * @return 첫 페이지 응답
+     */
+    @SuppressWarnings("unchecked")
+    public <T, C> CursorPaginationResponse<T, C> get(CountedBoard board, int size, Supplier<CursorPaginationResponse<T, C>> loader) {
+        if (!enabled || size <= 0 || size > maxPageSize) {
+            return loader.get();
+        }
+        return (CursorPaginationResponse<T, C>) caches.get(board).get(size, key -> preSerialize(loader.get()));
+    }
+
+    /**
+     * 게시판의 첫 페이지를 모두 무효화합니다. 트랜잭션 안이면 커밋 이후에 한 번 더 무효화합니다.
+     *
+     * @param board 게시판
+     */
+    public void invalidate(CountedBoard board) {
+        Cache<Integer, CursorPaginationResponse<?, ?>> cache = caches.get(board);
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private <T, C> CursorPaginationResponse<T, C> preSerialize(CursorPaginationResponse<T, C> response) {
+        try {
+            return PreSerializedCursorPaginationResponse.of(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package kodanect.common.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 서비스 메서드 및 컨트롤러 엔드포인트의 지연 시간 통계를 제공하는 actuator 엔드포인트입니다.
+ *
+ * - GET /actuator/latency: 전체 분류의 통계
+ * - GET /actuator/latency/{group}: 특정 분류(service, endpoint)의 통계
+ *
+ * 각 분류의 대상은 최근 5분 p99가 긴 순서로 정렬되어 지금 느린 경로를 바로 확인할 수 있습니다.
+ * 조회는 읽기 전용이며, recentRate는 조회 주기와 무관하게 직전에 끝난 1분 이상 구간 기준입니다.
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final LatencyRegistry registry;
+
+    public LatencyEndpoint(LatencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return 분류별 지연 시간 통계
+     */
+    @ReadOperation
+    public Map<LatencyGroup, Map<String, LatencySnapshot>> latency() {
+        Map<LatencyGroup, Map<String, LatencySnapshot>> result = new EnumMap<>(LatencyGroup.class);
+
+        for (LatencyGroup group : LatencyGroup.values()) {
+            result.put(group, registry.snapshot(group));
+        }
+        return result;
+    }
+
+    /**
+     * @param group 측정 대상 분류 (service, endpoint)
+     * @return 해당 분류의 지연 시간 통계 (알 수 없는 분류이면 null → 404)
+     */
+    @ReadOperation
+    public Map<String, LatencySnapshot> latencyByGroup(@Selector String group) {
+        try {
+            return registry.snapshot(LatencyGroup.valueOf(group.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
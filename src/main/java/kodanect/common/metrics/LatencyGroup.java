@@ -0,0 +1,12 @@
+package kodanect.common.metrics;
+
+/**
+ * 지연 시간 측정 대상의 분류입니다.
+ *
+ * - SERVICE: 서비스 구현체 메서드 (클래스명.메서드명)
+ * - ENDPOINT: 컨트롤러 엔드포인트 (HTTP 메서드 + 요청 매핑 패턴)
+ */
+public enum LatencyGroup {
+    SERVICE,
+    ENDPOINT
+}
@@ -0,0 +1,141 @@
+package kodanect.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 한 측정 대상의 지연 시간을 HdrHistogram으로 기록하는 클래스입니다.
+ *
+ * - 기록: {@link Recorder}를 사용하므로 요청 스레드는 락 없이(wait-free) 값을 기록합니다.
+ * - 조회: {@link #snapshot()} 호출 시 새로 기록된 값을 현재 1분 슬롯 히스토그램에 합산합니다.
+ *   조회끼리만 동기화되며 기록 경로에는 영향을 주지 않습니다.
+ * - 백분위/평균/최대: 최근 5개 슬롯(5분)을 합친 슬라이딩 구간 기준이므로, 지나간 지연은 5분 뒤 통계에서 빠집니다.
+ *   슬롯은 조회 시점에 회전하며, 직전 조회 이후 기록된 값은 조회 시점의 슬롯에 들어갑니다.
+ * - 최근 처리율: 1분 이상 지난 구간이 끝날 때마다 계산해 두고, 다음 구간이 끝날 때까지 같은 값을 반환합니다.
+ *   조회 빈도와 무관하므로 누가 자주 조회해도 다른 조회자가 보는 값이 바뀌지 않습니다.
+ *
+ * 값은 나노초로 기록하며, 히스토그램 범위는 필요에 따라 자동으로 늘어납니다.
+ */
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double P50 = 50.0;
+    private static final double P90 = 90.0;
+    private static final double P99 = 99.0;
+    private static final long RATE_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long SLOT_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SLOT_COUNT = 5;
+
+    private final Recorder recorder;
+    private final Histogram[] slots = new Histogram[SLOT_COUNT];
+    private final Histogram window;
+    private final LongSupplier nanoClock;
+    private final long startedNanos;
+
+    private Histogram interval;
+    private int currentSlot;
+    private long currentSlotStartNanos;
+    private long totalCount;
+    private long windowStartNanos;
+    private long windowStartCount;
+    private double recentRate = -1.0;
+
+    public LatencyRecorder(int significantDigits) {
+        this(significantDigits, System::nanoTime);
+    }
+
+    LatencyRecorder(int significantDigits, LongSupplier nanoClock) {
+        this.recorder = new Recorder(significantDigits);
+        this.window = new Histogram(significantDigits);
+        this.nanoClock = nanoClock;
+        this.startedNanos = nanoClock.getAsLong();
+        this.currentSlotStartNanos = startedNanos;
+        this.windowStartNanos = startedNanos;
+
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots[i] = new Histogram(significantDigits);
+        }
+    }
+
+    /**
+     * 지연 시간을 기록합니다.
+     *
+     * @param elapsedNanos 측정된 지연 시간 (나노초)
+     */
+    public void record(long elapsedNanos) {
+        recorder.recordValue(Math.max(0L, elapsedNanos));
+    }
+
+    /**
+     * 최근 5분 구간의 지연 시간 통계와 누적 건수, 처리율을 계산합니다.
+     * 첫 구간이 끝나기 전에는 최근 처리율로 시작 이후 평균 처리율을 반환합니다.
+     *
+     * @return 지연 시간 통계
+     */
+    public synchronized LatencySnapshot snapshot() {
+        long now = nanoClock.getAsLong();
+        rotateSlots(now);
+
+        interval = recorder.getIntervalHistogram(interval);
+        slots[currentSlot].add(interval);
+        totalCount += interval.getTotalCount();
+
+        window.reset();
+        for (Histogram slot : slots) {
+            window.add(slot);
+        }
+
+        long count = totalCount;
+        double meanRate = count / toSeconds(now - startedNanos);
+
+        if (now - windowStartNanos >= RATE_WINDOW_NANOS) {
+            recentRate = (count - windowStartCount) / toSeconds(now - windowStartNanos);
+            windowStartNanos = now;
+            windowStartCount = count;
+        }
+
+        return LatencySnapshot.builder()
+                .count(count)
+                .meanRate(meanRate)
+                .recentRate(recentRate >= 0.0 ? recentRate : meanRate)
+                .mean(window.getTotalCount() > 0 ? window.getMean() / NANOS_PER_MILLI : 0.0)
+                .p50(toMillis(window.getValueAtPercentile(P50)))
+                .p90(toMillis(window.getValueAtPercentile(P90)))
+                .p99(toMillis(window.getValueAtPercentile(P99)))
+                .max(toMillis(window.getMaxValue()))
+                .build();
+    }
+
+    /**
+     * 지난 슬롯 수만큼 현재 슬롯을 옮기고, 새 현재 슬롯이 된 오래된 슬롯을 비웁니다.
+     *
+     * @param now 현재 시각 (나노초)
+     */
+    private void rotateSlots(long now) {
+        long elapsedSlots = (now - currentSlotStartNanos) / SLOT_NANOS;
+
+        if (elapsedSlots <= 0) {
+            return;
+        }
+
+        for (long i = 0; i < Math.min(elapsedSlots, SLOT_COUNT); i++) {
+            currentSlot = (currentSlot + 1) % SLOT_COUNT;
+            slots[currentSlot].reset();
+        }
+
+        currentSlotStartNanos += elapsedSlots * SLOT_NANOS;
+    }
+
+    private static double toSeconds(long nanos) {
+        return Math.max(1L, nanos) / NANOS_PER_SECOND;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+}
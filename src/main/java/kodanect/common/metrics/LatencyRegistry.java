@@ -0,0 +1,74 @@
+package kodanect.common.metrics;
+
+import kodanect.common.config.properties.LatencyProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 측정 대상별 {@link LatencyRecorder}를 보관하는 컴포넌트입니다.
+ *
+ * 대상 이름은 서비스 메서드 또는 요청 매핑 패턴이므로 개수가 코드에 의해 한정됩니다.
+ * (실제 요청 URI처럼 값이 무한히 늘어나는 이름을 사용하지 않습니다.)
+ */
+@Component
+public class LatencyRegistry {
+
+    private final LatencyProperties properties;
+    private final Map<LatencyGroup, ConcurrentMap<String, LatencyRecorder>> recorders = new EnumMap<>(LatencyGroup.class);
+
+    public LatencyRegistry(LatencyProperties properties) {
+        this.properties = properties;
+
+        for (LatencyGroup group : LatencyGroup.values()) {
+            recorders.put(group, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @return 지연 시간 기록 활성화 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 대상 이름에 해당하는 기록기를 반환하며, 없으면 새로 생성합니다.
+     *
+     * @param group 측정 대상 분류
+     * @param name  대상 이름
+     * @return 지연 시간 기록기
+     */
+    public LatencyRecorder recorder(LatencyGroup group, String name) {
+        ConcurrentMap<String, LatencyRecorder> groupRecorders = recorders.get(group);
+        LatencyRecorder recorder = groupRecorders.get(name);
+
+        if (recorder != null) {
+            return recorder;
+        }
+        return groupRecorders.computeIfAbsent(name, key -> new LatencyRecorder(properties.getSignificantDigits()));
+    }
+
+    /**
+     * 분류에 속한 모든 대상의 통계를 99 백분위 지연 시간이 긴 순서로 반환합니다.
+     *
+     * @param group 측정 대상 분류
+     * @return 대상 이름별 지연 시간 통계
+     */
+    public Map<String, LatencySnapshot> snapshot(LatencyGroup group) {
+        Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+
+        recorders.get(group).entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().snapshot()))
+                .sorted(Comparator.comparingDouble((Map.Entry<String, LatencySnapshot> entry) -> entry.getValue().getP99()).reversed())
+                .forEach(entry -> snapshots.put(entry.getKey(), entry.getValue()));
+
+        return snapshots;
+    }
+
+}
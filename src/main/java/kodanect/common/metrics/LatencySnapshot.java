@@ -0,0 +1,56 @@
+package kodanect.common.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 한 측정 대상의 지연 시간 통계를 담는 불변 응답 객체입니다.
+ *
+ * 지연 시간 값은 밀리초, 처리율은 초당 호출 수 단위입니다.
+ * 평균/백분위/최대 지연 시간은 최근 5분 구간, 호출 수는 기동 이후 누적 기준입니다.
+ */
+@Getter
+@Builder
+public class LatencySnapshot {
+
+    /**
+     * 애플리케이션 기동 이후 누적 호출 수
+     */
+    private final long count;
+
+    /**
+     * 기동 이후 평균 초당 호출 수
+     */
+    private final double meanRate;
+
+    /**
+     * 직전에 끝난 1분 이상 구간의 초당 호출 수 (첫 구간이 끝나기 전에는 meanRate)
+     */
+    private final double recentRate;
+
+    /**
+     * 최근 5분 평균 지연 시간 (ms)
+     */
+    private final double mean;
+
+    /**
+     * 최근 5분 50 백분위 지연 시간 (ms)
+     */
+    private final double p50;
+
+    /**
+     * 최근 5분 90 백분위 지연 시간 (ms)
+     */
+    private final double p90;
+
+    /**
+     * 최근 5분 99 백분위 지연 시간 (ms)
+     */
+    private final double p99;
+
+    /**
+     * 최근 5분 최대 지연 시간 (ms)
+     */
+    private final double max;
+
+}
@@ -0,0 +1,193 @@
+package kodanect.common.readcount;
+
+import kodanect.common.config.properties.ReadCountProperties;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 상세 조회 시의 조회 수 증가를 모아서 DB에 반영하는 컴포넌트입니다.
+ *
+ * - 조회 요청은 게시글별 {@link LongAdder}만 증가시키며, 행 잠금을 잡는 UPDATE를 실행하지 않습니다.
+ * - 주기마다 게시판(테이블)별로 누적 값을 모아 batchSize 단위의 UPDATE ... CASE 문 하나로 반영합니다.
+ * - 반영에 성공한 만큼만 누적 값에서 차감하므로, 반영 중 들어온 증가분과 반영에 실패한 값은 다음 주기로 넘어갑니다.
+ * - 응답에는 {@link #pending}으로 아직 반영되지 않은 값을 더해 조회 수가 바로 늘어난 것처럼 보이게 합니다.
+ * - 애플리케이션 종료 시 남은 값을 한 번 더 반영합니다.
+ *
+ * 게시글별 누적기는 한 번 만들어지면 유지합니다. (개수는 방문자 수가 아니라 조회된 게시글 수에 비례합니다.)
+ * 단일 인스턴스 서버 기준이며, 종료 반영 전에 프로세스가 강제 종료되면 마지막 주기의 증가분은 유실됩니다.
+ */
+@Component
+public class ReadCountAggregator {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ReadCountAggregator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCountProperties properties;
+    private final Map<ReadCountBoard, ConcurrentMap<ReadCountKey, LongAdder>> counters = new EnumMap<>(ReadCountBoard.class);
+
+    public ReadCountAggregator(JdbcTemplate jdbcTemplate, ReadCountProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        for (ReadCountBoard board : ReadCountBoard.values()) {
+            counters.put(board, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 게시글의 조회 수를 1 증가시킵니다. (DB 반영은 다음 주기에 수행)
+     *
+     * @param board  게시판
+     * @param scope  게시판 구분 값 (scopeColumn이 없는 게시판은 null)
+     * @param postId 게시글 번호
+     */
+    public void increment(ReadCountBoard board, String scope, long postId) {
+        counters.get(board)
+                .computeIfAbsent(new ReadCountKey(scope, postId), key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회 수를 반환합니다.
+     *
+     * @param board  게시판
+     * @param scope  게시판 구분 값 (scopeColumn이 없는 게시판은 null)
+     * @param postId 게시글 번호
+     * @return 반영 대기 중인 조회 수
+     */
+    public long pending(ReadCountBoard board, String scope, long postId) {
+        LongAdder adder = counters.get(board).get(new ReadCountKey(scope, postId));
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회 수를 게시판별로 DB에 반영합니다.
+     *
+     * @return 반영한 조회 수 합계
+     */
+    @Scheduled(fixedDelayString = "${read-count.flush-interval-millis:5000}",
+            initialDelayString = "${read-count.flush-interval-millis:5000}")
+    public synchronized long flush() {
+        long flushed = 0;
+
+        for (ReadCountBoard board : ReadCountBoard.values()) {
+            flushed += flush(board);
+        }
+        return flushed;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회 수를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        long flushed = flush();
+
+        if (flushed > 0) {
+            log.info("[조회 수] 종료 전 반영: {}건", flushed);
+        }
+    }
+
+    private long flush(ReadCountBoard board) {
+        List<Map.Entry<ReadCountKey, Long>> deltas = new ArrayList<>();
+
+        for (Map.Entry<ReadCountKey, LongAdder> entry : counters.get(board).entrySet()) {
+            long delta = entry.getValue().sum();
+
+            if (delta > 0) {
+                deltas.add(Map.entry(entry.getKey(), delta));
+            }
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushed = 0;
+
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Map.Entry<ReadCountKey, Long>> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+
+            try {
+                jdbcTemplate.update(buildUpdateSql(board, batch.size()), buildArguments(board, batch));
+            } catch (DataAccessException e) {
+                log.warn("[조회 수] {} 반영 실패, 다음 주기에 재시도 ({}건): {}", board, batch.size(), e.getMessage());
+                continue;
+            }
+
+            for (Map.Entry<ReadCountKey, Long> entry : batch) {
+                counters.get(board).get(entry.getKey()).add(-entry.getValue());
+                flushed += entry.getValue();
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 게시글 수만큼 CASE 분기를 가진 UPDATE 문을 만듭니다.
+     *
+     * <pre>
+     * UPDATE t SET read_count = COALESCE(read_count, 0) + CASE
+     *     WHEN id = ? THEN ? ... END
+     * WHERE id IN (?, ...)
+     * </pre>
+     * scopeColumn이 있으면 WHEN/WHERE 조건에 (scope = ? AND id = ?)를 사용합니다.
+     */
+    static String buildUpdateSql(ReadCountBoard board, int size) {
+        String condition = board.getScopeColumn() != null
+                ? "(" + board.getScopeColumn() + " = ? AND " + board.getIdColumn() + " = ?)"
+                : board.getIdColumn() + " = ?";
+        StringBuilder sql = new StringBuilder("UPDATE ")
+                .append(board.getTableName())
+                .append(" SET read_count = COALESCE(read_count, 0) + CASE");
+
+        for (int i = 0; i < size; i++) {
+            sql.append(" WHEN ").append(condition).append(" THEN ?");
+        }
+        sql.append(" ELSE 0 END WHERE ");
+
+        if (board.getScopeColumn() != null) {
+            for (int i = 0; i < size; i++) {
+                sql.append(i == 0 ? "" : " OR ").append(condition);
+            }
+        } else {
+            sql.append(board.getIdColumn()).append(" IN (");
+            for (int i = 0; i < size; i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+        }
+        return sql.toString();
+    }
+
+    private static Object[] buildArguments(ReadCountBoard board, List<Map.Entry<ReadCountKey, Long>> batch) {
+        boolean scoped = board.getScopeColumn() != null;
+        List<Object> arguments = new ArrayList<>();
+
+        for (Map.Entry<ReadCountKey, Long> entry : batch) {
+            addKey(arguments, entry.getKey(), scoped);
+            arguments.add(entry.getValue());
+        }
+        for (Map.Entry<ReadCountKey, Long> entry : batch) {
+            addKey(arguments, entry.getKey(), scoped);
+        }
+        return arguments.toArray();
+    }
+
+    private static void addKey(List<Object> arguments, ReadCountKey key, boolean scoped) {
+        if (scoped) {
+            arguments.add(key.getScope());
+        }
+        arguments.add(key.getPostId());
+    }
+
+}
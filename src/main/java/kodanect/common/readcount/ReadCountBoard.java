@@ -0,0 +1,24 @@
+package kodanect.common.readcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 수를 지연 반영하는 게시판과 해당 테이블/컬럼 정보입니다.
+ *
+ * scopeColumn은 게시글 번호만으로 행을 식별할 수 없는 게시판(게시판 코드 + 게시글 번호)에서만 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReadCountBoard {
+
+    HEAVEN("tb25_410_heaven_letter", null, "letter_seq"),
+    RECIPIENT("tb25_430_recipient_letter", null, "letter_seq"),
+    DONATION("tb25_420_donation_story", null, "story_seq"),
+    ARTICLE("tb25_210_article_dtl", "board_code", "article_seq");
+
+    private final String tableName;
+    private final String scopeColumn;
+    private final String idColumn;
+
+}
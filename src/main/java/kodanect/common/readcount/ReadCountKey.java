@@ -0,0 +1,27 @@
+package kodanect.common.readcount;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 안에서 게시글을 식별하기 위한 키 클래스입니다.
+ *
+ * scope는 {@link ReadCountBoard#getScopeColumn()}이 있는 게시판의 구분 값(예: 게시판 코드)이며, 그 외에는 null입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public class ReadCountKey {
+
+    /**
+     * 게시판 구분 값
+     */
+    private final String scope;
+
+    /**
+     * 게시글 번호
+     */
+    private final long postId;
+
+}
@@ -0,0 +1,49 @@
+package kodanect.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 직렬화된 JSON을 함께 보관하는 {@link CursorPaginationResponse}입니다.
+ *
+ * Jackson으로 응답을 쓸 때 필드를 다시 직렬화하지 않고 보관 중인 UTF-8 바이트를 그대로 씁니다.
+ * 목록 첫 페이지 캐시처럼 같은 응답을 여러 요청에 재사용할 때 사용하며,
+ * 게터는 원래 응답과 같은 값을 반환하므로 서비스 호출자는 일반 응답과 구분하지 않아도 됩니다.
+ */
+public class PreSerializedCursorPaginationResponse<T, C> extends CursorPaginationResponse<T, C> implements JsonSerializable {
+
+    private final SerializableString json;
+
+    private PreSerializedCursorPaginationResponse(CursorPaginationResponse<T, C> response, byte[] json) {
+        super(response.getContent(), response.getNextCursor(), response.isHasNext(), response.getTotalCount());
+        this.json = new SerializedString(new String(json, StandardCharsets.UTF_8));
+        this.json.asUnquotedUTF8(); // UTF-8 바이트를 미리 만들어 두고 이후 쓰기에서 재사용
+    }
+
+    /**
+     * @param response 원래 응답
+     * @param json     원래 응답을 직렬화한 JSON (UTF-8)
+     * @return 직렬화된 JSON을 보관하는 응답
+     */
+    public static <T, C> PreSerializedCursorPaginationResponse<T, C> of(CursorPaginationResponse<T, C> response, byte[] json) {
+        return new PreSerializedCursorPaginationResponse<>(response, json);
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, provider);
+    }
+
+}
@@ -0,0 +1,40 @@
+package kodanect.common.search;
+
+import kodanect.common.boardcount.CountedBoard;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 결과 캐시의 키 클래스입니다.
+ *
+ * pageSize가 {@link #COUNT}이면 전체 개수, 그 외에는 해당 크기로 조회한 첫 페이지를 뜻합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+class SearchCacheKey {
+
+    static final int COUNT = -1;
+
+    /**
+     * 게시판
+     */
+    private final CountedBoard board;
+
+    /**
+     * 검색 유형 (게시판별 검색 조건 문자열)
+     */
+    private final String type;
+
+    /**
+     * 정규화된 검색어
+     */
+    private final String keyword;
+
+    /**
+     * 첫 페이지 조회 크기 (전체 개수이면 COUNT)
+     */
+    private final int pageSize;
+
+}
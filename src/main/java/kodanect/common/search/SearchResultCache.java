@@ -0,0 +1,118 @@
+package kodanect.common.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.SearchCacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 검색의 전체 개수와 첫 페이지를 (게시판, 검색 유형, 검색어)별로 짧게 보관하는 읽기 캐시입니다.
+ *
+ * - 검색 개수는 TEXT 컬럼에 대한 LIKE '%검색어%' 전체 스캔이므로, "더 보기" 페이지마다 다시 세지 않도록 보관합니다.
+ * - 첫 페이지(cursor 없음)는 페이지 크기별로 보관하고, 이후 페이지는 보관하지 않습니다.
+ * - 같은 키의 동시 요청은 한 번만 DB를 조회하고 나머지는 그 결과를 기다립니다. (인기 검색어의 중복 스캔 방지)
+ * - 게시글 등록/수정/삭제 시 해당 게시판의 항목을 모두 무효화합니다.
+ *   트랜잭션 안에서 무효화하면 커밋 이후에 한 번 더 무효화하여, 커밋 전 값이 다시 보관되지 않게 합니다.
+ * - 무효화 대상이 아닌 값(조회 수, 댓글 수 등)과 무효화와 동시에 진행 중이던 조회 결과는 expireAfterWrite 이후 다시 조회됩니다.
+ *
+ * 메트릭 (cache=board.search): cache.gets {result=hit|miss}, cache.puts, cache.evictions, cache.size
+ *
+ * 단일 인스턴스 서버 기준입니다. (다른 인스턴스의 쓰기는 expireAfterWrite 이후 반영)
+ */
+@Component
+public class SearchResultCache {
+
+    static final String CACHE_NAME = "board.search";
+
+    private final boolean enabled;
+    private final Cache<SearchCacheKey, Object> cache;
+
+    public SearchResultCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(0L, properties.getMaximumSize()))
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 키로 사용할 검색어를 만듭니다. (앞뒤 공백 제거, null은 빈 문자열)
+     * 검색 쿼리에도 같은 값을 사용해야 키와 결과가 일치합니다.
+     *
+     * @param keyword 검색어
+     * @return 정규화된 검색어
+     */
+    public static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim();
+    }
+
+    /**
+     * 검색 결과 전체 개수를 반환하며, 없으면 loader로 조회하여 보관합니다.
+     *
+     * @param board   게시판
+     * @param type    검색 유형
+     * @param keyword 정규화된 검색어
+     * @param loader  COUNT 조회 함수 (예외는 그대로 전달되며 보관하지 않음)
+     * @return 검색 결과 전체 개수
+     */
+    public long count(CountedBoard board, String type, String keyword, LongSupplier loader) {
+        if (!enabled) {
+            return loader.getAsLong();
+        }
+        return (Long) cache.get(new SearchCacheKey(board, type, keyword, SearchCacheKey.COUNT), key -> loader.getAsLong());
+    }
+
+    /**
+     * 검색 결과 첫 페이지를 반환하며, 없으면 loader로 조회하여 보관합니다.
+     * 보관 값은 변경할 수 없는 목록이며, 목록의 원소는 호출자 사이에 공유되므로 변경하지 않아야 합니다.
+     *
+     * @param board    게시판
+     * @param type     검색 유형
+     * @param keyword  정규화된 검색어
+     * @param pageSize 조회 크기 (hasNext 판단용 1건 포함)
+     * @param loader   첫 페이지 조회 함수 (예외는 그대로 전달되며 보관하지 않음)
+     * @return 첫 페이지 목록
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> firstPage(CountedBoard board, String type, String keyword, int pageSize, Supplier<List<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return (List<T>) cache.get(new SearchCacheKey(board, type, keyword, pageSize), key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 게시판의 검색 결과를 모두 무효화합니다. 트랜잭션 안이면 커밋 이후에 한 번 더 무효화합니다.
+     *
+     * @param board 게시판
+     */
+    public void invalidate(CountedBoard board) {
+        invalidateNow(board);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(board);
+                }
+            });
+        }
+    }
+
+    private void invalidateNow(CountedBoard board) {
+        cache.asMap().keySet().removeIf(key -> key.getBoard() == board);
+    }
+
+}
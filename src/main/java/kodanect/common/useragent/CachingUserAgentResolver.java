@@ -0,0 +1,47 @@
+package kodanect.common.useragent;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * User-Agent 분석 결과를 캐싱하는 {@link UserAgentResolver} 구현체입니다.
+ *
+ * 하루 동안 유입되는 서로 다른 User-Agent 문자열은 수백 개 수준이므로,
+ * 크기가 제한된 Caffeine 캐시에 불변 분석 결과를 보관하여 요청마다 반복되는 분석을 생략합니다.
+ *
+ * 캐시 적중률 등 통계는 {@code cache.*{cache="userAgent"}} 메트릭으로 노출됩니다.
+ */
+@Component
+public class CachingUserAgentResolver implements UserAgentResolver {
+
+    private static final String CACHE_NAME = "userAgent";
+    private static final long CACHE_MAX_SIZE = 2_048;
+    private static final String NULL_USER_AGENT = "";
+
+    private final LoadingCache<String, UserAgentInfo> cache;
+
+    public CachingUserAgentResolver(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .recordStats()
+                .build(UserAgentInfo::parse);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public UserAgentInfo resolve(String userAgentString) {
+        return cache.get(userAgentString != null ? userAgentString : NULL_USER_AGENT);
+    }
+
+    /**
+     * @return 누적 캐시 적중률 (0.0 ~ 1.0)
+     */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+}
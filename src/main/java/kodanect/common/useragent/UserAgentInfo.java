@@ -0,0 +1,75 @@
+package kodanect.common.useragent;
+
+import eu.bitwalker.useragentutils.OperatingSystem;
+import eu.bitwalker.useragentutils.UserAgent;
+import eu.bitwalker.useragentutils.Version;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * User-Agent 문자열을 분석한 결과를 담는 불변 객체입니다.
+ *
+ * 모든 필드는 분석 시점에 정규화되며, 값을 알 수 없는 경우 "Unknown"으로 채워집니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class UserAgentInfo {
+
+    private static final String UNKNOWN = "Unknown";
+
+    /**
+     * 브라우저 이름
+     */
+    private final String browserName;
+
+    /**
+     * 브라우저 버전
+     */
+    private final String browserVersion;
+
+    /**
+     * 운영 체제
+     */
+    private final String operatingSystem;
+
+    /**
+     * 디바이스 종류
+     */
+    private final String device;
+
+    private UserAgentInfo(String browserName, String browserVersion, String operatingSystem, String device) {
+        this.browserName = browserName;
+        this.browserVersion = browserVersion;
+        this.operatingSystem = operatingSystem;
+        this.device = device;
+    }
+
+    /**
+     * User-Agent 문자열을 캐시 없이 분석합니다.
+     *
+     * {@link UserAgent#parseUserAgentString}은 브라우저/OS Enum 테이블을 순차 탐색하므로
+     * 요청마다 호출하지 말고 {@link UserAgentResolver}를 통해 사용합니다.
+     *
+     * @param userAgentString User-Agent 헤더 값 (null 허용)
+     * @return 분석 결과
+     */
+    public static UserAgentInfo parse(String userAgentString) {
+        UserAgent userAgent = UserAgent.parseUserAgentString(userAgentString);
+        Version version = userAgent.getBrowserVersion();
+        OperatingSystem os = userAgent.getOperatingSystem();
+
+        return new UserAgentInfo(
+                orUnknown(userAgent.getBrowser().getName()),
+                orUnknown(version != null ? version.getVersion() : null),
+                orUnknown(os != null ? os.getName() : null),
+                orUnknown(os != null ? os.getDeviceType().getName() : null)
+        );
+    }
+
+    private static String orUnknown(String value) {
+        return (value != null && !value.isBlank()) ? value : UNKNOWN;
+    }
+
+}
@@ -0,0 +1,15 @@
+package kodanect.common.useragent;
+
+/**
+ * User-Agent 문자열을 {@link UserAgentInfo}로 변환하는 인터페이스입니다.
+ */
+@FunctionalInterface
+public interface UserAgentResolver {
+
+    /**
+     * @param userAgentString User-Agent 헤더 값 (null 허용)
+     * @return 분석 결과
+     */
+    UserAgentInfo resolve(String userAgentString);
+
+}
@@ -1,7 +1,6 @@
 package kodanect.common.util;
 
 import kodanect.domain.remembrance.exception.InvalidEmotionTypeException;
-import kodanect.domain.remembrance.repository.MemorialRepository;
 
 /**
  *
@@ -19,57 +18,31 @@ import kodanect.domain.remembrance.repository.MemorialRepository;
  *
  * */
 public enum EmotionType {
-    FLOWER{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 헌화 카운트 수 업데이트 */
-            repository.incrementFlower(donateSeq);
-        }
-    },
-    LOVE{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 사랑해요 카운트 수 업데이트 */
-            repository.incrementLove(donateSeq);
-        }
-    },
-    SEE{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 보고싶어요 카운트 수 업데이트 */
-            repository.incrementSee(donateSeq);
-        }
-    },
-    MISS{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 그리워요 카운트 수 업데이트 */
-            repository.incrementMiss(donateSeq);
-        }
-    },
-    PROUD{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 자랑스러워요 카운트 수 업데이트 */
-            repository.incrementProud(donateSeq);
-        }
-    },
-    HARD{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 힘들어요 카운트 수 업데이트 */
-            repository.incrementHard(donateSeq);
-        }
-    },
-    SAD{
-        @Override
-        public void apply(MemorialRepository repository, Integer donateSeq) {
-            /** 슬퍼요 카운트 수 업데이트 */
-            repository.incrementSad(donateSeq);
-        }
-    };
+    /** 헌화 */
+    FLOWER("flower_count"),
+    /** 사랑해요 */
+    LOVE("love_count"),
+    /** 보고싶어요 */
+    SEE("see_count"),
+    /** 그리워요 */
+    MISS("miss_count"),
+    /** 자랑스러워요 */
+    PROUD("proud_count"),
+    /** 힘들어요 */
+    HARD("hard_count"),
+    /** 슬퍼요 */
+    SAD("sad_count");
+
+    /** 카운트 컬럼 명 (tb25_400_memorial) */
+    private final String columnName;
 
-    public abstract void apply(MemorialRepository repository, Integer donateSeq);
+    EmotionType(String columnName) {
+        this.columnName = columnName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
 
     /**
      *
@@ -0,0 +1,249 @@
+package kodanect.common.util;
+
+import kodanect.common.config.properties.ViewDedupProperties;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 조회 수 중복 증가 방지를 위한 공용 컴포넌트
+ *
+ * 같은 IP가 같은 게시글을 window 안에 다시 조회하면 조회 수를 올리지 않습니다.
+ * (하늘나라 편지, 수혜자 편지, 기증 스토리, 공지/게시판 상세 조회에서 사용)
+ *
+ * - (게시판, 게시글 번호, IP)를 64비트 해시로 만들어 블룸 필터에 기록하며, 키 문자열은 보관하지 않습니다.
+ * - 블룸 필터는 현재/이전 두 세대를 두고 window마다 교대합니다. 두 세대 중 하나에 있으면 중복으로 봅니다.
+ *   따라서 중복으로 보는 기간은 최소 window, 최대 2 × window 입니다.
+ * - 세대 크기는 expectedViews와 falsePositiveRate로 기동 시 정해지며, 방문자 수와 관계없이 메모리가 고정됩니다.
+ *   두 세대를 함께 확인하므로 세대별 오판 비율은 설정값의 절반으로 잡습니다.
+ * - 블룸 필터 오판(처음 조회를 중복으로 판단)은 조회 수가 덜 오르는 방향으로 일어납니다.
+ *
+ * 비트 기록은 잠금 없이 수행하고, 세대 교대만 동기화합니다.
+ * 비트를 하나씩 CAS로 설정하므로, 같은 IP가 같은 게시글을 동시에 처음 조회하면 두 요청이 서로 다른 비트를 먼저 설정하여
+ * 둘 다 첫 조회로 판단될 수 있습니다. (동시에 도착한 요청 수만큼 한 번 더 오를 수 있으며, 이후 조회는 중복으로 판단합니다.)
+ * 한 번의 CAS로 판단하려면 해시 비트를 한 워드에 모아야 하는데, 같은 오판 비율에 메모리가 약 두 배 필요하므로 이 초과 집계를 허용합니다.
+ * 단일 인스턴스 서버 기준이며, 서버 재시작 시 기록이 초기화됩니다.
+ */
+@Component
+public class ViewDedupService {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ViewDedupService.class);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MIX_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    private static final int MIX_SHIFT = 33;
+    private static final int HALF_LONG_BITS = 32;
+    private static final int WORD_SHIFT = 6;
+    private static final long WORD_BITS = 64L;
+    private static final int MAX_HASHES = 16;
+    private static final int GENERATIONS = 2;
+    private static final double LN2 = Math.log(2);
+    private static final int BYTES_PER_KB = 1024;
+
+    private final long windowNanos;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongSupplier nanoClock;
+    private volatile Generations generations;
+
+    @Autowired
+    public ViewDedupService(ViewDedupProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ViewDedupService(ViewDedupProperties properties, LongSupplier nanoClock) {
+        int expectedViews = properties.getExpectedViews();
+        double falsePositiveRate = properties.getFalsePositiveRate();
+
+        if (expectedViews <= 0) {
+            throw new IllegalArgumentException("view-dedup.expected-views must be positive: " + expectedViews);
+        }
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("view-dedup.false-positive-rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        double perGenerationRate = falsePositiveRate / GENERATIONS;
+        long bits = (long) Math.ceil(-expectedViews * Math.log(perGenerationRate) / (LN2 * LN2));
+
+        this.windowNanos = Math.max(1L, properties.getWindow().toNanos());
+        this.bitSize = Math.max(WORD_BITS, (bits + WORD_BITS - 1) / WORD_BITS * WORD_BITS);
+        this.hashCount = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bitSize / expectedViews * LN2)));
+        this.nanoClock = nanoClock;
+        this.generations = new Generations(new BloomFilter(bitSize), null, nanoClock.getAsLong());
+
+        log.info("[조회 수 중복 방지] window={}, 세대당 {} KB, 해시 {}개",
+                properties.getWindow(), bitSize / Byte.SIZE / BYTES_PER_KB, hashCount);
+    }
+
+    /**
+     * 조회 수를 올려야 하는 첫 조회인지 확인하고, 첫 조회이면 기록합니다.
+     *
+     * @param board    게시판 구분 (예: "heaven", "article:7")
+     * @param postId   게시글 번호
+     * @param clientIp 요청자 IP
+     * @return window 안의 첫 조회이면 true
+     */
+    public boolean isFirstView(String board, long postId, String clientIp) {
+        long hash = hash(board, postId, clientIp);
+        Generations current = rotateIfExpired(nanoClock.getAsLong());
+
+        if (current.previous != null && current.previous.mightContain(hash, hashCount)) {
+            return false;
+        }
+        return current.active.put(hash, hashCount);
+    }
+
+    /**
+     * @return 세대 하나의 비트 수 (고정)
+     */
+    long getBitSize() {
+        return bitSize;
+    }
+
+    /**
+     * @return 게시글 하나를 기록할 때 설정하는 비트 수
+     */
+    int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * window가 지났으면 현재 세대를 이전 세대로 넘기고 빈 세대를 만듭니다.
+     * 2 × window 이상 조회가 없었으면 이전 세대도 비웁니다.
+     */
+    private Generations rotateIfExpired(long now) {
+        Generations current = generations;
+
+        if (now - current.startedNanos < windowNanos) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = generations;
+            long elapsed = now - current.startedNanos;
+
+            if (elapsed < windowNanos) {
+                return current;
+            }
+
+            BloomFilter previous = elapsed < windowNanos * GENERATIONS ? current.active : null;
+            current = new Generations(new BloomFilter(bitSize), previous, now);
+            generations = current;
+            return current;
+        }
+    }
+
+    private static long hash(String board, long postId, String clientIp) {
+        long hash = fnv(FNV_OFFSET_BASIS, board);
+        hash = mix(hash ^ postId);
+        hash = fnv(hash, clientIp);
+        return mix(hash);
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value == null) {
+            return hash * FNV_PRIME;
+        }
+
+        long result = hash;
+
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= FNV_PRIME;
+        }
+        return result * FNV_PRIME;
+    }
+
+    private static long mix(long value) {
+        long mixed = value;
+        mixed ^= mixed >>> MIX_SHIFT;
+        mixed *= MIX_MULTIPLIER_1;
+        mixed ^= mixed >>> MIX_SHIFT;
+        mixed *= MIX_MULTIPLIER_2;
+        mixed ^= mixed >>> MIX_SHIFT;
+        return mixed;
+    }
+
+    /**
+     * 현재 세대, 이전 세대, 현재 세대 시작 시각입니다. 교대할 때마다 새 인스턴스로 교체합니다.
+     */
+    private static final class Generations {
+
+        private final BloomFilter active;
+        private final BloomFilter previous;
+        private final long startedNanos;
+
+        private Generations(BloomFilter active, BloomFilter previous, long startedNanos) {
+            this.active = active;
+            this.previous = previous;
+            this.startedNanos = startedNanos;
+        }
+
+    }
+
+    /**
+     * {@link AtomicLongArray} 기반 블룸 필터입니다.
+     * 64비트 해시의 상·하위 32비트로 이중 해싱하여 hashCount개의 비트 위치를 만듭니다.
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+
+        private BloomFilter(long bitSize) {
+            this.words = new AtomicLongArray(Math.toIntExact(bitSize / WORD_BITS));
+            this.bitSize = bitSize;
+        }
+
+        private boolean mightContain(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = hash >>> HALF_LONG_BITS;
+
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+
+                if ((words.get((int) (bit >>> WORD_SHIFT)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 같은 해시를 동시에 기록하면 둘 이상이 true를 받을 수 있습니다. (클래스 설명 참고)
+         *
+         * @return 새로 설정한 비트가 하나라도 있으면 (처음 기록이면) true
+         */
+        private boolean put(long hash, int hashCount) {
+            long h1 = hash;
+            long h2 = hash >>> HALF_LONG_BITS;
+            boolean changed = false;
+
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+                int index = (int) (bit >>> WORD_SHIFT);
+                long mask = 1L << bit;
+
+                while (true) {
+                    long word = words.get(index);
+
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                    if (words.compareAndSet(index, word, word | mask)) {
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+            return changed;
+        }
+
+    }
+
+}
@@ -87,4 +87,13 @@ public class ArticleDetailDto {
                 .nextArticle(nextArticle)
                 .build();
     }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회 수를 더합니다.
+     *
+     * @param pendingReadCount 반영 대기 중인 조회 수
+     */
+    public void addPendingReadCount(long pendingReadCount) {
+        this.readCount += (int) pendingReadCount;
+    }
 }
\ No newline at end of file
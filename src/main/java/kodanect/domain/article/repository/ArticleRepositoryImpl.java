@@ -93,24 +93,4 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
-
-    /**
-     * 조회수 증가
-     * @param boardCode 게시판 코드
-     * @param articleSeq 게시글 ID
-     */
-    @Override
-    public void increaseHitCount(String boardCode, int articleSeq) {
-        QArticle article = QArticle.article;
-
-        long updated = queryFactory.update(article)
-                .set(article.readCount, article.readCount.add(1))
-                .where(article.id.boardCode.eq(boardCode)
-                        .and(article.id.articleSeq.eq(articleSeq)))
-                .execute();
-
-        if (updated == 0) {
-            log.warn("조회수 증가 실패: boardCode={}, articleSeq={}", boardCode, articleSeq);
-        }
-    }
 }
@@ -1,6 +1,8 @@
 package kodanect.domain.article.service.impl;
 
-import kodanect.common.util.RequestBasedHitLimiter;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.article.exception.ArticleNotFoundException;
 import kodanect.domain.article.dto.ArticleDTO;
 import kodanect.domain.article.dto.ArticleDetailDto;
@@ -22,8 +24,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
+    private static final String VIEW_BOARD_PREFIX = "article:";
+
     private final ArticleRepository articleRepository;
-    private final RequestBasedHitLimiter hitLimiter;
+    private final ViewDedupService viewDedupService;
+    private final ReadCountAggregator readCountAggregator;
 
     /**
      * 게시글 목록을 조건에 따라 조회합니다.
@@ -59,7 +64,7 @@ public class ArticleServiceImpl implements ArticleService {
      *
      * <p>요청된 게시글이 존재하지 않으면 예외를 발생시키며,
      * 이전/다음 게시글 정보를 포함한 DTO를 반환합니다.
-     * 조회 시 조회수(hit count)가 1 증가합니다.</p>
+     * 조회 시 조회수(hit count)가 1 증가하며, DB 반영은 {@link ReadCountAggregator}가 주기적으로 수행합니다.</p>
      *
      * @param boardCode  게시판 코드
      * @param articleSeq 게시글 순번 (PK)
@@ -70,13 +75,13 @@ public class ArticleServiceImpl implements ArticleService {
     @Override
     public ArticleDetailDto getArticle(String boardCode, Integer articleSeq, String clientIpAddress) {
 
-        if (hitLimiter.isFirstView(boardCode, articleSeq, clientIpAddress)) {
-            articleRepository.increaseHitCount(boardCode, articleSeq);
-        }
-
         Article article = articleRepository.findByIdBoardCodeAndIdArticleSeq(boardCode, articleSeq)
                 .orElseThrow(() -> new ArticleNotFoundException(articleSeq));
 
+        if (viewDedupService.isFirstView(VIEW_BOARD_PREFIX + boardCode, articleSeq, clientIpAddress)) {
+            readCountAggregator.increment(ReadCountBoard.ARTICLE, boardCode, articleSeq);
+        }
+
         Article prev = articleRepository.findFirstByIdBoardCodeAndIdArticleSeqLessThanAndDelFlagOrderByIdArticleSeqDesc(boardCode, articleSeq, "N").orElse(null);
         Article next = articleRepository.findFirstByIdBoardCodeAndIdArticleSeqGreaterThanAndDelFlagOrderByIdArticleSeqAsc(boardCode, articleSeq, "N").orElse(null);
 
@@ -88,6 +93,8 @@ public class ArticleServiceImpl implements ArticleService {
                 ? ArticleDetailDto.AdjacentArticleDto.from(next)
                 : ArticleDetailDto.AdjacentArticleDto.noNext();
 
-        return ArticleDetailDto.fromArticleDetailDto(article, prevDto, nextDto);
+        ArticleDetailDto detail = ArticleDetailDto.fromArticleDetailDto(article, prevDto, nextDto);
+        detail.addPendingReadCount(readCountAggregator.pending(ReadCountBoard.ARTICLE, boardCode, articleSeq));
+        return detail;
     }
 }
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import java.util.Map;
@@ -80,8 +81,8 @@ public class  DonationController {
      */
     @Transactional
     @GetMapping("/{storySeq}")
-    public ResponseEntity<ApiResponse<DonationStoryDetailDto>> getDonationStoryDetail(@PathVariable Long storySeq) {
-        DonationStoryDetailDto detailDto = donationService.findDonationStoryWithStoryId(storySeq);
+    public ResponseEntity<ApiResponse<DonationStoryDetailDto>> getDonationStoryDetail(@PathVariable Long storySeq, HttpServletRequest request) {
+        DonationStoryDetailDto detailDto = donationService.findDonationStoryWithStoryId(storySeq, request.getRemoteAddr());
         String message = messageSourceAccessor.getMessage("board.read.success");
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message, detailDto));
     }
@@ -91,12 +92,13 @@ public class  DonationController {
     @PostMapping("/{storySeq}/verifyPwd")
     public ResponseEntity<ApiResponse<DonationStoryModifyDto>> verifyStoryPassword(
             @PathVariable Long storySeq,
-            @RequestBody @Valid VerifyStoryPasscodeDto passCodeDto) {
+            @RequestBody @Valid VerifyStoryPasscodeDto passCodeDto,
+            HttpServletRequest request) {
 
         donationService.verifyPasswordWithPassword(storySeq, passCodeDto);
 
         //입력된 값 가져오기
-        DonationStoryDetailDto detailDto = donationService.findDonationStoryWithStoryId(storySeq);
+        DonationStoryDetailDto detailDto = donationService.findDonationStoryWithStoryId(storySeq, request.getRemoteAddr());
         DonationStoryModifyDto modifyDto = DonationStoryModifyDto.fromEntity(detailDto);
 
         String message = messageSourceAccessor.getMessage("donation.password.match");
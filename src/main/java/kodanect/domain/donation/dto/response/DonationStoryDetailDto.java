@@ -51,4 +51,8 @@ public class DonationStoryDetailDto {
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    public void addPendingReadCount(long pendingReadCount) {
+        this.readCount = (this.readCount != null ? this.readCount : 0) + (int) pendingReadCount;
+    }
 }
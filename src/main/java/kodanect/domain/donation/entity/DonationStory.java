@@ -97,11 +97,6 @@ public class DonationStory {
         }
 
     }
-    //조회수 증가
-    public void increaseReadCount(){ //조회수 증가메서드
-        this.readCount = (this.readCount == null) ? 1 : readCount + 1;
-    }
-
     //수정때 이용
     public void modifyDonationStory(DonationStoryModifyRequestDto requestDto, String fileName, String orgFileName) {
         this.areaCode = requestDto.getAreaCode();
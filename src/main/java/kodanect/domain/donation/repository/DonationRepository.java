@@ -70,9 +70,6 @@ public interface DonationRepository extends JpaRepository<DonationStory, Long> {
                                                            @Param("cursor") Long cursor,
                                                            Pageable pageable);
 
-    @Query(value =  "SELECT COUNT(*) FROM tb25_420_donation_story", nativeQuery=true)
-    long countAll();
-
     @Query(value = "SELECT COUNT(*) FROM tb25_420_donation_story WHERE story_title LIKE CONCAT('%', :keyword, '%')", nativeQuery = true)
     long countByTitle(@Param("keyword") String keyword);
 
@@ -14,7 +14,7 @@ public interface DonationService {
     CursorPaginationResponse<DonationStoryListDto, Long> findSearchStoriesWithCursor(String type, String keyword, Long cursor, int size);
 
     // 기증 스토리 상세 조회
-    DonationStoryDetailDto findDonationStoryWithStoryId(Long storySeq);
+    DonationStoryDetailDto findDonationStoryWithStoryId(Long storySeq, String clientIp);
 
 
     // 기증 스토리 등록
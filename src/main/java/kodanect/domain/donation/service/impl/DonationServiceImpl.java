@@ -1,10 +1,17 @@
 package kodanect.domain.donation.service.impl;
 
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
 import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.CursorFormatter;
 import kodanect.common.util.MessageResolver;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.donation.dto.request.DonationStoryCreateRequestDto;
 import kodanect.domain.donation.dto.request.DonationStoryModifyRequestDto;
 import kodanect.domain.donation.dto.request.VerifyStoryPasscodeDto;
@@ -37,21 +44,36 @@ public class DonationServiceImpl implements DonationService {
     /** Cursor 기반 기본 Size */
     private static final int DEFAULT_SIZE = 3;
     private static final String DONATION_ERROR_NOTFOUND = "donation.error.notfound";
+    private static final String VIEW_BOARD = "donation";
 
     private final DonationRepository donationRepository;
     private final DonationCommentRepository commentRepository;
     private final MessageResolver messageResolver;
+    private final ViewDedupService viewDedupService;
+    private final ReadCountAggregator readCountAggregator;
+    private final BoardCountRegistry boardCountRegistry;
+    private final SearchResultCache searchResultCache;
+    private final FirstPageCache firstPageCache;
 
     /* 스토리 목록 조회 */
     @Override
     public CursorPaginationResponse<DonationStoryListDto, Long> findStoriesWithCursor(Long cursor, int size) {
         logger.debug(">>> findStoriesWithCursor() 호출");
 
+        // 첫 페이지는 목록 첫 페이지 캐시 사용
+        if (cursor == null) {
+            return firstPageCache.get(CountedBoard.DONATION, size, () -> findStories(null, size));
+        }
+        return findStories(cursor, size);
+    }
+
+    /* 커서 기반 스토리 목록 조회 */
+    private CursorPaginationResponse<DonationStoryListDto, Long> findStories(Long cursor, int size) {
         Pageable pageable = PageRequest.of(0, size + 1);
         List<DonationStoryListDto> results = donationRepository.findByCursor(cursor, pageable);
         logger.debug("스토리 목록 조회 결과 수: {}", results.size());
 
-        long totalCount = donationRepository.countAll();
+        long totalCount = boardCountRegistry.get(CountedBoard.DONATION);
         logger.debug("게시글 총 개수 : {}", totalCount);
         return CursorFormatter.cursorFormat(results, size, totalCount); // 이 한 줄이면 충분
     }
@@ -62,24 +84,48 @@ public class DonationServiceImpl implements DonationService {
         logger.debug(">>> findSearchStoriesWithCursor() 호출");
         Pageable pageable = PageRequest.of(0, size + 1); // size+1개 조회해서 hasNext 판단
 
-        List<DonationStoryListDto> results;
-        long totalCount = 0;
+        String searchType = toSearchType(type);
+        String normalizedKeyword = SearchResultCache.normalize(keyword);
 
-        if ("TITLE".equalsIgnoreCase(type)) {
-            results = donationRepository.findByTitleCursor(keyword, cursor, pageable);
-            totalCount = donationRepository.countByTitle(keyword);
-        } else if ("CONTENTS".equalsIgnoreCase(type)) {
-            results = donationRepository.findByContentsCursor(keyword, cursor, pageable);
-            totalCount = donationRepository.countByContents(keyword);
-        } else {
-            results = donationRepository.findByTitleOrContentsCursor(keyword, cursor, pageable);
-            totalCount = donationRepository.countByTitleAndContents(keyword);
-        }
+        // 검색 개수와 첫 페이지는 검색 결과 캐시 사용
+        List<DonationStoryListDto> results = cursor == null
+                ? searchResultCache.firstPage(CountedBoard.DONATION, searchType, normalizedKeyword, size + 1,
+                        () -> findSearchStories(searchType, normalizedKeyword, null, pageable))
+                : findSearchStories(searchType, normalizedKeyword, cursor, pageable);
+        long totalCount = searchResultCache.count(CountedBoard.DONATION, searchType, normalizedKeyword,
+                () -> countSearchStories(searchType, normalizedKeyword));
         logger.debug("스토리 목록 조회 결과 수: {}", results.size());
 
         return CursorFormatter.cursorFormat(results, size, totalCount);
     }
 
+    /* 검색 유형 정규화 (TITLE, CONTENTS 외에는 제목+내용 검색) */
+    private static String toSearchType(String type) {
+        if ("TITLE".equalsIgnoreCase(type)) {
+            return "TITLE";
+        }
+        if ("CONTENTS".equalsIgnoreCase(type)) {
+            return "CONTENTS";
+        }
+        return "ALL";
+    }
+
+    private List<DonationStoryListDto> findSearchStories(String searchType, String keyword, Long cursor, Pageable pageable) {
+        return switch (searchType) {
+            case "TITLE" -> donationRepository.findByTitleCursor(keyword, cursor, pageable);
+            case "CONTENTS" -> donationRepository.findByContentsCursor(keyword, cursor, pageable);
+            default -> donationRepository.findByTitleOrContentsCursor(keyword, cursor, pageable);
+        };
+    }
+
+    private long countSearchStories(String searchType, String keyword) {
+        return switch (searchType) {
+            case "TITLE" -> donationRepository.countByTitle(keyword);
+            case "CONTENTS" -> donationRepository.countByContents(keyword);
+            default -> donationRepository.countByTitleAndContents(keyword);
+        };
+    }
+
 
 
     /** 스토리 등록 처리 */
@@ -104,6 +150,9 @@ public class DonationServiceImpl implements DonationService {
                 .build();
 
         donationRepository.save(story);
+        boardCountRegistry.increment(CountedBoard.DONATION);
+        searchResultCache.invalidate(CountedBoard.DONATION);
+        firstPageCache.invalidate(CountedBoard.DONATION);
     }
     // 작성자 닉네임 유효성 추가( 한글, 영어, 공백 1~30 글자 가능, 특수 문자,숫자 불가능)
     private void validateWriter(String writer){
@@ -150,12 +199,14 @@ public class DonationServiceImpl implements DonationService {
 
     /* 스토리 상세 조회 */
     @Override
-    public DonationStoryDetailDto findDonationStoryWithStoryId(Long storySeq) {
+    public DonationStoryDetailDto findDonationStoryWithStoryId(Long storySeq, String clientIp) {
         logger.debug(">>> findDonationStoryWithStoryId() 호출");
-        // 1) 스토리 로드 + 조회수 증가
+        // 1) 스토리 로드 + 조회수 증가 (같은 IP의 중복 조회 제외, DB 반영은 주기적으로 수행)
         DonationStory story = donationRepository.findStoryOnlyById(storySeq)
                 .orElseThrow(() -> new DonationNotFoundException(DONATION_ERROR_NOTFOUND));
-        story.increaseReadCount();
+        if (viewDedupService.isFirstView(VIEW_BOARD, storySeq, clientIp)) {
+            readCountAggregator.increment(ReadCountBoard.DONATION, null, storySeq);
+        }
 
         // 2) 최신 댓글 3개 조회
         var pageable = PageRequest.of(0, DEFAULT_SIZE + 1);  // +1로 hasNext 체크
@@ -169,6 +220,7 @@ public class DonationServiceImpl implements DonationService {
 
         // 4) DTO 조립
         DonationStoryDetailDto dto = DonationStoryDetailDto.fromEntity(story);
+        dto.addPendingReadCount(readCountAggregator.pending(ReadCountBoard.DONATION, null, storySeq));
 
         dto.setComments(commentsPage);
         dto.setImageUrl(getWholeImageUrl(story.getStoryContents())); // imageUrl
@@ -221,6 +273,8 @@ public class DonationServiceImpl implements DonationService {
         String [] imgNames = imgParsing(requestDto.getStoryContents());
 
         story.modifyDonationStory(requestDto, imgNames[1], imgNames[0]);
+        searchResultCache.invalidate(CountedBoard.DONATION);
+        firstPageCache.invalidate(CountedBoard.DONATION);
     }
 
     /** 스토리 삭제 */
@@ -239,6 +293,9 @@ public class DonationServiceImpl implements DonationService {
 
         story.softDeleteStoryAndComments();
         donationRepository.save(story);
+        boardCountRegistry.decrement(CountedBoard.DONATION);
+        searchResultCache.invalidate(CountedBoard.DONATION);
+        firstPageCache.invalidate(CountedBoard.DONATION);
     }
 
     /** 비밀번호 유효성 검증 */
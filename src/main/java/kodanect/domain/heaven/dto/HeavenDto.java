@@ -55,4 +55,9 @@ public class HeavenDto {
     public String getWriteTime() {
         return this.writeTime.toLocalDate().toString();
     }
+
+    /* 반영 대기 중인 조회 수 합산 */
+    public void addPendingReadCount(long pendingReadCount) {
+        this.readCount = (this.readCount != null ? this.readCount : 0) + (int) pendingReadCount;
+    }
 }
@@ -109,11 +109,6 @@ public class Heaven {
         }
     }
 
-    /* 조회수 증가 */
-    public void addReadCount() {
-        this.readCount++;
-    }
-
     /* 비밀번호 일치 검증 */
     public void verifyPasscode(String passcode) {
         if (!Objects.equals(this.letterPasscode, passcode)) {
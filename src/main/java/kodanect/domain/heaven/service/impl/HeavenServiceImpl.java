@@ -1,11 +1,17 @@
 package kodanect.domain.heaven.service.impl;
 
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
 import kodanect.common.response.CursorCommentCountPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.CursorFormatter;
 import kodanect.common.util.HeavenFinder;
 import kodanect.common.util.MemorialFinder;
-import kodanect.common.util.ViewTracker;
+import kodanect.common.util.ViewDedupService;
 import kodanect.common.validation.HeavenValidator;
 import kodanect.domain.heaven.dto.HeavenDto;
 import kodanect.domain.heaven.dto.request.HeavenCreateRequest;
@@ -21,6 +27,7 @@ import kodanect.domain.heaven.repository.HeavenRepository;
 import kodanect.common.imageupload.service.FileService;
 import kodanect.domain.heaven.service.HeavenCommentService;
 import kodanect.domain.heaven.service.HeavenService;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.repository.MemorialRepository;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +46,7 @@ public class HeavenServiceImpl implements HeavenService {
     private static final int COMMENT_SIZE = 3;
     private static final String FILE_NAME_KEY = "fileName";
     private static final String ORG_FILE_NAME_KEY = "orgFileName";
+    private static final String VIEW_BOARD = "heaven";
 
     private final HeavenRepository heavenRepository;
     private final HeavenCommentRepository heavenCommentRepository;
@@ -47,28 +55,35 @@ public class HeavenServiceImpl implements HeavenService {
     private final HeavenFinder heavenFinder;
     private final MemorialFinder memorialFinder;
     private final FileService fileService;
-    private final ViewTracker viewTracker;
+    private final ViewDedupService viewDedupService;
+    private final ReadCountAggregator readCountAggregator;
+    private final MemorialDetailCache memorialDetailCache;
+    private final BoardCountRegistry boardCountRegistry;
+    private final SearchResultCache searchResultCache;
+    private final FirstPageCache firstPageCache;
 
     /* 게시물 전체 조회 (페이징) */
     @Override
     public CursorPaginationResponse<HeavenResponse, Integer> getHeavenList(Integer cursor, int size) {
-        Pageable pageable = PageRequest.of(0, size + 1);
-
-        List<HeavenResponse> heavenResponseList = heavenRepository.findByCursor(cursor, pageable);
-
-        long count = heavenRepository.countByDelFlag();
-
-        return CursorFormatter.cursorFormat(heavenResponseList, size, count);
+        /* 첫 페이지는 목록 첫 페이지 캐시 사용 */
+        if (cursor == null) {
+            return firstPageCache.get(CountedBoard.HEAVEN, size, () -> findHeavenList(null, size));
+        }
+        return findHeavenList(cursor, size);
     }
 
     /* 검색을 통한 게시물 전체 조회 (페이징) */
     @Override
     public CursorPaginationResponse<HeavenResponse, Integer> getHeavenListSearchResult(String type, String keyWord, Integer cursor, int size) {
         Pageable pageable = PageRequest.of(0, size + 1);
+        String normalizedKeyWord = SearchResultCache.normalize(keyWord);
 
-        long count = countByType(type, keyWord);
+        /* 검색 개수와 첫 페이지는 검색 결과 캐시 사용 */
+        long count = searchResultCache.count(CountedBoard.HEAVEN, type, normalizedKeyWord, () -> countByType(type, normalizedKeyWord));
 
-        List<HeavenResponse> heavenResponseList = findByType(type, keyWord, cursor, pageable);
+        List<HeavenResponse> heavenResponseList = cursor == null
+                ? searchResultCache.firstPage(CountedBoard.HEAVEN, type, normalizedKeyWord, size + 1, () -> findByType(type, normalizedKeyWord, null, pageable))
+                : findByType(type, normalizedKeyWord, cursor, pageable);
 
         return CursorFormatter.cursorFormat(heavenResponseList, size, count);
     }
@@ -80,10 +95,11 @@ public class HeavenServiceImpl implements HeavenService {
         /* 게시물 상세 조회 */
         HeavenDto heavenDto = heavenFinder.findAnonymizedByIdOrThrow(letterSeq);
 
-        /* 시간 확인 후 조회 수 증가 */
-        if (viewTracker.shouldIncreaseView(letterSeq, clientIp)) {
-            heavenRepository.updateReadCount(letterSeq);
+        /* 시간 확인 후 조회 수 증가 (주기적으로 DB 반영) */
+        if (viewDedupService.isFirstView(VIEW_BOARD, letterSeq, clientIp)) {
+            readCountAggregator.increment(ReadCountBoard.HEAVEN, null, letterSeq);
         }
+        heavenDto.addPendingReadCount(readCountAggregator.pending(ReadCountBoard.HEAVEN, null, letterSeq));
 
         /* 댓글 리스트 조회 */
         List<HeavenCommentResponse> heavenCommentList = heavenCommentService.getHeavenCommentList(letterSeq, null, COMMENT_SIZE + 1);
@@ -139,6 +155,12 @@ public class HeavenServiceImpl implements HeavenService {
                 .build();
 
         heavenRepository.save(heaven);
+        boardCountRegistry.increment(CountedBoard.HEAVEN);
+        searchResultCache.invalidate(CountedBoard.HEAVEN);
+        firstPageCache.invalidate(CountedBoard.HEAVEN);
+
+        /* 기증자 추모관 상세 조회 캐시 무효화 */
+        invalidateMemorialDetail(memorial);
     }
 
     /* 게시물 수정 인증 */
@@ -153,6 +175,7 @@ public class HeavenServiceImpl implements HeavenService {
     @Override
     public Heaven updateHeaven(Integer letterSeq, HeavenUpdateRequest heavenUpdateRequest) {
         Heaven heaven = heavenFinder.findByIdOrThrow(letterSeq);
+        Memorial previousMemorial = heaven.getMemorial();
         Memorial memorial = memorialRepository.findById(heavenUpdateRequest.getDonateSeq()).orElse(null);
 
         /* 유효성 검사 */
@@ -161,6 +184,12 @@ public class HeavenServiceImpl implements HeavenService {
         Map<String, String> fileMap = fileService.updateFile(heavenUpdateRequest.getLetterContents(), heaven.getOrgFileName());
 
         heaven.updateHeaven(heavenUpdateRequest, memorial, fileMap);
+        searchResultCache.invalidate(CountedBoard.HEAVEN);
+        firstPageCache.invalidate(CountedBoard.HEAVEN);
+
+        /* 기증자 추모관 상세 조회 캐시 무효화 (기증자가 바뀐 경우 이전 기증자 포함) */
+        invalidateMemorialDetail(previousMemorial);
+        invalidateMemorialDetail(memorial);
 
         return heaven;
     }
@@ -178,6 +207,30 @@ public class HeavenServiceImpl implements HeavenService {
 
         /* 게시물 및 해당 댓글 소프트 삭제 */
         heaven.softDelete();
+        boardCountRegistry.decrement(CountedBoard.HEAVEN);
+        searchResultCache.invalidate(CountedBoard.HEAVEN);
+        firstPageCache.invalidate(CountedBoard.HEAVEN);
+
+        /* 기증자 추모관 상세 조회 캐시 무효화 */
+        invalidateMemorialDetail(heaven.getMemorial());
+    }
+
+    /* 커서 기반 게시물 목록 조회 */
+    private CursorPaginationResponse<HeavenResponse, Integer> findHeavenList(Integer cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<HeavenResponse> heavenResponseList = heavenRepository.findByCursor(cursor, pageable);
+
+        long count = boardCountRegistry.get(CountedBoard.HEAVEN);
+
+        return CursorFormatter.cursorFormat(heavenResponseList, size, count);
+    }
+
+    /* 편지가 연결된 기증자 추모관 상세 조회 캐시 무효화 */
+    private void invalidateMemorialDetail(Memorial memorial) {
+        if (memorial != null) {
+            memorialDetailCache.invalidate(memorial.getDonateSeq());
+        }
     }
 
     /* 검색 조건에 따른 게시물 개수 조회 */
@@ -0,0 +1,233 @@
+package kodanect.domain.logging.aggregate;
+
+import kodanect.common.config.properties.ActionLogReadAggregationProperties;
+import kodanect.domain.logging.dto.ReadLogAggregateDto;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 조회(R) 액션 로그를 건별로 보관하지 않고 (URL, 브라우저, 디바이스, 분) 단위 건수로 집계하는 컴포넌트입니다.
+ *
+ * - URL은 쿼리 문자열, 프래그먼트, 스킴/호스트를 제거하고 숫자/UUID 경로 구간을 {@code {id}}로 바꿔 패턴 단위로 집계합니다.
+ *   (게시글 번호마다 버킷이 생겨 상한에 바로 도달하지 않도록 합니다.)
+ * - 버킷별 카운터는 {@link LongAdder}로, 같은 버킷에 동시에 기록해도 스레드별로 분산되어 경합이 적습니다.
+ * - 기록은 항상 현재 분의 버킷에만 일어나므로, 종료 후 1분이 더 지난 버킷만 맵에서 제거하며 배출하여 진행 중인 기록과 겹치지 않도록 합니다.
+ * - 전체 배출 시 아직 닫히지 않은 버킷은 제거하지 않고, 읽은 건수만큼만 카운터에서 차감합니다.
+ *   차감 이후에 동시에 기록된 건수는 카운터에 남아 다음 배출에 포함됩니다.
+ * - 버킷 수가 상한에 도달하면 새 버킷을 만들지 않고 false를 반환하여 호출자가 건별 로그로 처리하도록 합니다.
+ * - 저장에 실패한 집계는 {@link #restore(List)}로 되돌려 다음 배출에 다시 포함합니다.
+ */
+@Component
+public class ReadLogAggregator {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long CLOSE_GRACE_MILLIS = MINUTE_MILLIS;
+    private static final String UNKNOWN = "Unknown";
+    private static final String ID_PLACEHOLDER = "{id}";
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private final ActionLogReadAggregationProperties properties;
+    private final ConcurrentMap<ReadLogBucket, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public ReadLogAggregator(ActionLogReadAggregationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return 사전 집계 모드 활성화 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 조회 로그 한 건을 해당 버킷의 건수로 기록합니다.
+     *
+     * @param urlName     페이지 URL (패턴으로 정규화하여 집계)
+     * @param browserName 브라우저 이름
+     * @param device      디바이스 종류
+     * @param epochMillis 발생 시각
+     * @return 집계되었으면 true, 버킷 수 상한으로 집계하지 못했으면 false
+     */
+    public boolean record(String urlName, String browserName, String device, long epochMillis) {
+        ReadLogBucket bucket = new ReadLogBucket(
+                normalizeUrl(urlName),
+                orUnknown(browserName),
+                orUnknown(device),
+                epochMillis - Math.floorMod(epochMillis, MINUTE_MILLIS)
+        );
+
+        LongAdder counter = counters.get(bucket);
+
+        if (counter == null) {
+            if (counters.size() >= properties.getMaxBuckets()) {
+                return false;
+            }
+            counter = counters.computeIfAbsent(bucket, key -> new LongAdder());
+        }
+
+        counter.increment();
+        return true;
+    }
+
+    /**
+     * 종료 후 1분 이상 지난 버킷을 배출합니다.
+     *
+     * @param nowMillis 현재 시각
+     * @return 배출된 집계 목록
+     */
+    public List<ReadLogAggregateDto> drainClosed(long nowMillis) {
+        return drain(closedBoundary(nowMillis), false);
+    }
+
+    /**
+     * 진행 중인 버킷을 포함하여 모든 버킷의 건수를 배출합니다.
+     *
+     * 닫힌 버킷은 제거하고, 진행 중인 버킷은 유지한 채 배출한 건수만 차감합니다.
+     *
+     * @return 배출된 집계 목록
+     */
+    public List<ReadLogAggregateDto> drainAll() {
+        return drain(closedBoundary(System.currentTimeMillis()), true);
+    }
+
+    /**
+     * 저장에 실패한 집계를 버킷 건수로 되돌립니다.
+     *
+     * 이미 집계된 건수이므로 버킷 수 상한과 관계없이 되돌립니다.
+     *
+     * @param aggregates 배출되었으나 저장하지 못한 집계 목록
+     */
+    public void restore(List<ReadLogAggregateDto> aggregates) {
+        for (ReadLogAggregateDto aggregate : aggregates) {
+            ReadLogBucket bucket = new ReadLogBucket(
+                    aggregate.getUrlName(),
+                    aggregate.getBrowserName(),
+                    aggregate.getDevice(),
+                    LocalDateTime.parse(aggregate.getMinute()).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            );
+
+            counters.computeIfAbsent(bucket, key -> new LongAdder()).add(aggregate.getCount());
+        }
+    }
+
+    /**
+     * @return 현재 보관 중인 버킷 수
+     */
+    public int getBucketCount() {
+        return counters.size();
+    }
+
+    private static long closedBoundary(long nowMillis) {
+        return nowMillis - MINUTE_MILLIS - CLOSE_GRACE_MILLIS;
+    }
+
+    /**
+     * 버킷 건수를 배출합니다.
+     *
+     * @param maxClosedMinuteStartMillis 닫힌 것으로 보는 버킷의 최대 분 시작 시각 (이하인 버킷은 맵에서 제거)
+     * @param includeOpen                진행 중인 버킷도 배출할지 여부 (제거하지 않고 읽은 건수만 차감)
+     */
+    private List<ReadLogAggregateDto> drain(long maxClosedMinuteStartMillis, boolean includeOpen) {
+        List<ReadLogAggregateDto> drained = new ArrayList<>();
+        Iterator<Map.Entry<ReadLogBucket, LongAdder>> iterator = counters.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<ReadLogBucket, LongAdder> entry = iterator.next();
+            ReadLogBucket bucket = entry.getKey();
+            long count;
+
+            if (bucket.getMinuteStartMillis() <= maxClosedMinuteStartMillis) {
+                iterator.remove();
+                count = entry.getValue().sum();
+            } else if (includeOpen) {
+                count = entry.getValue().sum();
+                entry.getValue().add(-count);
+            } else {
+                continue;
+            }
+
+            if (count > 0) {
+                drained.add(ReadLogAggregateDto.builder()
+                        .urlName(bucket.getUrlName())
+                        .browserName(bucket.getBrowserName())
+                        .device(bucket.getDevice())
+                        .minute(LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket.getMinuteStartMillis()), ZoneId.systemDefault()).toString())
+                        .count(count)
+                        .build());
+            }
+        }
+
+        return drained;
+    }
+
+    /**
+     * URL을 집계용 경로 패턴으로 정규화합니다.
+     *
+     * 예: {@code https://host/notices/123?page=2#top} → {@code /notices/{id}}
+     *
+     * @param url 페이지 URL
+     * @return 정규화된 경로 (없으면 "Unknown")
+     */
+    static String normalizeUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return UNKNOWN;
+        }
+
+        String path = url.strip();
+        int queryStart = indexOfAny(path, '?', '#');
+
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+
+        int schemeEnd = path.indexOf(SCHEME_SEPARATOR);
+
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + SCHEME_SEPARATOR.length());
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+
+        if (path.isEmpty()) {
+            return "/";
+        }
+
+        String[] segments = path.split("/", -1);
+
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = ID_PLACEHOLDER;
+            }
+        }
+
+        return String.join("/", segments);
+    }
+
+    private static int indexOfAny(String value, char first, char second) {
+        int firstIndex = value.indexOf(first);
+        int secondIndex = value.indexOf(second);
+
+        if (firstIndex < 0) {
+            return secondIndex;
+        }
+        return secondIndex < 0 ? firstIndex : Math.min(firstIndex, secondIndex);
+    }
+
+    private static String orUnknown(String value) {
+        return (value != null && !value.isBlank()) ? value : UNKNOWN;
+    }
+
+}
@@ -0,0 +1,20 @@
+package kodanect.domain.logging.aggregate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회(R) 로그 집계 키입니다. (URL, 브라우저, 디바이스, 분 단위 구간 시작 시각)
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class ReadLogBucket {
+
+    private final String urlName;
+    private final String browserName;
+    private final String device;
+    private final long minuteStartMillis;
+
+}
@@ -0,0 +1,214 @@
+package kodanect.domain.logging.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kodanect.common.config.properties.ActionLogTextProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.context.ActionLogContext;
+import kodanect.domain.logging.dto.ReadLogAggregateDto;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link ActionLogContext}(또는 조회 로그 집계 {@link ReadLogAggregateDto})를 액션 로그 본문(log_text)으로 직렬화/역직렬화하는 컴포넌트입니다.
+ *
+ * 직렬화:
+ * - 미리 생성한 {@link ObjectWriter}로 {@link JsonGenerator}를 통해 스레드별로 재사용되는 바이트 버퍼에 직접 기록합니다.
+ *   (writeValueAsString()처럼 문자 버퍼를 거쳐 중간 String을 만들지 않습니다.)
+ * - 압축이 활성화되어 있고 JSON 크기가 기준 이상이면 deflate로 압축한 뒤 Base64로 인코딩하고
+ *   {@link #DEFLATE_MARKER}를 앞에 붙입니다. 그 외에는 JSON 문자열을 그대로 반환합니다.
+ *
+ * 역직렬화:
+ * - {@link #decode(String)}는 표식이 있으면 압축을 해제하고, 없으면 기존 평문 JSON을 그대로 반환합니다.
+ * - 엔티티 조회 시 {@link ActionLogTextConverter}를 통해 자동으로 적용됩니다.
+ */
+@Component
+public class ActionLogTextCodec {
+
+    /**
+     * deflate 압축된 본문임을 나타내는 표식 (JSON은 이 문자로 시작할 수 없음)
+     */
+    public static final String DEFLATE_MARKER = "DFL:";
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogTextCodec.class);
+
+    private static final int INITIAL_BUFFER_BYTES = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_BYTES = 1024 * 1024;
+    private static final int INFLATE_RATIO_ESTIMATE = 4;
+
+    private static final ThreadLocal<PooledBuffer> JSON_BUFFER = ThreadLocal.withInitial(PooledBuffer::new);
+    private static final ThreadLocal<PooledBuffer> DEFLATE_BUFFER = ThreadLocal.withInitial(PooledBuffer::new);
+
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter contextWriter;
+    private final ObjectWriter aggregateWriter;
+    private final ActionLogTextProperties properties;
+    private final ThreadLocal<Deflater> deflater;
+
+    public ActionLogTextCodec(ObjectMapper objectMapper, ActionLogTextProperties properties) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.contextWriter = objectMapper.writerFor(ActionLogContext.class);
+        this.aggregateWriter = objectMapper.writerFor(ReadLogAggregateDto.class);
+        this.properties = properties;
+        this.deflater = ThreadLocal.withInitial(() -> new Deflater(properties.getCompressionLevel()));
+    }
+
+    /**
+     * 컨텍스트를 log_text 컬럼에 저장할 문자열로 변환합니다.
+     *
+     * @param context 직렬화할 로그 컨텍스트
+     * @return 평문 JSON 또는 {@link #DEFLATE_MARKER}로 시작하는 압축 문자열
+     * @throws IOException JSON 직렬화 실패 시
+     */
+    public String encode(ActionLogContext context) throws IOException {
+        return encode(contextWriter, context);
+    }
+
+    /**
+     * 조회 로그 집계를 log_text 컬럼에 저장할 문자열로 변환합니다.
+     *
+     * @param aggregate 직렬화할 집계
+     * @return 평문 JSON 또는 {@link #DEFLATE_MARKER}로 시작하는 압축 문자열
+     * @throws IOException JSON 직렬화 실패 시
+     */
+    public String encodeAggregate(ReadLogAggregateDto aggregate) throws IOException {
+        return encode(aggregateWriter, aggregate);
+    }
+
+    private String encode(ObjectWriter writer, Object value) throws IOException {
+        PooledBuffer json = JSON_BUFFER.get();
+        json.reset();
+
+        try {
+            try (JsonGenerator generator = jsonFactory.createGenerator(json, JsonEncoding.UTF8)) {
+                writer.writeValue(generator, value);
+            }
+
+            if (!properties.isCompressionEnabled() || json.size() < properties.getCompressionMinBytes()) {
+                return json.toString(StandardCharsets.UTF_8);
+            }
+
+            return DEFLATE_MARKER + deflateToBase64(json);
+        } finally {
+            release(JSON_BUFFER, json);
+        }
+    }
+
+    /**
+     * log_text 컬럼 값을 JSON 문자열로 복원합니다.
+     *
+     * 표식이 없는 값은 평문 JSON으로 간주하여 그대로 반환하며,
+     * 압축 해제에 실패한 경우 저장된 값을 그대로 반환합니다.
+     *
+     * @param logText 저장된 log_text 값
+     * @return JSON 문자열
+     */
+    public static String decode(String logText) {
+        if (logText == null || !logText.startsWith(DEFLATE_MARKER)) {
+            return logText;
+        }
+
+        Inflater inflater = new Inflater();
+
+        try {
+            byte[] compressed = Base64.getDecoder().decode(logText.substring(DEFLATE_MARKER.length()));
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * INFLATE_RATIO_ESTIMATE);
+            byte[] chunk = new byte[INITIAL_BUFFER_BYTES];
+
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(chunk);
+
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 중간에 끝났습니다.");
+                }
+                out.write(chunk, 0, inflated);
+            }
+
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            log.warn("[액션 로그] log_text 압축 해제 실패: {}", e.getMessage());
+            return logText;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private String deflateToBase64(PooledBuffer json) {
+        Deflater compressor = deflater.get();
+        PooledBuffer compressed = DEFLATE_BUFFER.get();
+        compressed.reset();
+
+        try {
+            compressor.reset();
+            compressor.setInput(json.array(), 0, json.size());
+            compressor.finish();
+
+            while (!compressor.finished()) {
+                compressed.ensureWritable(INITIAL_BUFFER_BYTES);
+                compressed.advance(compressor.deflate(compressed.array(), compressed.size(), compressed.writableBytes()));
+            }
+
+            ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(compressed.array(), 0, compressed.size()));
+            return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+        } finally {
+            release(DEFLATE_BUFFER, compressed);
+        }
+    }
+
+    /**
+     * 비정상적으로 커진 버퍼는 스레드에 보관하지 않고 버립니다.
+     */
+    private static void release(ThreadLocal<PooledBuffer> pool, PooledBuffer buffer) {
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_BYTES) {
+            pool.remove();
+        }
+    }
+
+    /**
+     * 내부 배열을 복사 없이 노출하는 재사용 바이트 버퍼입니다.
+     */
+    private static final class PooledBuffer extends ByteArrayOutputStream {
+
+        private PooledBuffer() {
+            super(INITIAL_BUFFER_BYTES);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private int writableBytes() {
+            return buf.length - count;
+        }
+
+        private void ensureWritable(int minBytes) {
+            if (writableBytes() < minBytes) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + minBytes));
+            }
+        }
+
+        private void advance(int bytes) {
+            count += bytes;
+        }
+
+    }
+
+}
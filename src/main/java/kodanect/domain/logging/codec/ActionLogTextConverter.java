@@ -0,0 +1,25 @@
+package kodanect.domain.logging.codec;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 액션 로그 본문(log_text) 컬럼의 JPA 변환기입니다.
+ *
+ * 저장 시에는 {@link ActionLogTextCodec#encode}로 이미 인코딩된 값을 그대로 기록하고,
+ * 조회 시에는 압축된 값을 평문 JSON으로 복원하여 엔티티에 전달합니다.
+ */
+@Converter
+public class ActionLogTextConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return ActionLogTextCodec.decode(dbData);
+    }
+
+}
@@ -2,15 +2,22 @@ package kodanect.domain.logging.controller;
 
 import kodanect.common.response.ApiResponse;
 import kodanect.domain.logging.dto.FrontendLogRequestDto;
+import kodanect.domain.logging.event.RequestActionContext;
 import kodanect.domain.logging.service.ActionLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
 /**
  * 사용자 액션 로그 수집을 담당하는 REST 컨트롤러입니다.
  *
@@ -19,12 +26,15 @@ import org.springframework.web.bind.annotation.RestController;
  *
  * - 세션 단위로 로그를 분리하여 저장합니다.
  * - 세션 ID는 서버에서 관리하는 쿠키(sessionId)를 통해 식별됩니다.
- * - 세션 ID는 MDC에 저장되어 서비스 내부에서 자동으로 사용됩니다.
+ * - 세션 ID 등 요청 메타데이터는 AOP가 {@link RequestActionContext}에 캡처하여 서비스에서 사용됩니다.
+ * - Content-Type이 application/x-ndjson이면 본문을 스트리밍으로 읽습니다. (Content-Encoding: gzip 지원)
  */
 @RestController
 @RequiredArgsConstructor
 public class ActionLogController {
 
+    private static final String GZIP_ENCODING = "gzip";
+
     private final MessageSourceAccessor messageSource;
     private final ActionLogService service;
 
@@ -35,7 +45,7 @@ public class ActionLogController {
      * 서버는 동일 세션에 대한 백엔드 로그 및 시스템 정보도 함께 저장 처리합니다.
      *
      * 세션 식별은 쿠키(sessionId)를 기반으로 하며,
-     * 세션 ID는 AOP를 통해 MDC에 자동으로 설정됩니다.
+     * 세션 쿠키가 없어 요청 이벤트가 캡처되지 않은 경우 백엔드 로그 저장(비동기 작업)은 생략됩니다.
      *
      * @param requestDto 프론트엔드 로그 요청 DTO
      * @return 처리 결과를 담은 {@link ApiResponse} 응답 객체
@@ -47,8 +57,36 @@ public class ActionLogController {
         String message = messageSource.getMessage("log.save.success", new Object[]{});
 
         service.saveFrontendLog(requestDto.getFrontendLogs());
-        service.saveBackendLog();
-        service.saveSystemInfo();
+        RequestActionContext.current().ifPresent(service::saveRequestLog);
+
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message));
+    }
+
+    /**
+     * 프론트엔드 로그 일괄 수집 엔드포인트입니다. (NDJSON)
+     *
+     * 한 줄에 로그 JSON 객체 하나를 담은 본문을 리스트로 바인딩하지 않고 스트리밍으로 읽어 버퍼에 저장하므로,
+     * 프론트엔드는 수백 건의 이벤트를 한 번의 beacon으로 전송할 수 있습니다.
+     * 요청당 레코드 수와 본문 크기 제한은 action-log.ingest.* 설정을 따릅니다.
+     *
+     * @param contentEncoding Content-Encoding 헤더 (gzip이면 압축 해제)
+     * @param request         HTTP 요청 (본문 스트림)
+     * @return 처리 결과를 담은 {@link ApiResponse} 응답 객체
+     * @throws IOException 본문을 읽는 중 입출력 오류 발생 시
+     */
+    @PostMapping(value = "/action-logs", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<Void>> collectFrontendLogStream(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request
+    ) throws IOException {
+        String message = messageSource.getMessage("log.save.success", new Object[]{});
+
+        service.saveFrontendLogStream(
+                request.getInputStream(),
+                GZIP_ENCODING.equalsIgnoreCase(contentEncoding),
+                request.getContentLengthLong()
+        );
+        RequestActionContext.current().ifPresent(service::saveRequestLog);
 
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message));
     }
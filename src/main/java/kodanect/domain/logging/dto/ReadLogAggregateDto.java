@@ -0,0 +1,46 @@
+package kodanect.domain.logging.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 1분 동안 같은 URL, 브라우저, 디바이스에서 발생한 조회(R) 로그의 건수를 담는 DTO
+ *
+ * 사전 집계 모드에서 조회 로그 여러 건 대신 이 DTO 하나가 log_text로 저장됩니다.
+ */
+@Getter
+@Builder
+public class ReadLogAggregateDto {
+
+    /**
+     * 집계 여부 표시 (건별 로그와 구분하기 위한 값, 항상 true)
+     */
+    @Builder.Default
+    private final boolean aggregated = true;
+
+    /**
+     * 페이지 URL 패턴 (쿼리 문자열 제거, ID 경로 구간은 {id})
+     */
+    private final String urlName;
+
+    /**
+     * 브라우저 이름
+     */
+    private final String browserName;
+
+    /**
+     * 디바이스 종류
+     */
+    private final String device;
+
+    /**
+     * 집계 구간 시작 시각 (ISO-8601, 분 단위)
+     */
+    private final String minute;
+
+    /**
+     * 구간 내 조회 건수
+     */
+    private final long count;
+
+}
@@ -1,14 +1,18 @@
 package kodanect.domain.logging.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
  * 사용자 환경 정보를 담는 DTO
- * 브라우저, 운영체제, 디바이스, 로케일 등의 정보를 포함합니다.
+ * 브라우저, 운영체제, 디바이스, 로케일, 클라이언트 IP 등의 정보를 포함합니다.
+ * 같은 값의 인스턴스를 공유할 수 있도록 값 기반 equals/hashCode를 제공합니다.
  */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class SystemInfoDto {
 
     /**
@@ -36,4 +40,10 @@ public class SystemInfoDto {
      */
     private String locale;
 
+    /**
+     * 클라이언트 IP 주소 (액션 로그의 ip_addr 컬럼으로 저장되며 로그 본문에는 포함하지 않음)
+     */
+    @JsonIgnore
+    private String ipAddress;
+
 }
@@ -1,5 +1,6 @@
 package kodanect.domain.logging.entity;
 
+import kodanect.domain.logging.codec.ActionLogTextConverter;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -47,8 +48,9 @@ public class ActionLog {
     private String ipAddr;
 
     /**
-     * 로그 내용
+     * 로그 내용 (압축 저장된 경우 조회 시 평문 JSON으로 복원)
      */
+    @Convert(converter = ActionLogTextConverter.class)
     @Column(name = "log_text", columnDefinition = "TEXT")
     private String logText;
 
@@ -59,4 +61,12 @@ public class ActionLog {
     @Column(name = "write_time", nullable = false, updatable = false)
     private LocalDateTime writeTime;
 
+    /**
+     * 이 행이 나타내는 로그 건수 (조회 로그 집계 행만 설정, null이면 1건)
+     *
+     * 분할 테이블의 log_count 컬럼에만 저장되며, 기존 단일 테이블에는 컬럼이 없으므로 매핑하지 않습니다.
+     */
+    @Transient
+    private Long logCount;
+
 }
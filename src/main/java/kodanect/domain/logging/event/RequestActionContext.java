@@ -0,0 +1,83 @@
+package kodanect.domain.logging.event;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청 스레드에 캡처된 {@link RequestActionEvent}를 보관하는 유틸리티 클래스입니다.
+ *
+ * {@code ActionLogMdcAspect}가 컨트롤러 진입 시 설정하고 종료 시 반드시 초기화합니다.
+ * 이벤트 생성(파라미터 JSON 기록, User-Agent 분석)은 {@link #current()}가 처음 호출될 때 한 번만 수행되므로,
+ * 이벤트를 사용하지 않는 요청은 생성 비용을 치르지 않습니다.
+ * 요청 스레드에서만 유효하므로, 비동기 작업에는 {@link #current()}로 꺼낸 이벤트를 인자로 전달해야 합니다.
+ */
+public final class RequestActionContext {
+
+    private static final ThreadLocal<LazyEvent> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 인스턴스화를 방지하기 위한 private 생성자
+     * 호출 시 예외를 발생시킵니다.
+     */
+    private RequestActionContext() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 현재 스레드에 요청 이벤트를 설정합니다.
+     *
+     * @param event 캡처한 요청 이벤트
+     */
+    public static void set(RequestActionEvent event) {
+        CURRENT.set(new LazyEvent(() -> event));
+    }
+
+    /**
+     * 현재 스레드에 요청 이벤트 생성 함수를 설정합니다.
+     * 함수는 {@link #current()}가 처음 호출될 때 한 번만 실행됩니다.
+     *
+     * @param capture 요청 이벤트 생성 함수
+     */
+    public static void set(Supplier<RequestActionEvent> capture) {
+        CURRENT.set(new LazyEvent(capture));
+    }
+
+    /**
+     * @return 현재 스레드에 캡처된 요청 이벤트 (세션 쿠키가 없거나 샘플링에서 제외된 요청이면 empty)
+     */
+    public static Optional<RequestActionEvent> current() {
+        LazyEvent lazyEvent = CURRENT.get();
+        return lazyEvent != null ? Optional.ofNullable(lazyEvent.get()) : Optional.empty();
+    }
+
+    /**
+     * 현재 스레드의 요청 이벤트를 제거합니다.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 요청 이벤트를 처음 조회할 때 생성하여 보관합니다.
+     * 요청 스레드에서만 접근하므로 동기화하지 않습니다.
+     */
+    private static final class LazyEvent {
+
+        private Supplier<RequestActionEvent> capture;
+        private RequestActionEvent event;
+
+        private LazyEvent(Supplier<RequestActionEvent> capture) {
+            this.capture = capture;
+        }
+
+        private RequestActionEvent get() {
+            if (capture != null) {
+                event = capture.get();
+                capture = null;
+            }
+            return event;
+        }
+
+    }
+
+}
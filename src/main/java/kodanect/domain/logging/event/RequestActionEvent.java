@@ -0,0 +1,101 @@
+package kodanect.domain.logging.event;
+
+import kodanect.common.useragent.UserAgentInfo;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 하나의 컨트롤러 요청에 대해 캡처한 사용자 요청 메타데이터를 담는 불변 이벤트 클래스입니다.
+ *
+ * {@code ActionLogMdcAspect}가 요청당 한 번 생성하며, 비동기 로그 작업에는 이 객체가 인자로 직접 전달됩니다.
+ * (MDC 문자열을 비동기 스레드로 복사해 다시 읽어오지 않습니다.)
+ */
+@Getter
+@Builder
+public final class RequestActionEvent {
+
+    /**
+     * 사용자 세션 ID
+     */
+    private final String sessionId;
+
+    /**
+     * 클라이언트 IP 주소
+     */
+    private final String ipAddress;
+
+    /**
+     * HTTP 메서드
+     */
+    private final String httpMethod;
+
+    /**
+     * 요청한 API 엔드포인트
+     */
+    private final String endpoint;
+
+    /**
+     * 요청을 처리한 컨트롤러 클래스 이름
+     */
+    private final String controller;
+
+    /**
+     * 요청을 처리한 메서드 이름
+     */
+    private final String method;
+
+    /**
+     * 요청 시 전달된 파라미터 (JSON)
+     */
+    private final String parameters;
+
+    /**
+     * 요청 시각
+     */
+    private final String timestamp;
+
+    /**
+     * User-Agent 분석 결과
+     */
+    private final UserAgentInfo userAgent;
+
+    /**
+     * 클라이언트 로케일 (language tag)
+     */
+    private final String locale;
+
+    /**
+     * 백엔드 로그 DTO로 변환합니다.
+     *
+     * @return 백엔드 로그
+     */
+    public BackendLogDto toBackendLog() {
+        return BackendLogDto.builder()
+                .httpMethod(httpMethod)
+                .endpoint(endpoint)
+                .controller(controller)
+                .method(method)
+                .parameters(parameters)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    /**
+     * 시스템 정보 DTO로 변환합니다.
+     *
+     * @return 시스템 정보
+     */
+    public SystemInfoDto toSystemInfo() {
+        return SystemInfoDto.builder()
+                .browserName(userAgent.getBrowserName())
+                .browserVersion(userAgent.getBrowserVersion())
+                .operatingSystem(userAgent.getOperatingSystem())
+                .device(userAgent.getDevice())
+                .locale(locale)
+                .ipAddress(ipAddress)
+                .build();
+    }
+
+}
@@ -0,0 +1,40 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_WRITE_FAIL;
+
+/**
+ * 액션 로그 청크 저장이 재시도 후에도 실패했을 때 사용되는 예외입니다.
+ */
+public class ActionLogWriteException extends AbstractCustomException {
+
+    private final int chunkSize;
+
+    public ActionLogWriteException(int chunkSize, Throwable cause) {
+        super(ACTION_LOG_WRITE_FAIL, cause);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[액션 로그 저장 실패] 청크 크기: %d", chunkSize);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_WRITE_FAIL;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{ chunkSize };
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+}
@@ -0,0 +1,44 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_INGEST_LIMIT;
+
+/**
+ * NDJSON 일괄 수집 요청이 건수 또는 바이트 제한을 넘었을 때 발생하는 예외입니다.
+ *
+ * 제한에 도달하기 전까지 읽은 로그는 이미 버퍼에 저장된 상태입니다.
+ */
+public class FrontendLogIngestLimitException extends AbstractCustomException {
+
+    private final String limitName;
+    private final long limit;
+
+    public FrontendLogIngestLimitException(String limitName, long limit) {
+        super(FRONTEND_LOG_INGEST_LIMIT);
+        this.limitName = limitName;
+        this.limit = limit;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[프론트엔드 로그 오류] 수집 제한을 초과했습니다. (%s: %d)", limitName, limit);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return FRONTEND_LOG_INGEST_LIMIT;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{limitName, limit};
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.PAYLOAD_TOO_LARGE;
+    }
+
+}
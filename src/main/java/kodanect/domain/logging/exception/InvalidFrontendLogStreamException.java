@@ -0,0 +1,42 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_STREAM_INVALID;
+
+/**
+ * NDJSON 일괄 수집 요청 본문을 해석할 수 없을 때 발생하는 예외입니다.
+ *
+ * 잘못된 JSON 레코드, 객체가 아닌 레코드, 손상된 gzip 스트림이 해당됩니다.
+ */
+public class InvalidFrontendLogStreamException extends AbstractCustomException {
+
+    private final int recordIndex;
+
+    public InvalidFrontendLogStreamException(int recordIndex, Throwable cause) {
+        super(FRONTEND_LOG_STREAM_INVALID, cause);
+        this.recordIndex = recordIndex;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[프론트엔드 로그 오류] %d번째 레코드를 해석할 수 없습니다.", recordIndex);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return FRONTEND_LOG_STREAM_INVALID;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{recordIndex};
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+}
@@ -1,23 +1,31 @@
 package kodanect.domain.logging.flusher;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
 import kodanect.common.buffer.SystemInfoBuffer;
 import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.aggregate.ReadLogAggregator;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
 import kodanect.domain.logging.context.ActionLogContext;
-import kodanect.common.constant.MdcContext;
+import kodanect.common.exception.config.SecureLogger;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.ReadLogAggregateDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
 import kodanect.domain.logging.entity.ActionLog;
-import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
+import kodanect.domain.logging.monitor.ActionLogMetrics;
+import kodanect.domain.logging.sink.ActionLogSink;
 import kodanect.common.constant.UserActionKey;
-import kodanect.domain.logging.repository.ActionLogRepository;
+import kodanect.domain.logging.spool.ActionLogSpool;
+import kodanect.domain.logging.spool.SpoolRecord;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -25,46 +33,146 @@ import java.util.*;
  *
  * 프론트엔드/백엔드 로그, 시스템 정보는 세션 ID 및 CRUD 코드 단위로 분리되어 저장되며,
  * 특정 조건(CRUD별 임계값 초과 또는 전체 배출 등)에 따라 집계 및 저장이 수행됩니다.
+ *
+ * 로그 본문은 {@link ActionLogTextCodec}으로 직렬화(선택적 압축)하고,
+ * 엔티티 저장은 설정된 {@link ActionLogSink}(기본값: JDBC batch INSERT)로 수행됩니다.
+ * 저장에 실패한 로그는 버퍼로, 집계는 {@link ReadLogAggregator}로 되돌려 다음 배출에서 다시 저장하고,
+ * 직렬화에 실패한 키나 집계는 건너뛰어 나머지 로그가 함께 유실되지 않도록 합니다.
+ * 저장에 성공하면 배출한 키를 {@link ActionLogSpool}에서 해제하여 저장이 끝난 세그먼트를 바로 삭제하고,
+ * 전체 배출이 성공하면 체크포인트 이전 세그먼트를 모두 삭제하며,
+ * 애플리케이션 기동 시에는 이전 프로세스가 남긴 세그먼트를 버퍼로 복원한 뒤 저장합니다.
+ *
+ * 조회 로그 사전 집계가 활성화된 경우 {@link ReadLogAggregator}의 버킷을 버킷당 한 행으로 저장합니다.
+ *
+ * 배출 소요 시간, 저장 행 수, 직렬화 실패 횟수는 {@link ActionLogMetrics}에 기록됩니다.
  */
 @Service
 @RequiredArgsConstructor
 public class ActionLogFlusher {
 
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogFlusher.class);
+    private static final String UNKNOWN = "Unknown";
+
     private final FrontendLogBuffer frontendBuffer;
     private final BackendLogBuffer backendBuffer;
     private final SystemInfoBuffer systemInfoBuffer;
-    private final ActionLogRepository actionLogRepository;
-    private final ObjectMapper objectMapper;
+    private final ActionLogSink actionLogSink;
+    private final ActionLogTextCodec textCodec;
+    private final ActionLogSpool spool;
+    private final ReadLogAggregator readLogAggregator;
+    private final ActionLogMetrics metrics;
+
+    /**
+     * 지정된 CRUD 코드의 키 중 임계 건수에 도달했거나 최대 보관 시간을 넘긴 키의 로그를 저장합니다.
+     *
+     * @param crudCode     대상 CRUD 코드
+     * @param threshold    배출 임계값 (로그 건수)
+     * @param maxAgeMillis 최대 보관 시간(ms)
+     * @return 저장된 액션 로그 행 수
+     */
+    public int flushDue(CrudCode crudCode, int threshold, long maxAgeMillis) {
+        long startNanos = System.nanoTime();
+        long spoolPosition = spool.position();
+        Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainDue(crudCode, threshold, maxAgeMillis);
+        Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainDue(crudCode, threshold, maxAgeMillis);
+
+        if (feMap.isEmpty() && beMap.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Set<UserActionKey> targetKeys = new HashSet<>();
+            targetKeys.addAll(feMap.keySet());
+            targetKeys.addAll(beMap.keySet());
+
+            return flushByKeys(targetKeys, feMap, beMap, crudCode, spoolPosition);
+        } finally {
+            metrics.recordFlush(crudCode.name(), System.nanoTime() - startNanos);
+        }
+    }
 
     /**
-     * 지정된 CRUD 코드에 해당하는 로그가 임계값 이상 쌓인 경우에만 저장합니다.
+     * 종료된 조회 로그 집계 버킷을 버킷당 한 행으로 저장합니다.
      *
-     * @param crudCode 대상 CRUD 코드
-     * @param threshold 배출 임계값 (로그 건수)
+     * @return 저장된 액션 로그 행 수
      */
-    public void flushByCrudCode(CrudCode crudCode, int threshold) {
-        Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainIfThresholdMet(crudCode, threshold);
-        Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainIfThresholdMet(crudCode, threshold);
+    public int flushReadAggregates() {
+        long startNanos = System.nanoTime();
+        List<ReadLogAggregateDto> aggregates = readLogAggregator.drainClosed(System.currentTimeMillis());
+
+        if (aggregates.isEmpty()) {
+            return 0;
+        }
 
-        Set<UserActionKey> targetKeys = new HashSet<>();
-        targetKeys.addAll(feMap.keySet());
-        targetKeys.addAll(beMap.keySet());
+        try {
+            return writeAggregates(aggregates);
+        } finally {
+            metrics.recordFlush(ActionLogMetrics.AGGREGATE_SCOPE, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * @return 프론트엔드/백엔드 버퍼에 보관 중인 로그의 추정 바이트 합계
+     */
+    public long getBufferedBytes() {
+        return frontendBuffer.getBufferedBytes() + backendBuffer.getBufferedBytes();
+    }
 
-        flushByKeys(targetKeys, feMap, beMap, crudCode);
+    /**
+     * @return 프론트엔드/백엔드 버퍼에 남아 있는 가장 오래된 로그의 보관 시간(ms)
+     */
+    public long getOldestEntryAgeMillis() {
+        return Math.max(frontendBuffer.getOldestEntryAgeMillis(), backendBuffer.getOldestEntryAgeMillis());
     }
 
     /**
      * 모든 버퍼에 있는 로그를 비우고 저장합니다.
+     *
+     * 배출 전에 스풀 체크포인트를 만들고, 로그 저장이 끝나면 바로 체크포인트 이전 세그먼트를 삭제한 뒤 조회 로그 집계를 저장합니다.
+     * 집계는 스풀에 기록되지 않으므로 집계 저장이 실패해도 이미 저장된 로그가 재처리되지 않으며, 집계는 집계기로 되돌아갑니다.
+     * 로그 저장 중 예외가 발생하면 배출한 로그는 버퍼로 되돌아가고 세그먼트는 유지됩니다.
      */
     public void flushAll() {
-        Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainAll();
-        Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainAll();
+        long startNanos = System.nanoTime();
 
-        Set<UserActionKey> allKeys = new HashSet<>();
-        allKeys.addAll(feMap.keySet());
-        allKeys.addAll(beMap.keySet());
+        try {
+            long checkpoint = spool.checkpoint();
+            long spoolPosition = spool.position();
+
+            Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainAll();
+            Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainAll();
+
+            Set<UserActionKey> allKeys = new HashSet<>();
+            allKeys.addAll(feMap.keySet());
+            allKeys.addAll(beMap.keySet());
+
+            flushByKeys(allKeys, feMap, beMap, null, spoolPosition);
+            spool.commit(checkpoint);
+            writeAggregates(readLogAggregator.drainAll());
+        } finally {
+            metrics.recordFlush(ActionLogMetrics.ALL_SCOPE, System.nanoTime() - startNanos);
+        }
+    }
 
-        flushByKeys(allKeys, feMap, beMap, null);
+    /**
+     * 애플리케이션 기동 완료 시 이전 프로세스가 남긴 스풀 세그먼트를 복원하여 저장합니다.
+     *
+     * 세그먼트 단위로 버퍼에 복원한 뒤 전체 배출하고, 저장이 끝난 세그먼트는 삭제합니다.
+     * 복원 또는 저장에 실패하면 남은 세그먼트는 다음 기동 시 다시 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replaySpool() {
+        for (Path segment : spool.getPendingSegments()) {
+            try {
+                int restored = spool.replay(segment, this::restore);
+                flushAll();
+                spool.discard(segment);
+                log.info("[스풀] 세그먼트 복원 완료: {} ({}건)", segment.getFileName(), restored);
+            } catch (Exception e) {
+                log.error("[스풀] 세그먼트 복원 실패: {} - {}", segment.getFileName(), e.getMessage());
+                return;
+            }
+        }
     }
 
     /**
@@ -74,11 +182,14 @@ public class ActionLogFlusher {
      * @param feMap 프론트엔드 로그 맵
      * @param beMap 백엔드 로그 맵
      * @param forcedCrudCode 강제로 설정할 CRUD 코드 (null인 경우 key 기준 사용)
+     * @param spoolPosition 배출 직전 스풀 기록 위치 (저장 후 이 위치 이전의 키 레코드를 해제)
+     * @return 저장된 액션 로그 행 수
      */
-    private void flushByKeys(Set<UserActionKey> keys,
+    private int flushByKeys(Set<UserActionKey> keys,
                              Map<UserActionKey, List<FrontendLogDto>> feMap,
                              Map<UserActionKey, List<BackendLogDto>> beMap,
-                             CrudCode forcedCrudCode) {
+                             CrudCode forcedCrudCode,
+                             long spoolPosition) {
 
         List<ActionLog> logsToSave = new ArrayList<>();
 
@@ -98,10 +209,10 @@ public class ActionLogFlusher {
                     .build();
 
             try {
-                String logText = objectMapper.writeValueAsString(context);
+                String logText = textCodec.encode(context);
 
                 String urlName = extractUrlName(feList, beList);
-                String ipAddr = MdcContext.getIpAddress();
+                String ipAddr = extractIpAddress(systemInfo);
 
                 logsToSave.add(ActionLog.builder()
                         .urlName(urlName)
@@ -110,16 +221,121 @@ public class ActionLogFlusher {
                         .logText(logText)
                         .build());
 
-            } catch (JsonProcessingException e) {
-                throw new ActionLogJsonSerializationException("로그 엔티티 직렬화");
+            } catch (IOException e) {
+                metrics.recordSerializationFailure();
+                log.error("[액션 로그 배출] 직렬화 실패로 키를 건너뜀 - CRUD: {}, 오류: {}", crudCode, e.getMessage());
             }
 
-            systemInfoBuffer.remove(sessionId);
         }
 
         if (!logsToSave.isEmpty()) {
-            actionLogRepository.saveAll(logsToSave);
+            try {
+                actionLogSink.write(logsToSave);
+            } catch (RuntimeException e) {
+                requeue(feMap, beMap);
+                throw e;
+            }
+            metrics.recordRowsWritten(logsToSave);
         }
+
+        spool.release(keys, spoolPosition);
+        keys.forEach(key -> systemInfoBuffer.remove(key.getSessionId()));
+        return logsToSave.size();
+    }
+
+    /**
+     * 저장에 실패한 로그를 버퍼로 되돌립니다.
+     *
+     * 되돌린 로그는 다음 배출에서 다시 저장되므로, 이후 전체 배출이 성공해야만 스풀 체크포인트가 커밋됩니다.
+     * 저장소가 일부 청크를 이미 기록한 뒤 실패한 경우 해당 로그는 중복 저장될 수 있습니다. (최소 한 번 저장)
+     *
+     * @param feMap 배출된 프론트엔드 로그 맵
+     * @param beMap 배출된 백엔드 로그 맵
+     */
+    private void requeue(Map<UserActionKey, List<FrontendLogDto>> feMap,
+                         Map<UserActionKey, List<BackendLogDto>> beMap) {
+        feMap.forEach((key, logs) -> frontendBuffer.add(key.getSessionId(), logs));
+        beMap.forEach((key, logs) -> logs.forEach(backendLog -> backendBuffer.add(key.getSessionId(), backendLog)));
+
+        log.warn("[액션 로그 배출] 저장 실패로 버퍼에 되돌림 - 프론트엔드 키: {}, 백엔드 키: {}", feMap.size(), beMap.size());
+    }
+
+    /**
+     * 조회 로그 집계를 액션 로그 행으로 변환하여 저장합니다.
+     *
+     * write_time은 집계 구간 시작 시각으로, 구간 내 조회 건수는 log_count로 기록합니다.
+     * 직렬화에 실패한 집계는 건너뛰고, 저장에 실패하면 집계를 {@link ReadLogAggregator}로 되돌린 뒤 예외를 다시 던집니다.
+     *
+     * @param aggregates 배출된 집계 목록
+     * @return 저장된 액션 로그 행 수
+     */
+    private int writeAggregates(List<ReadLogAggregateDto> aggregates) {
+        if (aggregates.isEmpty()) {
+            return 0;
+        }
+
+        List<ActionLog> logsToSave = new ArrayList<>(aggregates.size());
+        List<ReadLogAggregateDto> encoded = new ArrayList<>(aggregates.size());
+
+        for (ReadLogAggregateDto aggregate : aggregates) {
+            try {
+                logsToSave.add(ActionLog.builder()
+                        .urlName(aggregate.getUrlName())
+                        .crudCode(CrudCode.R.name())
+                        .logText(textCodec.encodeAggregate(aggregate))
+                        .writeTime(LocalDateTime.parse(aggregate.getMinute()))
+                        .logCount(aggregate.getCount())
+                        .build());
+                encoded.add(aggregate);
+            } catch (IOException e) {
+                metrics.recordSerializationFailure();
+                log.error("[액션 로그 배출] 직렬화 실패로 조회 로그 집계를 건너뜀 - 건수: {}, 오류: {}", aggregate.getCount(), e.getMessage());
+            }
+        }
+
+        if (logsToSave.isEmpty()) {
+            return 0;
+        }
+
+        int written;
+
+        try {
+            written = actionLogSink.write(logsToSave);
+        } catch (RuntimeException e) {
+            readLogAggregator.restore(encoded);
+            log.warn("[액션 로그 배출] 저장 실패로 조회 로그 집계를 되돌림 - 버킷: {}", encoded.size());
+            throw e;
+        }
+
+        metrics.recordRowsWritten(logsToSave);
+        return written;
+    }
+
+    /**
+     * 스풀 레코드를 종류에 맞는 버퍼로 되돌립니다.
+     *
+     * @param record 스풀에서 복원된 레코드
+     */
+    private void restore(SpoolRecord record) {
+        String sessionId = record.getSessionId();
+
+        switch (record.getType()) {
+            case FRONTEND -> frontendBuffer.add(sessionId, List.of(record.getFrontendLog()));
+            case BACKEND -> backendBuffer.add(sessionId, record.getBackendLog());
+            case SYSTEM_INFO -> systemInfoBuffer.add(sessionId, record.getSystemInfo());
+        }
+    }
+
+    /**
+     * 세션의 시스템 정보에서 클라이언트 IP를 추출합니다.
+     *
+     * 배출은 요청 스레드가 아닌 스케줄러 스레드에서 수행되므로 MDC가 아닌 요청 이벤트에서 옮겨 온 값을 사용합니다.
+     *
+     * @param systemInfo 세션의 시스템 정보 (없으면 null)
+     * @return IP 주소 (없으면 "Unknown")
+     */
+    private String extractIpAddress(SystemInfoDto systemInfo) {
+        return (systemInfo != null && systemInfo.getIpAddress() != null) ? systemInfo.getIpAddress() : UNKNOWN;
     }
 
     /**
@@ -0,0 +1,163 @@
+package kodanect.domain.logging.ingest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import kodanect.common.config.properties.ActionLogIngestProperties;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.exception.FrontendLogIngestLimitException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * NDJSON(줄 단위 JSON) 형식의 프론트엔드 로그 본문을 스트리밍으로 읽는 컴포넌트입니다.
+ *
+ * - 본문 전체를 리스트로 바인딩하지 않고 {@link JsonParser}로 레코드를 하나씩 읽어 바로 전달합니다.
+ * - gzip 본문은 {@link GZIPInputStream}으로 읽으면서 압축을 해제합니다.
+ * - 요청 본문 바이트, 압축 해제 후 바이트, 레코드 수가 제한을 넘으면 {@link FrontendLogIngestLimitException}을 던집니다.
+ *   (제한 초과 전까지 전달된 레코드는 되돌리지 않습니다.)
+ */
+@Component
+public class FrontendLogStreamReader {
+
+    private static final int GZIP_BUFFER_BYTES = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader logReader;
+    private final ActionLogIngestProperties properties;
+
+    public FrontendLogStreamReader(ObjectMapper objectMapper, ActionLogIngestProperties properties) {
+        this.objectMapper = objectMapper;
+        this.logReader = objectMapper.readerFor(FrontendLogDto.class);
+        this.properties = properties;
+    }
+
+    /**
+     * 본문의 레코드를 순서대로 읽어 전달합니다.
+     *
+     * @param body          요청 본문
+     * @param gzip          본문이 gzip으로 압축되어 있는지 여부 (Content-Encoding: gzip)
+     * @param contentLength 요청 헤더의 본문 길이 (알 수 없으면 -1)
+     * @param consumer      읽은 레코드를 받을 함수
+     * @return 전달한 레코드 수
+     * @throws IOException 본문을 읽는 중 입출력 오류 발생 시
+     */
+    public int read(InputStream body, boolean gzip, long contentLength, Consumer<FrontendLogDto> consumer) throws IOException {
+        if (contentLength > properties.getMaxBytes()) {
+            throw new FrontendLogIngestLimitException("maxBytes", properties.getMaxBytes());
+        }
+
+        int count = 0;
+
+        try {
+            InputStream in = new LimitedInputStream(body, properties.getMaxBytes(), "maxBytes");
+
+            if (gzip) {
+                in = new LimitedInputStream(new GZIPInputStream(in, GZIP_BUFFER_BYTES),
+                        properties.getMaxDecompressedBytes(), "maxDecompressedBytes");
+            }
+
+            try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+                JsonToken token;
+
+                while ((token = parser.nextToken()) != null) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new InvalidFrontendLogStreamException(count + 1, null);
+                    }
+                    if (count >= properties.getMaxRecords()) {
+                        throw new FrontendLogIngestLimitException("maxRecords", properties.getMaxRecords());
+                    }
+
+                    FrontendLogDto log = logReader.readValue(parser);
+                    count++;
+                    consumer.accept(log);
+                }
+            }
+        } catch (LimitExceededException e) {
+            throw new FrontendLogIngestLimitException(e.limitName, e.limit);
+        } catch (JsonProcessingException | ZipException | EOFException e) {
+            throw new InvalidFrontendLogStreamException(count + 1, e);
+        }
+
+        return count;
+    }
+
+    /**
+     * 읽은 바이트 수가 제한을 넘으면 예외를 던지는 입력 스트림입니다.
+     *
+     * Jackson이 역직렬화 중 발생한 런타임 예외를 JsonMappingException으로 감싸지 않도록
+     * {@link IOException} 하위 타입인 {@link LimitExceededException}을 던집니다.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final String limitName;
+        private long consumed;
+
+        private LimitedInputStream(InputStream in, long limit, String limitName) {
+            super(in);
+            this.limit = limit;
+            this.limitName = limitName;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long bytes) throws LimitExceededException {
+            consumed += bytes;
+
+            if (consumed > limit) {
+                throw new LimitExceededException(limitName, limit);
+            }
+        }
+
+    }
+
+    private static final class LimitExceededException extends IOException {
+
+        private final String limitName;
+        private final long limit;
+
+        private LimitExceededException(String limitName, long limit) {
+            super(limitName + " exceeded");
+            this.limitName = limitName;
+            this.limit = limit;
+        }
+
+    }
+
+}
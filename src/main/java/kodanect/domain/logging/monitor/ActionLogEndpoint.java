@@ -0,0 +1,88 @@
+package kodanect.domain.logging.monitor;
+
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.async.CountingCallerRunsPolicy;
+import kodanect.domain.logging.aggregate.ReadLogAggregator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 액션 로그 파이프라인 현황을 제공하는 actuator 엔드포인트입니다.
+ *
+ * - GET /actuator/actionlog: 버퍼별 CRUD 코드 현황, 배출 소요 시간, 저장 행 수, 직렬화 실패, logExecutor 현황
+ *
+ * 같은 값은 {@link ActionLogMetrics}가 등록한 Micrometer 메트릭으로도 수집할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "actionlog")
+public class ActionLogEndpoint {
+
+    private final FrontendLogBuffer frontendBuffer;
+    private final BackendLogBuffer backendBuffer;
+    private final SystemInfoBuffer systemInfoBuffer;
+    private final ReadLogAggregator readLogAggregator;
+    private final ActionLogMetrics metrics;
+    private final ThreadPoolTaskExecutor logExecutor;
+    private final CountingCallerRunsPolicy callerRunsPolicy;
+
+    public ActionLogEndpoint(FrontendLogBuffer frontendBuffer,
+                             BackendLogBuffer backendBuffer,
+                             SystemInfoBuffer systemInfoBuffer,
+                             ReadLogAggregator readLogAggregator,
+                             ActionLogMetrics metrics,
+                             @Qualifier("logExecutor") ThreadPoolTaskExecutor logExecutor,
+                             CountingCallerRunsPolicy callerRunsPolicy) {
+        this.frontendBuffer = frontendBuffer;
+        this.backendBuffer = backendBuffer;
+        this.systemInfoBuffer = systemInfoBuffer;
+        this.readLogAggregator = readLogAggregator;
+        this.metrics = metrics;
+        this.logExecutor = logExecutor;
+        this.callerRunsPolicy = callerRunsPolicy;
+    }
+
+    /**
+     * @return 액션 로그 파이프라인 현황
+     */
+    @ReadOperation
+    public ActionLogPipelineSnapshot actionLog() {
+        Map<String, ActionLogPipelineSnapshot.BufferSnapshot> buffers = new LinkedHashMap<>();
+
+        buffers.put("frontend", ActionLogPipelineSnapshot.BufferSnapshot.builder()
+                .bufferedBytes(frontendBuffer.getBufferedBytes())
+                .droppedCount(frontendBuffer.getDroppedCount())
+                .oldestEntryAgeMillis(frontendBuffer.getOldestEntryAgeMillis())
+                .byCrudCode(frontendBuffer.getStatsByCrudCode())
+                .build());
+        buffers.put("backend", ActionLogPipelineSnapshot.BufferSnapshot.builder()
+                .bufferedBytes(backendBuffer.getBufferedBytes())
+                .droppedCount(backendBuffer.getDroppedCount())
+                .oldestEntryAgeMillis(backendBuffer.getOldestEntryAgeMillis())
+                .byCrudCode(backendBuffer.getStatsByCrudCode())
+                .build());
+
+        return ActionLogPipelineSnapshot.builder()
+                .buffers(buffers)
+                .systemInfoEntries(systemInfoBuffer.getEntryCount())
+                .readAggregateBuckets(readLogAggregator.getBucketCount())
+                .flush(metrics.getFlushSnapshots())
+                .rowsWritten(metrics.getRowsWritten())
+                .serializationFailures(metrics.getSerializationFailures())
+                .logExecutor(ActionLogPipelineSnapshot.ExecutorSnapshot.builder()
+                        .activeCount(logExecutor.getActiveCount())
+                        .poolSize(logExecutor.getPoolSize())
+                        .queueSize(logExecutor.getThreadPoolExecutor().getQueue().size())
+                        .callerRunsCount(callerRunsPolicy.getCallerRunsCount())
+                        .build())
+                .build();
+    }
+
+}
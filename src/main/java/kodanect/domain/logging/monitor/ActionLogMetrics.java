@@ -0,0 +1,218 @@
+package kodanect.domain.logging.monitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.BufferStats;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.async.CountingCallerRunsPolicy;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.entity.ActionLog;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 액션 로그 파이프라인의 Micrometer 메트릭을 등록하고 기록하는 컴포넌트입니다.
+ *
+ * - actionlog.buffer.keys / actionlog.buffer.records {buffer, crudCode}: 버퍼별 키 수와 로그 건수
+ * - actionlog.buffer.dropped {buffer}: 용량 초과로 버려진 누적 로그 건수
+ * - actionlog.systeminfo.entries: 시스템 정보 버퍼의 세션 수
+ * - actionlog.flush.write.duration {scope}: 배출 1회(버퍼 추출 ~ DB 저장) 소요 시간 히스토그램
+ * - actionlog.rows.written {crudCode}: 저장된 액션 로그 행 수
+ * - actionlog.serialization.failures: log_text 직렬화 실패 횟수
+ * - actionlog.executor.caller.runs: logExecutor 큐 초과로 호출 스레드에서 실행된 작업 수
+ *
+ * 배출 원인별 횟수와 버퍼 바이트/보관 시간 메트릭은 {@code ActionLogScheduler}가 등록합니다.
+ */
+@Component
+public class ActionLogMetrics {
+
+    /**
+     * 전체 배출의 측정 범위 이름
+     */
+    public static final String ALL_SCOPE = "ALL";
+
+    /**
+     * 조회 로그 집계 배출의 측정 범위 이름
+     */
+    public static final String AGGREGATE_SCOPE = "AGGREGATE";
+
+    private static final String METRIC_PREFIX = "actionlog";
+    private static final double P50 = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+
+    private final Map<String, Timer> flushTimers = new LinkedHashMap<>();
+    private final Map<CrudCode, Counter> rowCounters = new EnumMap<>(CrudCode.class);
+    private final Counter serializationFailures;
+
+    public ActionLogMetrics(MeterRegistry meterRegistry,
+                            FrontendLogBuffer frontendBuffer,
+                            BackendLogBuffer backendBuffer,
+                            SystemInfoBuffer systemInfoBuffer,
+                            CountingCallerRunsPolicy callerRunsPolicy) {
+        for (CrudCode code : CrudCode.values()) {
+            registerFlushTimer(meterRegistry, code.name());
+            rowCounters.put(code, Counter.builder(METRIC_PREFIX + ".rows.written")
+                    .description("저장된 액션 로그 행 수")
+                    .tag("crudCode", code.name())
+                    .register(meterRegistry));
+
+            registerBufferGauges(meterRegistry, "frontend", code, frontendBuffer, FrontendLogBuffer::getStatsByCrudCode);
+            registerBufferGauges(meterRegistry, "backend", code, backendBuffer, BackendLogBuffer::getStatsByCrudCode);
+        }
+        registerFlushTimer(meterRegistry, ALL_SCOPE);
+        registerFlushTimer(meterRegistry, AGGREGATE_SCOPE);
+
+        this.serializationFailures = Counter.builder(METRIC_PREFIX + ".serialization.failures")
+                .description("log_text 직렬화 실패 횟수")
+                .register(meterRegistry);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".buffer.dropped", frontendBuffer, FrontendLogBuffer::getDroppedCount)
+                .description("용량 초과로 버려진 누적 로그 건수")
+                .tag("buffer", "frontend")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".buffer.dropped", backendBuffer, BackendLogBuffer::getDroppedCount)
+                .description("용량 초과로 버려진 누적 로그 건수")
+                .tag("buffer", "backend")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".systeminfo.entries", systemInfoBuffer, SystemInfoBuffer::getEntryCount)
+                .description("시스템 정보 버퍼에 보관 중인 세션 수")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".executor.caller.runs", callerRunsPolicy, CountingCallerRunsPolicy::getCallerRunsCount)
+                .description("logExecutor 큐 초과로 호출 스레드에서 실행된 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배출 1회의 소요 시간을 기록합니다.
+     *
+     * @param scope        CRUD 코드 이름, {@link #ALL_SCOPE} 또는 {@link #AGGREGATE_SCOPE}
+     * @param elapsedNanos 소요 시간(ns)
+     */
+    public void recordFlush(String scope, long elapsedNanos) {
+        Timer timer = flushTimers.get(scope);
+
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 저장된 액션 로그 행 수를 CRUD 코드별로 기록합니다.
+     *
+     * @param written 저장된 액션 로그 목록
+     */
+    public void recordRowsWritten(List<ActionLog> written) {
+        int[] rows = new int[CrudCode.values().length];
+
+        for (ActionLog actionLog : written) {
+            rows[CrudCode.valueOf(actionLog.getCrudCode()).ordinal()]++;
+        }
+
+        for (CrudCode code : CrudCode.values()) {
+            if (rows[code.ordinal()] > 0) {
+                rowCounters.get(code).increment(rows[code.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * log_text 직렬화 실패를 기록합니다.
+     */
+    public void recordSerializationFailure() {
+        serializationFailures.increment();
+    }
+
+    /**
+     * @return 측정 범위별 배출 소요 시간 통계
+     */
+    public Map<String, ActionLogPipelineSnapshot.FlushSnapshot> getFlushSnapshots() {
+        Map<String, ActionLogPipelineSnapshot.FlushSnapshot> snapshots = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Timer> entry : flushTimers.entrySet()) {
+            HistogramSnapshot histogram = entry.getValue().takeSnapshot();
+
+            snapshots.put(entry.getKey(), ActionLogPipelineSnapshot.FlushSnapshot.builder()
+                    .count(histogram.count())
+                    .meanMillis(histogram.mean(TimeUnit.MILLISECONDS))
+                    .maxMillis(histogram.max(TimeUnit.MILLISECONDS))
+                    .p50Millis(percentile(histogram, P50))
+                    .p90Millis(percentile(histogram, P90))
+                    .p99Millis(percentile(histogram, P99))
+                    .build());
+        }
+        return snapshots;
+    }
+
+    /**
+     * @return CRUD 코드별 누적 저장 행 수
+     */
+    public Map<CrudCode, Long> getRowsWritten() {
+        Map<CrudCode, Long> rows = new EnumMap<>(CrudCode.class);
+
+        for (Map.Entry<CrudCode, Counter> entry : rowCounters.entrySet()) {
+            rows.put(entry.getKey(), (long) entry.getValue().count());
+        }
+        return rows;
+    }
+
+    /**
+     * @return 누적 직렬화 실패 횟수
+     */
+    public long getSerializationFailures() {
+        return (long) serializationFailures.count();
+    }
+
+    private void registerFlushTimer(MeterRegistry meterRegistry, String scope) {
+        flushTimers.put(scope, Timer.builder(METRIC_PREFIX + ".flush.write.duration")
+                .description("배출 1회(버퍼 추출 ~ DB 저장) 소요 시간")
+                .tag("scope", scope)
+                .publishPercentiles(P50, P90, P99)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static <B> void registerBufferGauges(MeterRegistry meterRegistry,
+                                                 String bufferName,
+                                                 CrudCode code,
+                                                 B buffer,
+                                                 Function<B, Map<CrudCode, BufferStats>> stats) {
+        ToDoubleFunction<B> keyCount = b -> stats.apply(b).get(code).getKeyCount();
+        ToDoubleFunction<B> recordCount = b -> stats.apply(b).get(code).getRecordCount();
+
+        Gauge.builder(METRIC_PREFIX + ".buffer.keys", buffer, keyCount)
+                .description("로그가 남아 있는 사용자 액션 키 수")
+                .tag("buffer", bufferName)
+                .tag("crudCode", code.name())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".buffer.records", buffer, recordCount)
+                .description("버퍼에 보관 중인 로그 건수")
+                .tag("buffer", bufferName)
+                .tag("crudCode", code.name())
+                .register(meterRegistry);
+    }
+
+    private static double percentile(HistogramSnapshot histogram, double percentile) {
+        for (ValueAtPercentile value : histogram.percentileValues()) {
+            if (Double.compare(value.percentile(), percentile) == 0) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+}
@@ -0,0 +1,96 @@
+package kodanect.domain.logging.monitor;
+
+import kodanect.common.buffer.BufferStats;
+import kodanect.common.constant.CrudCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * /actuator/actionlog 엔드포인트가 반환하는 액션 로그 파이프라인 현황입니다.
+ */
+@Getter
+@Builder
+public class ActionLogPipelineSnapshot {
+
+    /**
+     * 버퍼 이름(frontend, backend)별 현황
+     */
+    private final Map<String, BufferSnapshot> buffers;
+
+    /**
+     * 시스템 정보 버퍼에 보관 중인 세션 수
+     */
+    private final long systemInfoEntries;
+
+    /**
+     * 조회 로그 사전 집계 버킷 수
+     */
+    private final int readAggregateBuckets;
+
+    /**
+     * 측정 범위(CRUD 코드, ALL, AGGREGATE)별 배출 소요 시간
+     */
+    private final Map<String, FlushSnapshot> flush;
+
+    /**
+     * CRUD 코드별 누적 저장 행 수
+     */
+    private final Map<CrudCode, Long> rowsWritten;
+
+    /**
+     * 누적 log_text 직렬화 실패 횟수
+     */
+    private final long serializationFailures;
+
+    /**
+     * logExecutor 현황
+     */
+    private final ExecutorSnapshot logExecutor;
+
+    /**
+     * 로그 버퍼 하나의 현황
+     */
+    @Getter
+    @Builder
+    public static class BufferSnapshot {
+
+        private final long bufferedBytes;
+        private final long droppedCount;
+        private final long oldestEntryAgeMillis;
+        private final Map<CrudCode, BufferStats> byCrudCode;
+
+    }
+
+    /**
+     * 배출 소요 시간 통계 (ms)
+     */
+    @Getter
+    @Builder
+    public static class FlushSnapshot {
+
+        private final long count;
+        private final double meanMillis;
+        private final double maxMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+
+    }
+
+    /**
+     * 로그 비동기 Executor 현황
+     */
+    @Getter
+    @Builder
+    public static class ExecutorSnapshot {
+
+        private final int activeCount;
+        private final int poolSize;
+        private final int queueSize;
+        private final long callerRunsCount;
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package kodanect.domain.logging.sampling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.config.properties.ActionLogSamplingProperties;
+import kodanect.common.constant.CrudCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 요청 단위로 액션 로그 기록 여부를 결정하는 샘플러입니다.
+ *
+ * - 세션 ID의 해시로 결정하므로 같은 세션은 비율이 같은 요청에서 항상 같은 결과를 받습니다.
+ *   해시 값이 비율보다 작으면 기록하므로, 낮은 비율에서 기록되는 세션은 높은 비율에서도 기록됩니다.
+ * - 비율은 엔드포인트 패턴 > CRUD 코드 > 기본값 순으로 결정하며,
+ *   매핑 패턴(예: /notices/{id})별로 캐싱하여 요청마다 패턴을 다시 비교하지 않습니다.
+ * - 메타데이터 수집(MDC, User-Agent 분석, 파라미터 직렬화) 전에 호출되어 제외된 요청의 비용을 최소화합니다.
+ */
+@Component
+public class ActionLogSampler {
+
+    private static final double HASH_SCALE = 0x1.0p-53;
+    private static final int HASH_DISCARD_BITS = 11;
+    private static final long MIX_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    private static final int MIX_SHIFT = 33;
+    private static final int MAX_CACHED_RATES = 1_024;
+
+    private final ActionLogSamplingProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentMap<String, Double> rateCache = new ConcurrentHashMap<>();
+    private final Counter sampledOut;
+
+    public ActionLogSampler(ActionLogSamplingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sampledOut = Counter.builder("actionlog.sampling.dropped")
+                .description("샘플링으로 기록하지 않은 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 액션 로그로 기록할지 결정합니다.
+     *
+     * @param sessionId  세션 ID
+     * @param httpMethod HTTP 메서드
+     * @param path       매핑된 엔드포인트 패턴 (없으면 요청 URI)
+     * @return 기록 대상이면 true
+     */
+    public boolean shouldSample(String sessionId, String httpMethod, String path) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        double rate = rateOf(httpMethod, path);
+        boolean sampled = rate >= 1.0 || (rate > 0.0 && hashFraction(sessionId) < rate);
+
+        if (!sampled) {
+            sampledOut.increment();
+        }
+        return sampled;
+    }
+
+    /**
+     * 요청에 적용할 기록 비율을 반환합니다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param path       매핑된 엔드포인트 패턴 (없으면 요청 URI)
+     * @return 기록 비율 (0.0 ~ 1.0)
+     */
+    double rateOf(String httpMethod, String path) {
+        String cacheKey = httpMethod + " " + path;
+        Double cached = rateCache.get(cacheKey);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        double rate = resolveRate(httpMethod, path);
+
+        if (rateCache.size() < MAX_CACHED_RATES) {
+            rateCache.putIfAbsent(cacheKey, rate);
+        }
+        return rate;
+    }
+
+    private double resolveRate(String httpMethod, String path) {
+        if (path != null) {
+            for (Map.Entry<String, Double> entry : properties.getEndpointRates().entrySet()) {
+                if (pathMatcher.match(entry.getKey(), path)) {
+                    return entry.getValue();
+                }
+            }
+        }
+
+        Double crudRate = properties.getCrudRates().get(CrudCode.fromHttpMethod(httpMethod));
+        return crudRate != null ? crudRate : properties.getDefaultRate();
+    }
+
+    /**
+     * 세션 ID를 [0, 1) 구간의 균등 분포 값으로 변환합니다.
+     *
+     * String.hashCode()는 JVM과 무관하게 고정된 값이므로 재기동 후에도 같은 세션은 같은 값을 받습니다.
+     * 비슷한 문자열의 해시가 몰리지 않도록 64비트 혼합 함수(MurmurHash3 fmix64)를 적용합니다.
+     */
+    static double hashFraction(String sessionId) {
+        long h = sessionId != null ? sessionId.hashCode() : 0L;
+
+        h ^= h >>> MIX_SHIFT;
+        h *= MIX_MULTIPLIER_1;
+        h ^= h >>> MIX_SHIFT;
+        h *= MIX_MULTIPLIER_2;
+        h ^= h >>> MIX_SHIFT;
+
+        return (h >>> HASH_DISCARD_BITS) * HASH_SCALE;
+    }
+
+}
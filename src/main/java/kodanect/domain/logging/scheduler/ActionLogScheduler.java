@@ -1,70 +1,260 @@
 package kodanect.domain.logging.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kodanect.common.buffer.FlushTrigger;
+import kodanect.common.buffer.LogBufferOverflowEvent;
+import kodanect.common.buffer.LogBufferReadyEvent;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
+import kodanect.common.exception.config.SecureLogger;
 import kodanect.domain.logging.flusher.ActionLogFlusher;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * 사용자 액션 로그를 주기적으로 배출(flush)하는 스케줄러 컴포넌트입니다.
+ * 사용자 액션 로그의 배출(flush) 시점을 결정하는 적응형 스케줄러 컴포넌트입니다.
  *
- * {@link ActionLogFlusher}를 활용해 프론트엔드, 백엔드, 시스템 로그 버퍼에
- * 쌓인 데이터를 주기적으로 집계 및 저장합니다.
+ * 다음 조건 중 먼저 충족되는 조건으로 {@link ActionLogFlusher}에 배출을 요청합니다.
+ * - 키별 건수: 버퍼가 임계 건수 도달 시 발행하는 {@link LogBufferReadyEvent}로 즉시 배출
+ * - 전체 바이트: 고수위(high watermark)에 도달하면 전체 배출, 저수위 아래로 내려가야 다시 신호 발행
+ * - 보관 시간: 점검 주기마다 가장 오래된 로그가 최대 보관 시간을 넘긴 키를 배출
+ * - 조회 로그 집계: 점검 주기마다 종료된 분 단위 집계 버킷을 배출
  *
- * 로그 유형(CrudCode 기준)에 따라 다른 주기와 임계값을 설정하여
- * 로그 저장 빈도를 최적화하며, 일정 간격마다 전체 로그를 강제 배출하는 로직도 포함합니다.
+ * 배출은 single-flight로 실행되어 겹치지 않으며, 실행 중 들어온 요청은 한 번의 재점검으로 합쳐집니다.
+ * 스풀 정리를 위해 일정 주기마다 전체 배출도 수행하며, 애플리케이션 종료 시에도 스풀이 닫히기 전에 전체 배출합니다.
+ * 전체 배출 요청(주기, 고수위, 용량 초과)은 실행 중인 배출과 겹쳐도 버려지지 않고 보류되었다가 재점검 또는 다음 점검 주기에 실행됩니다.
+ *
+ * 배출 원인별 실행 횟수, 합쳐진 요청 수, 배출 소요 시간, 버퍼 사용량은 Micrometer 메트릭으로 노출됩니다.
  */
 @Component
-@RequiredArgsConstructor
 public class ActionLogScheduler {
 
-    private static final int TEN_MINUTES = 10 * 60 * 1000;
-    private static final int TWENTY_MINUTES = 20 * 60 * 1000;
-    private static final int THIRTY_MINUTES = 30 * 60 * 1000;
-
-    private static final int TEN_SECONDS = 10 * 1000;
-    private static final int TWENTY_SECONDS = 20 * 1000;
-    private static final int THIRTY_SECONDS = 30 * 1000;
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogScheduler.class);
 
-    private static final int READ_THRESHOLD = 100;
-    private static final int OTHER_THRESHOLD = 10;
+    private static final String METRIC_PREFIX = "actionlog.flush";
+    private static final long SHUTDOWN_WAIT_MILLIS = 50L;
 
     private final ActionLogFlusher flusher;
+    private final ActionLogFlushProperties properties;
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final AtomicBoolean recheckRequested = new AtomicBoolean(false);
+    private final Set<FlushTrigger> pendingFullFlushes = ConcurrentHashMap.newKeySet();
+
+    private final Map<FlushTrigger, Counter> triggerCounters = new EnumMap<>(FlushTrigger.class);
+    private final Counter coalescedCounter;
+    private final Timer flushTimer;
+
+    public ActionLogScheduler(ActionLogFlusher flusher,
+                              ActionLogFlushProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.flusher = flusher;
+        this.properties = properties;
+
+        for (FlushTrigger trigger : FlushTrigger.values()) {
+            triggerCounters.put(trigger, Counter.builder(METRIC_PREFIX + ".triggered")
+                    .description("배출 원인별 배출 실행 횟수")
+                    .tag("trigger", trigger.name())
+                    .register(meterRegistry));
+        }
+
+        this.coalescedCounter = Counter.builder(METRIC_PREFIX + ".coalesced")
+                .description("배출 실행 중 들어와 재점검으로 합쳐진 배출 요청 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("배출 1회 소요 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("actionlog.buffer.bytes", flusher, ActionLogFlusher::getBufferedBytes)
+                .description("버퍼에 보관 중인 로그의 추정 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("actionlog.buffer.oldest.age", flusher, ActionLogFlusher::getOldestEntryAgeMillis)
+                .description("버퍼에 남아 있는 가장 오래된 로그의 보관 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 점검 주기마다 버퍼 사용량과 보관 시간을 확인하여 배출합니다.
+     *
+     * 고수위를 넘었으면 전체 배출, 그렇지 않으면 CRUD 코드별로 임계 건수 도달 또는 최대 보관 시간을 넘긴 키만 배출합니다.
+     */
+    @Scheduled(fixedDelayString = "${action-log.flush.check-interval-millis:1000}",
+            initialDelayString = "${action-log.flush.check-interval-millis:1000}")
+    public void checkBuffers() {
+        runExclusively(this::flushDueLogs);
+    }
 
     /**
-     * 주기적으로 READ 로그(CrudCode.R)를 임계값 기준으로 배출합니다.
+     * 일정 주기마다 조건과 무관하게 모든 로그를 강제 배출합니다.
      *
-     * flushByCrudCode() 호출을 통해 100건 이상 쌓인 로그만 저장 대상으로 간주합니다.
+     * flushAll()은 배출 후 스풀 체크포인트를 커밋하므로, 스풀 세그먼트가 무한히 쌓이지 않도록 하는 용도입니다.
+     * 다른 배출과 겹치면 보류되었다가 해당 배출이 끝난 직후 실행됩니다.
      */
-    @Scheduled(fixedDelay = TEN_MINUTES, initialDelay = TEN_SECONDS)
-    public void flushReadLogs() {
-        flusher.flushByCrudCode(CrudCode.R, READ_THRESHOLD);
+    @Scheduled(fixedDelayString = "${action-log.flush.full-flush-interval-millis:1800000}",
+            initialDelayString = "${action-log.flush.full-flush-interval-millis:1800000}")
+    public void flushAllLogsForcefully() {
+        requestFullFlush(FlushTrigger.PERIODIC);
     }
 
     /**
-     * 주기적으로 C/U/D/X 로그를 각각 임계값 기준으로 배출합니다.
+     * 버퍼가 키별 임계 건수 또는 고수위에 도달하면 점검 주기와 무관하게 배출합니다.
+     *
+     * 요청 스레드를 막지 않도록 로그 전용 Executor에서 비동기로 실행됩니다.
      *
-     * 각 CRUD 코드별로 로그 수가 10건 이상일 때만 저장 대상으로 처리합니다.
+     * @param event 배출 조건에 도달한 CRUD 코드와 원인을 담은 이벤트
      */
-    @Scheduled(fixedDelay = TWENTY_MINUTES, initialDelay = TWENTY_SECONDS)
-    public void flushOtherLogs() {
-        for (CrudCode code : List.of(CrudCode.C, CrudCode.U, CrudCode.D, CrudCode.X)) {
-            flusher.flushByCrudCode(code, OTHER_THRESHOLD);
+    @Async("logExecutor")
+    @EventListener
+    public void flushOnReady(LogBufferReadyEvent event) {
+        if (event.getTrigger() == FlushTrigger.HIGH_WATERMARK) {
+            requestFullFlush(FlushTrigger.HIGH_WATERMARK);
+            return;
         }
+
+        CrudCode code = event.getCrudCode();
+        runExclusively(() -> {
+            triggerCounters.get(FlushTrigger.KEY_COUNT).increment();
+            flusher.flushDue(code, properties.thresholdOf(code), properties.maxAgeMillisOf(code));
+        });
     }
 
     /**
-     * 일정 주기마다 임계값 조건과 무관하게 모든 로그를 강제 배출합니다.
+     * 버퍼 용량 초과(FLUSH_EARLY 정책) 시 주기와 무관하게 모든 로그를 배출합니다.
+     *
+     * 요청 스레드를 막지 않도록 로그 전용 Executor에서 비동기로 실행됩니다.
      *
-     * flushAll()은 모든 세션과 CRUD 유형을 포함한 로그를 저장합니다.
-     * 시스템 재시작 등으로 인해 유실 가능성이 있는 로그를 주기적으로 수집하는 용도입니다.
+     * @param event 용량을 초과한 CRUD 코드를 담은 이벤트
      */
-    @Scheduled(fixedDelay = THIRTY_MINUTES, initialDelay = THIRTY_SECONDS)
-    public void flushAllLogsForcefully() {
-        flusher.flushAll();
+    @Async("logExecutor")
+    @EventListener
+    public void flushOnOverflow(LogBufferOverflowEvent event) {
+        requestFullFlush(FlushTrigger.OVERFLOW);
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 중인 배출이 끝나기를 기다린 뒤 모든 로그를 배출합니다.
+     *
+     * 스풀 체크포인트가 커밋되므로, 재기동 시 이미 저장된 로그를 다시 저장하지 않습니다.
+     * 이후 들어오는 배출 요청은 실행하지 않습니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        while (!flushing.compareAndSet(false, true)) {
+            try {
+                Thread.sleep(SHUTDOWN_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        pendingFullFlushes.clear();
+        triggerCounters.get(FlushTrigger.SHUTDOWN).increment();
+
+        try {
+            flushTimer.record(flusher::flushAll);
+        } catch (RuntimeException e) {
+            log.error("[액션 로그 배출] 종료 전 전체 배출 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 배출 요청을 보류 목록에 기록한 뒤 배출을 시도합니다.
+     *
+     * 다른 배출이 실행 중이면 보류된 요청은 그 배출의 재점검에서 실행되며,
+     * 재점검이 끝난 직후 도착한 경우에도 다음 점검 주기에 실행됩니다.
+     */
+    private void requestFullFlush(FlushTrigger trigger) {
+        pendingFullFlushes.add(trigger);
+        runExclusively(this::flushDueLogs);
+    }
+
+    /**
+     * 보류된 전체 배출 요청, 고수위 초과 여부, CRUD 코드별 배출 조건을 차례로 확인하여 배출합니다.
+     *
+     * 점검 주기에 실제로 저장된 로그가 있으면 {@link FlushTrigger#AGE} 원인으로 집계합니다.
+     */
+    private void flushDueLogs() {
+        boolean fullFlush = takePendingFullFlushes();
+
+        if (!fullFlush && flusher.getBufferedBytes() >= properties.getHighWatermarkBytes()) {
+            triggerCounters.get(FlushTrigger.HIGH_WATERMARK).increment();
+            fullFlush = true;
+        }
+
+        if (fullFlush) {
+            flusher.flushAll();
+            return;
+        }
+
+        int flushed = 0;
+
+        for (CrudCode code : CrudCode.values()) {
+            flushed += flusher.flushDue(code, properties.thresholdOf(code), properties.maxAgeMillisOf(code));
+        }
+        flushed += flusher.flushReadAggregates();
+
+        if (flushed > 0) {
+            triggerCounters.get(FlushTrigger.AGE).increment();
+        }
+    }
+
+    /**
+     * 보류된 전체 배출 요청을 모두 꺼내 원인별로 집계합니다.
+     *
+     * @return 보류된 요청이 하나라도 있었으면 true
+     */
+    private boolean takePendingFullFlushes() {
+        boolean pending = false;
+
+        for (FlushTrigger trigger : FlushTrigger.values()) {
+            if (pendingFullFlushes.remove(trigger)) {
+                triggerCounters.get(trigger).increment();
+                pending = true;
+            }
+        }
+
+        return pending;
+    }
+
+    /**
+     * 배출 작업을 single-flight로 실행합니다.
+     *
+     * 다른 배출이 실행 중이면 작업을 버리고 재점검만 요청하며,
+     * 실행 중이던 배출은 종료 직전에 재점검 요청이 있으면 {@link #flushDueLogs()}를 한 번 더 수행합니다.
+     * 재점검은 보류된 전체 배출 요청을 먼저 처리하므로, 겹친 전체 배출 요청은 CRUD 코드별 배출로 대체되지 않습니다.
+     * 종료 직후 도착한 요청은 다음 점검 주기에 처리됩니다.
+     */
+    private void runExclusively(Runnable task) {
+        if (!flushing.compareAndSet(false, true)) {
+            recheckRequested.set(true);
+            coalescedCounter.increment();
+            return;
+        }
+
+        try {
+            flushTimer.record(task);
+
+            while (recheckRequested.getAndSet(false)) {
+                flushTimer.record(this::flushDueLogs);
+            }
+        } finally {
+            flushing.set(false);
+        }
     }
 
 }
@@ -1,7 +1,10 @@
 package kodanect.domain.logging.service;
 
 import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.event.RequestActionEvent;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -10,28 +13,34 @@ import java.util.List;
  * 프론트엔드 로그, 백엔드 로그, 시스템 정보를 각각의 버퍼에 저장하며,
  * 동기 또는 비동기 방식으로 처리됩니다.
  *
- * 세션 ID는 MDC에서 자동으로 추출되며, 클라이언트는 별도로 세션을 전달하지 않아도 됩니다.
+ * 세션 ID는 AOP가 캡처한 {@link RequestActionEvent}에서 추출되며, 클라이언트는 별도로 세션을 전달하지 않아도 됩니다.
  */
 public interface ActionLogService {
 
     /**
      * 프론트엔드 로그를 세션 단위로 버퍼에 저장합니다.
-     * 세션 ID는 AOP를 통해 MDC에 저장된 값을 사용합니다.
+     * 세션 ID는 AOP를 통해 현재 요청에 캡처된 이벤트의 값을 사용합니다.
      *
      * @param logs 프론트엔드 로그 목록
      */
     void saveFrontendLog(List<FrontendLogDto> logs);
 
     /**
-     * 백엔드 로그를 MDC 정보를 기반으로 생성하여 비동기로 저장합니다.
-     * 세션 ID 및 기타 메타데이터는 모두 MDC에서 추출됩니다.
+     * NDJSON 형식의 프론트엔드 로그 본문을 스트리밍으로 읽어 레코드마다 바로 버퍼에 저장합니다.
+     *
+     * @param body          요청 본문 (한 줄에 로그 JSON 객체 하나)
+     * @param gzip          본문이 gzip으로 압축되어 있는지 여부
+     * @param contentLength 요청 헤더의 본문 길이 (알 수 없으면 -1)
+     * @return 저장한 로그 건수
+     * @throws IOException 본문을 읽는 중 입출력 오류 발생 시
      */
-    void saveBackendLog();
+    int saveFrontendLogStream(InputStream body, boolean gzip, long contentLength) throws IOException;
 
     /**
-     * 사용자 시스템 정보를 MDC 정보를 기반으로 생성하여 비동기로 저장합니다.
-     * 세션 ID 및 환경 정보는 MDC에서 추출됩니다.
+     * 캡처된 요청 이벤트로 백엔드 로그와 시스템 정보를 생성하여 비동기로 저장합니다.
+     *
+     * @param event AOP가 요청당 한 번 캡처한 요청 이벤트
      */
-    void saveSystemInfo();
+    void saveRequestLog(RequestActionEvent event);
 
 }
@@ -2,27 +2,44 @@ package kodanect.domain.logging.service.impl;
 
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
-import kodanect.common.constant.MdcContext;
 import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.useragent.UserAgentInfo;
+import kodanect.domain.logging.aggregate.ReadLogAggregator;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.event.RequestActionContext;
+import kodanect.domain.logging.event.RequestActionEvent;
+import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.ingest.FrontendLogStreamReader;
 import kodanect.domain.logging.service.ActionLogService;
+import kodanect.domain.logging.spool.ActionLogSpool;
+import kodanect.domain.logging.spool.SpoolRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * {@link ActionLogService}의 구현체로,
  * 사용자 액션 로그 데이터를 세션 기준으로 버퍼에 저장합니다.
  *
- * - 프론트엔드 로그: 동기 저장
- * - 백엔드 로그: AOP에서 주입된 MDC 정보를 기반으로 비동기 저장
- * - 시스템 정보: AOP에서 주입된 MDC 정보를 기반으로 비동기 저장
+ * - 프론트엔드 로그: 동기 저장 (NDJSON 본문은 {@link FrontendLogStreamReader}로 레코드마다 바로 저장)
+ * - 백엔드 로그, 시스템 정보: AOP가 캡처한 {@link RequestActionEvent}를 인자로 받아 한 번의 비동기 작업으로 저장
  *
- * 모든 로그는 MDC의 sessionId를 기준으로 구분됩니다.
+ * 모든 로그는 요청 이벤트의 sessionId를 기준으로 구분됩니다.
+ * 요청 이벤트가 없는 요청(세션 쿠키가 없거나 {@code ActionLogSampler}가 샘플링에서 제외한 요청)의 프론트엔드 로그는 저장하지 않습니다.
+ * 버퍼에 저장한 직후 {@link ActionLogSpool}에 기록하여 비정상 종료 시에도 복구할 수 있도록 합니다.
+ * (스풀은 배출 직전 위치보다 앞선 레코드가 이미 버퍼에 있다고 보고 저장이 끝난 세그먼트를 삭제하므로, 버퍼 추가가 먼저입니다.)
+ *
+ * 조회 로그 사전 집계가 활성화되어 있으면 조회(R) 프론트엔드 로그는 건별로 버퍼에 넣지 않고 {@link ReadLogAggregator}의 건수로만 기록합니다.
+ * 백엔드 로그는 로그 수집 요청(POST) 자체에 대해서만 생성되므로 집계 대상이 아닙니다.
+ * (집계 버킷은 스풀에 기록되지 않습니다.)
  */
 @Service
 @RequiredArgsConstructor
@@ -31,57 +48,117 @@ public class ActionLogServiceImpl implements ActionLogService {
     private final FrontendLogBuffer frontendLogBuffer;
     private final BackendLogBuffer backendLogBuffer;
     private final SystemInfoBuffer systemInfoBuffer;
+    private final ActionLogSpool spool;
+    private final ReadLogAggregator readLogAggregator;
+    private final FrontendLogStreamReader streamReader;
 
     /**
      * 프론트엔드 로그를 버퍼에 저장합니다.
-     * 세션 ID는 MDC에서 자동으로 추출됩니다.
+     * 세션 ID는 현재 요청에 캡처된 {@link RequestActionEvent}에서 추출되며, 이벤트가 없으면 저장하지 않습니다.
      *
      * @param logs 프론트엔드 로그 목록
      */
     @Override
     public void saveFrontendLog(List<FrontendLogDto> logs) {
-        String sessionId = MdcContext.getSessionId();
+        RequestActionEvent event = RequestActionContext.current().orElse(null);
+
+        if (event == null) {
+            return;
+        }
+
+        String sessionId = event.getSessionId();
+        List<FrontendLogDto> logsToBuffer = logs;
+
+        if (logs != null) {
+            logsToBuffer = new ArrayList<>(logs.size());
+
+            for (FrontendLogDto log : logs) {
+                if (!aggregateFrontendRead(log, event)) {
+                    logsToBuffer.add(log);
+                }
+            }
+        }
+
+        frontendLogBuffer.add(sessionId, logsToBuffer);
 
-        frontendLogBuffer.add(sessionId, logs);
+        if (logsToBuffer != null) {
+            logsToBuffer.forEach(log -> spool.append(SpoolRecord.frontend(sessionId, log)));
+        }
     }
 
     /**
-     * 백엔드 로그를 MDC에서 추출한 정보로 생성하고 버퍼에 저장합니다.
-     * 비동기 방식으로 실행됩니다.
+     * NDJSON 본문의 프론트엔드 로그를 레코드마다 바로 버퍼에 저장합니다.
+     * 중간 리스트를 만들지 않으며, 레코드가 하나도 없으면 {@link EmptyFrontendLogListException}을 던집니다.
+     * 요청 이벤트가 없으면 본문은 검증을 위해 끝까지 읽되 레코드는 저장하지 않습니다.
+     *
+     * @param body          요청 본문
+     * @param gzip          본문이 gzip으로 압축되어 있는지 여부
+     * @param contentLength 요청 헤더의 본문 길이 (알 수 없으면 -1)
+     * @return 저장한 로그 건수
+     * @throws IOException 본문을 읽는 중 입출력 오류 발생 시
      */
-    @Async("logExecutor")
-    public void saveBackendLog() {
-        String sessionId = MdcContext.getSessionId();
-
-        BackendLogDto log = BackendLogDto.builder()
-                .httpMethod(MdcContext.getHttpMethod())
-                .endpoint(MdcContext.getEndpoint())
-                .controller(MdcContext.getController())
-                .method(MdcContext.getMethod())
-                .parameters(MdcContext.getParameters())
-                .timestamp(MdcContext.getTimestamp())
-                .build();
+    @Override
+    public int saveFrontendLogStream(InputStream body, boolean gzip, long contentLength) throws IOException {
+        RequestActionEvent event = RequestActionContext.current().orElse(null);
+        int count;
 
-        backendLogBuffer.add(sessionId, log);
+        if (event == null) {
+            count = streamReader.read(body, gzip, contentLength, log -> { });
+        } else {
+            String sessionId = event.getSessionId();
+
+            count = streamReader.read(body, gzip, contentLength, log -> {
+                if (!aggregateFrontendRead(log, event)) {
+                    frontendLogBuffer.add(sessionId, log);
+                    spool.append(SpoolRecord.frontend(sessionId, log));
+                }
+            });
+        }
+
+        if (count == 0) {
+            throw new EmptyFrontendLogListException();
+        }
+        return count;
     }
 
     /**
-     * 시스템 정보를 MDC에서 추출한 값으로 생성하고 버퍼에 저장합니다.
-     * 비동기 방식으로 실행됩니다.
+     * 요청 이벤트로 백엔드 로그와 시스템 정보를 생성하고 버퍼에 저장합니다.
+     * 비동기 방식으로 실행되며, 필요한 값은 모두 인자로 전달된 이벤트에서 읽습니다.
+     *
+     * @param event AOP가 캡처한 요청 이벤트
      */
     @Async("logExecutor")
-    public void saveSystemInfo() {
-        String sessionId = MdcContext.getSessionId();
+    @Override
+    public void saveRequestLog(RequestActionEvent event) {
+        String sessionId = event.getSessionId();
+        BackendLogDto log = event.toBackendLog();
+        SystemInfoDto systemInfo = event.toSystemInfo();
 
-        SystemInfoDto systemInfo = SystemInfoDto.builder()
-                .browserName(MdcContext.getBrowserName())
-                .browserVersion(MdcContext.getBrowserVersion())
-                .operatingSystem(MdcContext.getOperatingSystem())
-                .device(MdcContext.getDevice())
-                .locale(MdcContext.getLocale())
-                .build();
+        backendLogBuffer.add(sessionId, log);
+        spool.append(SpoolRecord.backend(sessionId, log));
 
         systemInfoBuffer.add(sessionId, systemInfo);
+        spool.append(SpoolRecord.systemInfo(sessionId, systemInfo));
+    }
+
+    /**
+     * 조회 이벤트인 프론트엔드 로그를 집계 건수로 기록합니다.
+     *
+     * @return 집계되었으면 true (건별 저장 생략)
+     */
+    private boolean aggregateFrontendRead(FrontendLogDto log, RequestActionEvent event) {
+        if (!readLogAggregator.isEnabled() || CrudCode.fromEventType(log.getEventType()) != CrudCode.R) {
+            return false;
+        }
+
+        UserAgentInfo userAgent = event.getUserAgent();
+
+        return readLogAggregator.record(
+                log.getPageUrl(),
+                userAgent != null ? userAgent.getBrowserName() : null,
+                userAgent != null ? userAgent.getDevice() : null,
+                System.currentTimeMillis()
+        );
     }
 
 }
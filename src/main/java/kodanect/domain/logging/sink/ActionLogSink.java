@@ -0,0 +1,33 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+
+import java.util.List;
+
+/**
+ * 배출된 액션 로그를 최종 저장소에 기록하는 확장 지점입니다.
+ *
+ * 구현체는 자체적인 묶음 단위와 재시도 정책을 가지며,
+ * 재시도 후에도 저장하지 못하면 {@link ActionLogWriteException}을 던집니다.
+ * 호출자는 배출한 로그를 버퍼로 되돌리고, 다시 저장되기 전까지 스풀 커밋을 하지 않습니다.
+ *
+ * 사용할 구현체는 action-log.sink.types 설정으로 선택합니다. ({@link ActionLogSinkType})
+ */
+public interface ActionLogSink {
+
+    /**
+     * 로그 목록을 저장합니다.
+     *
+     * @param logs 저장할 로그 목록
+     * @return 저장된 행 수
+     * @throws ActionLogWriteException 재시도 후에도 저장에 실패한 경우
+     */
+    int write(List<ActionLog> logs);
+
+    /**
+     * @return 로그 출력용 저장소 이름
+     */
+    String getName();
+
+}
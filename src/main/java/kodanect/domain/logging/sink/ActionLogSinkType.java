@@ -0,0 +1,18 @@
+package kodanect.domain.logging.sink;
+
+/**
+ * 액션 로그 저장소 종류입니다.
+ */
+public enum ActionLogSinkType {
+
+    /**
+     * 액션 로그 테이블에 JDBC batch INSERT로 저장합니다. ({@code ActionLogWriter})
+     */
+    DATABASE,
+
+    /**
+     * 크기/시간 기준으로 교체되는 gzip 압축 NDJSON 파일에 저장합니다. ({@link FileActionLogSink})
+     */
+    FILE
+
+}
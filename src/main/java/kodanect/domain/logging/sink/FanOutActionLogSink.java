@@ -0,0 +1,82 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.entity.ActionLog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 같은 로그를 여러 {@link ActionLogSink}에 차례로 기록하는 구현체입니다.
+ *
+ * - 첫 번째 저장소를 주 저장소로 사용합니다. 주 저장소의 실패는 그대로 전파되어 스풀 커밋을 막고,
+ *   이후 저장소에는 기록하지 않습니다. (스풀 재처리 시 모든 저장소에 다시 기록됩니다.)
+ * - 나머지 저장소의 실패는 로그로만 남기고 다음 저장소로 진행합니다.
+ * - 반환값은 주 저장소가 저장한 행 수입니다.
+ */
+public class FanOutActionLogSink implements ActionLogSink, Closeable {
+
+    private static final SecureLogger log = SecureLogger.getLogger(FanOutActionLogSink.class);
+
+    private final ActionLogSink primary;
+    private final List<ActionLogSink> secondaries;
+
+    /**
+     * @param sinks 기록할 저장소 목록 (첫 번째가 주 저장소)
+     */
+    public FanOutActionLogSink(List<ActionLogSink> sinks) {
+        if (sinks.isEmpty()) {
+            throw new IllegalArgumentException("저장소가 하나 이상 필요합니다.");
+        }
+
+        this.primary = sinks.get(0);
+        this.secondaries = List.copyOf(sinks.subList(1, sinks.size()));
+    }
+
+    @Override
+    public int write(List<ActionLog> logs) {
+        int written = primary.write(logs);
+
+        for (ActionLogSink sink : secondaries) {
+            try {
+                sink.write(logs);
+            } catch (RuntimeException e) {
+                log.error("[액션 로그 저장소] {} 기록 실패 ({}건): {}", sink.getName(), logs.size(), e.getMessage());
+            }
+        }
+
+        return written;
+    }
+
+    @Override
+    public String getName() {
+        return Stream.concat(Stream.of(primary), secondaries.stream())
+                .map(ActionLogSink::getName)
+                .collect(Collectors.joining(",", "fan-out(", ")"));
+    }
+
+    /**
+     * 닫을 수 있는 저장소를 모두 닫습니다.
+     */
+    @Override
+    public void close() {
+        closeIfPossible(primary);
+        secondaries.forEach(FanOutActionLogSink::closeIfPossible);
+    }
+
+    private static void closeIfPossible(ActionLogSink sink) {
+        if (!(sink instanceof Closeable)) {
+            return;
+        }
+
+        try {
+            ((Closeable) sink).close();
+        } catch (IOException e) {
+            log.warn("[액션 로그 저장소] {} 닫기 실패: {}", sink.getName(), e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package kodanect.domain.logging.sink;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import kodanect.common.config.properties.ActionLogSinkProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 액션 로그를 gzip 압축 NDJSON 파일에 기록하는 {@link ActionLogSink} 구현체입니다.
+ *
+ * - 한 줄에 한 행을 {"urlName", "crudCode", "ipAddr", "writeTime", "logText"} 형태로 기록합니다.
+ *   log_text는 압축을 해제한 JSON을 그대로 포함합니다.
+ * - fileBatchSize 행마다 독립된 gzip 멤버로 압축하여 {@link FileChannel}로 이어 붙입니다.
+ *   (여러 멤버가 이어진 파일도 일반 gzip 도구로 한 번에 읽을 수 있으며, 기록 도중 종료되어도 앞선 멤버는 온전합니다.)
+ * - 파일 크기가 fileMaxBytes를 넘거나 fileRollInterval이 지나면 새 파일로 교체하고,
+ *   fileMaxFiles를 넘는 오래된 파일은 삭제합니다.
+ * - 기록에 실패하면 일부만 기록된 gzip 멤버를 잘라낸 뒤 새 파일로 교체하여 한 번 더 시도하고,
+ *   그래도 실패하면 {@link ActionLogWriteException}을 던집니다.
+ *
+ * 기록은 인스턴스 단위로 동기화됩니다.
+ */
+public class FileActionLogSink implements ActionLogSink, Closeable {
+
+    private static final SecureLogger log = SecureLogger.getLogger(FileActionLogSink.class);
+
+    private static final String FILE_PREFIX = "action-log-";
+    private static final String FILE_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final JsonFactory jsonFactory;
+    private final ActionLogSinkProperties properties;
+    private final Path directory;
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(INITIAL_BUFFER_BYTES);
+
+    private FileChannel channel;
+    private Path activeFile;
+    private long activeOpenedNanos;
+    private int fileSequence;
+
+    public FileActionLogSink(JsonFactory jsonFactory, ActionLogSinkProperties properties) {
+        this.jsonFactory = jsonFactory;
+        this.properties = properties;
+        this.directory = Paths.get(properties.getFileDirectory());
+    }
+
+    @Override
+    public synchronized int write(List<ActionLog> logs) {
+        if (logs == null || logs.isEmpty()) {
+            return 0;
+        }
+
+        int batchSize = Math.max(1, properties.getFileBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        int written = 0;
+
+        for (int from = 0; from < logs.size(); from += batchSize) {
+            List<ActionLog> batch = logs.subList(from, Math.min(from + batchSize, logs.size()));
+            writeWithRetry(compress(batch, now), batch.size());
+            written += batch.size();
+        }
+
+        return written;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    /**
+     * 활성 파일을 디스크에 반영하고 닫습니다. 이후 기록 요청이 오면 새 파일을 엽니다.
+     */
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[액션 로그 파일] 파일 닫기 실패: {} - {}", activeFile.getFileName(), e.getMessage());
+        } finally {
+            channel = null;
+            activeFile = null;
+        }
+    }
+
+    /**
+     * 행 묶음을 NDJSON으로 직렬화하여 gzip 멤버 하나로 압축합니다.
+     */
+    private ByteBuffer compress(List<ActionLog> batch, LocalDateTime now) {
+        compressed.reset();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed);
+             JsonGenerator generator = jsonFactory.createGenerator(gzip, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+
+            for (ActionLog actionLog : batch) {
+                writeLine(generator, actionLog, now);
+            }
+        } catch (IOException e) {
+            throw new ActionLogWriteException(batch.size(), e);
+        }
+
+        return ByteBuffer.wrap(compressed.toByteArray());
+    }
+
+    private void writeLine(JsonGenerator generator, ActionLog actionLog, LocalDateTime now) throws IOException {
+        LocalDateTime writeTime = actionLog.getWriteTime() != null ? actionLog.getWriteTime() : now;
+        String logText = ActionLogTextCodec.decode(actionLog.getLogText());
+
+        generator.writeStartObject();
+        generator.writeStringField("urlName", actionLog.getUrlName());
+        generator.writeStringField("crudCode", actionLog.getCrudCode());
+        generator.writeStringField("ipAddr", actionLog.getIpAddr());
+        generator.writeStringField("writeTime", writeTime.toString());
+
+        if (logText == null || logText.startsWith(ActionLogTextCodec.DEFLATE_MARKER)) {
+            generator.writeStringField("logText", logText);
+        } else {
+            generator.writeFieldName("logText");
+            generator.writeRawValue(logText);
+        }
+
+        generator.writeEndObject();
+        generator.writeRaw(LINE_SEPARATOR);
+    }
+
+    private void writeWithRetry(ByteBuffer member, int rows) {
+        try {
+            append(member);
+        } catch (IOException first) {
+            log.warn("[액션 로그 파일] 기록 실패, 새 파일로 재시도: {}", first.getMessage());
+            close();
+            member.rewind();
+
+            try {
+                append(member);
+            } catch (IOException e) {
+                log.error("[액션 로그 파일] 기록 최종 실패 ({}건): {}", rows, e.getMessage());
+                close();
+                throw new ActionLogWriteException(rows, e);
+            }
+        }
+    }
+
+    private void append(ByteBuffer member) throws IOException {
+        rollIfNeeded(member.remaining());
+        long start = channel.position();
+
+        try {
+            while (member.hasRemaining()) {
+                channel.write(member);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            discardPartialMember(start);
+            throw e;
+        }
+    }
+
+    /**
+     * 기록 도중 실패한 멤버를 잘라내어 파일이 온전한 gzip 멤버로만 끝나도록 합니다.
+     */
+    private void discardPartialMember(long start) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            log.error("[액션 로그 파일] 불완전한 gzip 멤버 제거 실패: {} - {}", activeFile.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 파일이 없거나, 크기 또는 기간 기준을 넘었으면 새 파일을 엽니다.
+     */
+    private void rollIfNeeded(int incomingBytes) throws IOException {
+        if (channel != null) {
+            long size = channel.size();
+            boolean full = size > 0 && size + incomingBytes > properties.getFileMaxBytes();
+            boolean expired = System.nanoTime() - activeOpenedNanos >= properties.getFileRollInterval().toNanos();
+
+            if (!full && !expired) {
+                return;
+            }
+            close();
+        }
+
+        Files.createDirectories(directory);
+        activeFile = directory.resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_TIME_FORMAT)
+                + "-" + (fileSequence++) + FILE_SUFFIX);
+        channel = openChannel(activeFile);
+        activeOpenedNanos = System.nanoTime();
+
+        log.info("[액션 로그 파일] 새 파일 생성: {}", activeFile.getFileName());
+        deleteExpiredFiles();
+    }
+
+    /**
+     * 새 파일의 채널을 엽니다. (테스트에서 기록 실패를 재현할 때 재정의합니다.)
+     */
+    FileChannel openChannel(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 보관 파일 수를 넘는 오래된 파일을 삭제합니다. (파일명의 생성 시각 순)
+     */
+    private void deleteExpiredFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> logFiles = files
+                    .filter(FileActionLogSink::isLogFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < logFiles.size() - Math.max(1, properties.getFileMaxFiles()); i++) {
+                Files.deleteIfExists(logFiles.get(i));
+            }
+        } catch (IOException e) {
+            log.warn("[액션 로그 파일] 오래된 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isLogFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+}
@@ -0,0 +1,386 @@
+package kodanect.domain.logging.spool;
+
+import kodanect.common.config.properties.ActionLogSpoolProperties;
+import kodanect.common.constant.UserActionKey;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 버퍼링된 액션 로그를 디스크에 먼저 기록하는 append-only write-ahead 스풀입니다.
+ *
+ * 주요 특징:
+ * - 세그먼트 파일을 메모리 매핑({@link MappedByteBuffer})하여 레코드를 순차 기록합니다.
+ * - 각 레코드는 [length(4)] [crc32(4)] [payload] 형태로 프레이밍되어, 기록 도중 종료된 레코드는 복구 시 무시됩니다.
+ * - 세그먼트가 가득 차거나 체크포인트가 요청되면 다음 세그먼트로 교체합니다.
+ * - 세그먼트마다 아직 저장되지 않은 로그가 남은 키(세션 ID + CRUD 코드)와 그 키의 마지막 레코드 위치를 기억합니다.
+ *   키가 배출되어 저장되면 {@link #release}로 해당 위치 이전 기록을 해제하고, 남은 키가 없는 세그먼트를 바로 삭제합니다.
+ * - 체크포인트 이전 세그먼트는 전체 배출의 저장 완료(commit) 후 남은 키와 관계없이 삭제됩니다.
+ * - 기동 시 이전 프로세스가 남긴 세그먼트는 재처리 대상으로 분리되어 {@link #replay}로 복원됩니다.
+ *
+ * 매핑된 페이지는 프로세스가 비정상 종료되어도 OS 페이지 캐시에 남으므로 재배포/OOM 시 유실되지 않습니다.
+ * 버퍼 추가 후 스풀에 기록하므로, 배출 직전 {@link #position()}보다 앞선 레코드는 모두 그 배출에 포함됩니다.
+ * 같은 세그먼트에 저장되지 않은 키가 함께 남아 있던 상태에서 비정상 종료되면 일부 로그가 중복 저장될 수 있습니다(at-least-once).
+ * 시스템 정보 레코드는 해제 대상으로 추적하지 않습니다. (같은 요청의 백엔드 로그와 함께 기록됩니다.)
+ *
+ * 스풀이 비활성화된 경우 모든 메서드는 아무 동작도 하지 않습니다.
+ */
+@Component
+public class ActionLogSpool {
+
+    /**
+     * 체크포인트가 없음을 나타내는 값
+     */
+    public static final long NO_CHECKPOINT = -1L;
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogSpool.class);
+
+    private static final String SEGMENT_PREFIX = "spool-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SEGMENT_NAME_FORMAT = SEGMENT_PREFIX + "%020d" + SEGMENT_SUFFIX;
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+
+    private final ActionLogSpoolProperties properties;
+    private final List<Path> pendingSegments = new ArrayList<>();
+
+    /**
+     * 세그먼트 번호별로 아직 해제되지 않은 키와, 그 키의 마지막 레코드 시작 위치
+     */
+    private final NavigableMap<Long, Map<UserActionKey, Long>> liveKeys = new TreeMap<>();
+
+    private Path directory;
+    private MappedByteBuffer active;
+    private long activeSequence;
+    private long committedSequence;
+
+    public ActionLogSpool(ActionLogSpoolProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 스풀 디렉터리를 준비하고 새 세그먼트를 엽니다.
+     *
+     * 디렉터리에 남아 있는 세그먼트는 이전 프로세스의 미저장 로그로 간주하여 재처리 대상에 등록합니다.
+     *
+     * @throws IOException 디렉터리 또는 세그먼트 생성 실패 시
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        directory = Paths.get(properties.getDirectory());
+        Files.createDirectories(directory);
+
+        long lastSequence = 0;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> existing = files
+                    .filter(ActionLogSpool::isSegment)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            for (Path segment : existing) {
+                lastSequence = Math.max(lastSequence, sequenceOf(segment));
+            }
+            pendingSegments.addAll(existing);
+        }
+
+        committedSequence = lastSequence + 1;
+        openSegment(lastSequence + 1);
+
+        if (!pendingSegments.isEmpty()) {
+            log.info("[스풀] 재처리 대상 세그먼트 {}개 발견", pendingSegments.size());
+        }
+    }
+
+    /**
+     * 활성 세그먼트를 디스크에 반영하고 스풀을 닫습니다.
+     * 닫힌 이후의 기록 요청은 무시됩니다.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (active != null) {
+            active.force();
+            active = null;
+        }
+    }
+
+    /**
+     * 레코드 하나를 활성 세그먼트에 기록합니다.
+     *
+     * 로그 레코드는 버퍼에 추가한 뒤 기록해야 합니다. (배출 직전 위치보다 앞선 레코드가 배출에 포함되도록)
+     * 기록 실패는 로그로만 남기며 호출자에게 예외를 전파하지 않습니다.
+     *
+     * @param record 기록할 레코드
+     */
+    public void append(SpoolRecord record) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        byte[] payload = SpoolRecordCodec.encode(record);
+        int frameSize = FRAME_HEADER_BYTES + payload.length;
+
+        if (frameSize > properties.getSegmentBytes()) {
+            log.warn("[스풀] 레코드 크기({} bytes)가 세그먼트 크기를 초과하여 기록하지 않습니다.", frameSize);
+            return;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (this) {
+            if (active == null) {
+                return;
+            }
+
+            try {
+                if (active.remaining() < frameSize) {
+                    rotate();
+                }
+
+                long start = toPosition(activeSequence, active.position());
+                active.putInt(payload.length);
+                active.putInt((int) crc.getValue());
+                active.put(payload);
+
+                UserActionKey key = record.toActionKey();
+                if (key != null) {
+                    liveKeys.computeIfAbsent(activeSequence, sequence -> new HashMap<>()).put(key, start);
+                }
+            } catch (IOException e) {
+                log.error("[스풀] 레코드 기록 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 현재까지 기록된 레코드를 체크포인트로 확정하고, 이후 레코드는 새 세그먼트에 기록되도록 합니다.
+     *
+     * 반환된 값은 배출한 로그의 저장이 끝난 뒤 {@link #commit(long)}에 전달합니다.
+     *
+     * @return 체크포인트 세그먼트 번호, 스풀이 비활성화된 경우 {@link #NO_CHECKPOINT}
+     */
+    public synchronized long checkpoint() {
+        if (active == null) {
+            return NO_CHECKPOINT;
+        }
+
+        if (active.position() > 0) {
+            try {
+                rotate();
+            } catch (IOException e) {
+                log.error("[스풀] 체크포인트 세그먼트 교체 실패: {}", e.getMessage());
+                return NO_CHECKPOINT;
+            }
+        }
+
+        return activeSequence;
+    }
+
+    /**
+     * 체크포인트 이전 세그먼트를 저장 완료로 간주하고 삭제합니다.
+     *
+     * @param checkpoint {@link #checkpoint()}가 반환한 세그먼트 번호
+     */
+    public synchronized void commit(long checkpoint) {
+        if (checkpoint == NO_CHECKPOINT) {
+            return;
+        }
+
+        for (long sequence = committedSequence; sequence < checkpoint; sequence++) {
+            deleteQuietly(segmentPath(sequence));
+        }
+
+        liveKeys.headMap(checkpoint).clear();
+        committedSequence = Math.max(committedSequence, checkpoint);
+    }
+
+    /**
+     * 현재 기록 위치를 반환합니다. 배출 직전에 호출하여 {@link #release}에 전달합니다.
+     *
+     * @return 기록 위치, 스풀이 비활성화된 경우 {@link #NO_CHECKPOINT}
+     */
+    public synchronized long position() {
+        if (active == null) {
+            return NO_CHECKPOINT;
+        }
+        return toPosition(activeSequence, active.position());
+    }
+
+    /**
+     * 저장이 끝난 키의 레코드 중 주어진 위치보다 앞선 레코드를 해제하고,
+     * 해제되지 않은 키가 남지 않은 세그먼트를 삭제합니다. (활성 세그먼트 제외)
+     *
+     * @param keys     저장이 끝난 키 목록
+     * @param position 배출 직전 {@link #position()}이 반환한 위치
+     */
+    public synchronized void release(Collection<UserActionKey> keys, long position) {
+        if (position == NO_CHECKPOINT || keys.isEmpty()) {
+            return;
+        }
+
+        long lastSequence = position / properties.getSegmentBytes();
+        Iterator<Map<UserActionKey, Long>> segments = liveKeys.headMap(lastSequence, true).values().iterator();
+
+        while (segments.hasNext()) {
+            Map<UserActionKey, Long> segmentKeys = segments.next();
+
+            for (UserActionKey key : keys) {
+                Long start = segmentKeys.get(key);
+
+                if (start != null && start < position) {
+                    segmentKeys.remove(key);
+                }
+            }
+
+            if (segmentKeys.isEmpty()) {
+                segments.remove();
+            }
+        }
+
+        deleteReleasedSegments();
+    }
+
+    /**
+     * @return 기동 시 발견된 이전 프로세스의 세그먼트 목록 (오래된 순)
+     */
+    public synchronized List<Path> getPendingSegments() {
+        return List.copyOf(pendingSegments);
+    }
+
+    /**
+     * 세그먼트에 기록된 유효한 레코드를 순서대로 전달합니다.
+     *
+     * 길이가 0이거나 CRC가 일치하지 않는 프레임을 만나면 그 이후는 기록 도중 종료된 것으로 보고 중단합니다.
+     *
+     * @param segment  재처리할 세그먼트 파일
+     * @param consumer 복원된 레코드를 받을 콜백
+     * @return 복원된 레코드 수
+     * @throws IOException 세그먼트 읽기 실패 시
+     */
+    public int replay(Path segment, Consumer<SpoolRecord> consumer) throws IOException {
+        int count = 0;
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+
+                ByteBuffer payload = buffer.slice();
+                payload.limit(length);
+                buffer.position(buffer.position() + length);
+
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("[스풀] CRC 불일치로 세그먼트 재처리를 중단합니다: {}", segment.getFileName());
+                    break;
+                }
+
+                consumer.accept(SpoolRecordCodec.decode(payload));
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * 재처리가 끝난 이전 프로세스의 세그먼트를 삭제합니다.
+     *
+     * @param segment 삭제할 세그먼트 파일
+     */
+    public synchronized void discard(Path segment) {
+        deleteQuietly(segment);
+        pendingSegments.remove(segment);
+    }
+
+    /**
+     * 활성 세그먼트 이전의 세그먼트 중 해제되지 않은 키가 없는 세그먼트를 삭제합니다.
+     */
+    private void deleteReleasedSegments() {
+        for (long sequence = committedSequence; sequence < activeSequence; sequence++) {
+            if (!liveKeys.containsKey(sequence)) {
+                deleteQuietly(segmentPath(sequence));
+            }
+        }
+
+        long firstLive = liveKeys.isEmpty() ? activeSequence : Math.min(liveKeys.firstKey(), activeSequence);
+        committedSequence = Math.max(committedSequence, firstLive);
+    }
+
+    private long toPosition(long sequence, int offset) {
+        return sequence * properties.getSegmentBytes() + offset;
+    }
+
+    private void rotate() throws IOException {
+        active.force();
+        openSegment(activeSequence + 1);
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        Path path = segmentPath(sequence);
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, properties.getSegmentBytes());
+        }
+
+        activeSequence = sequence;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format(SEGMENT_NAME_FORMAT, sequence));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[스풀] 세그먼트 삭제 실패: {}", path.getFileName());
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+}
@@ -0,0 +1,61 @@
+package kodanect.domain.logging.spool;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스풀에 기록되는 단일 레코드입니다.
+ *
+ * 세션 ID와 함께 {@link SpoolRecordType}에 해당하는 로그 객체 하나만 값을 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SpoolRecord {
+
+    private final SpoolRecordType type;
+    private final String sessionId;
+    private final FrontendLogDto frontendLog;
+    private final BackendLogDto backendLog;
+    private final SystemInfoDto systemInfo;
+
+    /**
+     * 레코드가 버퍼에 저장되는 키를 반환합니다.
+     *
+     * @return 로그 레코드이면 세션 ID와 CRUD 코드로 만든 키, 시스템 정보 레코드이면 null
+     */
+    public UserActionKey toActionKey() {
+        return switch (type) {
+            case FRONTEND -> new UserActionKey(sessionId, CrudCode.fromEventType(frontendLog.getEventType()));
+            case BACKEND -> new UserActionKey(sessionId, CrudCode.fromHttpMethod(backendLog.getHttpMethod()));
+            case SYSTEM_INFO -> null;
+        };
+    }
+
+    /**
+     * @return 프론트엔드 로그 레코드
+     */
+    public static SpoolRecord frontend(String sessionId, FrontendLogDto log) {
+        return new SpoolRecord(SpoolRecordType.FRONTEND, sessionId, log, null, null);
+    }
+
+    /**
+     * @return 백엔드 로그 레코드
+     */
+    public static SpoolRecord backend(String sessionId, BackendLogDto log) {
+        return new SpoolRecord(SpoolRecordType.BACKEND, sessionId, null, log, null);
+    }
+
+    /**
+     * @return 시스템 정보 레코드
+     */
+    public static SpoolRecord systemInfo(String sessionId, SystemInfoDto systemInfo) {
+        return new SpoolRecord(SpoolRecordType.SYSTEM_INFO, sessionId, null, null, systemInfo);
+    }
+
+}
@@ -0,0 +1,146 @@
+package kodanect.domain.logging.spool;
+
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link SpoolRecord}를 길이 접두 이진 포맷으로 변환하는 유틸리티 클래스입니다.
+ *
+ * 포맷: [type(1)] [sessionId] [필드...]
+ * 각 문자열은 [length(4)] [UTF-8 bytes] 형태로 기록되며, null은 length = -1로 표현합니다.
+ * 필드 순서는 DTO 선언 순서를 따르며, 변경 시 기존 스풀 파일과 호환되지 않습니다.
+ * 단, 레코드 끝에 추가된 필드(시스템 정보의 IP 주소)는 이전 포맷의 레코드에 없으면 null로 복원합니다.
+ */
+public final class SpoolRecordCodec {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * 인스턴스화를 방지하기 위한 private 생성자
+     * 호출 시 예외를 발생시킵니다.
+     */
+    private SpoolRecordCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 레코드를 바이트 배열로 직렬화합니다.
+     *
+     * @param record 스풀 레코드
+     * @return 직렬화된 바이트 배열
+     */
+    public static byte[] encode(SpoolRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_CAPACITY);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(record.getType().ordinal());
+            writeString(out, record.getSessionId());
+
+            switch (record.getType()) {
+                case FRONTEND -> writeFrontendLog(out, record.getFrontendLog());
+                case BACKEND -> writeBackendLog(out, record.getBackendLog());
+                case SYSTEM_INFO -> writeSystemInfo(out, record.getSystemInfo());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 레코드 하나를 역직렬화합니다.
+     *
+     * @param buffer 직렬화된 레코드를 담은 버퍼 (limit이 레코드 끝이어야 함)
+     * @return 복원된 스풀 레코드
+     */
+    public static SpoolRecord decode(ByteBuffer buffer) {
+        SpoolRecordType type = SpoolRecordType.values()[buffer.get()];
+        String sessionId = readString(buffer);
+
+        return switch (type) {
+            case FRONTEND -> SpoolRecord.frontend(sessionId, FrontendLogDto.builder()
+                    .eventType(readString(buffer))
+                    .elementId(readString(buffer))
+                    .pageUrl(readString(buffer))
+                    .referrerUrl(readString(buffer))
+                    .timestamp(readString(buffer))
+                    .build());
+            case BACKEND -> SpoolRecord.backend(sessionId, BackendLogDto.builder()
+                    .httpMethod(readString(buffer))
+                    .endpoint(readString(buffer))
+                    .controller(readString(buffer))
+                    .method(readString(buffer))
+                    .parameters(readString(buffer))
+                    .timestamp(readString(buffer))
+                    .build());
+            case SYSTEM_INFO -> SpoolRecord.systemInfo(sessionId, SystemInfoDto.builder()
+                    .browserName(readString(buffer))
+                    .browserVersion(readString(buffer))
+                    .operatingSystem(readString(buffer))
+                    .device(readString(buffer))
+                    .locale(readString(buffer))
+                    .ipAddress(buffer.hasRemaining() ? readString(buffer) : null)
+                    .build());
+        };
+    }
+
+    private static void writeFrontendLog(DataOutputStream out, FrontendLogDto log) throws IOException {
+        writeString(out, log.getEventType());
+        writeString(out, log.getElementId());
+        writeString(out, log.getPageUrl());
+        writeString(out, log.getReferrerUrl());
+        writeString(out, log.getTimestamp());
+    }
+
+    private static void writeBackendLog(DataOutputStream out, BackendLogDto log) throws IOException {
+        writeString(out, log.getHttpMethod());
+        writeString(out, log.getEndpoint());
+        writeString(out, log.getController());
+        writeString(out, log.getMethod());
+        writeString(out, log.getParameters());
+        writeString(out, log.getTimestamp());
+    }
+
+    private static void writeSystemInfo(DataOutputStream out, SystemInfoDto info) throws IOException {
+        writeString(out, info.getBrowserName());
+        writeString(out, info.getBrowserVersion());
+        writeString(out, info.getOperatingSystem());
+        writeString(out, info.getDevice());
+        writeString(out, info.getLocale());
+        writeString(out, info.getIpAddress());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
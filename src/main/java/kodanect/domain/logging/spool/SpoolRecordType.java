@@ -0,0 +1,25 @@
+package kodanect.domain.logging.spool;
+
+/**
+ * 스풀에 기록되는 레코드의 종류입니다.
+ *
+ * 직렬화 시 ordinal 값이 저장되므로 상수 순서를 변경하지 않아야 합니다.
+ */
+public enum SpoolRecordType {
+
+    /**
+     * 프론트엔드 로그
+     */
+    FRONTEND,
+
+    /**
+     * 백엔드 로그
+     */
+    BACKEND,
+
+    /**
+     * 사용자 시스템 정보
+     */
+    SYSTEM_INFO
+
+}
@@ -0,0 +1,74 @@
+package kodanect.domain.logging.storage;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 일별 또는 월별로 분할된 액션 로그 테이블 하나를 나타내는 불변 객체입니다.
+ *
+ * 테이블 이름의 접미사로 보관 구간 [start, end)를 계산합니다.
+ * 저장 방식을 바꾼 뒤에도 이전 방식의 테이블을 정리할 수 있도록 두 형식을 모두 인식합니다.
+ */
+@Getter
+public final class ActionLogPartition {
+
+    private static final int DAILY_SUFFIX_LENGTH = 8;
+    private static final int MONTHLY_SUFFIX_LENGTH = 6;
+    private static final DateTimeFormatter DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String tableName;
+    private final LocalDate start;
+    private final LocalDate end;
+
+    private ActionLogPartition(String tableName, LocalDate start, LocalDate end) {
+        this.tableName = tableName;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * 테이블 이름을 분석하여 분할 테이블이면 보관 구간을 계산합니다.
+     *
+     * @param tableName 테이블 이름 (대소문자 무관)
+     * @return 분할 테이블이면 해당 구간, 아니면 empty
+     */
+    public static Optional<ActionLogPartition> parse(String tableName) {
+        String name = tableName.toLowerCase(Locale.ROOT);
+        String prefix = ActionLogPartitionManager.BASE_TABLE + "_";
+
+        if (!name.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        String suffix = name.substring(prefix.length());
+
+        try {
+            if (suffix.length() == DAILY_SUFFIX_LENGTH) {
+                LocalDate day = LocalDate.parse(suffix, DAILY_FORMAT);
+                return Optional.of(new ActionLogPartition(name, day, day.plusDays(1)));
+            }
+            if (suffix.length() == MONTHLY_SUFFIX_LENGTH) {
+                LocalDate month = LocalDate.parse(suffix + "01", DAILY_FORMAT);
+                return Optional.of(new ActionLogPartition(name, month, month.plusMonths(1)));
+            }
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @param cutoff 보관 기준일 (이 날짜 이전 데이터는 만료)
+     * @return 구간 전체가 기준일 이전이면 true
+     */
+    public boolean isExpired(LocalDate cutoff) {
+        return !end.isAfter(cutoff);
+    }
+
+}
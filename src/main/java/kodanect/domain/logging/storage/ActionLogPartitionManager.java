@@ -0,0 +1,140 @@
+package kodanect.domain.logging.storage;
+
+import kodanect.common.config.properties.ActionLogStorageProperties;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액션 로그 분할 테이블의 이름 결정, 생성, 조회, 삭제를 담당하는 컴포넌트입니다.
+ *
+ * - SINGLE 모드에서는 항상 기존 단일 테이블을 사용하며 DDL을 실행하지 않습니다.
+ * - DAILY/MONTHLY 모드에서는 write_time이 속한 구간의 테이블을 처음 사용할 때 생성합니다.
+ *   (생성된 테이블 이름은 메모리에 기억하여 이후에는 DDL 없이 바로 사용합니다.)
+ * - 분할 테이블에는 행이 나타내는 로그 건수(log_count, 조회 로그 집계 행은 집계 건수, 그 외 1)를 함께 저장하여
+ *   보관 기간 정리 시 건수를 합산할 수 있도록 합니다.
+ *
+ * 분할 테이블과 일별 집계 테이블은 JPA 엔티티가 아니므로 스키마 검증(ddl-auto=validate) 대상이 아닙니다.
+ */
+@Component
+public class ActionLogPartitionManager {
+
+    /**
+     * 기존 단일 액션 로그 테이블
+     */
+    public static final String BASE_TABLE = "tb25_940_action_log";
+
+    /**
+     * 만료된 원본 로그를 압축한 일별 집계 테이블
+     */
+    public static final String ROLLUP_TABLE = "tb25_941_action_log_daily";
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogPartitionManager.class);
+
+    private static final String CREATE_PARTITION_SQL = "CREATE TABLE IF NOT EXISTS %s ("
+            + "log_seq INT NOT NULL AUTO_INCREMENT, "
+            + "url_name VARCHAR(600) NOT NULL, "
+            + "crud_code VARCHAR(10), "
+            + "ip_addr VARCHAR(60), "
+            + "log_text TEXT, "
+            + "write_time DATETIME NOT NULL, "
+            + "log_count BIGINT NOT NULL DEFAULT 1, "
+            + "PRIMARY KEY (log_seq))";
+
+    private static final String CREATE_ROLLUP_SQL = "CREATE TABLE IF NOT EXISTS " + ROLLUP_TABLE + " ("
+            + "stat_date DATE NOT NULL, "
+            + "crud_code VARCHAR(10) NOT NULL, "
+            + "url_name VARCHAR(600) NOT NULL, "
+            + "log_count BIGINT NOT NULL, "
+            + "PRIMARY KEY (stat_date, crud_code, url_name))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActionLogStorageProperties properties;
+    private final Set<String> createdTables = ConcurrentHashMap.newKeySet();
+
+    public ActionLogPartitionManager(JdbcTemplate jdbcTemplate, ActionLogStorageProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 기록 시각에 해당하는 저장 테이블을 반환하며, 분할 테이블이 없으면 생성합니다.
+     *
+     * @param writeTime 로그 기록 시각
+     * @return 저장할 테이블 이름
+     */
+    public String tableFor(LocalDateTime writeTime) {
+        ActionLogStorageMode mode = properties.getMode();
+
+        if (!mode.isPartitioned()) {
+            return BASE_TABLE;
+        }
+
+        String table = BASE_TABLE + "_" + mode.suffixOf(writeTime.toLocalDate());
+
+        if (!createdTables.contains(table)) {
+            jdbcTemplate.execute(String.format(CREATE_PARTITION_SQL, table));
+            createdTables.add(table);
+            log.info("[액션 로그 저장소] 분할 테이블 준비: {}", table);
+        }
+
+        return table;
+    }
+
+    /**
+     * 현재 DB에 존재하는 분할 테이블을 구간 시작일 순으로 반환합니다.
+     *
+     * @return 분할 테이블 목록
+     */
+    public List<ActionLogPartition> listPartitions() {
+        List<ActionLogPartition> partitions = jdbcTemplate.execute((ConnectionCallback<List<ActionLogPartition>>) connection -> {
+            List<ActionLogPartition> found = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, null, new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    ActionLogPartition.parse(tables.getString("TABLE_NAME")).ifPresent(found::add);
+                }
+            }
+            return found;
+        });
+
+        if (partitions == null) {
+            return List.of();
+        }
+
+        partitions.sort(Comparator.comparing(ActionLogPartition::getStart));
+        return partitions;
+    }
+
+    /**
+     * 분할 테이블을 통째로 삭제합니다. (행 단위 DELETE를 실행하지 않습니다.)
+     *
+     * @param partition 삭제할 분할 테이블
+     */
+    public void drop(ActionLogPartition partition) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.getTableName());
+        createdTables.remove(partition.getTableName());
+    }
+
+    /**
+     * 일별 집계 테이블이 없으면 생성합니다.
+     */
+    public void ensureRollupTable() {
+        if (!createdTables.contains(ROLLUP_TABLE)) {
+            jdbcTemplate.execute(CREATE_ROLLUP_SQL);
+            createdTables.add(ROLLUP_TABLE);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package kodanect.domain.logging.storage;
+
+import kodanect.common.config.properties.ActionLogStorageProperties;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 보관 기간이 지난 액션 로그 분할 테이블을 일별 집계로 압축한 뒤 삭제하는 스케줄 작업입니다.
+ *
+ * 분할 테이블마다 다음 순서로 처리합니다.
+ * 1. 해당 구간의 기존 집계 행을 지우고, 원본 로그를 (날짜, CRUD 코드, URL)별 건수로 다시 집계 (한 트랜잭션)
+ *    건수는 행 수가 아닌 log_count의 합계이므로, 조회 로그 집계 행은 집계된 건수만큼 반영됩니다.
+ * 2. 집계가 성공한 경우에만 분할 테이블을 DROP
+ *
+ * 집계 전에 구간을 비우므로 삭제 직전에 실패하여 다음 주기에 다시 처리되더라도 건수가 중복되지 않습니다.
+ * SINGLE 모드에서는 분할 테이블이 없으므로 아무 작업도 하지 않습니다.
+ */
+@Component
+public class ActionLogRetentionJob {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogRetentionJob.class);
+
+    private static final String DELETE_ROLLUP_SQL = "DELETE FROM " + ActionLogPartitionManager.ROLLUP_TABLE
+            + " WHERE stat_date >= ? AND stat_date < ?";
+
+    private static final String ROLLUP_SQL = "INSERT INTO " + ActionLogPartitionManager.ROLLUP_TABLE
+            + " (stat_date, crud_code, url_name, log_count)"
+            + " SELECT CAST(write_time AS DATE), COALESCE(crud_code, ''), url_name, SUM(log_count) FROM %s"
+            + " GROUP BY CAST(write_time AS DATE), COALESCE(crud_code, ''), url_name";
+
+    private final ActionLogPartitionManager partitionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActionLogStorageProperties properties;
+
+    public ActionLogRetentionJob(ActionLogPartitionManager partitionManager,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ActionLogStorageProperties properties) {
+        this.partitionManager = partitionManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 설정된 주기마다 보관 기간 정리 작업을 실행합니다.
+     */
+    @Scheduled(cron = "${action-log.storage.retention-cron:0 30 3 * * *}")
+    public void run() {
+        applyRetention(LocalDate.now());
+    }
+
+    /**
+     * 기준일로부터 보관 일수 이전에 끝난 분할 테이블을 집계 후 삭제합니다.
+     *
+     * @param today 기준일
+     * @return 삭제한 분할 테이블 수
+     */
+    public int applyRetention(LocalDate today) {
+        LocalDate cutoff = today.minusDays(properties.getRetentionDays());
+        int dropped = 0;
+
+        for (ActionLogPartition partition : partitionManager.listPartitions()) {
+            if (!partition.isExpired(cutoff)) {
+                continue;
+            }
+
+            try {
+                partitionManager.ensureRollupTable();
+                rollup(partition);
+                partitionManager.drop(partition);
+                dropped++;
+                log.info("[액션 로그 보관] 분할 테이블 집계 후 삭제: {}", partition.getTableName());
+            } catch (DataAccessException e) {
+                log.error("[액션 로그 보관] 분할 테이블 정리 실패 ({}): {}", partition.getTableName(), e.getMessage());
+            }
+        }
+
+        return dropped;
+    }
+
+    private void rollup(ActionLogPartition partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ROLLUP_SQL, Date.valueOf(partition.getStart()), Date.valueOf(partition.getEnd()));
+            jdbcTemplate.update(String.format(ROLLUP_SQL, partition.getTableName()));
+        });
+    }
+
+}
@@ -0,0 +1,42 @@
+package kodanect.domain.logging.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 액션 로그 저장 방식입니다.
+ *
+ * - SINGLE: 기존 단일 테이블(tb25_940_action_log)에 저장
+ * - DAILY: write_time 기준 일별 테이블(tb25_940_action_log_yyyyMMdd)에 저장
+ * - MONTHLY: write_time 기준 월별 테이블(tb25_940_action_log_yyyyMM)에 저장
+ */
+public enum ActionLogStorageMode {
+
+    SINGLE(null),
+    DAILY(DateTimeFormatter.ofPattern("yyyyMMdd")),
+    MONTHLY(DateTimeFormatter.ofPattern("yyyyMM"));
+
+    private final DateTimeFormatter suffixFormat;
+
+    ActionLogStorageMode(DateTimeFormatter suffixFormat) {
+        this.suffixFormat = suffixFormat;
+    }
+
+    /**
+     * @return 테이블 분할 여부
+     */
+    public boolean isPartitioned() {
+        return suffixFormat != null;
+    }
+
+    /**
+     * 날짜가 속한 분할 테이블의 접미사를 반환합니다.
+     *
+     * @param date 기준 날짜
+     * @return 테이블 접미사 (SINGLE이면 null)
+     */
+    public String suffixOf(LocalDate date) {
+        return isPartitioned() ? date.format(suffixFormat) : null;
+    }
+
+}
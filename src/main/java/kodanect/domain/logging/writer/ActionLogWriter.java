@@ -0,0 +1,195 @@
+package kodanect.domain.logging.writer;
+
+import kodanect.common.config.properties.ActionLogWriterProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+import kodanect.domain.logging.sink.ActionLogSink;
+import kodanect.domain.logging.storage.ActionLogPartition;
+import kodanect.domain.logging.storage.ActionLogPartitionManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ActionLog}를 JDBC batch INSERT로 저장하는 컴포넌트입니다. (DATABASE 저장소의 {@link ActionLogSink} 구현체)
+ *
+ * {@code ActionLog.logSeq}는 IDENTITY 전략이므로 JPA saveAll()은 행마다 INSERT를 따로 전송합니다.
+ * 이 클래스는 {@link JdbcTemplate#batchUpdate}로 청크 단위 batch를 전송하여 왕복 횟수를 줄입니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 다중 행 INSERT로 재작성됩니다.)
+ *
+ * - 저장 테이블은 {@link ActionLogPartitionManager}가 write_time 기준으로 결정합니다. (분할 모드에서는 일별/월별 테이블)
+ * - 분할 테이블에는 행이 나타내는 로그 건수(log_count)를 함께 저장합니다.
+ * - 청크마다 별도 트랜잭션으로 커밋합니다. (이미 진행 중인 트랜잭션이 있으면 참여합니다.)
+ * - 청크 저장이 실패하면 지정된 횟수만큼 대기 후 재시도합니다.
+ * - 제약 조건 위반({@link DataIntegrityViolationException})처럼 특정 행 때문에 실패한 청크는 재시도하지 않고
+ *   행마다 다시 저장하며, 저장할 수 없는 행만 로그를 남기고 건너뜁니다.
+ * - 재시도 후에도 실패하면 {@link ActionLogWriteException}을 던집니다.
+ *   배출기는 이 예외를 받으면 배출한 로그를 버퍼로 되돌리므로, 다시 저장되기 전까지 스풀 체크포인트는 커밋되지 않습니다.
+ */
+@Component
+public class ActionLogWriter implements ActionLogSink {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO %s (url_name, crud_code, ip_addr, log_text, write_time) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String PARTITION_INSERT_SQL =
+            "INSERT INTO %s (url_name, crud_code, ip_addr, log_text, write_time, log_count) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int URL_NAME_INDEX = 1;
+    private static final int CRUD_CODE_INDEX = 2;
+    private static final int IP_ADDR_INDEX = 3;
+    private static final int LOG_TEXT_INDEX = 4;
+    private static final int WRITE_TIME_INDEX = 5;
+    private static final int LOG_COUNT_INDEX = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActionLogWriterProperties properties;
+    private final ActionLogPartitionManager partitionManager;
+
+    public ActionLogWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ActionLogWriterProperties properties,
+                           ActionLogPartitionManager partitionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.partitionManager = partitionManager;
+    }
+
+    /**
+     * 로그 목록을 청크 단위로 나누어 저장합니다.
+     *
+     * @param logs 저장할 로그 목록
+     * @return 저장된 행 수
+     */
+    @Override
+    public int write(List<ActionLog> logs) {
+        if (logs == null || logs.isEmpty()) {
+            return 0;
+        }
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp defaultWriteTime = Timestamp.valueOf(now);
+        int written = 0;
+
+        for (Map.Entry<String, List<ActionLog>> entry : groupByTable(logs, now).entrySet()) {
+            boolean partitioned = ActionLogPartition.parse(entry.getKey()).isPresent();
+            String sql = String.format(partitioned ? PARTITION_INSERT_SQL : INSERT_SQL, entry.getKey());
+            List<ActionLog> tableLogs = entry.getValue();
+
+            for (int from = 0; from < tableLogs.size(); from += chunkSize) {
+                List<ActionLog> chunk = tableLogs.subList(from, Math.min(from + chunkSize, tableLogs.size()));
+                written += writeChunkWithRetry(sql, chunk, defaultWriteTime, partitioned);
+            }
+        }
+
+        return written;
+    }
+
+    @Override
+    public String getName() {
+        return "database";
+    }
+
+    /**
+     * 로그를 저장 테이블별로 나눕니다. (단일 테이블 모드에서는 항상 한 그룹)
+     */
+    private Map<String, List<ActionLog>> groupByTable(List<ActionLog> logs, LocalDateTime now) {
+        Map<String, List<ActionLog>> groups = new LinkedHashMap<>();
+
+        for (ActionLog actionLog : logs) {
+            LocalDateTime writeTime = actionLog.getWriteTime() != null ? actionLog.getWriteTime() : now;
+            groups.computeIfAbsent(partitionManager.tableFor(writeTime), table -> new ArrayList<>()).add(actionLog);
+        }
+        return groups;
+    }
+
+    private int writeChunkWithRetry(String sql, List<ActionLog> chunk, Timestamp now, boolean partitioned) {
+        int attempt = 0;
+
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(sql, chunk, now, partitioned));
+                return chunk.size();
+            } catch (DataAccessException e) {
+                if (e instanceof DataIntegrityViolationException) {
+                    log.warn("[액션 로그 저장] 청크에 저장할 수 없는 행이 있어 행 단위로 저장합니다 ({}건): {}", chunk.size(), e.getMessage());
+                    return writeRowByRow(sql, chunk, now, partitioned);
+                }
+
+                attempt++;
+
+                if (attempt > properties.getMaxRetries()) {
+                    log.error("[액션 로그 저장] 청크 저장 최종 실패 ({}건, {}회 시도): {}", chunk.size(), attempt, e.getMessage());
+                    throw new ActionLogWriteException(chunk.size(), e);
+                }
+
+                log.warn("[액션 로그 저장] 청크 저장 실패, 재시도 {}/{}: {}", attempt, properties.getMaxRetries(), e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 청크의 행을 하나씩 별도 트랜잭션으로 저장합니다.
+     * 제약 조건을 위반한 행은 건너뛰고, 그 밖의 오류가 발생하면 {@link ActionLogWriteException}을 던집니다.
+     */
+    private int writeRowByRow(String sql, List<ActionLog> chunk, Timestamp now, boolean partitioned) {
+        int written = 0;
+
+        for (ActionLog actionLog : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(sql, List.of(actionLog), now, partitioned));
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                log.error("[액션 로그 저장] 저장할 수 없는 행을 건너뜁니다 (url: {}, crud: {}): {}",
+                        actionLog.getUrlName(), actionLog.getCrudCode(), e.getMessage());
+            } catch (DataAccessException e) {
+                log.error("[액션 로그 저장] 행 단위 저장 실패 ({}건 중 {}건 저장): {}", chunk.size(), written, e.getMessage());
+                throw new ActionLogWriteException(chunk.size(), e);
+            }
+        }
+
+        return written;
+    }
+
+    private void insertChunk(String sql, List<ActionLog> chunk, Timestamp now, boolean partitioned) {
+        jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, actionLog) -> {
+            ps.setString(URL_NAME_INDEX, actionLog.getUrlName());
+            ps.setString(CRUD_CODE_INDEX, actionLog.getCrudCode());
+            ps.setString(IP_ADDR_INDEX, actionLog.getIpAddr());
+            ps.setString(LOG_TEXT_INDEX, actionLog.getLogText());
+            ps.setTimestamp(WRITE_TIME_INDEX, actionLog.getWriteTime() != null
+                    ? Timestamp.valueOf(actionLog.getWriteTime())
+                    : now);
+
+            if (partitioned) {
+                ps.setLong(LOG_COUNT_INDEX, actionLog.getLogCount() != null ? actionLog.getLogCount() : 1L);
+            }
+        });
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(properties.getRetryBackoffMillis() * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Map;
 
@@ -87,9 +88,9 @@ public class RecipientController {
             **응답:** `ApiResponse<RecipientDetailResponseDto>`
             */
     @GetMapping("/{letterSeq}")
-    public ResponseEntity<ApiResponse<RecipientDetailResponseDto>> view(@PathVariable("letterSeq") Integer letterSeq){
+    public ResponseEntity<ApiResponse<RecipientDetailResponseDto>> view(@PathVariable("letterSeq") Integer letterSeq, HttpServletRequest request){
         logger.info("게시물 상세 조회 요청: letterSeq={}", letterSeq);
-        RecipientDetailResponseDto recipientDto = recipientService.selectRecipient(letterSeq);
+        RecipientDetailResponseDto recipientDto = recipientService.selectRecipient(letterSeq, request.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, "게시물 조회 성공", recipientDto));
     }
 
@@ -122,10 +122,6 @@ public class RecipientEntity {
     private List<RecipientCommentEntity> comments = new ArrayList<>(); // NullPointerException 방지를 위해 초기화
 
     // 비즈니스 로직을 위한 메서드
-    public void incrementReadCount() {
-        this.readCount = this.readCount + 1;
-    }
-
     public void softDelete() {
         this.delFlag = "Y";
         // 게시물 삭제 시, 연결된 댓글도 함께 소프트 삭제
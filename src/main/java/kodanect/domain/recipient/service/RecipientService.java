@@ -22,7 +22,7 @@ public interface RecipientService {
     RecipientDetailResponseDto insertRecipient(RecipientRequestDto requestDto);
 
     // 특정 게시물 조회
-    RecipientDetailResponseDto selectRecipient(Integer letterSeq);
+    RecipientDetailResponseDto selectRecipient(Integer letterSeq, String clientIp);
 
     CursorPaginationResponse<RecipientListResponseDto, Integer> selectRecipientList(
             RecipientSearchCondition searchCondition,
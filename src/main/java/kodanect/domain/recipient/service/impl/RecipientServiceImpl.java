@@ -1,10 +1,17 @@
 package kodanect.domain.recipient.service.impl;
 
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
 import kodanect.common.config.properties.GlobalsProperties;
 import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
 import kodanect.common.response.CursorCommentCountPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.CursorFormatter;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.recipient.dto.*;
 import kodanect.domain.recipient.exception.RecipientInvalidPasscodeException;
 import kodanect.domain.recipient.exception.RecipientInvalidDataException;
@@ -50,6 +57,7 @@ public class RecipientServiceImpl implements RecipientService {
     private static final String DEL_FLAG = "delFlag";
     private static final String COMMENT_SEQ = "commentSeq";
     private static final String WRITE_TIME = "writeTime";
+    private static final String VIEW_BOARD = "recipient";
 
     // 의존성 주입 (final 필드)
     private final String organCodeDirectInput;
@@ -57,16 +65,31 @@ public class RecipientServiceImpl implements RecipientService {
     private final RecipientRepository recipientRepository;
     private final RecipientCommentRepository recipientCommentRepository;
     private final GlobalsProperties globalsProperties; // GlobalsProperties 주입
+    private final ViewDedupService viewDedupService;
+    private final ReadCountAggregator readCountAggregator;
+    private final BoardCountRegistry boardCountRegistry;
+    private final SearchResultCache searchResultCache;
+    private final FirstPageCache firstPageCache;
 
     public RecipientServiceImpl(
             RecipientRepository recipientRepository,
             RecipientCommentRepository recipientCommentRepository,
             GlobalsProperties globalsProperties,
+            ViewDedupService viewDedupService,
+            ReadCountAggregator readCountAggregator,
+            BoardCountRegistry boardCountRegistry,
+            SearchResultCache searchResultCache,
+            FirstPageCache firstPageCache,
             @Value("${recipient.organ-code-direct-input:ORGAN000}") String organCodeDirectInput,
             @Value("${recipient.anonymous-writer-value:익명}") String anonymousWriterValue) {
         this.recipientRepository = recipientRepository;
         this.recipientCommentRepository = recipientCommentRepository;
         this.globalsProperties = globalsProperties;
+        this.viewDedupService = viewDedupService;
+        this.readCountAggregator = readCountAggregator;
+        this.boardCountRegistry = boardCountRegistry;
+        this.searchResultCache = searchResultCache;
+        this.firstPageCache = firstPageCache;
         this.organCodeDirectInput = organCodeDirectInput;
         this.anonymousWriterValue = anonymousWriterValue;
     }
@@ -121,6 +144,8 @@ public class RecipientServiceImpl implements RecipientService {
         handleOrganCodeAndEtc(recipientEntityOld, requestDto); // 별도 메서드로 분리
 
         RecipientEntity updatedEntity = recipientRepository.save(recipientEntityOld); // 변경사항 저장
+        searchResultCache.invalidate(CountedBoard.RECIPIENT);
+        firstPageCache.invalidate(CountedBoard.RECIPIENT);
 
         // 변경된 이미지 파일 처리: 삭제된 이미지 파일은 물리적으로 삭제
         handleImageFilesDeletion(oldImageInfo.fileNames, newImageInfo.fileNames);
@@ -148,6 +173,9 @@ public class RecipientServiceImpl implements RecipientService {
         // 게시물 소프트 삭제
         recipientEntityold.softDelete();
         recipientRepository.save(recipientEntityold);
+        boardCountRegistry.decrement(CountedBoard.RECIPIENT);
+        searchResultCache.invalidate(CountedBoard.RECIPIENT);
+        firstPageCache.invalidate(CountedBoard.RECIPIENT);
 
         // 해당 게시물의 모든 댓글 소프트 삭제
         List<RecipientCommentEntity> commentsToSoftDelete =
@@ -180,24 +208,30 @@ public class RecipientServiceImpl implements RecipientService {
         handleOrganCodeAndEtc(recipientEntityRequest, requestDto);
 
         RecipientEntity savedEntity = recipientRepository.save(recipientEntityRequest);
+        boardCountRegistry.increment(CountedBoard.RECIPIENT);
+        searchResultCache.invalidate(CountedBoard.RECIPIENT);
+        firstPageCache.invalidate(CountedBoard.RECIPIENT);
         return RecipientDetailResponseDto.fromEntity(savedEntity, globalsProperties.getFileBaseUrl());
     }
 
     // 특정 게시물 조회
     @Transactional
     @Override
-    public RecipientDetailResponseDto selectRecipient(Integer letterSeq) {
+    public RecipientDetailResponseDto selectRecipient(Integer letterSeq, String clientIp) {
         // 1. 해당 게시물 조회 (삭제되지 않은 게시물만 조회하도록 필터링)
         RecipientEntity recipientEntity = recipientRepository.findById(letterSeq)
                 .filter(entity -> "N".equalsIgnoreCase(entity.getDelFlag()))
                 .orElseThrow(() -> new RecipientNotFoundException(RECIPIENT_NOT_FOUND, letterSeq));
 
-        // 2. 조회수 증가
-        recipientEntity.incrementReadCount();
-        recipientRepository.save(recipientEntity); // 조회수 업데이트
+        // 2. 조회수 증가 (같은 IP의 중복 조회 제외, DB 반영은 주기적으로 수행)
+        if (viewDedupService.isFirstView(VIEW_BOARD, letterSeq, clientIp)) {
+            readCountAggregator.increment(ReadCountBoard.RECIPIENT, null, letterSeq);
+        }
 
-        // 3. Entity를 RecipientDetailResponseDto 변환 (댓글 포함)
+        // 3. Entity를 RecipientDetailResponseDto 변환 (댓글 포함, 반영 대기 중인 조회수 합산)
         RecipientDetailResponseDto responseDto = RecipientDetailResponseDto.fromEntity(recipientEntity, globalsProperties.getFileBaseUrl());
+        responseDto.setReadCount(responseDto.getReadCount()
+                + (int) readCountAggregator.pending(ReadCountBoard.RECIPIENT, null, letterSeq));
 
         // 4. 상위 INITIAL_COMMENT_LOAD_LIMIT 개 댓글 조회
         // lastCommentId는 첫 조회이므로 0 (또는 null), size는 INITIAL_COMMENT_LOAD_LIMIT + 1 (다음 커서 확인용)
@@ -245,6 +279,19 @@ public class RecipientServiceImpl implements RecipientService {
             Integer cursor,
             int size) {
 
+        // 검색어가 없는 첫 페이지는 목록 첫 페이지 캐시 사용
+        if (!StringUtils.hasText(searchCondition.getKeyWord()) && (cursor == null || cursor <= 0)) {
+            return firstPageCache.get(CountedBoard.RECIPIENT, size, () -> findRecipientPage(searchCondition, null, size));
+        }
+        return findRecipientPage(searchCondition, cursor, size);
+    }
+
+    // 커서 기반 게시물 목록 조회 (검색 조건 적용)
+    private CursorPaginationResponse<RecipientListResponseDto, Integer> findRecipientPage(
+            RecipientSearchCondition searchCondition,
+            Integer cursor,
+            int size) {
+
         // 1. 쿼리할 데이터의 실제 size (클라이언트 요청 size + 1 하여 다음 커서 존재 여부 확인)
         int querySize = size + 1;
 
@@ -262,26 +309,36 @@ public class RecipientServiceImpl implements RecipientService {
         // 5. Pageable 설정 (offset은 항상 0, limit은 querySize)
         Pageable pageable = PageRequest.of(0, querySize, sort);
 
-        // 6. 게시물 조회
-        List<RecipientEntity> recipientList = recipientRepository.findAll(spec, pageable).getContent(); // Page 객체에서 List 추출
+        // 6. 게시물 조회 및 RecipientListResponseDto로 변환 (검색어가 있는 첫 페이지는 검색 결과 캐시 사용)
+        boolean keywordSearch = StringUtils.hasText(searchCondition.getKeyWord());
+        String searchType = searchCondition.getType() != null ? searchCondition.getType().name() : SearchType.ALL.name();
+        String searchKeyword = SearchResultCache.normalize(searchCondition.getKeyWord()).toLowerCase();
+        Specification<RecipientEntity> pageSpec = spec;
 
-        // 7. RecipientEntity를 RecipientListResponseDto로 변환
-        List<RecipientListResponseDto> recipientResponseDtos = new ArrayList<>();
+        List<RecipientListResponseDto> recipientResponseDtos = keywordSearch && (cursor == null || cursor <= 0)
+                ? searchResultCache.firstPage(CountedBoard.RECIPIENT, searchType, searchKeyword, querySize, () -> findRecipientList(pageSpec, pageable))
+                : findRecipientList(pageSpec, pageable);
 
-        for (int i = 0; i < recipientList.size(); i++) {
-            RecipientEntity entity = recipientList.get(i);
-            RecipientListResponseDto dto = RecipientListResponseDto.fromEntity(entity, anonymousWriterValue);
+        // 7. 검색 조건에 맞는 전체 게시물 총 개수 조회 (검색어가 없으면 메모리에 유지 중인 전체 게시물 수, 있으면 검색 결과 캐시 사용)
+        Integer totalCount = keywordSearch
+                ? (int) searchResultCache.count(CountedBoard.RECIPIENT, searchType, searchKeyword,
+                        () -> recipientRepository.count(getRecipientSpecification(searchCondition)
+                                .and((root, query, cb) -> cb.equal(root.get(DEL_FLAG), "N")))) // 전체 개수 셀 때도 delFlag 조건 추가
+                : (int) boardCountRegistry.get(CountedBoard.RECIPIENT);
 
-            recipientResponseDtos.add(dto);
-        }
+        // 8. CursorFormatter 사용하여 응답 포맷팅
+        return CursorFormatter.<RecipientListResponseDto, Integer> cursorFormat(recipientResponseDtos, size, totalCount);
+    }
 
-        // 8. 검색 조건에 맞는 전체 게시물 총 개수 조회
-        Integer totalCount = (int) recipientRepository.count(getRecipientSpecification(searchCondition)
-                .and((root, query, cb) -> cb.equal(root.get(DEL_FLAG), "N")) // 전체 개수 셀 때도 delFlag 조건 추가
-        );
+    // 게시물 조회 후 RecipientListResponseDto로 변환
+    private List<RecipientListResponseDto> findRecipientList(Specification<RecipientEntity> spec, Pageable pageable) {
+        List<RecipientEntity> recipientList = recipientRepository.findAll(spec, pageable).getContent(); // Page 객체에서 List 추출
+        List<RecipientListResponseDto> recipientResponseDtos = new ArrayList<>();
 
-        // 9. CursorFormatter 사용하여 응답 포맷팅
-        return CursorFormatter.<RecipientListResponseDto, Integer> cursorFormat(recipientResponseDtos, size, totalCount);
+        for (RecipientEntity entity : recipientList) {
+            recipientResponseDtos.add(RecipientListResponseDto.fromEntity(entity, anonymousWriterValue));
+        }
+        return recipientResponseDtos;
     }
 
     /**
@@ -0,0 +1,148 @@
+package kodanect.domain.remembrance.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kodanect.common.config.properties.MemorialDetailCacheProperties;
+import kodanect.common.response.CursorCommentPaginationResponse;
+import kodanect.common.response.CursorPaginationResponse;
+import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
+import kodanect.domain.remembrance.dto.MemorialCommentResponse;
+import kodanect.domain.remembrance.dto.MemorialDetailResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+/**
+ * 기증자 추모관 상세 조회 응답({@link MemorialDetailResponse})을 게시글 번호별로 보관하는 읽기 캐시입니다.
+ *
+ * - 캐시에 없으면 loader로 조회하여 보관하며(read-through), 같은 게시글의 동시 조회는 한 번만 DB를 조회합니다.
+ * - 댓글 작성/수정/삭제, 하늘나라 편지 작성/수정/삭제, 이모지 카운트 반영 시 해당 게시글만 무효화합니다.
+ *   트랜잭션 안에서 무효화하면 커밋 이후에 한 번 더 무효화하여, 커밋 전 값이 다시 보관되지 않게 합니다.
+ * - 응답의 추정 크기(byte) 합계가 maxWeightBytes를 넘으면 오래 쓰이지 않은 항목부터 제거합니다.
+ * - 무효화 대상이 아닌 값(하늘나라 편지 조회 수 등)은 expireAfterWrite 이후 다시 조회됩니다.
+ * - 반환 값은 복사본이므로 호출자가 이모지 반영 대기 값 등을 더해도 캐시에는 영향이 없습니다.
+ *
+ * 메트릭 (cache=memorial.detail):
+ * - cache.gets {result=hit|miss}, cache.puts, cache.evictions, cache.eviction.weight, cache.size
+ * - memorial.detail.cache.weight: 보관 중인 응답의 추정 크기 합계 (byte)
+ *
+ * 단일 인스턴스 서버 기준입니다. (다른 인스턴스의 쓰기는 expireAfterWrite 이후 반영)
+ */
+@Component
+public class MemorialDetailCache {
+
+    static final String CACHE_NAME = "memorial.detail";
+
+    private static final int OBJECT_OVERHEAD_BYTES = 512;
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final boolean enabled;
+    private final Cache<Integer, MemorialDetailResponse> cache;
+
+    public MemorialDetailCache(MemorialDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(0L, properties.getMaxWeightBytes()))
+                .weigher((Integer donateSeq, MemorialDetailResponse response) -> estimateBytes(response))
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".cache.weight", this, MemorialDetailCache::getWeightedBytes)
+                .description("캐시에 보관 중인 추모관 상세 응답의 추정 크기 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답의 복사본을 반환하며, 없으면 loader로 조회하여 보관합니다.
+     *
+     * @param donateSeq 게시글 번호
+     * @param loader    DB 조회 함수 (예외는 그대로 전달되며 보관하지 않음)
+     * @return 상세 조회 응답 (복사본)
+     */
+    public MemorialDetailResponse get(Integer donateSeq, Function<Integer, MemorialDetailResponse> loader) {
+        if (!enabled) {
+            return loader.apply(donateSeq);
+        }
+        return cache.get(donateSeq, loader).copy();
+    }
+
+    /**
+     * 게시글의 캐시를 무효화합니다. 트랜잭션 안이면 커밋 이후에 한 번 더 무효화합니다.
+     *
+     * @param donateSeq 게시글 번호 (null이면 무시)
+     */
+    public void invalidate(Integer donateSeq) {
+        if (donateSeq == null) {
+            return;
+        }
+
+        cache.invalidate(donateSeq);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(donateSeq);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return 보관 중인 응답의 추정 크기 합계 (byte)
+     */
+    long getWeightedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * 대기 중인 제거 작업을 즉시 수행합니다.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * 응답 하나의 힙 사용량을 문자열 길이 기준으로 추정합니다. (문자 1개 = 2 byte로 계산)
+     */
+    static int estimateBytes(MemorialDetailResponse response) {
+        long bytes = OBJECT_OVERHEAD_BYTES
+                + chars(response.getDonorName())
+                + chars(response.getDonateTitle())
+                + chars(response.getContents())
+                + chars(response.getFileName())
+                + chars(response.getOrgFileName())
+                + chars(response.getWriter());
+
+        CursorCommentPaginationResponse<MemorialCommentResponse, Integer> replies = response.getMemorialCommentResponses();
+        if (replies != null && replies.getContent() != null) {
+            for (MemorialCommentResponse reply : replies.getContent()) {
+                bytes += ENTRY_OVERHEAD_BYTES + chars(reply.getCommentWriter()) + chars(reply.getContents());
+            }
+        }
+
+        CursorPaginationResponse<MemorialHeavenResponse, Integer> letters = response.getHeavenLetterResponses();
+        if (letters != null && letters.getContent() != null) {
+            for (MemorialHeavenResponse letter : letters.getContent()) {
+                bytes += ENTRY_OVERHEAD_BYTES + chars(letter.getLetterTitle());
+            }
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long chars(String value) {
+        return value != null ? (long) value.length() * Character.BYTES : 0L;
+    }
+
+}
@@ -1,7 +1,9 @@
 package kodanect.domain.remembrance.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.util.EmotionType;
 import kodanect.common.util.FormatUtils;
 import kodanect.common.util.MemorialHtmlNormalizer;
 import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
@@ -40,7 +42,7 @@ import java.time.LocalDateTime;
  * <p>heavenLetterResponses : </p>
  *
  * */
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter @ToString
@@ -58,6 +60,12 @@ public class MemorialDetailResponse {
     /* 기증자 내용 */
     private String contents;
 
+    /* 기증자 내용 (contentsFormat 결과, 생성 시 계산) */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private String formattedContents;
+
     /* 이미지 파일 명 */
     private String fileName;
 
@@ -107,6 +115,9 @@ public class MemorialDetailResponse {
     private CursorPaginationResponse<MemorialHeavenResponse, Integer> heavenLetterResponses;
 
     public String getContents() {
+        if (this.formattedContents != null) {
+            return this.formattedContents;
+        }
         return MemorialHtmlNormalizer.contentsFormat(
                 this.donateSeq,
                 this.donorName,
@@ -133,6 +144,34 @@ public class MemorialDetailResponse {
         return donorName;
     }
 
+    /**
+     * 캐시에 보관된 응답을 변경하지 않도록 복사본을 만듭니다. (댓글/편지 목록은 공유)
+     *
+     * @return 복사된 응답
+     */
+    public MemorialDetailResponse copy() {
+        return toBuilder().build();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 이모지 카운트를 더합니다.
+     *
+     * @param pending 이모지별 반영 대기 값 ({@link EmotionType#ordinal()} 순서), 없으면 null
+     */
+    public void addPendingEmotionCounts(long[] pending) {
+        if (pending == null) {
+            return;
+        }
+
+        this.flowerCount += (int) pending[EmotionType.FLOWER.ordinal()];
+        this.loveCount += (int) pending[EmotionType.LOVE.ordinal()];
+        this.seeCount += (int) pending[EmotionType.SEE.ordinal()];
+        this.missCount += (int) pending[EmotionType.MISS.ordinal()];
+        this.proudCount += (int) pending[EmotionType.PROUD.ordinal()];
+        this.hardCount += (int) pending[EmotionType.HARD.ordinal()];
+        this.sadCount += (int) pending[EmotionType.SAD.ordinal()];
+    }
+
     /** 기증자 상세 조회 객체 생성 메서드 */
     public static MemorialDetailResponse of(
             Memorial memorial,
@@ -145,6 +184,12 @@ public class MemorialDetailResponse {
                 .donorName(maskIfNeeded(memorial.getDonorName(), memorial.getAnonymityFlag()))
                 .donateTitle(memorial.getDonateTitle())
                 .contents(memorial.getContents())
+                .formattedContents(MemorialHtmlNormalizer.contentsFormat(
+                        memorial.getDonateSeq(),
+                        maskIfNeeded(memorial.getDonorName(), memorial.getAnonymityFlag()),
+                        memorial.getGenderFlag(),
+                        memorial.getDonateAge(),
+                        memorial.getDonateDate()))
                 .fileName(memorial.getFileName())
                 .orgFileName(memorial.getOrgFileName())
                 .writer(memorial.getWriter())
@@ -0,0 +1,179 @@
+package kodanect.domain.remembrance.emotion;
+
+import kodanect.common.config.properties.MemorialEmotionProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.util.EmotionType;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
+import kodanect.domain.remembrance.exception.MemorialNotFoundException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 기증자 추모관 이모지 클릭을 메모리에 모아서 DB에 반영하는 컴포넌트입니다.
+ *
+ * - 클릭은 게시글 존재 확인({@link MemorialIdCache}) 후 게시글별 {@link EmotionCounter}만 증가시키며,
+ *   행 잠금을 잡는 UPDATE를 실행하지 않습니다.
+ * - 주기마다 게시글별로 7종 이모지의 누적 값을 모아 다중 컬럼 UPDATE 한 건으로 반영합니다.
+ *   batchSize개 게시글의 UPDATE를 한 트랜잭션의 JDBC 배치로 실행합니다.
+ * - 반영에 성공한 만큼만 누적 값에서 차감하므로, 반영 중 들어온 클릭과 반영에 실패한 값은 다음 주기로 넘어갑니다.
+ *   반영한 게시글은 상세 조회 캐시({@link MemorialDetailCache})를 무효화하여 DB 값을 다시 읽게 합니다.
+ * - 상세 조회 응답에는 {@link #pending}으로 아직 반영되지 않은 값을 더해 클릭이 바로 보이게 합니다.
+ * - 애플리케이션 종료 시 남은 값을 한 번 더 반영합니다.
+ *
+ * 게시글별 카운터는 존재하는 게시글에 대해서만 만들어지며 한 번 만들어지면 유지합니다.
+ * 단일 인스턴스 서버 기준이며, 종료 반영 전에 프로세스가 강제 종료되면 마지막 주기의 클릭은 유실됩니다.
+ */
+@Component
+public class EmotionCountAggregator {
+
+    /** UPDATE tb25_400_memorial SET flower_count = flower_count + ?, ... WHERE donate_seq = ? */
+    static final String UPDATE_SQL = Stream.of(EmotionType.values())
+            .map(type -> type.getColumnName() + " = " + type.getColumnName() + " + ?")
+            .collect(Collectors.joining(", ", "UPDATE tb25_400_memorial SET ", " WHERE donate_seq = ?"));
+
+    private static final SecureLogger log = SecureLogger.getLogger(EmotionCountAggregator.class);
+
+    private static final int MAX_AUTO_STRIPES = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemorialIdCache memorialIdCache;
+    private final MemorialDetailCache memorialDetailCache;
+    private final MemorialEmotionProperties properties;
+    private final int stripes;
+    private final ConcurrentMap<Integer, EmotionCounter> counters = new ConcurrentHashMap<>();
+
+    public EmotionCountAggregator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MemorialIdCache memorialIdCache,
+                                  MemorialDetailCache memorialDetailCache,
+                                  MemorialEmotionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memorialIdCache = memorialIdCache;
+        this.memorialDetailCache = memorialDetailCache;
+        this.properties = properties;
+        this.stripes = stripeCount(properties.getStripes());
+    }
+
+    /**
+     * 게시글의 이모지 카운트를 1 증가시킵니다. (DB 반영은 다음 주기에 수행)
+     *
+     * @param donateSeq   게시글 번호
+     * @param emotionType 이모지
+     * @throws MemorialNotFoundException 게시글이 존재하지 않는 경우
+     */
+    public void increment(Integer donateSeq, EmotionType emotionType) throws MemorialNotFoundException {
+        EmotionCounter counter = counters.get(donateSeq);
+
+        if (counter == null) {
+            if (!memorialIdCache.exists(donateSeq)) {
+                throw new MemorialNotFoundException(donateSeq);
+            }
+            counter = counters.computeIfAbsent(donateSeq, key -> new EmotionCounter(stripes));
+        }
+        counter.increment(emotionType);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 이모지 카운트를 반환합니다.
+     *
+     * @param donateSeq 게시글 번호
+     * @return 이모지별 반영 대기 값 ({@link EmotionType#ordinal()} 순서), 클릭 기록이 없으면 null
+     */
+    public long[] pending(Integer donateSeq) {
+        EmotionCounter counter = counters.get(donateSeq);
+        return counter != null ? counter.sum() : null;
+    }
+
+    /**
+     * 누적된 이모지 카운트를 DB에 반영합니다.
+     *
+     * @return 반영한 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${memorial.emotion.flush-interval-millis:5000}",
+            initialDelayString = "${memorial.emotion.flush-interval-millis:5000}")
+    public synchronized int flush() {
+        List<Map.Entry<Integer, long[]>> deltas = new ArrayList<>();
+
+        for (Map.Entry<Integer, EmotionCounter> entry : counters.entrySet()) {
+            long[] delta = entry.getValue().sum();
+
+            if (!EmotionCounter.isEmpty(delta)) {
+                deltas.add(Map.entry(entry.getKey(), delta));
+            }
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int flushed = 0;
+
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Map.Entry<Integer, long[]>> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, buildArguments(batch)));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("[추모관 이모지] 반영 실패, 다음 주기에 재시도 ({}건): {}", batch.size(), e.getMessage());
+                continue;
+            }
+
+            for (Map.Entry<Integer, long[]> entry : batch) {
+                counters.get(entry.getKey()).subtract(entry.getValue());
+                memorialDetailCache.invalidate(entry.getKey());
+            }
+            flushed += batch.size();
+        }
+        return flushed;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 이모지 카운트를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+
+        if (flushed > 0) {
+            log.info("[추모관 이모지] 종료 전 반영: 게시글 {}건", flushed);
+        }
+    }
+
+    private static List<Object[]> buildArguments(List<Map.Entry<Integer, long[]>> batch) {
+        List<Object[]> arguments = new ArrayList<>(batch.size());
+
+        for (Map.Entry<Integer, long[]> entry : batch) {
+            long[] delta = entry.getValue();
+            Object[] row = new Object[delta.length + 1];
+
+            for (int i = 0; i < delta.length; i++) {
+                row[i] = delta[i];
+            }
+            row[delta.length] = entry.getKey();
+            arguments.add(row);
+        }
+        return arguments;
+    }
+
+    /**
+     * 설정값(0이면 CPU 수, 최대 16)을 2의 거듭제곱으로 올립니다.
+     */
+    static int stripeCount(int configured) {
+        int requested = configured > 0 ? configured : Math.min(MAX_AUTO_STRIPES, Runtime.getRuntime().availableProcessors());
+        return requested <= 1 ? 1 : Integer.highestOneBit(requested - 1) << 1;
+    }
+
+}
@@ -0,0 +1,72 @@
+package kodanect.domain.remembrance.emotion;
+
+import kodanect.common.util.EmotionType;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시글 하나의 이모지 카운트(7종)를 누적하는 분할(striped) 카운터입니다.
+ *
+ * - stripes × STRIDE 크기의 {@link AtomicLongArray} 하나에 보관하며, 스레드마다 다른 stripe를 증가시켜
+ *   같은 게시글에 클릭이 몰려도 한 메모리 위치에서 CAS 경합이 일어나지 않게 합니다.
+ * - stripe 하나는 카운트 7개와 여백 1개(8 × 8바이트)로, 다른 stripe와 캐시 라인을 최대한 나눠 쓰지 않습니다.
+ * - 반영 완료분 차감은 stripe 0에만 음수로 더하므로, 합계는 항상 "아직 반영되지 않은 값"이 됩니다.
+ */
+final class EmotionCounter {
+
+    private static final int EMOTIONS = EmotionType.values().length;
+    private static final int STRIDE = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripeMask;
+
+    /**
+     * @param stripes 분할 수 (2의 거듭제곱)
+     */
+    EmotionCounter(int stripes) {
+        this.cells = new AtomicLongArray(stripes * STRIDE);
+        this.stripeMask = stripes - 1;
+    }
+
+    void increment(EmotionType emotionType) {
+        int stripe = (int) (Thread.currentThread().getId() & stripeMask);
+        cells.getAndIncrement(stripe * STRIDE + emotionType.ordinal());
+    }
+
+    /**
+     * @return 이모지별 합계 ({@link EmotionType#ordinal()} 순서)
+     */
+    long[] sum() {
+        long[] sums = new long[EMOTIONS];
+
+        for (int base = 0; base < cells.length(); base += STRIDE) {
+            for (int i = 0; i < EMOTIONS; i++) {
+                sums[i] += cells.get(base + i);
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * DB에 반영한 값을 차감합니다.
+     *
+     * @param deltas 이모지별 반영 값 ({@link EmotionType#ordinal()} 순서)
+     */
+    void subtract(long[] deltas) {
+        for (int i = 0; i < EMOTIONS; i++) {
+            if (deltas[i] != 0) {
+                cells.getAndAdd(i, -deltas[i]);
+            }
+        }
+    }
+
+    static boolean isEmpty(long[] deltas) {
+        for (long delta : deltas) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,90 @@
+package kodanect.domain.remembrance.emotion;
+
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.remembrance.repository.MemorialRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이모지 카운팅 시 게시글 존재 여부를 DB 조회 없이 확인하기 위한 게시글 번호 목록입니다.
+ *
+ * - 전체 게시글 번호를 정렬된 int 배열로 보관하고 이진 탐색으로 확인합니다. (게시글 1만 건 기준 약 40 KB)
+ * - 목록에 없는 번호는 DB로 한 번 더 확인하고, 존재하면 다음 갱신 전까지 추가 목록에 보관합니다.
+ *   (갱신 이후 등록된 게시글도 카운팅할 수 있습니다.)
+ * - 처음 사용할 때 읽어 오며, idRefreshIntervalMillis마다 다시 읽습니다. 갱신에 실패하면 기존 목록을 유지합니다.
+ *
+ * 존재 여부는 기존 {@code MemorialFinder#findByIdOrThrow}와 같이 삭제 여부(del_flag)를 보지 않습니다.
+ */
+@Component
+public class MemorialIdCache {
+
+    private static final SecureLogger log = SecureLogger.getLogger(MemorialIdCache.class);
+
+    private final MemorialRepository memorialRepository;
+    private final Set<Integer> addedIds = ConcurrentHashMap.newKeySet();
+    private volatile int[] ids;
+
+    public MemorialIdCache(MemorialRepository memorialRepository) {
+        this.memorialRepository = memorialRepository;
+    }
+
+    /**
+     * @param donateSeq 게시글 번호
+     * @return 게시글이 존재하면 true
+     */
+    public boolean exists(Integer donateSeq) {
+        if (donateSeq == null) {
+            return false;
+        }
+        if (Arrays.binarySearch(loadedIds(), donateSeq) >= 0 || addedIds.contains(donateSeq)) {
+            return true;
+        }
+        if (memorialRepository.existsById(donateSeq)) {
+            addedIds.add(donateSeq);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 게시글 번호 목록을 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${memorial.emotion.id-refresh-interval-millis:600000}",
+            initialDelayString = "${memorial.emotion.id-refresh-interval-millis:600000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (DataAccessException e) {
+            log.warn("[추모관 이모지] 게시글 번호 목록 갱신 실패, 기존 목록 유지: {}", e.getMessage());
+        }
+    }
+
+    private int[] loadedIds() {
+        int[] snapshot = ids;
+
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            return ids != null ? ids : load();
+        }
+    }
+
+    private synchronized int[] load() {
+        int[] loaded = memorialRepository.findAllDonateSeq().stream()
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+
+        ids = loaded;
+        addedIds.clear();
+        return loaded;
+    }
+
+}
@@ -5,6 +5,7 @@ import kodanect.domain.remembrance.dto.MemorialCommentResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -25,9 +26,11 @@ public interface MemorialCommentRepository extends JpaRepository<MemorialComment
      *
      * @param commentSeq 댓글 번호
      * @param contents 댓글 내용
+     * @return 변경된 행 수 (이미 삭제된 경우 0)
      *
      **/
     @Modifying(clearAutomatically = true)
+    @Transactional
     @Query(
             value = """
             UPDATE MemorialComment r
@@ -37,7 +40,28 @@ public interface MemorialCommentRepository extends JpaRepository<MemorialComment
                     AND r.delFlag = 'N'
         """
     )
-    void updateCommentContents(@Param("commentSeq") Integer commentSeq, @Param("contents") String contents, @Param("writer") String writer);
+    int updateCommentContents(@Param("commentSeq") Integer commentSeq, @Param("contents") String contents, @Param("writer") String writer);
+
+    /**
+     *
+     * 기증자 추모관 댓글 소프트 삭제 (del_flag = 'Y')
+     * 삭제되지 않은 댓글만 변경하므로, 동시에 삭제 요청이 들어와도 한 요청만 성공합니다.
+     *
+     * @param commentSeq 댓글 번호
+     * @return 변경된 행 수 (이미 삭제된 경우 0)
+     *
+     * */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = """
+            UPDATE MemorialComment r
+            SET r.delFlag = 'Y'
+            WHERE r.commentSeq = :commentSeq
+                    AND r.delFlag = 'N'
+        """
+    )
+    int softDeleteComment(@Param("commentSeq") Integer commentSeq);
 
     /**
      *
@@ -6,7 +6,6 @@ import kodanect.domain.remembrance.dto.MemorialResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -159,32 +158,12 @@ public interface MemorialRepository extends JpaRepository<Memorial, Integer> {
 
 
 
-    /** 기증자 추모관 이모지 카운팅(Flower) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.flower_count = m.flower_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementFlower(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Love) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.love_count = m.love_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementLove(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(See) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.see_count = m.see_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementSee(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Miss) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.miss_count = m.miss_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementMiss(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Proud) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.proud_count = m.proud_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementProud(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Hard) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.hard_count = m.hard_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementHard(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Sad) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.sad_count = m.sad_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementSad(@Param("donateSeq") Integer donateSeq);
+    /**
+     *
+     * 기증자 추모관 전체 게시글 번호 조회 (이모지 카운팅 시 게시글 존재 확인용)
+     *
+     * @return 게시글 번호 리스트
+     * */
+    @Query(value = "SELECT m.donate_seq FROM tb25_400_memorial m", nativeQuery = true)
+    List<Integer> findAllDonateSeq();
 }
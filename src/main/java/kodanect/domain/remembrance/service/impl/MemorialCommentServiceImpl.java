@@ -1,9 +1,8 @@
 package kodanect.domain.remembrance.service.impl;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.util.CursorFormatter;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.dto.MemorialCommentCreateRequest;
 import kodanect.domain.remembrance.dto.MemorialCommentPasswordRequest;
 import kodanect.domain.remembrance.dto.MemorialCommentUpdateRequest;
@@ -19,56 +18,31 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  *
  * 기증자 추모관 댓글 서비스 구현체
  * <br>
  * 댓글 저장, 수정, 삭제, 더보기 기능을 제공
+ * <br>
+ * 애플리케이션 락을 사용하지 않습니다. 수정/삭제는 삭제되지 않은 댓글만 변경하는 조건부 UPDATE로 수행하며,
+ * 변경된 행이 없으면(그 사이 다른 요청이 삭제한 경우) CommentAlreadyDeleteException을 던집니다.
  *
  **/
 @Service
 public class MemorialCommentServiceImpl implements MemorialCommentService {
 
-    /** 스레드 생존 기간 */
-    private static final int CACHE_EXPIRE_MINUTES = 10;
-    /** 멀티 스레딩 갯수 */
-    private static final int CACHE_MAX_SIZE = 100_000;
-
     private final MemorialCommentRepository memorialCommentRepository;
     private final MemorialFinder memorialFinder;
     private final MemorialCommentFinder memorialCommentFinder;
+    private final MemorialDetailCache memorialDetailCache;
 
-    /**
-     *
-     * 멀티 스레딩 설정
-     *
-     * <p>CACHE_MAX_SIZE : 멀티 스레딩 갯수</p>
-     * <p>CACHE_EXPIRE_MINUTES : 스레드 생존 기간</p>
-     *
-     * */
-    private final Cache<Integer, ReentrantReadWriteLock> lockCache =
-            Caffeine.newBuilder().expireAfterAccess(CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES).maximumSize(CACHE_MAX_SIZE).build();
-
-    public MemorialCommentServiceImpl(MemorialCommentRepository memorialCommentRepository, MemorialFinder memorialFinder, MemorialCommentFinder memorialCommentFinder){
+    public MemorialCommentServiceImpl(MemorialCommentRepository memorialCommentRepository, MemorialFinder memorialFinder, MemorialCommentFinder memorialCommentFinder,
+                                      MemorialDetailCache memorialDetailCache){
         this.memorialCommentRepository = memorialCommentRepository;
         this.memorialFinder = memorialFinder;
         this.memorialCommentFinder = memorialCommentFinder;
-    }
-
-    /**
-     *
-     * 게시글 번호 기반 락 생성 및 반환 메서드
-     * 락은 Caffeine 캐시에 저장되며, 최대 10분간 유지됩니다.
-     *
-     * @param donateSeq 상세 게시글 번호
-     * @return 게시글 별로 ReentrantReadWriteLock을 lockCache 설정에 맞게 반환
-     *
-     * */
-    private ReentrantReadWriteLock getLock(int donateSeq) {
-        return lockCache.get(donateSeq, k -> new ReentrantReadWriteLock());
+        this.memorialDetailCache = memorialDetailCache;
     }
 
     /**
@@ -83,22 +57,16 @@ public class MemorialCommentServiceImpl implements MemorialCommentService {
     public void createComment(Integer donateSeq, MemorialCommentCreateRequest memorialCommentCreateRequest)
             throws  MemorialNotFoundException
     {
-        /* 게시글 댓글 작성 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.writeLock().lock();
+        /* 게시글 조회 */
+        memorialFinder.findByIdOrThrow(donateSeq);
 
-        try{
-            /* 게시글 조회 */
-            memorialFinder.findByIdOrThrow(donateSeq);
+        /* 객체 생성 */
+        MemorialComment memorialComment = MemorialComment.of(memorialCommentCreateRequest, donateSeq);
 
-            /* 객체 생성 */
-            MemorialComment memorialComment = MemorialComment.of(memorialCommentCreateRequest, donateSeq);
+        memorialCommentRepository.save(memorialComment);
 
-            memorialCommentRepository.save(memorialComment);
-        }
-        finally {
-            lock.writeLock().unlock();
-        }
+        /* 상세 조회 캐시 무효화 */
+        memorialDetailCache.invalidate(donateSeq);
     }
 
     /**
@@ -116,30 +84,29 @@ public class MemorialCommentServiceImpl implements MemorialCommentService {
                     MemorialNotFoundException,
                     CommentAlreadyDeleteException
     {
-        /* 게시글 댓글 수정 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.writeLock().lock();
-
-        try{
-            /* 게시글 조회 */
-            memorialFinder.findByIdOrThrow(donateSeq);
-
-            /* 댓글 조회 */
-            MemorialComment memorialComment = memorialCommentFinder.findByIdOrThrow(commentSeq);
-
-            /* 댓글 삭제 여부 검증 */
-            memorialComment.validateNotDeleted();
-
-            /* 댓글 수정 */
-            memorialCommentRepository.updateCommentContents(
-                    commentSeq,
-                    memorialCommentUpdateRequest.getContents(),
-                    memorialCommentUpdateRequest.getCommentWriter()
-            );
-        }
-        finally {
-            lock.writeLock().unlock();
+        /* 게시글 조회 */
+        memorialFinder.findByIdOrThrow(donateSeq);
+
+        /* 댓글 조회 */
+        MemorialComment memorialComment = memorialCommentFinder.findByIdOrThrow(commentSeq);
+
+        /* 댓글 삭제 여부 검증 */
+        memorialComment.validateNotDeleted();
+
+        /* 댓글 수정 (삭제되지 않은 댓글만 변경) */
+        int updated = memorialCommentRepository.updateCommentContents(
+                commentSeq,
+                memorialCommentUpdateRequest.getContents(),
+                memorialCommentUpdateRequest.getCommentWriter()
+        );
+
+        /* 조회 이후 다른 요청이 삭제한 경우 */
+        if (updated == 0) {
+            throw new CommentAlreadyDeleteException(commentSeq);
         }
+
+        /* 상세 조회 캐시 무효화 */
+        memorialDetailCache.invalidate(memorialComment.getDonateSeq());
     }
 
     /**
@@ -158,31 +125,25 @@ public class MemorialCommentServiceImpl implements MemorialCommentService {
                     MemorialNotFoundException,
                     CommentAlreadyDeleteException
     {
-        /* 게시글 댓글 삭제 del_flag = 'Y' 설정 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.writeLock().lock();
-
-        try{
-            /* 게시글 조회 */
-            memorialFinder.findByIdOrThrow(donateSeq);
-
-            /* 댓글 조회 */
-            MemorialComment memorialComment = memorialCommentFinder.findByIdOrThrow(commentSeq);
+        /* 게시글 조회 */
+        memorialFinder.findByIdOrThrow(donateSeq);
 
-            /* 비밀번호 일치 여부 검증 */
-            memorialComment.validateCommentPassword(memorialCommentPasswordRequest.getCommentPasscode());
+        /* 댓글 조회 */
+        MemorialComment memorialComment = memorialCommentFinder.findByIdOrThrow(commentSeq);
 
-            /* 댓글 삭제 여부 검증 */
-            memorialComment.validateNotDeleted();
+        /* 비밀번호 일치 여부 검증 */
+        memorialComment.validateCommentPassword(memorialCommentPasswordRequest.getCommentPasscode());
 
-            /* 소프트 삭제 */
-            memorialComment.setDelFlag("Y");
+        /* 댓글 삭제 여부 검증 */
+        memorialComment.validateNotDeleted();
 
-            memorialCommentRepository.save(memorialComment);
-        }
-        finally {
-            lock.writeLock().unlock();
+        /* 소프트 삭제 (삭제되지 않은 댓글만 변경, 조회 이후 다른 요청이 삭제한 경우 0) */
+        if (memorialCommentRepository.softDeleteComment(commentSeq) == 0) {
+            throw new CommentAlreadyDeleteException(commentSeq);
         }
+
+        /* 상세 조회 캐시 무효화 */
+        memorialDetailCache.invalidate(memorialComment.getDonateSeq());
     }
 
     /**
@@ -1,14 +1,18 @@
 package kodanect.domain.remembrance.service.impl;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.listcache.FirstPageCache;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.response.CursorCommentPaginationResponse;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.CursorFormatter;
 import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
 import kodanect.domain.heaven.service.HeavenService;
 import kodanect.domain.remembrance.dto.*;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.dto.common.MemorialNextCursor;
+import kodanect.domain.remembrance.emotion.EmotionCountAggregator;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.exception.*;
 import kodanect.domain.remembrance.repository.MemorialRepository;
@@ -20,11 +24,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static kodanect.common.util.FormatUtils.formatDate;
 import static kodanect.common.util.FormatUtils.formatSearchWord;
@@ -35,15 +36,14 @@ import static kodanect.common.util.FormatUtils.formatSearchWord;
  * 기증자 추모관 게시글 서비스 구현체
  * <br>
  * 게시글 조회, 검색, 이모지 카운팅 등의 기능을 제공
+ * <br>
+ * 애플리케이션 락을 사용하지 않습니다. 조회는 잠금 없이 수행하고,
+ * 이모지 카운트는 EmotionCountAggregator가 DB에서 원자적으로(컬럼 = 컬럼 + ?) 반영합니다.
  *
  **/
 @Service
 public class MemorialServiceImpl implements MemorialService {
 
-    /** 스레드 생존 기간 */
-    private static final int CACHE_EXPIRE_MINUTES = 10;
-    /** 멀티 스레딩 갯수 */
-    private static final int CACHE_MAX_SIZE = 100_000;
     /** Cursor 기반 기본 Size */
     private static final int DEFAULT_SIZE = 3;
 
@@ -51,67 +51,46 @@ public class MemorialServiceImpl implements MemorialService {
     private final MemorialCommentService memorialCommentService;
     private final MemorialFinder memorialFinder;
     private final HeavenService heavenService;
-
-    /**
-     *
-     * 멀티 스레딩 설정
-     *
-     * <p>CACHE_MAX_SIZE : 멀티 스레딩 갯수</p>
-     * <p>CACHE_EXPIRE_MINUTES : 스레드 생존 기간</p>
-     *
-     * */
-    private final Cache<Integer, ReentrantReadWriteLock> lockCache =
-            Caffeine.newBuilder().expireAfterAccess(CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES).maximumSize(CACHE_MAX_SIZE).build();
-
-    public MemorialServiceImpl(MemorialRepository memorialRepository, MemorialCommentService memorialCommentService, MemorialFinder memorialFinder, HeavenService heavenService){
+    private final EmotionCountAggregator emotionCountAggregator;
+    private final MemorialDetailCache memorialDetailCache;
+    private final BoardCountRegistry boardCountRegistry;
+    private final SearchResultCache searchResultCache;
+    private final FirstPageCache firstPageCache;
+
+    public MemorialServiceImpl(MemorialRepository memorialRepository, MemorialCommentService memorialCommentService, MemorialFinder memorialFinder, HeavenService heavenService,
+                               EmotionCountAggregator emotionCountAggregator, MemorialDetailCache memorialDetailCache,
+                               BoardCountRegistry boardCountRegistry, SearchResultCache searchResultCache,
+                               FirstPageCache firstPageCache){
         this.memorialRepository = memorialRepository;
         this.memorialCommentService = memorialCommentService;
         this.memorialFinder = memorialFinder;
         this.heavenService = heavenService;
-    }
-
-    /**
-     *
-     * 게시글 번호 기반 락 생성 및 반환 메서드
-     * 락은 Caffeine 캐시에 저장되며, 최대 10분간 유지됩니다.
-     *
-     * @param donateSeq 상세 게시글 번호
-     * @return 게시글 별로 ReentrantReadWriteLock을 lockCache 설정에 맞게 반환
-     *
-     * */
-    private ReentrantReadWriteLock getLock(Integer donateSeq) {
-        return lockCache.get(donateSeq, k -> new ReentrantReadWriteLock());
+        this.emotionCountAggregator = emotionCountAggregator;
+        this.memorialDetailCache = memorialDetailCache;
+        this.boardCountRegistry = boardCountRegistry;
+        this.searchResultCache = searchResultCache;
+        this.firstPageCache = firstPageCache;
     }
 
     /**
      *
      * 기증자 추모관 이모지 카운팅 메서드
+     * 카운트는 메모리에 누적되며 EmotionCountAggregator가 주기적으로 DB에 반영합니다.
      *
      * @param donateSeq 상세 게시글 번호
      * @param emotion  추가 카운트 될 이모지
      *
      * */
     @Override
-    @Transactional
     public void emotionCountUpdate(Integer donateSeq, String emotion)
             throws  InvalidEmotionTypeException,
             MemorialNotFoundException
     {
-        /* 게시글 마다 락을 개별 쓰기 락 객체로 관리 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.writeLock().lock();
-
-        try{
-            /* 게시글 조회 */
-            memorialFinder.findByIdOrThrow(donateSeq);
+        /* 이모지 검증 */
+        EmotionType emotionType = EmotionType.from(emotion);
 
-            /* 이모지 검증 */
-            EmotionType emotionType = EmotionType.from(emotion);
-            emotionType.apply(memorialRepository, donateSeq);
-        }
-        finally {
-            lock.writeLock().unlock();
-        }
+        /* 게시글 존재 확인 후 카운트 누적 */
+        emotionCountAggregator.increment(donateSeq, emotionType);
     }
 
     /**
@@ -131,7 +110,7 @@ public class MemorialServiceImpl implements MemorialService {
             String startDate, String endDate, String keyWord, MemorialNextCursor cursor, int size)
     {
         /* 검색 문자 포매팅 */
-        keyWord = formatSearchWord(keyWord);
+        String searchWord = formatSearchWord(keyWord);
 
         /* 날짜 포매팅 */
         String startDateStr = formatDate(startDate);
@@ -141,17 +120,15 @@ public class MemorialServiceImpl implements MemorialService {
         /* 페이징 포매팅 */
         Pageable pageable = PageRequest.of(0, size+1);
 
-        List<MemorialResponse> memorialResponses =
-                memorialRepository.findSearchByCursor(
-                        cursor.getDate(),
-                        cursor.getCursor(),
-                        startDateStr,
-                        endDateStr,
-                        keyWord,
-                        pageable
-                );
+        /* 검색 개수와 첫 페이지는 검색 결과 캐시 사용 (검색 유형 = 기간) */
+        String searchType = startDateStr + "~" + endDateStr;
+        List<MemorialResponse> memorialResponses = cursor.getDate() == null
+                ? searchResultCache.firstPage(CountedBoard.MEMORIAL, searchType, searchWord, size + 1,
+                        () -> memorialRepository.findSearchByCursor(null, null, startDateStr, endDateStr, searchWord, pageable))
+                : memorialRepository.findSearchByCursor(cursor.getDate(), cursor.getCursor(), startDateStr, endDateStr, searchWord, pageable);
 
-        long totalCount = memorialRepository.countBySearch(startDateStr, endDateStr, keyWord);
+        long totalCount = searchResultCache.count(CountedBoard.MEMORIAL, searchType, searchWord,
+                () -> memorialRepository.countBySearch(startDateStr, endDateStr, searchWord));
 
         return CursorFormatter.cursorFormat(memorialResponses, size, totalCount);
 
@@ -191,9 +168,28 @@ public class MemorialServiceImpl implements MemorialService {
         Pageable pageable = PageRequest.of(0, size +1);
         nextCursor.setDate(formatDate(nextCursor.getDate()));
 
-        List<MemorialResponse> memorialResponses = memorialRepository.findByCursor(nextCursor.getCursor(), nextCursor.getDate(), pageable);
+        /* 첫 페이지(날짜 커서 없음)는 목록 첫 페이지 캐시 사용 */
+        if (nextCursor.getDate() == null) {
+            return firstPageCache.get(CountedBoard.MEMORIAL, size, () -> findMemorialList(null, null, size, pageable));
+        }
+        return findMemorialList(nextCursor.getCursor(), nextCursor.getDate(), size, pageable);
+    }
 
-        long totalCount = memorialRepository.count();
+    /**
+     *
+     * 기증자 추모관 게시글 리스트 DB 조회 메서드
+     *
+     * @param cursor 조회할 게시글 번호 커서
+     * @param date 조회할 기증일 커서 (null이면 첫 페이지)
+     * @param size 조회할 페이지 사이즈
+     * @param pageable 조회 크기 (size + 1)
+     * @return 조건에 맞는 게시글 리스트(최신순)
+     *
+     * */
+    private CursorPaginationResponse<MemorialResponse, MemorialNextCursor> findMemorialList(Integer cursor, String date, int size, Pageable pageable) {
+        List<MemorialResponse> memorialResponses = memorialRepository.findByCursor(cursor, date, pageable);
+
+        long totalCount = boardCountRegistry.get(CountedBoard.MEMORIAL);
 
         return CursorFormatter.cursorFormat(memorialResponses, size, totalCount);
     }
@@ -201,6 +197,7 @@ public class MemorialServiceImpl implements MemorialService {
     /**
      *
      * 기증자 추모관 게시글 상세 조회 메서드
+     * 게시글, 댓글, 하늘나라 편지 조회 결과는 MemorialDetailCache에 보관되며, 이모지 반영 대기 값은 매 요청 더합니다.
      *
      * @param donateSeq 상세 게시글 번호
      * @return 조건에 맞는 게시글
@@ -211,38 +208,46 @@ public class MemorialServiceImpl implements MemorialService {
             throws  MemorialNotFoundException,
                     InvalidContentsException
     {
-        /* 게시글 조회 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.readLock().lock();
+        /* 기증자 상세 조회 (캐시) */
+        MemorialDetailResponse response = memorialDetailCache.get(donateSeq, this::loadMemorialDetail);
 
-        try{
-            Memorial memorial = memorialFinder.findByIdOrThrow(donateSeq);
+        /* 반영 대기 중인 이모지 카운트 합산 */
+        response.addPendingEmotionCounts(emotionCountAggregator.pending(donateSeq));
+        return response;
+    }
 
-            /* 댓글 리스트 모두 조회 */
-            List<MemorialCommentResponse> memorialCommentResponses =
-                    memorialCommentService.getMemorialCommentList(donateSeq, null, DEFAULT_SIZE + 1);
+    /**
+     *
+     * 기증자 추모관 게시글 상세 DB 조회 메서드 (캐시 미스 시 호출)
+     *
+     * @param donateSeq 상세 게시글 번호
+     * @return 조건에 맞는 게시글
+     *
+     * */
+    private MemorialDetailResponse loadMemorialDetail(Integer donateSeq) {
+        /* 게시글 조회 */
+        Memorial memorial = memorialFinder.findByIdOrThrow(donateSeq);
 
-            /* 댓글 총 갯수 조회 */
-            long totalCount = memorialCommentService.getTotalCommentCount(donateSeq);
+        /* 댓글 리스트 모두 조회 */
+        List<MemorialCommentResponse> memorialCommentResponses =
+                memorialCommentService.getMemorialCommentList(donateSeq, null, DEFAULT_SIZE + 1);
 
-            /* 댓글 리스트 페이징 포매팅 */
-            CursorCommentPaginationResponse<MemorialCommentResponse, Integer> cursoredReplies =
-                    CursorFormatter.cursorCommentCountFormat(memorialCommentResponses, DEFAULT_SIZE, totalCount);
+        /* 댓글 총 갯수 조회 */
+        long totalCount = memorialCommentService.getTotalCommentCount(donateSeq);
 
-            /* 하늘나라 편지 리스트 조회 */
-            CursorPaginationResponse<MemorialHeavenResponse, Integer> cursoredLetters =
-                    heavenService.getMemorialHeavenList(donateSeq, null, DEFAULT_SIZE);
+        /* 댓글 리스트 페이징 포매팅 */
+        CursorCommentPaginationResponse<MemorialCommentResponse, Integer> cursoredReplies =
+                CursorFormatter.cursorCommentCountFormat(memorialCommentResponses, DEFAULT_SIZE, totalCount);
 
-            /* 기증자 상세 조회 */
-            return MemorialDetailResponse.of(
-                    memorial,
-                    cursoredReplies,
-                    cursoredLetters
-            );
-        }
-        finally {
-            lock.readLock().unlock();
-        }
+        /* 하늘나라 편지 리스트 조회 */
+        CursorPaginationResponse<MemorialHeavenResponse, Integer> cursoredLetters =
+                heavenService.getMemorialHeavenList(donateSeq, null, DEFAULT_SIZE);
+
+        /* 기증자 상세 응답 생성 */
+        return MemorialDetailResponse.of(
+                memorial,
+                cursoredReplies,
+                cursoredLetters
+        );
     }
 }
-
@@ -0,0 +1,123 @@
+package kodanect.common.boardcount;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link BoardCountRegistry} 클래스의 최초 로딩, 등록/삭제 반영, 커밋 후 반영, 주기 보정 동작을 검증하는 단위 테스트입니다.
+ */
+public class BoardCountRegistryTest {
+
+    private static final String HEAVEN_COUNT_SQL = "SELECT COUNT(*) FROM tb25_410_heaven_letter WHERE del_flag = 'N'";
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardCountRegistry registry;
+
+    /**
+     * 테스트 실행 전 JdbcTemplate mock과 BoardCountRegistry를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        registry = new BoardCountRegistry(jdbcTemplate);
+    }
+
+    /**
+     * 트랜잭션 동기화를 사용한 테스트의 상태를 정리합니다.
+     */
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * GIVEN: DB의 게시글 수가 10일 때
+     * WHEN: get()을 여러 번 호출하면
+     * THEN: COUNT 쿼리는 한 번만 실행되고, 등록/삭제가 메모리 값에 반영되어야 한다.
+     */
+    @Test
+    public void get_shouldQueryOnceAndApplyChanges() {
+        when(jdbcTemplate.queryForObject(HEAVEN_COUNT_SQL, Long.class)).thenReturn(10L);
+
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(10);
+
+        registry.increment(CountedBoard.HEAVEN);
+        registry.increment(CountedBoard.HEAVEN);
+        registry.decrement(CountedBoard.HEAVEN);
+
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(11);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class));
+    }
+
+    /**
+     * GIVEN: 아직 한 번도 조회하지 않은 게시판일 때
+     * WHEN: 등록이 일어난 뒤 get()을 호출하면
+     * THEN: 등록분을 따로 더하지 않고 DB 값을 그대로 사용해야 한다.
+     */
+    @Test
+    public void increment_beforeLoad_shouldBeIgnored() {
+        registry.increment(CountedBoard.HEAVEN);
+        when(jdbcTemplate.queryForObject(HEAVEN_COUNT_SQL, Long.class)).thenReturn(10L);
+
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(10);
+    }
+
+    /**
+     * GIVEN: 트랜잭션 동기화가 활성화된 상태에서
+     * WHEN: increment()를 호출하면
+     * THEN: 커밋 전에는 값이 바뀌지 않고, afterCommit 이후에 반영되어야 한다.
+     */
+    @Test
+    public void increment_inTransaction_shouldApplyAfterCommit() {
+        when(jdbcTemplate.queryForObject(HEAVEN_COUNT_SQL, Long.class)).thenReturn(10L);
+        registry.get(CountedBoard.HEAVEN);
+
+        TransactionSynchronizationManager.initSynchronization();
+        registry.increment(CountedBoard.HEAVEN);
+
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(10);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(11);
+    }
+
+    /**
+     * GIVEN: 메모리 값과 DB 값이 달라졌을 때
+     * WHEN: reconcile()을 호출하면
+     * THEN: 읽어 온 게시판만 DB 값으로 보정하고, 조회 실패 시에는 기존 값을 유지해야 한다.
+     */
+    @Test
+    public void reconcile_shouldResyncLoadedBoardsOnly() {
+        when(jdbcTemplate.queryForObject(HEAVEN_COUNT_SQL, Long.class)).thenReturn(10L, 7L)
+                .thenThrow(new QueryTimeoutException("timeout"));
+        registry.get(CountedBoard.HEAVEN);
+        registry.increment(CountedBoard.HEAVEN);
+
+        registry.reconcile();
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(7);
+
+        registry.reconcile();
+        assertThat(registry.get(CountedBoard.HEAVEN)).isEqualTo(7);
+
+        verify(jdbcTemplate, never()).queryForObject(
+                "SELECT COUNT(*) FROM tb25_400_memorial WHERE del_flag = 'N'", Long.class);
+    }
+
+}
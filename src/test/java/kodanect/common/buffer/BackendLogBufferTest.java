@@ -1,5 +1,7 @@
 package kodanect.common.buffer;
 
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.common.constant.UserActionKey;
@@ -24,7 +26,11 @@ public class BackendLogBufferTest {
      */
     @Before
     public void setUp() {
-        buffer = new BackendLogBuffer();
+        buffer = new BackendLogBuffer(
+                new ActionLogBufferProperties(1000, 16_777_216L, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.HEAP, 1_048_576),
+                new ActionLogFlushProperties(100, 10, 300_000L, 60_000L, 8_388_608L, 4_194_304L, 1000L, 1_800_000L),
+                event -> { }
+        );
     }
 
     /**
@@ -81,6 +87,28 @@ public class BackendLogBufferTest {
         assertThat(result).isEmpty();
     }
 
+    /**
+     * Given: OFF_HEAP 방식으로 생성한 버퍼에 로그가 추가되었을 때
+     * When: drainAll()을 호출하면
+     * Then: 모든 필드가 추가한 값 그대로 복원되어야 한다.
+     */
+    @Test
+    public void drainAll_offHeapBackend_shouldRestoreAllFields() {
+        BackendLogBuffer offHeapBuffer = new BackendLogBuffer(
+                new ActionLogBufferProperties(1000, 16_777_216L, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.OFF_HEAP, 1_048_576),
+                new ActionLogFlushProperties(100, 10, 300_000L, 60_000L, 8_388_608L, 4_194_304L, 1000L, 1_800_000L),
+                event -> { }
+        );
+
+        offHeapBuffer.add("session-1", createLog("DELETE"));
+
+        List<BackendLogDto> drained = offHeapBuffer.drainAll().get(new UserActionKey("session-1", CrudCode.D));
+
+        assertThat(drained).singleElement()
+                .usingRecursiveComparison()
+                .isEqualTo(createLog("DELETE"));
+    }
+
     private BackendLogDto createLog(String httpMethod) {
         return BackendLogDto.builder()
                 .httpMethod(httpMethod)
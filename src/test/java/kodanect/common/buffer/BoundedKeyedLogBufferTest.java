@@ -0,0 +1,390 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link BoundedKeyedLogBuffer} 클래스의 용량 제한 및 초과 정책 동작을 검증하는 단위 테스트입니다.
+ *
+ * 키별 최대 건수, 전체 메모리 예산, DROP_OLDEST / SAMPLE / FLUSH_EARLY 정책과 유실 건수 집계,
+ * 배출 조건(건수/보관 시간) 판단과 배출 신호(임계 건수/고수위) 발행을 테스트합니다.
+ */
+public class BoundedKeyedLogBufferTest {
+
+    private static final int ENTRY_BYTES = 10;
+
+    private final UserActionKey key = new UserActionKey("session-1", CrudCode.R);
+
+    /**
+     * GIVEN: 서로 다른 CRUD 코드와 세션으로 로그가 쌓인 버퍼에서
+     * WHEN: getStatsByCrudCode()를 호출하면
+     * THEN: CRUD 코드별 키 수와 로그 건수가 집계되고, 로그가 없는 코드는 빈 현황이어야 한다.
+     */
+    @Test
+    public void getStatsByCrudCode_shouldCountKeysAndRecordsPerCrudCode() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+
+        buffer.add(new UserActionKey("session-1", CrudCode.R), "a");
+        buffer.add(new UserActionKey("session-1", CrudCode.R), "b");
+        buffer.add(new UserActionKey("session-2", CrudCode.R), "c");
+        buffer.add(new UserActionKey("session-1", CrudCode.C), "d");
+
+        Map<CrudCode, BufferStats> stats = buffer.getStatsByCrudCode();
+
+        assertThat(stats.get(CrudCode.R).getKeyCount()).isEqualTo(2);
+        assertThat(stats.get(CrudCode.R).getRecordCount()).isEqualTo(3);
+        assertThat(stats.get(CrudCode.C).getRecordCount()).isEqualTo(1);
+        assertThat(stats.get(CrudCode.D)).isSameAs(BufferStats.EMPTY);
+    }
+
+    /**
+     * GIVEN: 키별 최대 3건으로 제한된 DROP_OLDEST 버퍼에
+     * WHEN: 같은 키로 5건을 추가하면
+     * THEN: 가장 최근 3건만 남고, 유실 건수는 2가 되어야 한다.
+     */
+    @Test
+    public void add_shouldDropOldest_whenPerKeyCapacityExceeded() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(3, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(key, "log-" + i);
+        }
+
+        Map<UserActionKey, List<String>> result = buffer.drainAll();
+
+        assertThat(result.get(key)).containsExactly("log-3", "log-4", "log-5");
+        assertThat(buffer.getDroppedCount()).isEqualTo(2);
+        assertThat(buffer.getBufferedCount()).isZero();
+        assertThat(buffer.getBufferedBytes()).isZero();
+    }
+
+    /**
+     * GIVEN: 전체 메모리 예산이 로그 2건 분량인 버퍼에
+     * WHEN: 서로 다른 키로 3건을 추가하면
+     * THEN: 예산을 넘는 로그는 버려지고 보관 바이트는 예산을 넘지 않아야 한다.
+     */
+    @Test
+    public void add_shouldRespectGlobalMemoryBudget() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, ENTRY_BYTES * 2L, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+
+        buffer.add(new UserActionKey("session-1", CrudCode.R), "a");
+        buffer.add(new UserActionKey("session-2", CrudCode.R), "b");
+        buffer.add(new UserActionKey("session-3", CrudCode.R), "c");
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(2);
+        assertThat(buffer.getBufferedBytes()).isLessThanOrEqualTo(ENTRY_BYTES * 2L);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 전체 메모리 예산이 로그 2건 분량인 DROP_OLDEST 버퍼에 두 세션의 로그가 차 있을 때
+     * WHEN: 새로운 세션으로 로그를 추가하면
+     * THEN: 새 키의 로그는 수용되고, 전체에서 가장 오래된 로그가 밀려나야 한다.
+     */
+    @Test
+    public void add_shouldEvictGloballyOldest_whenMemoryBudgetExceeded() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, ENTRY_BYTES * 2L, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+        UserActionKey first = new UserActionKey("session-1", CrudCode.R);
+        UserActionKey second = new UserActionKey("session-2", CrudCode.R);
+        UserActionKey third = new UserActionKey("session-3", CrudCode.R);
+
+        buffer.add(first, "a");
+        buffer.add(second, "b");
+        buffer.add(third, "c");
+
+        Map<UserActionKey, List<String>> result = buffer.drainAll();
+
+        assertThat(result).containsOnlyKeys(second, third);
+        assertThat(result.get(third)).containsExactly("c");
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 전체 메모리 예산이 로그 10건 분량인 버퍼에
+     * WHEN: 여러 스레드가 서로 다른 키로 동시에 로그를 추가하면
+     * THEN: 보관 바이트는 어느 시점에도 예산을 넘지 않고, 보관 건수와 유실 건수의 합은 추가 건수와 같아야 한다.
+     */
+    @Test
+    public void add_shouldNeverExceedMemoryBudget_underConcurrentAdds() throws InterruptedException {
+        int threads = 8;
+        int perThread = 500;
+        long maxBytes = ENTRY_BYTES * 10L;
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, maxBytes, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+        AtomicLong peakBytes = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            String session = "session-" + t;
+            Thread worker = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add(new UserActionKey(session + "-" + (i % 3), CrudCode.R), "log-" + i);
+                    peakBytes.accumulateAndGet(buffer.getBufferedBytes(), Math::max);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(peakBytes.get()).isLessThanOrEqualTo(maxBytes);
+        assertThat(buffer.getBufferedBytes()).isLessThanOrEqualTo(maxBytes);
+        assertThat(buffer.getBufferedCount() + buffer.getDroppedCount()).isEqualTo((long) threads * perThread);
+    }
+
+    /**
+     * GIVEN: 키별 최대 1건, 샘플링 비율 10의 SAMPLE 버퍼에
+     * WHEN: 초과 상태에서 20건을 더 추가하면
+     * THEN: 2건만 수용되고 나머지는 유실 건수로 집계되어야 한다.
+     */
+    @Test
+    public void add_shouldSampleIncomingLogs_whenOverflowing() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(1, Long.MAX_VALUE, OverflowPolicy.SAMPLE, new ArrayList<>());
+
+        buffer.add(key, "first");
+        for (int i = 0; i < 20; i++) {
+            buffer.add(key, "overflow-" + i);
+        }
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(1);
+        assertThat(buffer.getDroppedCount()).isEqualTo(20);
+        assertThat(buffer.drainAll().get(key)).containsExactly("overflow-19");
+    }
+
+    /**
+     * GIVEN: FLUSH_EARLY 버퍼가 키별 최대 건수를 여러 번 초과할 때
+     * WHEN: 배출 전까지 계속 로그를 추가하면
+     * THEN: 조기 배출 요청은 CRUD 코드당 한 번만 발행되고, 배출 후에는 다시 발행될 수 있어야 한다.
+     */
+    @Test
+    public void add_shouldRequestEarlyFlushOncePerOverflow() {
+        List<CrudCode> requested = new ArrayList<>();
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(1, Long.MAX_VALUE, OverflowPolicy.FLUSH_EARLY, requested);
+
+        buffer.add(key, "a");
+        buffer.add(key, "b");
+        buffer.add(key, "c");
+
+        assertThat(requested).containsExactly(CrudCode.R);
+
+        buffer.drainIfThresholdMet(CrudCode.R, 1);
+        buffer.add(key, "d");
+        buffer.add(key, "e");
+
+        assertThat(requested).containsExactly(CrudCode.R, CrudCode.R);
+    }
+
+    /**
+     * GIVEN: 임계값보다 적은 로그가 쌓인 키와 임계값 이상 쌓인 키가 있을 때
+     * WHEN: drainIfThresholdMet()을 호출하면
+     * THEN: 임계값 이상인 키에서만 최대 임계값 건수가 배출되어야 한다.
+     */
+    @Test
+    public void drainIfThresholdMet_shouldDrainOnlyKeysOverThreshold() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+        UserActionKey smallKey = new UserActionKey("session-2", CrudCode.R);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.add(key, "log-" + i);
+        }
+        buffer.add(smallKey, "only");
+
+        Map<UserActionKey, List<String>> result = buffer.drainIfThresholdMet(CrudCode.R, 3);
+
+        assertThat(result).containsOnlyKeys(key);
+        assertThat(result.get(key)).hasSize(3);
+        assertThat(buffer.getBufferedCount()).isEqualTo(3);
+    }
+
+    /**
+     * GIVEN: 임계 건수에 도달한 키와 도달하지 않은 키가 있을 때
+     * WHEN: 최대 보관 시간을 충분히 길게 두고 drainDue()를 호출하면
+     * THEN: 임계 건수에 도달한 키의 로그만 모두 배출되어야 한다.
+     */
+    @Test
+    public void drainDue_shouldDrainKeysOverThreshold() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+        UserActionKey smallKey = new UserActionKey("session-2", CrudCode.R);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.add(key, "log-" + i);
+        }
+        buffer.add(smallKey, "only");
+
+        Map<UserActionKey, List<String>> result = buffer.drainDue(CrudCode.R, 3, Long.MAX_VALUE / 2);
+
+        assertThat(result).containsOnlyKeys(key);
+        assertThat(result.get(key)).hasSize(5);
+        assertThat(buffer.getBufferedCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 임계 건수에 도달하지 않은 키가 있을 때
+     * WHEN: 최대 보관 시간 0으로 drainDue()를 호출하면
+     * THEN: 보관 시간 조건으로 해당 키의 로그가 배출되어야 한다.
+     */
+    @Test
+    public void drainDue_shouldDrainKeysOlderThanMaxAge() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+
+        buffer.add(key, "old");
+
+        assertThat(buffer.getOldestEntryAgeMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(buffer.drainDue(CrudCode.R, 100, 0).get(key)).containsExactly("old");
+        assertThat(buffer.getOldestEntryAgeMillis()).isZero();
+    }
+
+    /**
+     * GIVEN: 배출 설정이 주어진 버퍼에서
+     * WHEN: 같은 키에 임계 건수 이상 로그가 쌓이면
+     * THEN: 배출 전까지 KEY_COUNT 신호가 한 번만 발행되어야 한다.
+     */
+    @Test
+    public void add_shouldSignalKeyCountOncePerDrain() {
+        List<FlushTrigger> signals = new ArrayList<>();
+        BoundedKeyedLogBuffer<String> buffer = createSignalingBuffer(Long.MAX_VALUE, Long.MAX_VALUE, signals);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.add(key, "log-" + i);
+        }
+
+        assertThat(signals).containsExactly(FlushTrigger.KEY_COUNT);
+
+        buffer.drainDue(CrudCode.R, 3, Long.MAX_VALUE / 2);
+        for (int i = 0; i < 3; i++) {
+            buffer.add(key, "log-" + i);
+        }
+
+        assertThat(signals).containsExactly(FlushTrigger.KEY_COUNT, FlushTrigger.KEY_COUNT);
+    }
+
+    /**
+     * GIVEN: 고수위 2건, 저수위 1건 분량으로 설정된 버퍼에서
+     * WHEN: 고수위를 넘긴 뒤 저수위 아래로 배출되기 전까지 로그를 계속 추가하면
+     * THEN: HIGH_WATERMARK 신호는 한 번만 발행되고, 배출 후에 다시 발행될 수 있어야 한다.
+     */
+    @Test
+    public void add_shouldSignalHighWatermarkWithHysteresis() {
+        List<FlushTrigger> signals = new ArrayList<>();
+        BoundedKeyedLogBuffer<String> buffer = createSignalingBuffer(ENTRY_BYTES * 2L, ENTRY_BYTES, signals);
+
+        buffer.add(new UserActionKey("session-1", CrudCode.C), "a");
+        buffer.add(new UserActionKey("session-2", CrudCode.C), "b");
+        buffer.add(new UserActionKey("session-3", CrudCode.C), "c");
+
+        assertThat(signals).containsExactly(FlushTrigger.HIGH_WATERMARK);
+
+        buffer.drainAll();
+        buffer.add(new UserActionKey("session-1", CrudCode.C), "a");
+        buffer.add(new UserActionKey("session-2", CrudCode.C), "b");
+
+        assertThat(signals).containsExactly(FlushTrigger.HIGH_WATERMARK, FlushTrigger.HIGH_WATERMARK);
+    }
+
+    /**
+     * GIVEN: 배출 신호를 받으면 다른 스레드에서 배출을 실행하고 끝날 때까지 기다리는 리스너가 주어졌을 때
+     * WHEN: 임계 건수에 도달하도록 로그를 추가하면
+     * THEN: 리스너는 세그먼트 잠금 밖에서 호출되어 배출이 끝나야 한다.
+     */
+    @Test
+    public void add_shouldPublishSignalsOutsideSegmentLock() throws InterruptedException {
+        AtomicReference<BoundedKeyedLogBuffer<String>> bufferRef = new AtomicReference<>();
+        AtomicBoolean drainedOutsideLock = new AtomicBoolean(false);
+        ActionLogBufferProperties properties = new ActionLogBufferProperties(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.HEAP, 1_048_576);
+        ActionLogFlushProperties flushProperties = new ActionLogFlushProperties(
+                3, 3, 60_000L, 60_000L, Long.MAX_VALUE, Long.MAX_VALUE, 1000L, 1_800_000L);
+        BoundedKeyedLogBuffer<String> buffer = new BoundedKeyedLogBuffer<>("test", properties, flushProperties, value -> ENTRY_BYTES,
+                code -> { }, (code, trigger) -> {
+                    Thread flusher = new Thread(() -> bufferRef.get().drainAll());
+                    flusher.start();
+                    try {
+                        flusher.join(5_000L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    drainedOutsideLock.set(!flusher.isAlive());
+                });
+        bufferRef.set(buffer);
+
+        for (int i = 0; i < 3; i++) {
+            buffer.add(key, "log-" + i);
+        }
+
+        assertThat(drainedOutsideLock).isTrue();
+        assertThat(buffer.getBufferedCount()).isZero();
+    }
+
+    /**
+     * GIVEN: 전체 메모리 예산이 로그 3건 분량인 버퍼에서 일부 키가 배출되고 키별 초과로 밀려난 로그가 있을 때
+     * WHEN: 예산을 넘도록 로그를 추가하면
+     * THEN: 이미 빠진 로그는 건너뛰고 남아 있는 로그 중 가장 먼저 들어온 로그가 밀려나야 한다.
+     */
+    @Test
+    public void add_shouldSkipRemovedEntries_whenEvictingGloballyOldest() {
+        BoundedKeyedLogBuffer<String> buffer = createBuffer(2, ENTRY_BYTES * 3L, OverflowPolicy.DROP_OLDEST, new ArrayList<>());
+        UserActionKey read = new UserActionKey("session-1", CrudCode.R);
+        UserActionKey create = new UserActionKey("session-2", CrudCode.C);
+        UserActionKey update = new UserActionKey("session-3", CrudCode.U);
+
+        buffer.add(create, "c1");
+        buffer.add(create, "c2");
+        buffer.add(create, "c3");
+        buffer.add(read, "r1");
+        buffer.drainIfThresholdMet(CrudCode.R, 1);
+        buffer.add(update, "u1");
+        buffer.add(update, "u2");
+
+        Map<UserActionKey, List<String>> result = buffer.drainAll();
+
+        assertThat(result).containsOnlyKeys(create, update);
+        assertThat(result.get(create)).containsExactly("c3");
+        assertThat(result.get(update)).containsExactly("u1", "u2");
+        assertThat(buffer.getDroppedCount()).isEqualTo(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BoundedKeyedLogBuffer<String> createSignalingBuffer(long highWatermarkBytes,
+                                                                long lowWatermarkBytes,
+                                                                List<FlushTrigger> signals) {
+        ActionLogBufferProperties properties = new ActionLogBufferProperties(100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.HEAP, 1_048_576);
+        ActionLogFlushProperties flushProperties = new ActionLogFlushProperties(
+                3, 3, 60_000L, 60_000L, highWatermarkBytes, lowWatermarkBytes, 1000L, 1_800_000L);
+
+        return new BoundedKeyedLogBuffer<>("test", properties, flushProperties, value -> ENTRY_BYTES,
+                code -> { }, (code, trigger) -> signals.add(trigger));
+    }
+
+    private BoundedKeyedLogBuffer<String> createBuffer(int perKeyCapacity,
+                                                       long maxBytes,
+                                                       OverflowPolicy policy,
+                                                       List<CrudCode> flushRequests) {
+        ActionLogBufferProperties properties = new ActionLogBufferProperties(perKeyCapacity, maxBytes, policy, 10, LogBufferBackend.HEAP, 1_048_576);
+        return new BoundedKeyedLogBuffer<>("test", properties, value -> ENTRY_BYTES, flushRequests::add);
+    }
+
+}
@@ -1,5 +1,7 @@
 package kodanect.common.buffer;
 
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.common.constant.UserActionKey;
@@ -24,7 +26,11 @@ public class FrontendLogBufferTest {
      */
     @Before
     public void setUp() {
-        buffer = new FrontendLogBuffer();
+        buffer = new FrontendLogBuffer(
+                new ActionLogBufferProperties(1000, 16_777_216L, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.HEAP, 1_048_576),
+                new ActionLogFlushProperties(100, 10, 300_000L, 60_000L, 8_388_608L, 4_194_304L, 1000L, 1_800_000L),
+                event -> { }
+        );
     }
 
     /**
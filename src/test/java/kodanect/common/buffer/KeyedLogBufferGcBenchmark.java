@@ -0,0 +1,114 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.domain.logging.dto.BackendLogDto;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+/**
+ * 힙 버퍼({@link BoundedKeyedLogBuffer})와 오프힙 버퍼({@link OffHeapKeyedLogBuffer})의 GC 부담을 비교하는 벤치마크입니다.
+ *
+ * 백엔드 로그를 세션 2,000개 × 100건 보관한 상태에서 단기 객체를 반복 할당하여 GC를 유발하고,
+ * 버퍼 방식별로 다음 값을 출력합니다.
+ * - 적재 1건당 할당 바이트
+ * - 보관 중 힙 사용량 (GC 직후)과 버퍼 사용량
+ * - 단기 객체 할당 구간의 GC 횟수와 누적 일시 정지 시간
+ * - 배출 1건당 소요 시간
+ * 단위 테스트 실행 대상이 아니므로 main()으로 직접 실행합니다.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=kodanect.common.buffer.KeyedLogBufferGcBenchmark
+ * </pre>
+ */
+public class KeyedLogBufferGcBenchmark {
+
+    private static final int SESSIONS = 2_000;
+    private static final int LOGS_PER_SESSION = 100;
+    private static final int CHURN_ITERATIONS = 2_000_000;
+    private static final int CHURN_OBJECT_BYTES = 256;
+    private static final long BUFFER_BYTES = 512L * 1024 * 1024;
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        run(LogBufferBackend.HEAP);
+        run(LogBufferBackend.OFF_HEAP);
+    }
+
+    private static void run(LogBufferBackend backend) {
+        BackendLogBuffer buffer = new BackendLogBuffer(
+                new ActionLogBufferProperties(LOGS_PER_SESSION, BUFFER_BYTES, OverflowPolicy.DROP_OLDEST, 10, backend, 1_048_576),
+                new ActionLogFlushProperties(Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE,
+                        Long.MAX_VALUE, Long.MAX_VALUE, 1000L, 1_800_000L),
+                noOpPublisher()
+        );
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long allocatedBefore = allocatedBytes();
+
+        for (int i = 0; i < SESSIONS * LOGS_PER_SESSION; i++) {
+            buffer.add("session-" + (i % SESSIONS), createLog(i));
+        }
+
+        long allocatedPerAdd = (allocatedBytes() - allocatedBefore) / ((long) SESSIONS * LOGS_PER_SESSION);
+        System.gc();
+        long retainedHeap = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+        long bufferedBytes = buffer.getBufferedBytes();
+
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+
+        for (int i = 0; i < CHURN_ITERATIONS; i++) {
+            sink = new byte[CHURN_OBJECT_BYTES];
+        }
+
+        long gcCount = gcCount() - gcCountBefore;
+        long gcMillis = gcMillis() - gcMillisBefore;
+
+        long drainStart = System.nanoTime();
+        int drained = buffer.drainAll().values().stream().mapToInt(List::size).sum();
+        long drainNanosPerLog = (System.nanoTime() - drainStart) / Math.max(1, drained);
+
+        System.out.printf("%-8s allocated/add: %,d B, retained heap: %,d KB, buffered: %,d B, churn GC: %d (%d ms), drain: %,d ns/log%n",
+                backend, allocatedPerAdd, retainedHeap / 1024, bufferedBytes, gcCount, gcMillis, drainNanosPerLog);
+    }
+
+    private static BackendLogDto createLog(int sequence) {
+        return BackendLogDto.builder()
+                .httpMethod("GET")
+                .endpoint("/heavens/" + sequence)
+                .controller("HeavenController")
+                .method("getHeavenDetail")
+                .parameters("{\"letterSeq\":\"" + sequence + "\"}")
+                .timestamp("2025-06-16T10:15:30.123")
+                .build();
+    }
+
+    private static ApplicationEventPublisher noOpPublisher() {
+        return event -> { };
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+}
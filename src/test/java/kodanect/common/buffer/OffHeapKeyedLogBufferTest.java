@@ -0,0 +1,203 @@
+package kodanect.common.buffer;
+
+import kodanect.common.config.properties.ActionLogBufferProperties;
+import kodanect.common.config.properties.ActionLogFlushProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link OffHeapKeyedLogBuffer} 클래스의 직렬화 보관, 용량 제한, 아레나 청크 재사용을 검증하는 단위 테스트입니다.
+ */
+public class OffHeapKeyedLogBufferTest {
+
+    private static final int CHUNK_BYTES = 1024;
+
+    private final UserActionKey key = new UserActionKey("session-1", CrudCode.R);
+
+    /**
+     * GIVEN: null과 한글이 포함된 필드 배열을 버퍼에 추가했을 때
+     * WHEN: drainAll()을 호출하면
+     * THEN: 추가한 순서대로 같은 값으로 복원되고 사용량은 0이 되어야 한다.
+     */
+    @Test
+    public void drainAll_shouldRestoreFieldsInOrder() {
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(100, Long.MAX_VALUE);
+
+        buffer.add(key, new String[]{"click", null, "/기증후기"});
+        buffer.add(key, new String[]{"view", "", "/notices"});
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(2);
+
+        List<String[]> drained = buffer.drainAll().get(key);
+
+        assertThat(drained).hasSize(2);
+        assertThat(drained.get(0)).containsExactly("click", null, "/기증후기");
+        assertThat(drained.get(1)).containsExactly("view", "", "/notices");
+        assertThat(buffer.getBufferedCount()).isZero();
+        assertThat(buffer.getBufferedBytes()).isZero();
+    }
+
+    /**
+     * GIVEN: 키별 최대 3건으로 제한된 DROP_OLDEST 버퍼에
+     * WHEN: 같은 키로 5건을 추가하면
+     * THEN: 가장 최근 3건만 남고, 유실 건수는 2가 되어야 한다.
+     */
+    @Test
+    public void add_shouldDropOldest_whenPerKeyCapacityExceeded() {
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(3, Long.MAX_VALUE);
+
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(key, new String[]{"log-" + i});
+        }
+
+        List<String[]> drained = buffer.drainAll().get(key);
+
+        assertThat(drained).extracting(fields -> fields[0]).containsExactly("log-3", "log-4", "log-5");
+        assertThat(buffer.getDroppedCount()).isEqualTo(2);
+    }
+
+    /**
+     * GIVEN: 전체 예산이 직렬화된 로그 2건 분량인 버퍼에
+     * WHEN: 서로 다른 키로 3건을 추가하면
+     * THEN: 전체에서 가장 오래된 로그가 밀려나고 보관 바이트는 예산을 넘지 않아야 한다.
+     */
+    @Test
+    public void add_shouldRespectBudgetInEncodedBytes() {
+        int recordBytes = Integer.BYTES + "a".length();
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(100, recordBytes * 2L);
+        UserActionKey first = new UserActionKey("session-1", CrudCode.R);
+        UserActionKey third = new UserActionKey("session-3", CrudCode.R);
+
+        buffer.add(first, new String[]{"a"});
+        buffer.add(new UserActionKey("session-2", CrudCode.R), new String[]{"b"});
+        buffer.add(third, new String[]{"c"});
+
+        assertThat(buffer.getBufferedCount()).isEqualTo(2);
+        assertThat(buffer.getBufferedBytes()).isEqualTo(recordBytes * 2L);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+
+        Map<UserActionKey, List<String[]>> drained = buffer.drainAll();
+
+        assertThat(drained).doesNotContainKey(first);
+        assertThat(drained.get(third)).extracting(fields -> fields[0]).containsExactly("c");
+    }
+
+    /**
+     * GIVEN: 한 CRUD 코드에 임계 건수 이상 쌓인 키와 미만인 키가 있을 때
+     * WHEN: drainDue()를 충분히 긴 최대 보관 시간으로 호출하면
+     * THEN: 임계 건수에 도달한 키만 배출되고 나머지는 유지되어야 한다.
+     */
+    @Test
+    public void drainDue_shouldDrainOnlyKeysOverThreshold() {
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(100, Long.MAX_VALUE);
+        UserActionKey other = new UserActionKey("session-2", CrudCode.R);
+
+        buffer.add(key, new String[]{"a"});
+        buffer.add(key, new String[]{"b"});
+        buffer.add(other, new String[]{"c"});
+
+        Map<UserActionKey, List<String[]>> drained = buffer.drainDue(CrudCode.R, 2, 60_000L);
+
+        assertThat(drained).containsOnlyKeys(key);
+        assertThat(buffer.getStatsByCrudCode().get(CrudCode.R).getRecordCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 청크 여러 개 분량의 로그를 추가하고 배출하는 과정을 반복할 때
+     * WHEN: 반복이 끝난 뒤 아레나 크기를 확인하면
+     * THEN: 비워진 청크가 재사용되어 할당된 청크 수가 늘어나지 않아야 한다.
+     */
+    @Test
+    public void drain_shouldRecycleEmptiedChunks() {
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(1000, CHUNK_BYTES * 4L);
+        String payload = "x".repeat(100);
+
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                buffer.add(new UserActionKey("session-" + i, CrudCode.C), new String[]{payload});
+            }
+            buffer.drainAll();
+        }
+
+        assertThat(buffer.getDroppedCount()).isZero();
+        assertThat(buffer.getArenaCapacityBytes()).isLessThanOrEqualTo(CHUNK_BYTES * 4L);
+    }
+
+    /**
+     * GIVEN: 청크마다 오래 남는 로그가 한 건씩 섞여 있어 예산 안에서도 아레나의 모든 청크가 사용 중일 때
+     * WHEN: 로그를 계속 추가하고 배출하면
+     * THEN: 새 로그는 버려지지 않고, 가장 오래된 로그를 밀어내 청크를 비운 뒤 저장되어야 한다.
+     */
+    @Test
+    public void add_shouldEvictOldest_whenArenaChunksArePinned() {
+        OffHeapKeyedLogBuffer<String[]> buffer = createBuffer(1000, CHUNK_BYTES * 4L);
+        String payload = "x".repeat(100);
+        int drained = 0;
+
+        for (int round = 0; round < 20; round++) {
+            buffer.add(new UserActionKey("pinned-" + round, CrudCode.U), new String[]{"pinned-" + round});
+            for (int i = 0; i < 10; i++) {
+                buffer.add(key, new String[]{payload});
+            }
+            drained += buffer.drainIfThresholdMet(CrudCode.R, 10).get(key).size();
+        }
+
+        Map<UserActionKey, List<String[]>> pinned = buffer.drainAll();
+
+        assertThat(drained).isEqualTo(200);
+        assertThat(buffer.getDroppedCount()).isEqualTo(20L - pinned.size());
+        assertThat(pinned).containsKey(new UserActionKey("pinned-19", CrudCode.U));
+        assertThat(pinned).doesNotContainKey(new UserActionKey("pinned-0", CrudCode.U));
+    }
+
+    /**
+     * GIVEN: 배출 신호를 받으면 다른 스레드에서 배출을 실행하고 끝날 때까지 기다리는 리스너가 주어졌을 때
+     * WHEN: 임계 건수마다 신호가 발행되도록 로그를 추가하면
+     * THEN: 리스너는 세그먼트 잠금 밖에서 호출되어 배출이 끝나고, 복원된 로그는 추가한 값과 같아야 한다.
+     */
+    @Test
+    public void add_shouldPublishSignalsOutsideSegmentLock() {
+        AtomicReference<OffHeapKeyedLogBuffer<String[]>> bufferRef = new AtomicReference<>();
+        List<String> drained = new ArrayList<>();
+        ActionLogBufferProperties properties = new ActionLogBufferProperties(
+                100, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.OFF_HEAP, CHUNK_BYTES);
+        ActionLogFlushProperties flushProperties = new ActionLogFlushProperties(
+                3, 3, 60_000L, 60_000L, Long.MAX_VALUE, Long.MAX_VALUE, 1000L, 1_800_000L);
+        OffHeapKeyedLogBuffer<String[]> buffer = new OffHeapKeyedLogBuffer<>("test", properties, flushProperties,
+                fields -> fields, fields -> fields, code -> { }, (code, trigger) -> {
+                    Thread flusher = new Thread(() -> bufferRef.get().drainAll().values()
+                            .forEach(logs -> logs.forEach(fields -> drained.add(fields[0]))));
+                    flusher.start();
+                    try {
+                        flusher.join(5_000L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        bufferRef.set(buffer);
+
+        for (int i = 0; i < 6; i++) {
+            buffer.add(key, new String[]{"log-" + i});
+        }
+
+        assertThat(drained).containsExactly("log-0", "log-1", "log-2", "log-3", "log-4", "log-5");
+        assertThat(buffer.getBufferedCount()).isZero();
+    }
+
+    private OffHeapKeyedLogBuffer<String[]> createBuffer(int perKeyCapacity, long maxBytes) {
+        ActionLogBufferProperties properties = new ActionLogBufferProperties(
+                perKeyCapacity, maxBytes, OverflowPolicy.DROP_OLDEST, 10, LogBufferBackend.OFF_HEAP, CHUNK_BYTES);
+
+        return new OffHeapKeyedLogBuffer<>("test", properties, null, fields -> fields, fields -> fields,
+                code -> { }, (code, trigger) -> { });
+    }
+
+}
@@ -1,9 +1,11 @@
 package kodanect.common.buffer;
 
+import kodanect.common.config.properties.ActionLogSystemInfoProperties;
 import kodanect.domain.logging.dto.SystemInfoDto;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,7 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * {@link SystemInfoBuffer} 클래스의 동작을 검증하는 단위 테스트입니다.
  *
- * 유효한 시스템 정보 추가, 중복 저장 방지, 조회, 삭제, 잘못된 입력 처리 등을 테스트합니다.
+ * 유효한 시스템 정보 추가, 중복 저장 방지, 조회, 삭제, 잘못된 입력 처리와
+ * 만료 시간 경과 후 제거, 동일 값 인스턴스 공유, 사용량 집계를 테스트합니다.
  */
 public class SystemInfoBufferTest {
 
@@ -22,7 +25,7 @@ public class SystemInfoBufferTest {
      */
     @Before
     public void setUp() {
-        buffer = new SystemInfoBuffer();
+        buffer = new SystemInfoBuffer(new ActionLogSystemInfoProperties(Duration.ofHours(24), 100_000L, 10_000L));
     }
 
     /**
@@ -92,6 +95,54 @@ public class SystemInfoBufferTest {
         assertThat(buffer.get("session-4")).isEmpty();
     }
 
+    /**
+     * GIVEN: 만료 시간이 짧게 설정된 버퍼에 시스템 정보가 저장되어 있을 때
+     * WHEN: 배출되지 않은 채 만료 시간이 지나면
+     * THEN: 해당 세션의 정보는 조회되지 않고 사용량에서도 빠져야 한다.
+     */
+    @Test
+    public void get_shouldReturnEmpty_afterTtlExpires() throws InterruptedException {
+        SystemInfoBuffer expiring = new SystemInfoBuffer(new ActionLogSystemInfoProperties(Duration.ofMillis(20), 100L, 100L));
+        expiring.add("session-5", createSystemInfo());
+
+        Thread.sleep(100);
+
+        assertThat(expiring.get("session-5")).isEmpty();
+        assertThat(expiring.getEntryCount()).isZero();
+    }
+
+    /**
+     * GIVEN: 서로 다른 세션이 같은 값의 시스템 정보를 각각 새 인스턴스로 전달할 때
+     * WHEN: add()를 호출하면
+     * THEN: 두 세션은 같은 인스턴스를 공유하고, 서로 다른 조합 수는 1이어야 한다.
+     */
+    @Test
+    public void add_shouldInternEqualSystemInfo() {
+        buffer.add("session-6", createSystemInfo());
+        buffer.add("session-7", createSystemInfo());
+
+        assertThat(buffer.get("session-6").get()).isSameAs(buffer.get("session-7").get());
+        assertThat(buffer.getEntryCount()).isEqualTo(2);
+        assertThat(buffer.getDistinctSystemInfoCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 시스템 정보를 추가한 뒤
+     * WHEN: 모든 세션을 제거하면
+     * THEN: 세션 항목 바이트는 빠지고 공유 인스턴스 바이트만 남아야 한다.
+     */
+    @Test
+    public void getApproximateBytes_shouldTrackAddAndRemove() {
+        buffer.add("session-8", createSystemInfo());
+        long withSession = buffer.getApproximateBytes();
+
+        buffer.remove("session-8");
+        long withoutSession = buffer.getApproximateBytes();
+
+        assertThat(withSession).isGreaterThan(withoutSession);
+        assertThat(withoutSession).isPositive();
+    }
+
     private SystemInfoDto createSystemInfo() {
         return SystemInfoDto.builder()
                 .browserName("Chrome")
@@ -0,0 +1,160 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogParameterProperties;
+import kodanect.common.config.properties.ActionLogSamplingProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.useragent.CachingUserAgentResolver;
+import kodanect.common.useragent.UserAgentInfo;
+import kodanect.common.useragent.UserAgentResolver;
+import kodanect.domain.logging.event.RequestActionContext;
+import kodanect.domain.logging.sampling.ActionLogSampler;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ActionLogMdcAspect}의 요청당 오버헤드를 User-Agent 캐시 적용 전후로 비교하는 벤치마크입니다.
+ *
+ * 서로 다른 User-Agent 300개를 순환하며 동일한 조인 포인트에 대해 aspect를 반복 호출하고,
+ * 캐시 없이 매번 분석하는 경우와 {@link CachingUserAgentResolver}를 사용하는 경우의 평균 시간을 출력합니다.
+ * 이벤트는 조회될 때 생성되므로, 조인 포인트는 /action-logs 컨트롤러처럼 실행 중에 이벤트를 조회합니다.
+ * 샘플링 비율 0으로 제외된 요청의 시간도 함께 출력합니다.
+ * 단위 테스트 실행 대상이 아니므로 main()으로 직접 실행합니다.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=kodanect.common.config.aspect.ActionLogMdcAspectBenchmark
+ * </pre>
+ */
+public class ActionLogMdcAspectBenchmark {
+
+    private static final int DISTINCT_USER_AGENTS = 300;
+    private static final int WARMUP_ITERATIONS = 100_000;
+    private static final int MEASURE_ITERATIONS = 500_000;
+
+    public static void main(String[] args) throws Throwable {
+        Configurator.setLevel(ActionLogMdcAspect.class.getName(), Level.OFF);
+
+        List<String> userAgents = createUserAgents();
+        ProceedingJoinPoint joinPoint = createJoinPoint();
+        ActionLogParameterExtractor parameterExtractor = new ActionLogParameterExtractor(
+                new ObjectMapper(), new ActionLogParameterProperties(200, List.of("passcode", "password")));
+
+        ActionLogSampler sampleAll = new ActionLogSampler(
+                new ActionLogSamplingProperties(false, 1.0, null, null), new SimpleMeterRegistry());
+        ActionLogSampler sampleNone = new ActionLogSampler(
+                new ActionLogSamplingProperties(true, 1.0, Map.of(CrudCode.R, 0.0), null), new SimpleMeterRegistry());
+
+        ActionLogMdcAspect uncached = new ActionLogMdcAspect(parameterExtractor, UserAgentInfo::parse, sampleAll);
+        ActionLogMdcAspect cached = new ActionLogMdcAspect(
+                parameterExtractor, new CachingUserAgentResolver(new SimpleMeterRegistry()), sampleAll);
+        ActionLogMdcAspect sampledOut = new ActionLogMdcAspect(parameterExtractor, UserAgentInfo::parse, sampleNone);
+
+        run(uncached, joinPoint, userAgents, WARMUP_ITERATIONS);
+        run(cached, joinPoint, userAgents, WARMUP_ITERATIONS);
+        run(sampledOut, joinPoint, userAgents, WARMUP_ITERATIONS);
+
+        System.out.printf("uncached: %,d ns/request%n", run(uncached, joinPoint, userAgents, MEASURE_ITERATIONS));
+        System.out.printf("cached:   %,d ns/request%n", run(cached, joinPoint, userAgents, MEASURE_ITERATIONS));
+        System.out.printf("sampled out: %,d ns/request%n", run(sampledOut, joinPoint, userAgents, MEASURE_ITERATIONS));
+        System.out.printf("resolver only - uncached: %,d ns/op, cached: %,d ns/op%n",
+                resolve(UserAgentInfo::parse, userAgents),
+                resolve(new CachingUserAgentResolver(new SimpleMeterRegistry()), userAgents));
+    }
+
+    private static long run(ActionLogMdcAspect aspect,
+                            ProceedingJoinPoint joinPoint,
+                            List<String> userAgents,
+                            int iterations) throws Throwable {
+        List<ServletRequestAttributes> requests = new ArrayList<>(userAgents.size());
+
+        for (String userAgent : userAgents) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+            request.setCookies(new Cookie("sessionId", "benchmark-session"));
+            request.addHeader("User-Agent", userAgent);
+            requests.add(new ServletRequestAttributes(request));
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            RequestContextHolder.setRequestAttributes(requests.get(i % requests.size()));
+            aspect.injectMdcMetadata(joinPoint);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        RequestContextHolder.resetRequestAttributes();
+        return elapsed / iterations;
+    }
+
+    private static long resolve(UserAgentResolver resolver, List<String> userAgents) {
+        long start = System.nanoTime();
+        int checksum = 0;
+
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            checksum += resolver.resolve(userAgents.get(i % userAgents.size())).getBrowserName().length();
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        if (checksum == 0) {
+            System.out.println("unexpected checksum");
+        }
+        return elapsed / MEASURE_ITERATIONS;
+    }
+
+    private static ProceedingJoinPoint createJoinPoint() throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringTypeName()).thenReturn("kodanect.domain.article.controller.ArticleController");
+        when(signature.getDeclaringType()).thenReturn(Object.class);
+        when(signature.getName()).thenReturn("getArticles");
+        when(signature.getMethod()).thenReturn(ActionLogMdcAspectBenchmark.class.getDeclaredMethod("getArticles", String.class, Integer.class));
+        when(signature.getParameterNames()).thenReturn(new String[]{"type", "cursor"});
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"notice", 10});
+        when(joinPoint.proceed()).thenAnswer(invocation -> RequestActionContext.current().orElse(null));
+
+        return joinPoint;
+    }
+
+    /**
+     * 조인 포인트가 가리키는 컨트롤러 메서드 대역
+     */
+    private static Object getArticles(String type, Integer cursor) {
+        return null;
+    }
+
+    private static List<String> createUserAgents() {
+        List<String> userAgents = new ArrayList<>(DISTINCT_USER_AGENTS);
+
+        for (int i = 0; i < DISTINCT_USER_AGENTS; i++) {
+            switch (i % 3) {
+                case 0 -> userAgents.add("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                        + "(KHTML, like Gecko) Chrome/" + (100 + i) + ".0.0.0 Safari/537.36");
+                case 1 -> userAgents.add("Mozilla/5.0 (iPhone; CPU iPhone OS 17_" + i + " like Mac OS X) "
+                        + "AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.0 Mobile/15E148 Safari/604.1");
+                default -> userAgents.add("Mozilla/5.0 (Linux; Android 14; SM-S9" + i + ") AppleWebKit/537.36 "
+                        + "(KHTML, like Gecko) Chrome/" + (100 + i) + ".0.0.0 Mobile Safari/537.36");
+            }
+        }
+
+        return userAgents;
+    }
+
+}
@@ -0,0 +1,129 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogParameterProperties;
+import kodanect.domain.recipient.dto.RecipientRequestDto;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogParameterExtractor} 클래스의 파라미터 기록 동작을 검증하는 단위 테스트입니다.
+ *
+ * 서블릿/멀티파트 타입 제외, 비밀번호 필드 마스킹, 값 길이 제한, 메서드별 추출 계획 캐싱을 확인합니다.
+ */
+public class ActionLogParameterExtractorTest {
+
+    private static final int MAX_VALUE_LENGTH = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ActionLogParameterExtractor extractor;
+
+    /**
+     * 테스트 실행 전 최대 길이 20자로 추출기를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        extractor = new ActionLogParameterExtractor(objectMapper,
+                new ActionLogParameterProperties(MAX_VALUE_LENGTH, List.of("passcode", "password")));
+    }
+
+    /**
+     * GIVEN: 요청 DTO, 서블릿 요청, 업로드 파일을 인자로 받는 메서드일 때
+     * WHEN: extract()를 호출하면
+     * THEN: 서블릿/파일 인자는 제외되고, DTO의 비밀번호는 마스킹되며 긴 본문은 잘려야 한다.
+     */
+    @Test
+    public void extract_shouldSkipServletTypes_redactPasscode_andTruncate() throws Exception {
+        RecipientRequestDto dto = RecipientRequestDto.builder()
+                .letterTitle("제목")
+                .letterContents("<p>" + "가".repeat(1000) + "</p>")
+                .letterPasscode("secret1234")
+                .build();
+        MultipartFile image = new MockMultipartFile("image", new byte[]{1, 2, 3});
+
+        JsonNode json = extract("createLetter", new String[]{"requestDto", "request", "image"},
+                new Object[]{dto, new MockHttpServletRequest(), image});
+
+        assertThat(json.has("request")).isFalse();
+        assertThat(json.has("image")).isFalse();
+        assertThat(json.get("requestDto").get("letterTitle").asText()).isEqualTo("제목");
+        assertThat(json.get("requestDto").get("letterPasscode").asText()).isEqualTo(ActionLogParameterExtractor.REDACTED);
+        assertThat(json.get("requestDto").get("letterContents").asText())
+                .startsWith("<p>가가")
+                .endsWith("...(+" + (1007 - MAX_VALUE_LENGTH) + ")");
+    }
+
+    /**
+     * GIVEN: 비밀번호를 담은 Map과 비밀번호 이름의 문자열 파라미터가 주어졌을 때
+     * WHEN: extract()를 호출하면
+     * THEN: 해당 엔트리와 파라미터 값은 마스킹되어야 한다.
+     */
+    @Test
+    public void extract_shouldRedactPasscodeParameterAndMapEntry() throws Exception {
+        JsonNode json = extract("verify", new String[]{"body", "commentPasscode"},
+                new Object[]{Map.of("letterPasscode", "secret1234", "id", "7"), "secret1234"});
+
+        assertThat(json.get("body").get("letterPasscode").asText()).isEqualTo(ActionLogParameterExtractor.REDACTED);
+        assertThat(json.get("body").get("id").asText()).isEqualTo("7");
+        assertThat(json.get("commentPasscode").asText()).isEqualTo(ActionLogParameterExtractor.REDACTED);
+    }
+
+    /**
+     * GIVEN: 같은 메서드가 여러 번 호출될 때
+     * WHEN: extract()를 반복 호출하면
+     * THEN: 파라미터 이름 조회는 최초 한 번만 수행되어야 한다.
+     */
+    @Test
+    public void extract_shouldCachePlanPerMethod() throws Exception {
+        MethodSignature signature = signature("verify", new String[]{"body", "commentPasscode"});
+
+        extractor.extract(signature, new Object[]{Map.of(), "a"});
+        extractor.extract(signature, new Object[]{Map.of(), "b"});
+
+        verify(signature, times(1)).getParameterNames();
+    }
+
+    private JsonNode extract(String methodName, String[] names, Object[] args) throws Exception {
+        return objectMapper.readTree(extractor.extract(signature(methodName, names), args));
+    }
+
+    private MethodSignature signature(String methodName, String[] names) throws NoSuchMethodException {
+        Method method = methodName.equals("createLetter")
+                ? SampleController.class.getDeclaredMethod(methodName, RecipientRequestDto.class, HttpServletRequest.class, MultipartFile.class)
+                : SampleController.class.getDeclaredMethod(methodName, Map.class, String.class);
+
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getParameterNames()).thenReturn(names);
+        return signature;
+    }
+
+    /**
+     * 추출 대상 컨트롤러 메서드 대역
+     */
+    private static class SampleController {
+
+        void createLetter(RecipientRequestDto requestDto, HttpServletRequest request, MultipartFile image) {
+            // 시그니처만 사용
+        }
+
+        void verify(Map<String, String> body, String commentPasscode) {
+            // 시그니처만 사용
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package kodanect.common.config.aspect;
+
+import kodanect.common.config.properties.LatencyProperties;
+import kodanect.common.metrics.LatencyGroup;
+import kodanect.common.metrics.LatencyRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link TransactionLoggingAspect}가 서비스 메서드와 컨트롤러 엔드포인트의 지연 시간을
+ * {@link LatencyRegistry}에 기록하는지 검증하는 단위 테스트입니다.
+ */
+public class TransactionLoggingAspectTest {
+
+    private LatencyRegistry registry;
+    private TransactionLoggingAspect aspect;
+
+    /**
+     * 테스트 실행 전 지연 시간 기록이 활성화된 레지스트리로 aspect를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        registry = new LatencyRegistry(new LatencyProperties(true, 2));
+        aspect = new TransactionLoggingAspect(registry);
+    }
+
+    /**
+     * 테스트 종료 후 요청 컨텍스트를 초기화합니다.
+     */
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * GIVEN: 서비스 메서드가 예외를 던질 때
+     * WHEN: logTransaction()으로 실행하면
+     * THEN: 예외는 그대로 전달되고 "클래스명.메서드명"으로 지연 시간이 기록되어야 한다.
+     */
+    @Test
+    public void logTransaction_shouldRecordServiceLatency_evenWhenFailed() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(new SampleService(), "getMemorialByDonateSeq");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("fail"));
+
+        assertThatThrownBy(() -> aspect.logTransaction(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.snapshot(LatencyGroup.SERVICE))
+                .containsOnlyKeys("SampleService.getMemorialByDonateSeq");
+        assertThat(registry.snapshot(LatencyGroup.SERVICE).get("SampleService.getMemorialByDonateSeq").getCount())
+                .isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 요청에 매핑 패턴이 설정되어 있을 때
+     * WHEN: measureEndpoint()로 컨트롤러 메서드를 실행하면
+     * THEN: "HTTP 메서드 + 매핑 패턴"으로 지연 시간이 기록되어야 한다.
+     */
+    @Test
+    public void measureEndpoint_shouldUseMatchingPattern() throws Throwable {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/remembrance/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/remembrance/{donateSeq}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        ProceedingJoinPoint joinPoint = joinPoint(new SampleService(), "getMemorialByDonateSeq");
+
+        aspect.measureEndpoint(joinPoint);
+        aspect.measureEndpoint(joinPoint);
+
+        assertThat(registry.snapshot(LatencyGroup.ENDPOINT).get("GET /remembrance/{donateSeq}").getCount())
+                .isEqualTo(2);
+    }
+
+    /**
+     * GIVEN: 지연 시간 기록이 비활성화되어 있을 때
+     * WHEN: 서비스 메서드를 실행하면
+     * THEN: 아무 값도 기록되지 않아야 한다.
+     */
+    @Test
+    public void logTransaction_shouldNotRecord_whenDisabled() throws Throwable {
+        LatencyRegistry disabled = new LatencyRegistry(new LatencyProperties(false, 2));
+
+        new TransactionLoggingAspect(disabled).logTransaction(joinPoint(new SampleService(), "find"));
+
+        assertThat(disabled.snapshot(LatencyGroup.SERVICE)).isEmpty();
+    }
+
+    private ProceedingJoinPoint joinPoint(Object target, String methodName) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+
+        when(signature.getName()).thenReturn(methodName);
+        when(signature.getDeclaringType()).thenReturn(target.getClass());
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(target);
+        return joinPoint;
+    }
+
+    private static class SampleService {
+    }
+
+}
@@ -0,0 +1,144 @@
+package kodanect.common.listcache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.FirstPageCacheProperties;
+import kodanect.common.response.ApiResponse;
+import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.response.PreSerializedCursorPaginationResponse;
+import kodanect.common.util.CursorIdentifiable;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FirstPageCache} 클래스의 보관, 직렬화 결과 재사용, 게시판 단위 무효화 동작을 검증하는 단위 테스트입니다.
+ */
+public class FirstPageCacheTest {
+
+    private ObjectMapper objectMapper;
+    private FirstPageCache cache;
+    private AtomicInteger loads;
+
+    /**
+     * 테스트 실행 전 ObjectMapper와 FirstPageCache를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        cache = new FirstPageCache(new FirstPageCacheProperties(true, 50, Duration.ofMinutes(1)), objectMapper, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    /**
+     * GIVEN: 같은 게시판, 같은 크기의 첫 페이지를
+     * WHEN: 두 번 조회하면
+     * THEN: DB 조회는 한 번만 일어나고, 보관한 응답은 원래 응답과 같은 값과 같은 JSON을 가져야 한다.
+     */
+    @Test
+    public void get_shouldReuseSerializedResponse() throws Exception {
+        CursorPaginationResponse<Item, Integer> original = page();
+
+        CursorPaginationResponse<Item, Integer> first = cache.get(CountedBoard.HEAVEN, 2, loader(original));
+        CursorPaginationResponse<Item, Integer> second = cache.get(CountedBoard.HEAVEN, 2, loader(original));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first).isInstanceOf(PreSerializedCursorPaginationResponse.class);
+        assertThat(second.getContent()).isEqualTo(original.getContent());
+        assertThat(second.getTotalCount()).isEqualTo(original.getTotalCount());
+        assertThat(objectMapper.writeValueAsString(ApiResponse.success(HttpStatus.OK, "성공", second)))
+                .isEqualTo(objectMapper.writeValueAsString(ApiResponse.success(HttpStatus.OK, "성공", original)));
+    }
+
+    /**
+     * GIVEN: 두 게시판의 첫 페이지가 보관되어 있을 때
+     * WHEN: 한 게시판을 무효화하면
+     * THEN: 해당 게시판만 다시 조회해야 한다.
+     */
+    @Test
+    public void invalidate_shouldReloadOnlyTheBoard() {
+        cache.get(CountedBoard.HEAVEN, 2, loader(page()));
+        cache.get(CountedBoard.DONATION, 2, loader(page()));
+
+        cache.invalidate(CountedBoard.HEAVEN);
+
+        cache.get(CountedBoard.HEAVEN, 2, loader(page()));
+        cache.get(CountedBoard.DONATION, 2, loader(page()));
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    /**
+     * GIVEN: maxPageSize보다 큰 페이지 크기로
+     * WHEN: 두 번 조회하면
+     * THEN: 보관하지 않고 매번 조회해야 한다.
+     */
+    @Test
+    public void get_largerThanMaxPageSize_shouldNotCache() {
+        CursorPaginationResponse<Item, Integer> result = cache.get(CountedBoard.RECIPIENT, 51, loader(page()));
+        cache.get(CountedBoard.RECIPIENT, 51, loader(page()));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(result).isNotInstanceOf(PreSerializedCursorPaginationResponse.class);
+    }
+
+    private Supplier<CursorPaginationResponse<Item, Integer>> loader(CursorPaginationResponse<Item, Integer> response) {
+        return () -> {
+            loads.incrementAndGet();
+            return response;
+        };
+    }
+
+    private static CursorPaginationResponse<Item, Integer> page() {
+        return CursorPaginationResponse.<Item, Integer>builder()
+                .content(List.of(new Item(3, "기억합니다", LocalDateTime.of(2024, 1, 1, 12, 0)), new Item(2, "그립습니다", null)))
+                .nextCursor(2)
+                .hasNext(true)
+                .totalCount(10L)
+                .build();
+    }
+
+    /**
+     * 목록 항목 예시입니다.
+     */
+    public static class Item implements CursorIdentifiable<Integer> {
+
+        private final int seq;
+        private final String title;
+        private final LocalDateTime writeTime;
+
+        Item(int seq, String title, LocalDateTime writeTime) {
+            this.seq = seq;
+            this.title = title;
+            this.writeTime = writeTime;
+        }
+
+        public int getSeq() {
+            return seq;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public LocalDateTime getWriteTime() {
+            return writeTime;
+        }
+
+        @Override
+        public Integer getCursorId() {
+            return seq;
+        }
+
+    }
+
+}
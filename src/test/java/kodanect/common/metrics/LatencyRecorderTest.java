@@ -0,0 +1,154 @@
+package kodanect.common.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link LatencyRecorder} 클래스의 지연 시간 기록 및 통계 계산을 검증하는 단위 테스트입니다.
+ */
+public class LatencyRecorderTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * GIVEN: 1ms부터 100ms까지 1ms 간격으로 100건이 기록되었을 때
+     * WHEN: snapshot()을 호출하면
+     * THEN: 건수와 백분위, 최대값이 밀리초 단위로 계산되어야 한다.
+     */
+    @Test
+    public void snapshot_shouldReportPercentilesInMillis() {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+
+        for (long millis = 1; millis <= 100; millis++) {
+            recorder.record(millis * NANOS_PER_MILLI);
+        }
+
+        LatencySnapshot snapshot = recorder.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.getP50()).isCloseTo(50.0, within(1.0));
+        assertThat(snapshot.getP90()).isCloseTo(90.0, within(1.0));
+        assertThat(snapshot.getP99()).isCloseTo(99.0, within(1.0));
+        assertThat(snapshot.getMax()).isCloseTo(100.0, within(1.0));
+        assertThat(snapshot.getMean()).isCloseTo(50.5, within(1.0));
+    }
+
+    /**
+     * GIVEN: 같은 구간 안에서 조회가 반복될 때
+     * WHEN: snapshot()을 여러 번 호출하면
+     * THEN: 누적 건수와 최근 처리율이 조회 횟수에 따라 바뀌지 않아야 한다.
+     */
+    @Test
+    public void snapshot_shouldNotChangeRecentRate_whenReadRepeatedly() {
+        AtomicLong clock = new AtomicLong();
+        LatencyRecorder recorder = new LatencyRecorder(2, clock::get);
+        recorder.record(5 * NANOS_PER_MILLI);
+        recorder.record(7 * NANOS_PER_MILLI);
+
+        clock.addAndGet(NANOS_PER_SECOND);
+        LatencySnapshot first = recorder.snapshot();
+        LatencySnapshot second = recorder.snapshot();
+
+        assertThat(first.getRecentRate()).isCloseTo(2.0, within(0.01));
+        assertThat(second.getCount()).isEqualTo(2);
+        assertThat(second.getRecentRate()).isEqualTo(first.getRecentRate());
+    }
+
+    /**
+     * GIVEN: 1분 구간이 끝난 뒤 다음 구간에 기록이 없을 때
+     * WHEN: 각 구간이 끝난 뒤 snapshot()을 호출하면
+     * THEN: 최근 처리율은 끝난 구간의 건수 기준으로 계산되어야 한다.
+     */
+    @Test
+    public void snapshot_shouldComputeRecentRatePerElapsedWindow() {
+        AtomicLong clock = new AtomicLong();
+        LatencyRecorder recorder = new LatencyRecorder(2, clock::get);
+
+        for (int i = 0; i < 120; i++) {
+            recorder.record(NANOS_PER_MILLI);
+        }
+
+        clock.addAndGet(60 * NANOS_PER_SECOND);
+        assertThat(recorder.snapshot().getRecentRate()).isCloseTo(2.0, within(0.01));
+
+        clock.addAndGet(30 * NANOS_PER_SECOND);
+        assertThat(recorder.snapshot().getRecentRate()).isCloseTo(2.0, within(0.01));
+
+        clock.addAndGet(30 * NANOS_PER_SECOND);
+        LatencySnapshot snapshot = recorder.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(120);
+        assertThat(snapshot.getRecentRate()).isZero();
+        assertThat(snapshot.getMeanRate()).isCloseTo(1.0, within(0.01));
+    }
+
+    /**
+     * GIVEN: 느린 호출이 기록된 뒤 5분 넘게 지나 빠른 호출만 기록될 때
+     * WHEN: 각 시점에 snapshot()을 호출하면
+     * THEN: 백분위와 최대값은 최근 5분 구간 기준으로 바뀌고, 호출 수는 누적되어야 한다.
+     */
+    @Test
+    public void snapshot_shouldDropLatenciesOlderThanWindow() {
+        AtomicLong clock = new AtomicLong();
+        LatencyRecorder recorder = new LatencyRecorder(2, clock::get);
+
+        recorder.record(500 * NANOS_PER_MILLI);
+        assertThat(recorder.snapshot().getP99()).isCloseTo(500.0, within(5.0));
+
+        clock.addAndGet(2 * 60 * NANOS_PER_SECOND);
+        recorder.record(NANOS_PER_MILLI);
+        LatencySnapshot withinWindow = recorder.snapshot();
+
+        assertThat(withinWindow.getMax()).isCloseTo(500.0, within(5.0));
+
+        clock.addAndGet(4 * 60 * NANOS_PER_SECOND);
+        recorder.record(NANOS_PER_MILLI);
+        LatencySnapshot afterWindow = recorder.snapshot();
+
+        assertThat(afterWindow.getCount()).isEqualTo(3);
+        assertThat(afterWindow.getP99()).isCloseTo(1.0, within(0.1));
+        assertThat(afterWindow.getMax()).isCloseTo(1.0, within(0.1));
+    }
+
+    /**
+     * GIVEN: 기록 후 5분 넘게 조회도 기록도 없을 때
+     * WHEN: snapshot()을 호출하면
+     * THEN: 지연 시간 통계는 0이고 누적 호출 수는 유지되어야 한다.
+     */
+    @Test
+    public void snapshot_shouldReportEmptyWindow_whenIdleLongerThanWindow() {
+        AtomicLong clock = new AtomicLong();
+        LatencyRecorder recorder = new LatencyRecorder(2, clock::get);
+
+        recorder.record(10 * NANOS_PER_MILLI);
+        recorder.snapshot();
+
+        clock.addAndGet(10 * 60 * NANOS_PER_SECOND);
+        LatencySnapshot snapshot = recorder.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1);
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getP99()).isZero();
+    }
+
+    /**
+     * GIVEN: 기록이 한 건도 없을 때
+     * WHEN: snapshot()을 호출하면
+     * THEN: 모든 값이 0이어야 한다.
+     */
+    @Test
+    public void snapshot_shouldReturnZeros_whenEmpty() {
+        LatencySnapshot snapshot = new LatencyRecorder(2).snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getP99()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+    }
+
+}
@@ -0,0 +1,100 @@
+package kodanect.common.readcount;
+
+import kodanect.common.config.properties.ReadCountProperties;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ReadCountAggregator} 클래스의 조회 수 누적, 일괄 반영, 실패 시 보존 동작을 검증하는 단위 테스트입니다.
+ */
+public class ReadCountAggregatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ReadCountAggregator aggregator;
+
+    /**
+     * 테스트 실행 전 JdbcTemplate mock과 ReadCountAggregator를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        aggregator = new ReadCountAggregator(jdbcTemplate, new ReadCountProperties(5000L, 500));
+    }
+
+    /**
+     * GIVEN: 한 게시글을 3번 조회했을 때
+     * WHEN: flush()를 호출하면
+     * THEN: UPDATE ... CASE 문 하나로 3을 반영하고, 반영 대기 값은 0이 되어야 한다.
+     */
+    @Test
+    public void flush_shouldApplyAccumulatedCountsInOneStatement() {
+        aggregator.increment(ReadCountBoard.HEAVEN, null, 10);
+        aggregator.increment(ReadCountBoard.HEAVEN, null, 10);
+        aggregator.increment(ReadCountBoard.HEAVEN, null, 10);
+
+        assertThat(aggregator.pending(ReadCountBoard.HEAVEN, null, 10)).isEqualTo(3);
+
+        long flushed = aggregator.flush();
+
+        assertThat(flushed).isEqualTo(3);
+        verify(jdbcTemplate).update(
+                "UPDATE tb25_410_heaven_letter SET read_count = COALESCE(read_count, 0) + CASE"
+                        + " WHEN letter_seq = ? THEN ? ELSE 0 END WHERE letter_seq IN (?)",
+                10L, 3L, 10L);
+        assertThat(aggregator.pending(ReadCountBoard.HEAVEN, null, 10)).isZero();
+    }
+
+    /**
+     * GIVEN: DB 반영이 실패할 때
+     * WHEN: flush()를 호출하면
+     * THEN: 반영 대기 값이 유지되어 다음 주기에 다시 반영되어야 한다.
+     */
+    @Test
+    public void flush_failure_shouldKeepPendingCounts() {
+        when(jdbcTemplate.update(anyString(), (Object[]) any())).thenThrow(new QueryTimeoutException("timeout"));
+        aggregator.increment(ReadCountBoard.DONATION, null, 5);
+
+        long flushed = aggregator.flush();
+
+        assertThat(flushed).isZero();
+        assertThat(aggregator.pending(ReadCountBoard.DONATION, null, 5)).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 증가분이 없을 때
+     * WHEN: flush()를 호출하면
+     * THEN: UPDATE 문을 실행하지 않아야 한다.
+     */
+    @Test
+    public void flush_noPendingCounts_shouldNotUpdate() {
+        aggregator.flush();
+
+        verify(jdbcTemplate, never()).update(anyString(), (Object[]) any());
+    }
+
+    /**
+     * GIVEN: 게시판 코드로 구분되는 게시판일 때
+     * WHEN: UPDATE 문을 만들면
+     * THEN: (게시판 코드, 게시글 번호) 조건으로 CASE와 WHERE를 구성해야 한다.
+     */
+    @Test
+    public void buildUpdateSql_scopedBoard_shouldMatchScopeAndId() {
+        String sql = ReadCountAggregator.buildUpdateSql(ReadCountBoard.ARTICLE, 2);
+
+        assertThat(sql).isEqualTo("UPDATE tb25_210_article_dtl SET read_count = COALESCE(read_count, 0) + CASE"
+                + " WHEN (board_code = ? AND article_seq = ?) THEN ?"
+                + " WHEN (board_code = ? AND article_seq = ?) THEN ? ELSE 0 END"
+                + " WHERE (board_code = ? AND article_seq = ?) OR (board_code = ? AND article_seq = ?)");
+    }
+
+}
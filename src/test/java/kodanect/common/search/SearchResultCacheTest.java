@@ -0,0 +1,152 @@
+package kodanect.common.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.SearchCacheProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SearchResultCache} 클래스의 보관, 동시 조회 시 단일 조회, 게시판 단위 무효화 동작을 검증하는 단위 테스트입니다.
+ */
+public class SearchResultCacheTest {
+
+    private SearchResultCache cache;
+
+    /**
+     * 테스트 실행 전 SearchResultCache를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        cache = new SearchResultCache(new SearchCacheProperties(true, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    }
+
+    /**
+     * 트랜잭션 동기화를 사용한 테스트의 상태를 정리합니다.
+     */
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * GIVEN: 같은 (게시판, 검색 유형, 검색어)로
+     * WHEN: 개수와 첫 페이지를 두 번씩 조회하면
+     * THEN: loader는 각각 한 번만 호출되고, 페이지 크기가 다르면 따로 조회해야 한다.
+     */
+    @Test
+    public void get_shouldLoadOncePerKey() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.count(CountedBoard.HEAVEN, "ALL", "기증", () -> loads.incrementAndGet() * 10L)).isEqualTo(10);
+        assertThat(cache.count(CountedBoard.HEAVEN, "ALL", "기증", () -> loads.incrementAndGet() * 10L)).isEqualTo(10);
+        assertThat(cache.count(CountedBoard.HEAVEN, "TITLE", "기증", () -> loads.incrementAndGet() * 10L)).isEqualTo(20);
+
+        List<String> page = cache.firstPage(CountedBoard.HEAVEN, "ALL", "기증", 4, () -> new ArrayList<>(List.of("a", "b")));
+
+        assertThat(cache.firstPage(CountedBoard.HEAVEN, "ALL", "기증", 4, List::<String>of)).isSameAs(page).containsExactly("a", "b");
+        assertThat(cache.firstPage(CountedBoard.HEAVEN, "ALL", "기증", 6, List::<String>of)).isEmpty();
+        assertThatThrownBy(() -> page.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(SearchResultCache.normalize("  기증 ")).isEqualTo("기증");
+    }
+
+    /**
+     * GIVEN: 같은 검색어의 개수 조회가 진행 중일 때
+     * WHEN: 여러 스레드가 동시에 같은 개수를 요청하면
+     * THEN: loader는 한 번만 실행되고 모든 스레드가 같은 값을 받아야 한다.
+     */
+    @Test
+    public void count_concurrentRequests_shouldLoadOnce() throws Exception {
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.count(CountedBoard.DONATION, "ALL", "희망", () -> {
+                        loads.incrementAndGet();
+                        sleep(100);
+                        return 7L;
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Long> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(7L);
+            }
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * GIVEN: 두 게시판의 검색 결과가 보관되어 있을 때
+     * WHEN: 한 게시판을 트랜잭션 안에서 무효화하면
+     * THEN: 해당 게시판만 즉시 제거되고, 커밋 이후 다시 보관된 값도 제거되어야 한다.
+     */
+    @Test
+    public void invalidate_shouldRemoveOnlyTheBoardAndRepeatAfterCommit() {
+        cache.count(CountedBoard.HEAVEN, "ALL", "기증", () -> 1L);
+        cache.count(CountedBoard.RECIPIENT, "ALL", "기증", () -> 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(CountedBoard.HEAVEN);
+
+        assertThat(cache.count(CountedBoard.HEAVEN, "ALL", "기증", () -> 2L)).isEqualTo(2);
+        assertThat(cache.count(CountedBoard.RECIPIENT, "ALL", "기증", () -> 2L)).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.count(CountedBoard.HEAVEN, "ALL", "기증", () -> 3L)).isEqualTo(3);
+    }
+
+    /**
+     * GIVEN: 캐시를 끈 설정일 때
+     * WHEN: 같은 개수를 두 번 조회하면
+     * THEN: 매번 loader를 호출해야 한다.
+     */
+    @Test
+    public void count_disabled_shouldAlwaysLoad() {
+        SearchResultCache disabled = new SearchResultCache(new SearchCacheProperties(false, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.count(CountedBoard.MEMORIAL, "20230101~20240101", "%홍%", loads::incrementAndGet);
+        disabled.count(CountedBoard.MEMORIAL, "20230101~20240101", "%홍%", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package kodanect.common.useragent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CachingUserAgentResolver} 클래스의 캐싱 및 메트릭 노출 동작을 검증하는 단위 테스트입니다.
+ */
+public class CachingUserAgentResolverTest {
+
+    private static final String CHROME_ON_WINDOWS =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private MeterRegistry meterRegistry;
+    private CachingUserAgentResolver resolver;
+
+    /**
+     * 테스트 실행 전 메트릭 레지스트리와 resolver를 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resolver = new CachingUserAgentResolver(meterRegistry);
+    }
+
+    /**
+     * GIVEN: 같은 User-Agent 문자열로 두 번 요청할 때
+     * WHEN: resolve()를 호출하면
+     * THEN: 캐시 없이 분석한 결과와 같고, 두 번째 요청은 같은 인스턴스를 반환하며 적중률은 0.5여야 한다.
+     */
+    @Test
+    public void resolve_shouldReturnCachedResult() {
+        UserAgentInfo first = resolver.resolve(CHROME_ON_WINDOWS);
+        UserAgentInfo second = resolver.resolve(CHROME_ON_WINDOWS);
+
+        assertThat(first).isEqualTo(UserAgentInfo.parse(CHROME_ON_WINDOWS));
+        assertThat(second).isSameAs(first);
+        assertThat(resolver.getHitRate()).isEqualTo(0.5);
+    }
+
+    /**
+     * GIVEN: User-Agent 헤더가 없는 요청일 때
+     * WHEN: resolve(null)을 호출하면
+     * THEN: 예외 없이 "Unknown" 값으로 채워진 결과를 반환해야 한다.
+     */
+    @Test
+    public void resolve_shouldHandleMissingHeader() {
+        UserAgentInfo info = resolver.resolve(null);
+
+        assertThat(info.getBrowserVersion()).isEqualTo("Unknown");
+        assertThat(info.getBrowserName()).isNotBlank();
+        assertThat(info.getDevice()).isNotBlank();
+    }
+
+    /**
+     * GIVEN: resolver가 생성되었을 때
+     * WHEN: 캐시를 조회하면
+     * THEN: 적중/실패 횟수가 cache.gets 메트릭으로 노출되어야 한다.
+     */
+    @Test
+    public void resolve_shouldExposeHitAndMissMetrics() {
+        resolver.resolve(CHROME_ON_WINDOWS);
+        resolver.resolve(CHROME_ON_WINDOWS);
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", "userAgent").tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tag("cache", "userAgent").tag("result", "miss")
+                .functionCounter().count();
+
+        assertThat(hits).isEqualTo(1.0);
+        assertThat(misses).isEqualTo(1.0);
+    }
+
+}
@@ -0,0 +1,97 @@
+package kodanect.common.util;
+
+import kodanect.common.config.properties.ViewDedupProperties;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ViewDedupService} 클래스의 중복 조회 판단, 세대 교대, 메모리 고정 및 오판 비율을 검증하는 단위 테스트입니다.
+ */
+public class ViewDedupServiceTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private ViewDedupService service;
+
+    /**
+     * 테스트 실행 전 시각을 직접 조정할 수 있는 ViewDedupService를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        service = new ViewDedupService(new ViewDedupProperties(WINDOW, 10_000, 0.01), clock::get);
+    }
+
+    /**
+     * GIVEN: 같은 IP가 같은 게시글을 조회했을 때
+     * WHEN: window 안에 다시 조회하면
+     * THEN: 첫 조회만 true이고, 다른 게시판/게시글/IP는 각각 첫 조회로 판단해야 한다.
+     */
+    @Test
+    public void isFirstView_shouldDedupSamePostAndIpWithinWindow() {
+        assertThat(service.isFirstView("heaven", 1, "10.0.0.1")).isTrue();
+        assertThat(service.isFirstView("heaven", 1, "10.0.0.1")).isFalse();
+
+        assertThat(service.isFirstView("heaven", 2, "10.0.0.1")).isTrue();
+        assertThat(service.isFirstView("heaven", 1, "10.0.0.2")).isTrue();
+        assertThat(service.isFirstView("donation", 1, "10.0.0.1")).isTrue();
+    }
+
+    /**
+     * GIVEN: 조회 기록이 있을 때
+     * WHEN: window가 한 번 지나면 여전히 중복이고, 두 번 지나면
+     * THEN: 다시 첫 조회로 판단해야 한다.
+     */
+    @Test
+    public void isFirstView_shouldForgetAfterTwoWindows() {
+        service.isFirstView("recipient", 7, "10.0.0.1");
+
+        clock.addAndGet(WINDOW.toNanos());
+        assertThat(service.isFirstView("recipient", 7, "10.0.0.1")).isFalse();
+
+        clock.addAndGet(WINDOW.toNanos());
+        assertThat(service.isFirstView("recipient", 7, "10.0.0.1")).isTrue();
+    }
+
+    /**
+     * GIVEN: 예상 조회 수만큼 서로 다른 조회를 기록한 뒤
+     * WHEN: 기록하지 않은 조회 1,000건을 확인하면
+     * THEN: 오판 비율이 설정값(1%)의 두 배를 넘지 않고, 비트 수는 기록 수와 관계없이 고정되어야 한다.
+     */
+    @Test
+    public void isFirstView_shouldKeepFalsePositiveRateWithinBound() {
+        long bitSize = service.getBitSize();
+
+        for (int i = 0; i < 10_000; i++) {
+            service.isFirstView("article:7", i, "10.0.0.1");
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 11_000; i++) {
+            if (!service.isFirstView("article:7", i, "10.0.0.1")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(20);
+        assertThat(service.getBitSize()).isEqualTo(bitSize);
+    }
+
+    /**
+     * GIVEN: 오판 비율이 0 이하이거나 1 이상일 때
+     * WHEN: ViewDedupService를 생성하면
+     * THEN: IllegalArgumentException이 발생해야 한다.
+     */
+    @Test
+    public void constructor_invalidFalsePositiveRate_shouldThrow() {
+        assertThatThrownBy(() -> new ViewDedupService(new ViewDedupProperties(WINDOW, 10_000, 1.0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
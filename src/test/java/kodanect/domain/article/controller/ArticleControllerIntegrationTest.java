@@ -1,7 +1,7 @@
 package kodanect.domain.article.controller;
 
 import kodanect.common.config.properties.GlobalsProperties;
-import kodanect.common.util.RequestBasedHitLimiter;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.article.entity.*;
 import kodanect.domain.article.repository.ArticleFileRepository;
 import kodanect.domain.article.repository.ArticleRepository;
@@ -31,7 +31,7 @@ import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -66,14 +66,14 @@ class ArticleControllerIntegrationTest {
     private HttpServletRequest req;
 
     @MockBean
-    private RequestBasedHitLimiter reqBasedHitLimiter;
+    private ViewDedupService viewDedupService;
 
     @TempDir
     Path tempDir;
 
     @BeforeEach
     void setUp() {
-        given(reqBasedHitLimiter.isFirstView(anyString(), anyInt(), anyString())).willReturn(true);
+        given(viewDedupService.isFirstView(anyString(), anyLong(), anyString())).willReturn(true);
         MockHttpServletRequest mockRequest = new MockHttpServletRequest();
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(mockRequest));
 
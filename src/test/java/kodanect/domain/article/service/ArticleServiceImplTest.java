@@ -1,6 +1,7 @@
 package kodanect.domain.article.service;
 
-import kodanect.common.util.RequestBasedHitLimiter;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.article.exception.ArticleNotFoundException;
 import kodanect.domain.article.dto.ArticleDTO;
 import kodanect.domain.article.dto.ArticleDetailDto;
@@ -32,8 +33,9 @@ public class ArticleServiceImplTest {
     @Before
     public void setUp() {
         articleRepository = mock(ArticleRepository.class);
-        RequestBasedHitLimiter hitLimiter = mock(RequestBasedHitLimiter.class);
-        articleService = new ArticleServiceImpl(articleRepository, hitLimiter);
+        ViewDedupService viewDedupService = mock(ViewDedupService.class);
+        ReadCountAggregator readCountAggregator = mock(ReadCountAggregator.class);
+        articleService = new ArticleServiceImpl(articleRepository, viewDedupService, readCountAggregator);
     }
 
     @Test
@@ -195,7 +195,7 @@ class DonationControllerTest {
                 .fileName(null)
                 .orgFileName(null)
                 .build();
-        given(donationService.findDonationStoryWithStoryId(1L)).willReturn(detailDto);
+        given(donationService.findDonationStoryWithStoryId(eq(1L), anyString())).willReturn(detailDto);
         given(messageSourceAccessor.getMessage("board.read.success"))
                 .willReturn("조회 성공");
 
@@ -210,7 +210,7 @@ class DonationControllerTest {
     @DisplayName("GET /donationLetters/{storySeq} - 실패 (404)")
     void getDonationStoryDetail_notFound() throws Exception {
         doThrow(new DonationNotFoundException("donation.error.notfound"))
-                .when(donationService).findDonationStoryWithStoryId(999L);
+                .when(donationService).findDonationStoryWithStoryId(eq(999L), anyString());
         given(messageSourceAccessor.getMessage("donation.error.notfound"))
                 .willReturn("없음");
 
@@ -231,7 +231,7 @@ class DonationControllerTest {
 
         given(messageSourceAccessor.getMessage("donation.password.match"))
                 .willReturn("비밀번호 일치");
-        given(donationService.findDonationStoryWithStoryId(1L)).willReturn(detailDto);
+        given(donationService.findDonationStoryWithStoryId(eq(1L), anyString())).willReturn(detailDto);
 
 
         doNothing().when(donationService).verifyPasswordWithPassword(eq(1L), any(VerifyStoryPasscodeDto.class));
@@ -1,7 +1,18 @@
 package kodanect.domain.donation.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.FirstPageCacheProperties;
+import kodanect.common.config.properties.SearchCacheProperties;
+import kodanect.common.listcache.FirstPageCache;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.MessageResolver;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.donation.dto.request.DonationStoryCreateRequestDto;
 import kodanect.domain.donation.dto.request.DonationStoryModifyRequestDto;
 import kodanect.domain.donation.dto.request.VerifyStoryPasscodeDto;
@@ -18,6 +29,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -26,6 +38,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +61,22 @@ public class DonationServiceImplTest {
     @Mock
     private MessageResolver messageResolver;
 
+    @Mock
+    private ViewDedupService viewDedupService;
+
+    @Mock
+    private ReadCountAggregator readCountAggregator;
+
+    @Mock
+    private BoardCountRegistry boardCountRegistry;
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(
+            new SearchCacheProperties(true, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    @Spy
+    private FirstPageCache firstPageCache = new FirstPageCache(
+            new FirstPageCacheProperties(true, 50, Duration.ofMinutes(1)), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+
     @InjectMocks
     private DonationServiceImpl donationService;
 
@@ -66,7 +95,7 @@ public class DonationServiceImplTest {
         );
 
         given(donationRepository.findByCursor(cursor, pg)).willReturn(dtoList);
-        given(donationRepository.countAll()).willReturn(5L);
+        given(boardCountRegistry.get(CountedBoard.DONATION)).willReturn(5L);
 
         CursorPaginationResponse<DonationStoryListDto, Long> resp = donationService.findStoriesWithCursor(cursor, size);
 
@@ -124,6 +153,7 @@ public class DonationServiceImplTest {
 
         donationService.createDonationStory(requestDto);
         then(donationRepository).should().save(any(DonationStory.class));
+        then(boardCountRegistry).should().increment(CountedBoard.DONATION);
     }
 
     @Test(expected = BadRequestException.class)
@@ -166,10 +196,27 @@ public class DonationServiceImplTest {
                 .storyContents("C").areaCode(kodanect.domain.donation.dto.response.AreaCode.AREA100)
                 .writeTime(LocalDateTime.now()).build();
         given(donationRepository.findStoryOnlyById(5L)).willReturn(Optional.of(s));
+        given(viewDedupService.isFirstView("donation", 5L, "127.0.0.1")).willReturn(true);
+        given(readCountAggregator.pending(ReadCountBoard.DONATION, null, 5L)).willReturn(1L);
 
-        var dto = donationService.findDonationStoryWithStoryId(5L);
+        var dto = donationService.findDonationStoryWithStoryId(5L, "127.0.0.1");
         assertThat(dto.getStorySeq()).isEqualTo(5L);
-        assertThat(s.getReadCount()).isEqualTo(1);
+        assertThat(dto.getReadCount()).isEqualTo(1);
+        then(readCountAggregator).should().increment(ReadCountBoard.DONATION, null, 5L);
+    }
+
+    @Test
+    public void findDonationStoryWithStoryId_DuplicateView_ShouldNotIncreaseReadCount() {
+        DonationStory s = DonationStory.builder()
+                .storySeq(6L).readCount(3).storyPasscode("X").storyTitle("T")
+                .storyContents("C").areaCode(kodanect.domain.donation.dto.response.AreaCode.AREA100)
+                .writeTime(LocalDateTime.now()).build();
+        given(donationRepository.findStoryOnlyById(6L)).willReturn(Optional.of(s));
+        given(viewDedupService.isFirstView("donation", 6L, "127.0.0.1")).willReturn(false);
+
+        var dto = donationService.findDonationStoryWithStoryId(6L, "127.0.0.1");
+        assertThat(dto.getReadCount()).isEqualTo(3);
+        then(readCountAggregator).should(never()).increment(any(), any(), anyLong());
     }
 
     @Test
@@ -190,7 +237,7 @@ public class DonationServiceImplTest {
         given(commentRepository.countAllByStorySeq(1L)).willReturn(10L);
 
         // when
-        DonationStoryDetailDto dto = donationService.findDonationStoryWithStoryId(1L);
+        DonationStoryDetailDto dto = donationService.findDonationStoryWithStoryId(1L, "127.0.0.1");
 
         // then
         assertThat(dto.getComments().getContent()).hasSize(3);
@@ -212,7 +259,7 @@ public class DonationServiceImplTest {
         given(commentRepository.countAllByStorySeq(2L)).willReturn(1L);
 
         // when
-        DonationStoryDetailDto dto = donationService.findDonationStoryWithStoryId(2L);
+        DonationStoryDetailDto dto = donationService.findDonationStoryWithStoryId(2L, "127.0.0.1");
 
         // then
         assertThat(dto.getComments().getContent()).hasSize(1);
@@ -221,7 +268,7 @@ public class DonationServiceImplTest {
     @Test(expected = DonationNotFoundException.class)
     public void findDonationStoryWithStoryId_NotFound_ShouldThrow() {
         given(donationRepository.findStoryOnlyById(99L)).willReturn(Optional.empty());
-        donationService.findDonationStoryWithStoryId(99L);
+        donationService.findDonationStoryWithStoryId(99L, "127.0.0.1");
     }
 
     // --- 수정 ---
@@ -251,6 +298,7 @@ public class DonationServiceImplTest {
         assertThat(s.getDelFlag()).isEqualTo("Y");
 
         then(donationRepository).should().save(s);
+        then(boardCountRegistry).should().decrement(CountedBoard.DONATION);
     }
 
     @Test(expected = PasscodeMismatchException.class)
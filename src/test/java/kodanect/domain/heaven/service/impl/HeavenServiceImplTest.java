@@ -1,10 +1,20 @@
 package kodanect.domain.heaven.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.FirstPageCacheProperties;
+import kodanect.common.config.properties.SearchCacheProperties;
 import kodanect.common.imageupload.service.FileService;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountBoard;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
 import kodanect.common.util.HeavenFinder;
 import kodanect.common.util.MemorialFinder;
-import kodanect.common.util.ViewTracker;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.heaven.dto.HeavenDto;
 import kodanect.domain.heaven.dto.request.HeavenCreateRequest;
 import kodanect.domain.heaven.dto.request.HeavenUpdateRequest;
@@ -15,6 +25,7 @@ import kodanect.domain.heaven.entity.Heaven;
 import kodanect.domain.heaven.repository.HeavenCommentRepository;
 import kodanect.domain.heaven.repository.HeavenRepository;
 import kodanect.domain.heaven.service.HeavenCommentService;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.repository.MemorialRepository;
 import org.junit.Test;
@@ -23,9 +34,11 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -52,11 +65,23 @@ public class HeavenServiceImplTest {
     @Mock
     private FileService fileService;
     @Mock
-    private ViewTracker viewTracker;
+    private ViewDedupService viewDedupService;
+    @Mock
+    private ReadCountAggregator readCountAggregator;
     @Mock
     private MemorialFinder memorialFinder;
     @Mock
     private MemorialRepository memorialRepository;
+    @Mock
+    private MemorialDetailCache memorialDetailCache;
+    @Mock
+    private BoardCountRegistry boardCountRegistry;
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(
+            new SearchCacheProperties(true, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    @Spy
+    private FirstPageCache firstPageCache = new FirstPageCache(
+            new FirstPageCacheProperties(true, 50, Duration.ofMinutes(1)), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
 
     @Test
     @DisplayName("게시물 전체 조회 테스트")
@@ -69,7 +94,7 @@ public class HeavenServiceImplTest {
         int readCount = 5;
         LocalDateTime now = LocalDateTime.now();
 
-        // heavenRepository.countByDelFlag() 값 미리 설정
+        // boardCountRegistry.get() 값 미리 설정
         Long heavenCount = 50L;
 
         // heavenRepository.findByCursor() 값 미리 설정
@@ -80,7 +105,7 @@ public class HeavenServiceImplTest {
 
         // 메서드 결과값 설정
         when(heavenRepository.findByCursor(eq(cursor), any(Pageable.class))).thenReturn(heavenResponseList);
-        when(heavenRepository.countByDelFlag()).thenReturn(heavenCount);
+        when(boardCountRegistry.get(CountedBoard.HEAVEN)).thenReturn(heavenCount);
 
         /* when */
         CursorPaginationResponse<HeavenResponse, Integer> cursorPaginationResponse = heavenServiceImpl.getHeavenList(cursor, size);
@@ -177,7 +202,7 @@ public class HeavenServiceImplTest {
                 .build();
 
         when(heavenFinder.findAnonymizedByIdOrThrow(letterSeq)).thenReturn(heavenDto);
-        when(viewTracker.shouldIncreaseView(letterSeq, clientIp)).thenReturn(true);
+        when(viewDedupService.isFirstView("heaven", letterSeq, clientIp)).thenReturn(true);
         when(heavenCommentRepository.countByLetterSeq(letterSeq)).thenReturn((long) totalCommentCount);
 
         /* when */
@@ -190,7 +215,7 @@ public class HeavenServiceImplTest {
         assertEquals(letterSeq, resultHeavenDto.getLetterSeq());
         assertEquals(letterTitle, resultHeavenDto.getLetterTitle());
         assertEquals(letterWriter, resultHeavenDto.getLetterWriter());
-        verify(heavenRepository, times(1)).updateReadCount(letterSeq);
+        verify(readCountAggregator, times(1)).increment(ReadCountBoard.HEAVEN, null, letterSeq);
         assertEquals(letterContents, resultHeavenDto.getLetterContents());
         assertEquals(writeTime.toLocalDate().toString(), resultHeavenDto.getWriteTime());
     }
@@ -288,6 +313,9 @@ public class HeavenServiceImplTest {
         verify(memorialRepository, times(1)).findById(heavenCreateRequest.getDonateSeq());
         verify(fileService, times(1)).saveFile(heavenCreateRequest.getLetterContents());
         verify(heavenRepository, times(1)).save(heavenCaptor.capture());
+        verify(memorialDetailCache, times(1)).invalidate(donateSeq);
+        verify(boardCountRegistry, times(1)).increment(CountedBoard.HEAVEN);
+        verify(firstPageCache, times(1)).invalidate(CountedBoard.HEAVEN);
 
         Heaven saveHeaven = heavenCaptor.getValue();
         Memorial saveMemorial = saveHeaven.getMemorial();
@@ -384,5 +412,7 @@ public class HeavenServiceImplTest {
         /* then */
         verify(heaven, times(1)).verifyPasscode(letterPasscode);
         verify(heaven, times(1)).softDelete();
+        verify(boardCountRegistry, times(1)).decrement(CountedBoard.HEAVEN);
+        verify(firstPageCache, times(1)).invalidate(CountedBoard.HEAVEN);
     }
 }
\ No newline at end of file
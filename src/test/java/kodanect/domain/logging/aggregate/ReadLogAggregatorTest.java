@@ -0,0 +1,164 @@
+package kodanect.domain.logging.aggregate;
+
+import kodanect.common.config.properties.ActionLogReadAggregationProperties;
+import kodanect.domain.logging.dto.ReadLogAggregateDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReadLogAggregator} 클래스의 버킷 집계, 배출, 상한 동작을 검증하는 단위 테스트입니다.
+ */
+public class ReadLogAggregatorTest {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long BASE_MILLIS = LocalDateTime.of(2025, 6, 16, 10, 15)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    private ReadLogAggregator aggregator;
+
+    /**
+     * 테스트 실행 전 버킷 상한이 3인 집계기를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        aggregator = new ReadLogAggregator(new ActionLogReadAggregationProperties(true, 3));
+    }
+
+    /**
+     * GIVEN: 같은 분에 같은 URL/브라우저/디바이스 조회가 여러 번 기록되었을 때
+     * WHEN: drainAll()을 호출하면
+     * THEN: 한 버킷으로 합쳐져 건수와 분 시작 시각이 반환되어야 한다.
+     */
+    @Test
+    public void record_shouldCountSameMinuteIntoSingleBucket() {
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS + 1_000L);
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS + 59_000L);
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS + MINUTE_MILLIS);
+
+        List<ReadLogAggregateDto> drained = aggregator.drainAll();
+
+        assertThat(drained).hasSize(2);
+        assertThat(drained).filteredOn(dto -> "2025-06-16T10:15".equals(dto.getMinute()))
+                .singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getCount()).isEqualTo(2L);
+                    assertThat(dto.isAggregated()).isTrue();
+                });
+        assertThat(aggregator.getBucketCount()).isZero();
+    }
+
+    /**
+     * GIVEN: 방금 종료된 분과 그 이전 분의 버킷이 있을 때
+     * WHEN: drainClosed()를 호출하면
+     * THEN: 유예 시간이 지난 버킷만 배출되고 나머지는 유지되어야 한다.
+     */
+    @Test
+    public void drainClosed_shouldKeepBucketsWithinGracePeriod() {
+        aggregator.record("/old", null, null, BASE_MILLIS);
+        aggregator.record("/recent", null, null, BASE_MILLIS + MINUTE_MILLIS);
+
+        List<ReadLogAggregateDto> drained = aggregator.drainClosed(BASE_MILLIS + 2 * MINUTE_MILLIS + 1_000L);
+
+        assertThat(drained).extracting(ReadLogAggregateDto::getUrlName).containsExactly("/old");
+        assertThat(drained.get(0).getBrowserName()).isEqualTo("Unknown");
+        assertThat(aggregator.getBucketCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 진행 중인 분의 버킷이 있을 때
+     * WHEN: drainAll() 후 같은 버킷에 다시 기록하고 drainAll()을 호출하면
+     * THEN: 버킷은 유지되고, 각 배출에는 직전 배출 이후 기록된 건수만 포함되어야 한다.
+     */
+    @Test
+    public void drainAll_shouldKeepOpenBucketAndCarryLaterRecords() {
+        long now = System.currentTimeMillis() + MINUTE_MILLIS;
+
+        aggregator.record("/notices", "Chrome", "Computer", now);
+        aggregator.record("/notices", "Chrome", "Computer", now);
+
+        assertThat(aggregator.drainAll()).singleElement()
+                .satisfies(dto -> assertThat(dto.getCount()).isEqualTo(2L));
+        assertThat(aggregator.getBucketCount()).isEqualTo(1);
+
+        aggregator.record("/notices", "Chrome", "Computer", now);
+
+        assertThat(aggregator.drainAll()).singleElement()
+                .satisfies(dto -> assertThat(dto.getCount()).isEqualTo(1L));
+        assertThat(aggregator.drainAll()).isEmpty();
+    }
+
+    /**
+     * GIVEN: 버킷 수가 상한에 도달했을 때
+     * WHEN: 새 버킷에 해당하는 조회를 기록하면
+     * THEN: false가 반환되고, 기존 버킷에 대한 기록은 계속 성공해야 한다.
+     */
+    @Test
+    public void record_shouldRejectNewBucket_whenMaxBucketsReached() {
+        assertThat(aggregator.record("/a", "Chrome", "Computer", BASE_MILLIS)).isTrue();
+        assertThat(aggregator.record("/b", "Chrome", "Computer", BASE_MILLIS)).isTrue();
+        assertThat(aggregator.record("/c", "Chrome", "Computer", BASE_MILLIS)).isTrue();
+
+        assertThat(aggregator.record("/d", "Chrome", "Computer", BASE_MILLIS)).isFalse();
+        assertThat(aggregator.record("/a", "Chrome", "Computer", BASE_MILLIS)).isTrue();
+        assertThat(aggregator.getBucketCount()).isEqualTo(3);
+    }
+
+    /**
+     * GIVEN: 배출한 집계의 저장이 실패했을 때
+     * WHEN: restore()로 되돌린 뒤 같은 버킷에 기록하고 drainAll()을 호출하면
+     * THEN: 되돌린 건수와 새로 기록한 건수가 한 버킷으로 합쳐져 배출되어야 한다.
+     */
+    @Test
+    public void restore_shouldMergeCountsIntoBucketForNextDrain() {
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS);
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS);
+
+        List<ReadLogAggregateDto> drained = aggregator.drainAll();
+        aggregator.restore(drained);
+        aggregator.record("/notices", "Chrome", "Computer", BASE_MILLIS + 1_000L);
+
+        assertThat(aggregator.drainAll()).singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getMinute()).isEqualTo("2025-06-16T10:15");
+                    assertThat(dto.getCount()).isEqualTo(3L);
+                });
+    }
+
+    /**
+     * GIVEN: 같은 페이지를 서로 다른 게시글 번호와 쿼리 문자열로 조회했을 때
+     * WHEN: drainAll()을 호출하면
+     * THEN: 경로 패턴 하나의 버킷으로 집계되어야 한다.
+     */
+    @Test
+    public void record_shouldNormalizeUrlToPathPattern() {
+        aggregator.record("https://kodanect.or.kr/notices/12?page=2", "Chrome", "Computer", BASE_MILLIS);
+        aggregator.record("/notices/345#comments", "Chrome", "Computer", BASE_MILLIS);
+        aggregator.record("/notices/678", "Chrome", "Computer", BASE_MILLIS);
+
+        assertThat(aggregator.drainAll()).singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getUrlName()).isEqualTo("/notices/{id}");
+                    assertThat(dto.getCount()).isEqualTo(3L);
+                });
+    }
+
+    /**
+     * GIVEN: 숫자, UUID, 일반 문자열 경로 구간이 섞인 URL이 주어졌을 때
+     * WHEN: normalizeUrl()을 호출하면
+     * THEN: 숫자와 UUID 구간만 {id}로 바뀌어야 한다.
+     */
+    @Test
+    public void normalizeUrl_shouldReplaceIdSegmentsOnly() {
+        assertThat(ReadLogAggregator.normalizeUrl("/letters/7/comments/a1b2c3d4-0000-1111-2222-333344445555"))
+                .isEqualTo("/letters/{id}/comments/{id}");
+        assertThat(ReadLogAggregator.normalizeUrl("/notices")).isEqualTo("/notices");
+        assertThat(ReadLogAggregator.normalizeUrl(" ")).isEqualTo("Unknown");
+    }
+
+}
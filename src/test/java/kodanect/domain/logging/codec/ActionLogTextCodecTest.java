@@ -0,0 +1,101 @@
+package kodanect.domain.logging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogTextProperties;
+import kodanect.domain.logging.context.ActionLogContext;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogTextCodec} 클래스의 직렬화, 압축, 복원 동작을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogTextCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * GIVEN: 압축 기준 크기보다 작은 컨텍스트가 주어졌을 때
+     * WHEN: encode()를 호출하면
+     * THEN: writeValueAsString()과 동일한 평문 JSON이 반환되어야 한다.
+     */
+    @Test
+    public void encode_shouldReturnPlainJson_whenBelowCompressionThreshold() throws IOException {
+        ActionLogTextCodec codec = new ActionLogTextCodec(objectMapper, new ActionLogTextProperties(true, 4096, -1));
+        ActionLogContext context = createContext(1);
+
+        String encoded = codec.encode(context);
+
+        assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(context));
+        assertThat(ActionLogTextCodec.decode(encoded)).isEqualTo(encoded);
+    }
+
+    /**
+     * GIVEN: 압축 기준 크기 이상인 컨텍스트가 주어졌을 때
+     * WHEN: encode() 후 decode()를 호출하면
+     * THEN: 표식이 붙은 더 짧은 문자열로 저장되고, 원래 JSON으로 복원되어야 한다.
+     */
+    @Test
+    public void encode_shouldCompress_andDecodeShouldRestoreJson() throws IOException {
+        ActionLogTextCodec codec = new ActionLogTextCodec(objectMapper, new ActionLogTextProperties(true, 64, -1));
+        ActionLogContext context = createContext(200);
+        String json = objectMapper.writeValueAsString(context);
+
+        String encoded = codec.encode(context);
+
+        assertThat(encoded).startsWith(ActionLogTextCodec.DEFLATE_MARKER);
+        assertThat(encoded.length()).isLessThan(json.length());
+        assertThat(ActionLogTextCodec.decode(encoded)).isEqualTo(json);
+    }
+
+    /**
+     * GIVEN: 같은 스레드에서 크기가 다른 컨텍스트를 연속으로 직렬화할 때
+     * WHEN: 재사용 버퍼로 encode()를 반복하면
+     * THEN: 이전 결과가 섞이지 않아야 한다.
+     */
+    @Test
+    public void encode_shouldNotLeakPreviousContentThroughPooledBuffers() throws IOException {
+        ActionLogTextCodec codec = new ActionLogTextCodec(objectMapper, new ActionLogTextProperties(false, 0, -1));
+
+        codec.encode(createContext(50));
+        String encoded = codec.encode(createContext(1));
+
+        assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(createContext(1)));
+    }
+
+    /**
+     * GIVEN: 표식은 있지만 손상된 압축 데이터가 저장되어 있을 때
+     * WHEN: decode()를 호출하면
+     * THEN: 예외 없이 저장된 값을 그대로 반환해야 한다.
+     */
+    @Test
+    public void decode_shouldReturnStoredValue_whenCorrupted() {
+        String corrupted = ActionLogTextCodec.DEFLATE_MARKER + "not-base64!";
+
+        assertThat(ActionLogTextCodec.decode(corrupted)).isEqualTo(corrupted);
+    }
+
+    private ActionLogContext createContext(int logCount) {
+        List<FrontendLogDto> logs = IntStream.range(0, logCount)
+                .mapToObj(i -> FrontendLogDto.builder()
+                        .eventType("clickButton")
+                        .elementId("btn-" + i)
+                        .pageUrl("/page")
+                        .timestamp("2025-06-16T23:00:00")
+                        .build())
+                .collect(Collectors.toList());
+
+        return ActionLogContext.builder()
+                .sessionId("session-1")
+                .frontendLogs(logs)
+                .backendLogs(List.of())
+                .build();
+    }
+
+}
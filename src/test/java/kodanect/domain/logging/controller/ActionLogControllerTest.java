@@ -3,7 +3,10 @@ package kodanect.domain.logging.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.FrontendLogRequestDto;
+import kodanect.domain.logging.event.RequestActionContext;
+import kodanect.domain.logging.event.RequestActionEvent;
 import kodanect.domain.logging.service.ActionLogService;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -12,11 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
 import javax.servlet.http.Cookie;
+import java.io.InputStream;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -59,12 +64,23 @@ public class ActionLogControllerTest {
     }
 
     /**
-     * GIVEN: 세션 ID와 프론트엔드 로그 데이터가 주어졌을 때
+     * 테스트 종료 후 현재 스레드의 요청 이벤트를 제거합니다.
+     */
+    @After
+    public void tearDown() {
+        RequestActionContext.clear();
+    }
+
+    /**
+     * GIVEN: AOP가 캡처한 요청 이벤트와 프론트엔드 로그 데이터가 주어졌을 때
      * WHEN: /action-logs 엔드포인트에 POST 요청을 보내면
      * THEN: 서비스가 호출되고 200 OK 응답이 반환되어야 한다.
      */
     @Test
     public void collectFrontendLogs_shouldReturnOkAndCallServices() throws Exception {
+        RequestActionEvent event = RequestActionEvent.builder().sessionId("session-abc").build();
+        RequestActionContext.set(event);
+
         FrontendLogDto log = FrontendLogDto.builder().eventType("click").pageUrl("/home").build();
         FrontendLogRequestDto requestDto = new FrontendLogRequestDto(List.of(log));
 
@@ -79,8 +95,48 @@ public class ActionLogControllerTest {
                 .andExpect(jsonPath("$.message").value("로그를 성공적으로 저장했습니다."));
 
         verify(service).saveFrontendLog(anyList());
-        verify(service).saveBackendLog();
-        verify(service).saveSystemInfo();
+        verify(service).saveRequestLog(event);
+    }
+
+    /**
+     * GIVEN: 세션 쿠키가 없어 요청 이벤트가 캡처되지 않았을 때
+     * WHEN: /action-logs 엔드포인트에 POST 요청을 보내면
+     * THEN: 백엔드 로그 저장(비동기 작업)은 요청되지 않아야 한다.
+     */
+    @Test
+    public void collectFrontendLogs_shouldSkipRequestLog_whenNoEventCaptured() throws Exception {
+        FrontendLogRequestDto requestDto = new FrontendLogRequestDto(
+                List.of(FrontendLogDto.builder().eventType("click").build()));
+
+        mockMvc.perform(post("/action-logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+
+        verify(service).saveFrontendLog(anyList());
+        verify(service, never()).saveRequestLog(any());
+    }
+
+    /**
+     * GIVEN: gzip으로 압축된 NDJSON 본문이 주어졌을 때
+     * WHEN: application/x-ndjson으로 /action-logs 엔드포인트에 POST 요청을 보내면
+     * THEN: 스트리밍 저장이 gzip 모드로 호출되고 200 OK 응답이 반환되어야 한다.
+     */
+    @Test
+    public void collectFrontendLogStream_shouldStreamGzipBody() throws Exception {
+        RequestActionEvent event = RequestActionEvent.builder().sessionId("session-abc").build();
+        RequestActionContext.set(event);
+
+        mockMvc.perform(post("/action-logs")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(new byte[]{0x1f, (byte) 0x8b}))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("로그를 성공적으로 저장했습니다."));
+
+        verify(service).saveFrontendLogStream(any(InputStream.class), eq(true), eq(2L));
+        verify(service, never()).saveFrontendLog(anyList());
+        verify(service).saveRequestLog(event);
     }
 
 }
@@ -0,0 +1,58 @@
+package kodanect.domain.logging.event;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RequestActionContext}의 지연 생성 동작을 검증하는 단위 테스트입니다.
+ */
+public class RequestActionContextTest {
+
+    @After
+    public void tearDown() {
+        RequestActionContext.clear();
+    }
+
+    /**
+     * GIVEN: 요청 이벤트 생성 함수가 설정되었을 때
+     * WHEN: current()를 호출하지 않으면 생성 함수가 실행되지 않고, 여러 번 호출하면
+     * THEN: 생성 함수는 한 번만 실행되고 같은 이벤트가 반환되어야 한다.
+     */
+    @Test
+    public void current_shouldCreateEventOnceOnFirstAccess() {
+        AtomicInteger created = new AtomicInteger();
+
+        RequestActionContext.set(() -> {
+            created.incrementAndGet();
+            return RequestActionEvent.builder().sessionId("session-1").build();
+        });
+
+        assertThat(created.get()).isZero();
+
+        RequestActionEvent first = RequestActionContext.current().orElseThrow();
+        RequestActionEvent second = RequestActionContext.current().orElseThrow();
+
+        assertThat(first.getSessionId()).isEqualTo("session-1");
+        assertThat(second).isSameAs(first);
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 요청 이벤트가 설정된 뒤
+     * WHEN: clear()를 호출하면
+     * THEN: current()는 빈 값을 반환해야 한다.
+     */
+    @Test
+    public void clear_shouldRemoveEvent() {
+        RequestActionContext.set(RequestActionEvent.builder().sessionId("session-1").build());
+
+        RequestActionContext.clear();
+
+        assertThat(RequestActionContext.current()).isEmpty();
+    }
+
+}
@@ -1,27 +1,38 @@
 package kodanect.domain.logging.flusher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
 import kodanect.common.buffer.SystemInfoBuffer;
 import kodanect.common.constant.CrudCode;
-import kodanect.common.constant.MdcContext;
+import kodanect.domain.logging.aggregate.ReadLogAggregator;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.ReadLogAggregateDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
-import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+import kodanect.domain.logging.monitor.ActionLogMetrics;
+import kodanect.domain.logging.sink.ActionLogSink;
 import kodanect.common.constant.UserActionKey;
-import kodanect.domain.logging.repository.ActionLogRepository;
+import kodanect.domain.logging.spool.ActionLogSpool;
+import kodanect.domain.logging.spool.SpoolRecord;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.MockedStatic;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
-import java.util.Collection;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,9 +40,6 @@ import static org.mockito.Mockito.*;
  *
  * CRUD 임계값 조건, 전체 로그 배출, 직렬화 실패 시 예외 발생 등
  * 로그 저장 로직이 올바르게 동작하는지 확인합니다.
- *
- * 또한 테스트 중 {@link MdcContext}를 정적으로 mocking 하여
- * IP 주소가 항상 고정된 값("127.0.0.1")으로 반환되도록 설정합니다.
  */
 public class ActionLogFlusherTest {
 
@@ -40,8 +48,11 @@ public class ActionLogFlusherTest {
     private FrontendLogBuffer frontendBuffer;
     private BackendLogBuffer backendBuffer;
     private SystemInfoBuffer systemInfoBuffer;
-    private ActionLogRepository actionLogRepository;
-    private ObjectMapper objectMapper;
+    private ActionLogSink actionLogSink;
+    private ActionLogTextCodec textCodec;
+    private ActionLogSpool spool;
+    private ReadLogAggregator readLogAggregator;
+    private ActionLogMetrics metrics;
 
     private final String sessionId = "test-session";
     private final UserActionKey key = new UserActionKey(sessionId, CrudCode.R);
@@ -55,43 +66,73 @@ public class ActionLogFlusherTest {
         frontendBuffer = mock(FrontendLogBuffer.class);
         backendBuffer = mock(BackendLogBuffer.class);
         systemInfoBuffer = mock(SystemInfoBuffer.class);
-        actionLogRepository = mock(ActionLogRepository.class);
-        objectMapper = mock(ObjectMapper.class);
+        actionLogSink = mock(ActionLogSink.class);
+        textCodec = mock(ActionLogTextCodec.class);
+        spool = mock(ActionLogSpool.class);
+        readLogAggregator = mock(ReadLogAggregator.class);
+        metrics = mock(ActionLogMetrics.class);
 
         flusher = new ActionLogFlusher(
                 frontendBuffer,
                 backendBuffer,
                 systemInfoBuffer,
-                actionLogRepository,
-                objectMapper
+                actionLogSink,
+                textCodec,
+                spool,
+                readLogAggregator,
+                metrics
         );
     }
 
     /**
-     * GIVEN: Frontend 및 Backend 버퍼에 CRUD 코드 기준으로 로그가 1개씩 있을 때
-     * WHEN: flushByCrudCode() 호출하면
-     * THEN: ActionLogRepository에 저장 요청이 1건 들어가야 한다.
+     * GIVEN: 배출 조건을 만족한 키에 Frontend 로그 2개가 있을 때
+     * WHEN: flushDue() 호출하면
+     * THEN: 키 단위로 1건이 저장되고 저장 행 수 1이 반환되며, 배출 직전 스풀 위치로 키가 해제되어야 한다.
      */
     @Test
-    public void flushByCrudCode_shouldFlushLogsAndSave() throws Exception {
-        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/page").build());
-        List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/endpoint").build());
-        SystemInfoDto systemInfo = SystemInfoDto.builder().build();
+    public void flushDue_shouldSaveDueLogsAndReturnRowCount() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(
+                FrontendLogDto.builder().pageUrl("/a").build(),
+                FrontendLogDto.builder().pageUrl("/b").build());
 
-        when(frontendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, feLogs));
-        when(backendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, beLogs));
-        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.of(systemInfo));
-        when(objectMapper.writeValueAsString(any())).thenReturn("{json}");
+        when(frontendBuffer.drainDue(CrudCode.C, 10, 60_000L)).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainDue(CrudCode.C, 10, 60_000L)).thenReturn(Map.of());
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(textCodec.encode(any())).thenReturn("{}");
+        when(spool.position()).thenReturn(42L);
+
+        int saved = flusher.flushDue(CrudCode.C, 10, 60_000L);
+
+        assertThat(saved).isEqualTo(1);
+        InOrder inOrder = inOrder(spool, frontendBuffer, actionLogSink);
+        inOrder.verify(spool).position();
+        inOrder.verify(frontendBuffer).drainDue(CrudCode.C, 10, 60_000L);
+        inOrder.verify(actionLogSink).write(anyList());
+        inOrder.verify(spool).release(Set.of(key), 42L);
+        verify(spool, never()).commit(anyLong());
+    }
+
+    /**
+     * GIVEN: 세션의 시스템 정보에 요청 이벤트의 클라이언트 IP가 담겨 있을 때
+     * WHEN: 스케줄러 스레드에서 flushDue() 호출하면
+     * THEN: 저장되는 행의 ip_addr는 MDC가 아닌 시스템 정보의 IP여야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flushDue_shouldUseClientIpFromSystemInfo() throws Exception {
+        SystemInfoDto systemInfo = SystemInfoDto.builder().browserName("Chrome").ipAddress("203.0.113.7").build();
 
-        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
-            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+        when(frontendBuffer.drainDue(CrudCode.C, 10, 60_000L))
+                .thenReturn(Map.of(key, List.of(FrontendLogDto.builder().pageUrl("/a").build())));
+        when(backendBuffer.drainDue(CrudCode.C, 10, 60_000L)).thenReturn(Map.of());
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.of(systemInfo));
+        when(textCodec.encode(any())).thenReturn("{}");
 
-            flusher.flushByCrudCode(CrudCode.R, 1);
+        flusher.flushDue(CrudCode.C, 10, 60_000L);
 
-            verify(actionLogRepository, times(1)).saveAll(argThat(logs ->
-                    logs instanceof Collection<?> && ((Collection<?>) logs).size() == 1
-            ));
-        }
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink).write(captor.capture());
+        assertThat(captor.getValue().get(0).getIpAddr()).isEqualTo("203.0.113.7");
     }
 
     /**
@@ -107,34 +148,194 @@ public class ActionLogFlusherTest {
         when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
         when(backendBuffer.drainAll()).thenReturn(Map.of(key, beLogs));
         when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any())).thenReturn("{}json{}value");
+        when(textCodec.encode(any())).thenReturn("{}json{}value");
+        when(spool.checkpoint()).thenReturn(3L);
+
+        flusher.flushAll();
 
-        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
-            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+        verify(actionLogSink).write(anyList());
+        verify(spool).commit(3L);
+    }
+
+    /**
+     * GIVEN: flushDue()에서 배출한 로그의 저장이 실패했을 때
+     * WHEN: 이어서 flushAll()을 호출하면
+     * THEN: 실패한 로그는 버퍼로 되돌아가 다시 저장되고, 그 저장이 성공한 뒤에만 스풀 체크포인트가 커밋되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldRewriteRequeuedLogsBeforeCommit_whenFlushDueFailed() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/a").build());
+        BackendLogDto backendLog = BackendLogDto.builder().httpMethod("GET").endpoint("/e").build();
+
+        when(frontendBuffer.drainDue(CrudCode.R, 10, 60_000L)).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainDue(CrudCode.R, 10, 60_000L)).thenReturn(Map.of(key, List.of(backendLog)));
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, List.of(backendLog)));
+        when(readLogAggregator.drainAll()).thenReturn(List.of());
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(textCodec.encode(any())).thenReturn("{}");
+        when(spool.checkpoint()).thenReturn(5L);
+        when(actionLogSink.write(anyList()))
+                .thenThrow(new ActionLogWriteException(1, new IllegalStateException("db down")))
+                .thenReturn(1);
+
+        assertThatThrownBy(() -> flusher.flushDue(CrudCode.R, 10, 60_000L))
+                .isInstanceOf(ActionLogWriteException.class);
+
+        verify(frontendBuffer).add(sessionId, feLogs);
+        verify(backendBuffer).add(sessionId, backendLog);
+        verify(systemInfoBuffer, never()).remove(sessionId);
+        verify(spool, never()).commit(anyLong());
+        verify(spool, never()).release(any(), anyLong());
+
+        flusher.flushAll();
+
+        InOrder inOrder = inOrder(actionLogSink, spool);
+        inOrder.verify(actionLogSink, times(2)).write(anyList());
+        inOrder.verify(spool).commit(5L);
+        verify(systemInfoBuffer).remove(sessionId);
+    }
+
+    /**
+     * GIVEN: 이전 프로세스가 남긴 스풀 세그먼트가 있을 때
+     * WHEN: replaySpool() 호출하면
+     * THEN: 레코드가 버퍼로 복원되어 저장된 뒤 세그먼트가 삭제되어야 한다.
+     */
+    @Test
+    public void replaySpool_shouldRestoreRecordsAndDiscardSegment() throws Exception {
+        Path segment = Path.of("spool-00000000000000000001.log");
+        BackendLogDto backendLog = BackendLogDto.builder().httpMethod("GET").endpoint("/e").build();
+
+        when(spool.getPendingSegments()).thenReturn(List.of(segment));
+        when(spool.replay(eq(segment), any())).thenAnswer(invocation -> {
+            Consumer<SpoolRecord> consumer = invocation.getArgument(1);
+            consumer.accept(SpoolRecord.backend(sessionId, backendLog));
+            return 1;
+        });
+        when(frontendBuffer.drainAll()).thenReturn(Map.of());
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, List.of(backendLog)));
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(textCodec.encode(any())).thenReturn("{}");
 
-            flusher.flushAll();
+        flusher.replaySpool();
 
-            verify(actionLogRepository).saveAll(anyList());
-        }
+        verify(backendBuffer).add(sessionId, backendLog);
+        verify(actionLogSink).write(anyList());
+        verify(spool).discard(segment);
     }
 
     /**
-     * GIVEN: ObjectMapper가 JSON 변환 중 예외를 발생시키면
-     * WHEN: flushByCrudCode() 호출 시
-     * THEN: ActionLogConversionException 예외가 발생해야 한다.
+     * GIVEN: 종료된 조회 로그 집계 버킷이 있을 때
+     * WHEN: flushReadAggregates() 호출하면
+     * THEN: 버킷당 한 행이 집계 구간 시작 시각을 write_time으로 하여 저장되어야 한다.
      */
-    @Test(expected = ActionLogJsonSerializationException.class)
-    public void flush_shouldThrowException_whenJsonFails() throws Exception {
-        when(frontendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, List.of()));
-        when(backendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, List.of()));
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flushReadAggregates_shouldWriteOneRowPerBucket() throws Exception {
+        ReadLogAggregateDto aggregate = ReadLogAggregateDto.builder()
+                .urlName("/notices").browserName("Chrome").device("Computer")
+                .minute("2025-06-16T10:15").count(42L).build();
+
+        when(readLogAggregator.drainClosed(anyLong())).thenReturn(List.of(aggregate));
+        when(textCodec.encodeAggregate(aggregate)).thenReturn("{aggregate}");
+        when(actionLogSink.write(anyList())).thenReturn(1);
+
+        int written = flusher.flushReadAggregates();
+
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink).write(captor.capture());
+
+        ActionLog saved = captor.getValue().get(0);
+        assertThat(written).isEqualTo(1);
+        assertThat(saved.getUrlName()).isEqualTo("/notices");
+        assertThat(saved.getCrudCode()).isEqualTo("R");
+        assertThat(saved.getLogText()).isEqualTo("{aggregate}");
+        assertThat(saved.getWriteTime()).isEqualTo(LocalDateTime.of(2025, 6, 16, 10, 15));
+        assertThat(saved.getLogCount()).isEqualTo(42L);
+        verify(metrics).recordRowsWritten(captor.getValue());
+        verify(metrics).recordFlush(eq(ActionLogMetrics.AGGREGATE_SCOPE), anyLong());
+    }
+
+    /**
+     * GIVEN: ActionLogTextCodec이 한 키의 JSON 변환 중 예외를 발생시키면
+     * WHEN: flushDue() 호출 시
+     * THEN: 해당 키만 건너뛰어 나머지 키는 저장되고, 배출한 키는 모두 스풀에서 해제되어야 한다.
+     */
+    @Test
+    public void flush_shouldSkipKey_whenJsonFails() throws Exception {
+        UserActionKey badKey = new UserActionKey("bad-session", CrudCode.R);
+        List<FrontendLogDto> goodLogs = List.of(FrontendLogDto.builder().pageUrl("/good").build());
+        List<FrontendLogDto> badLogs = List.of(FrontendLogDto.builder().pageUrl("/bad").build());
+
+        when(frontendBuffer.drainDue(CrudCode.R, 1, 60_000L)).thenReturn(Map.of(key, goodLogs, badKey, badLogs));
+        when(backendBuffer.drainDue(CrudCode.R, 1, 60_000L)).thenReturn(Map.of());
+        when(systemInfoBuffer.get(anyString())).thenReturn(Optional.empty());
+        when(textCodec.encode(argThat(context -> context != null && "bad-session".equals(context.getSessionId()))))
+                .thenThrow(new JsonProcessingException("fail") {});
+        when(textCodec.encode(argThat(context -> context != null && sessionId.equals(context.getSessionId()))))
+                .thenReturn("{}");
+        when(spool.position()).thenReturn(7L);
+
+        int saved = flusher.flushDue(CrudCode.R, 1, 60_000L);
+
+        assertThat(saved).isEqualTo(1);
+        verify(metrics).recordSerializationFailure();
+        verify(metrics).recordFlush(eq(CrudCode.R.name()), anyLong());
+        verify(spool).release(Set.of(key, badKey), 7L);
+        verify(frontendBuffer, never()).add(anyString(), anyList());
+    }
+
+    /**
+     * GIVEN: 조회 로그 집계 저장이 실패할 때
+     * WHEN: flushReadAggregates() 호출하면
+     * THEN: 집계가 집계기로 되돌아가고 예외가 다시 던져져야 한다.
+     */
+    @Test
+    public void flushReadAggregates_shouldRestoreAggregates_whenWriteFails() throws Exception {
+        ReadLogAggregateDto aggregate = ReadLogAggregateDto.builder()
+                .urlName("/notices").minute("2025-06-16T10:15").count(3L).build();
+
+        when(readLogAggregator.drainClosed(anyLong())).thenReturn(List.of(aggregate));
+        when(textCodec.encodeAggregate(aggregate)).thenReturn("{aggregate}");
+        when(actionLogSink.write(anyList())).thenThrow(new ActionLogWriteException(1, new IllegalStateException("db down")));
+
+        assertThatThrownBy(() -> flusher.flushReadAggregates())
+                .isInstanceOf(ActionLogWriteException.class);
+
+        verify(readLogAggregator).restore(List.of(aggregate));
+        verify(metrics, never()).recordRowsWritten(anyList());
+    }
+
+    /**
+     * GIVEN: 로그 저장은 성공하지만 조회 로그 집계 저장이 실패할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 스풀 체크포인트는 집계 저장 전에 커밋되고, 집계는 집계기로 되돌아가야 한다.
+     */
+    @Test
+    public void flushAll_shouldCommitBeforeWritingAggregates() throws Exception {
+        List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/e").build());
+        ReadLogAggregateDto aggregate = ReadLogAggregateDto.builder()
+                .urlName("/notices").minute("2025-06-16T10:15").count(3L).build();
+
+        when(frontendBuffer.drainAll()).thenReturn(Map.of());
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, beLogs));
+        when(readLogAggregator.drainAll()).thenReturn(List.of(aggregate));
         when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("fail") {});
+        when(textCodec.encode(any())).thenReturn("{}");
+        when(textCodec.encodeAggregate(aggregate)).thenReturn("{aggregate}");
+        when(spool.checkpoint()).thenReturn(9L);
+        when(actionLogSink.write(anyList()))
+                .thenReturn(1)
+                .thenThrow(new ActionLogWriteException(1, new IllegalStateException("db down")));
 
-        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
-            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+        assertThatThrownBy(() -> flusher.flushAll())
+                .isInstanceOf(ActionLogWriteException.class);
 
-            flusher.flushByCrudCode(CrudCode.R, 1);
-        }
+        InOrder inOrder = inOrder(actionLogSink, spool, readLogAggregator);
+        inOrder.verify(actionLogSink).write(anyList());
+        inOrder.verify(spool).commit(9L);
+        inOrder.verify(readLogAggregator).drainAll();
+        inOrder.verify(readLogAggregator).restore(List.of(aggregate));
     }
 
 }
@@ -0,0 +1,136 @@
+package kodanect.domain.logging.ingest;
+
+import kodanect.common.config.properties.ActionLogIngestProperties;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.exception.FrontendLogIngestLimitException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link FrontendLogStreamReader} 클래스의 NDJSON 스트리밍 해석과 수집 제한 동작을 검증하는 단위 테스트입니다.
+ */
+public class FrontendLogStreamReaderTest {
+
+    private static final String TWO_RECORDS =
+            "{\"eventType\":\"clickMenu\",\"pageUrl\":\"/notices\"}\n"
+                    + "{\"eventType\":\"submitForm\",\"pageUrl\":\"/letters\"}\n";
+
+    private List<FrontendLogDto> received;
+
+    /**
+     * 테스트 실행 전 전달받은 레코드 목록을 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        received = new ArrayList<>();
+    }
+
+    /**
+     * GIVEN: gzip으로 압축된 NDJSON 본문이 주어졌을 때
+     * WHEN: read()를 호출하면
+     * THEN: 레코드가 순서대로 하나씩 전달되어야 한다.
+     */
+    @Test
+    public void read_shouldStreamGzipNdjsonRecords() throws IOException {
+        FrontendLogStreamReader reader = reader(10, 1024, 4096);
+
+        int count = reader.read(new ByteArrayInputStream(gzip(TWO_RECORDS)), true, -1, received::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(received).extracting(FrontendLogDto::getEventType).containsExactly("clickMenu", "submitForm");
+        assertThat(received.get(1).getPageUrl()).isEqualTo("/letters");
+    }
+
+    /**
+     * GIVEN: 레코드 수 제한이 1건일 때
+     * WHEN: 2건이 담긴 본문을 읽으면
+     * THEN: 첫 번째 레코드만 전달되고 제한 초과 예외가 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectRecordsBeyondLimit() {
+        FrontendLogStreamReader reader = reader(1, 1024, 4096);
+
+        assertThatThrownBy(() -> reader.read(plain(TWO_RECORDS), false, -1, received::add))
+                .isInstanceOf(FrontendLogIngestLimitException.class);
+        assertThat(received).hasSize(1);
+    }
+
+    /**
+     * GIVEN: 압축 해제 후 크기가 제한을 넘는 gzip 본문이 주어졌을 때
+     * WHEN: read()를 호출하면
+     * THEN: 압축 해제 크기 제한 초과 예외가 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectBodyBeyondDecompressedLimit() throws IOException {
+        FrontendLogStreamReader reader = reader(10_000, 1024, 64);
+        byte[] body = gzip(TWO_RECORDS.repeat(50));
+
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(body), true, body.length, received::add))
+                .isInstanceOf(FrontendLogIngestLimitException.class)
+                .hasMessageContaining("maxDecompressedBytes");
+    }
+
+    /**
+     * GIVEN: Content-Length가 본문 크기 제한을 넘을 때
+     * WHEN: read()를 호출하면
+     * THEN: 본문을 읽기 전에 제한 초과 예외가 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectByContentLengthBeforeReading() {
+        FrontendLogStreamReader reader = reader(10, 16, 4096);
+
+        assertThatThrownBy(() -> reader.read(plain(TWO_RECORDS), false, 1024, received::add))
+                .isInstanceOf(FrontendLogIngestLimitException.class)
+                .hasMessageContaining("maxBytes");
+        assertThat(received).isEmpty();
+    }
+
+    /**
+     * GIVEN: 두 번째 줄이 잘못된 JSON인 본문이 주어졌을 때
+     * WHEN: read()를 호출하면
+     * THEN: 해석 실패 예외가 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectMalformedRecord() {
+        FrontendLogStreamReader reader = reader(10, 1024, 4096);
+        String body = "{\"eventType\":\"clickMenu\"}\n{\"eventType\":\n";
+
+        assertThatThrownBy(() -> reader.read(plain(body), false, -1, received::add))
+                .isInstanceOf(InvalidFrontendLogStreamException.class)
+                .hasMessageContaining("2번째");
+    }
+
+    private static FrontendLogStreamReader reader(int maxRecords, long maxBytes, long maxDecompressedBytes) {
+        return new FrontendLogStreamReader(
+                Jackson2ObjectMapperBuilder.json().build(),
+                new ActionLogIngestProperties(maxRecords, maxBytes, maxDecompressedBytes)
+        );
+    }
+
+    private static ByteArrayInputStream plain(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+}
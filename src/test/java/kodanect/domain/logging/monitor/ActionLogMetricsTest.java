@@ -0,0 +1,114 @@
+package kodanect.domain.logging.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.async.CountingCallerRunsPolicy;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link ActionLogMetrics} 클래스의 메트릭 기록과 조회 동작을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private CountingCallerRunsPolicy callerRunsPolicy;
+    private ActionLogMetrics metrics;
+
+    /**
+     * 테스트 실행 전 메모리 기반 레지스트리로 메트릭 컴포넌트를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        callerRunsPolicy = new CountingCallerRunsPolicy();
+        metrics = new ActionLogMetrics(
+                meterRegistry,
+                mock(FrontendLogBuffer.class),
+                mock(BackendLogBuffer.class),
+                mock(SystemInfoBuffer.class),
+                callerRunsPolicy
+        );
+    }
+
+    /**
+     * GIVEN: 서로 다른 CRUD 코드의 액션 로그가 저장되었을 때
+     * WHEN: recordRowsWritten()을 호출하면
+     * THEN: CRUD 코드별 저장 행 수가 누적되어야 한다.
+     */
+    @Test
+    public void recordRowsWritten_shouldCountRowsPerCrudCode() {
+        metrics.recordRowsWritten(List.of(row(CrudCode.R), row(CrudCode.R), row(CrudCode.C)));
+
+        assertThat(metrics.getRowsWritten())
+                .containsEntry(CrudCode.R, 2L)
+                .containsEntry(CrudCode.C, 1L)
+                .containsEntry(CrudCode.D, 0L);
+        assertThat(meterRegistry.get("actionlog.rows.written").tag("crudCode", "R").counter().count()).isEqualTo(2.0);
+    }
+
+    /**
+     * GIVEN: 전체 배출 소요 시간이 기록되었을 때
+     * WHEN: getFlushSnapshots()를 조회하면
+     * THEN: 해당 범위의 배출 횟수와 최대 소요 시간이 반영되어야 한다.
+     */
+    @Test
+    public void recordFlush_shouldBeReflectedInSnapshot() {
+        metrics.recordFlush(ActionLogMetrics.ALL_SCOPE, TimeUnit.MILLISECONDS.toNanos(40));
+        metrics.recordFlush(ActionLogMetrics.ALL_SCOPE, TimeUnit.MILLISECONDS.toNanos(10));
+
+        ActionLogPipelineSnapshot.FlushSnapshot snapshot = metrics.getFlushSnapshots().get(ActionLogMetrics.ALL_SCOPE);
+
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getMaxMillis()).isEqualTo(40.0);
+        assertThat(metrics.getFlushSnapshots().get(CrudCode.R.name()).getCount()).isZero();
+    }
+
+    /**
+     * GIVEN: 큐가 가득 찬 Executor에 작업을 제출할 때
+     * WHEN: 작업이 호출 스레드에서 실행되면
+     * THEN: 호출 스레드 실행 횟수 메트릭이 증가해야 한다.
+     */
+    @Test
+    public void callerRuns_shouldBeExposedAsCounter() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), callerRunsPolicy);
+
+        try {
+            Object lock = new Object();
+
+            synchronized (lock) {
+                executor.execute(() -> {
+                    synchronized (lock) {
+                        lock.notifyAll();
+                    }
+                });
+                executor.execute(() -> { });
+                executor.execute(() -> { });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(meterRegistry.get("actionlog.executor.caller.runs").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private static ActionLog row(CrudCode code) {
+        return ActionLog.builder().crudCode(code.name()).build();
+    }
+
+}
@@ -0,0 +1,131 @@
+package kodanect.domain.logging.sampling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogSamplingProperties;
+import kodanect.common.constant.CrudCode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogSampler} 클래스의 비율 결정, 세션 단위 결정성, 제외 건수 집계를 검증하는 단위 테스트입니다.
+ */
+public class ActionLogSamplerTest {
+
+    private static final int SESSION_COUNT = 10_000;
+
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 테스트 실행 전 메트릭 레지스트리를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * GIVEN: 샘플링이 비활성화되어 있고 기본 비율이 0일 때
+     * WHEN: shouldSample()을 호출하면
+     * THEN: 모든 요청이 기록 대상이어야 한다.
+     */
+    @Test
+    public void shouldSample_disabled_shouldAlwaysSample() {
+        ActionLogSampler sampler = sampler(false, 0.0, null, null);
+
+        assertThat(sampler.shouldSample("session-1", "GET", "/notices")).isTrue();
+        assertThat(droppedCount()).isZero();
+    }
+
+    /**
+     * GIVEN: 조회(R) 비율이 0.3일 때
+     * WHEN: 같은 세션으로 여러 번 호출하면
+     * THEN: 항상 같은 결과를 받고, 전체 세션 중 약 30%가 기록되어야 한다.
+     */
+    @Test
+    public void shouldSample_shouldBeDeterministicPerSession() {
+        ActionLogSampler sampler = sampler(true, 1.0, Map.of(CrudCode.R, 0.3), null);
+        int sampled = 0;
+
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            String sessionId = "session-" + i;
+            boolean first = sampler.shouldSample(sessionId, "GET", "/notices");
+
+            assertThat(sampler.shouldSample(sessionId, "GET", "/notices")).isEqualTo(first);
+            if (first) {
+                sampled++;
+            }
+        }
+
+        assertThat(sampled).isBetween(2_700, 3_300);
+    }
+
+    /**
+     * GIVEN: 비율이 0.1인 샘플러와 0.5인 샘플러가 있을 때
+     * WHEN: 같은 세션으로 판단하면
+     * THEN: 낮은 비율에서 기록된 세션은 높은 비율에서도 기록되어야 한다.
+     */
+    @Test
+    public void shouldSample_lowerRateSessions_shouldBeSubsetOfHigherRate() {
+        ActionLogSampler low = sampler(true, 0.1, null, null);
+        ActionLogSampler high = sampler(true, 0.5, null, null);
+
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            String sessionId = "session-" + i;
+
+            if (low.shouldSample(sessionId, "GET", "/notices")) {
+                assertThat(high.shouldSample(sessionId, "GET", "/notices")).isTrue();
+            }
+        }
+    }
+
+    /**
+     * GIVEN: 조회(R) 비율이 0이고 /action-logs 패턴 비율이 1.0일 때
+     * WHEN: rateOf()를 호출하면
+     * THEN: 엔드포인트 패턴 비율이 CRUD 코드 비율보다 우선 적용되어야 한다.
+     */
+    @Test
+    public void rateOf_endpointRate_shouldOverrideCrudRate() {
+        Map<String, Double> endpointRates = new LinkedHashMap<>();
+        endpointRates.put("/action-logs/**", 1.0);
+        endpointRates.put("/notices/{id}", 0.5);
+        ActionLogSampler sampler = sampler(true, 0.2, Map.of(CrudCode.R, 0.0), endpointRates);
+
+        assertThat(sampler.rateOf("GET", "/action-logs")).isEqualTo(1.0);
+        assertThat(sampler.rateOf("GET", "/notices/{id}")).isEqualTo(0.5);
+        assertThat(sampler.rateOf("GET", "/notices")).isZero();
+        assertThat(sampler.rateOf("POST", "/notices")).isEqualTo(0.2);
+    }
+
+    /**
+     * GIVEN: 삭제(D) 비율이 0일 때
+     * WHEN: DELETE 요청을 판단하면
+     * THEN: 기록에서 제외되고 제외 건수가 증가해야 한다.
+     */
+    @Test
+    public void shouldSample_zeroRate_shouldDropAndCount() {
+        ActionLogSampler sampler = sampler(true, 1.0, Map.of(CrudCode.D, 0.0), null);
+
+        assertThat(sampler.shouldSample("session-1", "DELETE", "/letters/{id}")).isFalse();
+        assertThat(sampler.shouldSample("session-1", "GET", "/letters/{id}")).isTrue();
+        assertThat(droppedCount()).isEqualTo(1.0);
+    }
+
+    private ActionLogSampler sampler(boolean enabled,
+                                     double defaultRate,
+                                     Map<CrudCode, Double> crudRates,
+                                     Map<String, Double> endpointRates) {
+        return new ActionLogSampler(
+                new ActionLogSamplingProperties(enabled, defaultRate, crudRates, endpointRates), meterRegistry);
+    }
+
+    private double droppedCount() {
+        return meterRegistry.get("actionlog.sampling.dropped").counter().count();
+    }
+
+}
@@ -1,20 +1,35 @@
 package kodanect.domain.logging.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.FlushTrigger;
+import kodanect.common.buffer.LogBufferOverflowEvent;
+import kodanect.common.buffer.LogBufferReadyEvent;
+import kodanect.common.config.properties.ActionLogFlushProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.flusher.ActionLogFlusher;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
- * {@link ActionLogScheduler} 클래스의 스케줄러 동작을 검증하는 단위 테스트입니다.
+ * {@link ActionLogScheduler} 클래스의 배출 결정 동작을 검증하는 단위 테스트입니다.
  *
- * 각 스케줄 메서드가 {@link ActionLogFlusher}에 적절한 flush 요청을 전달하는지 확인합니다.
+ * 배출 조건(키별 건수, 고수위, 보관 시간)에 따라 {@link ActionLogFlusher}에 적절한 요청을 전달하는지,
+ * 배출이 겹치지 않는지, 배출 원인이 메트릭으로 집계되는지 확인합니다.
  */
 public class ActionLogSchedulerTest {
 
+    private static final long HIGH_WATERMARK = 1_000L;
+
     private ActionLogFlusher flusher;
+    private MeterRegistry meterRegistry;
     private ActionLogScheduler scheduler;
 
     /**
@@ -24,33 +39,74 @@ public class ActionLogSchedulerTest {
     @Before
     public void setUp() {
         flusher = mock(ActionLogFlusher.class);
-        scheduler = new ActionLogScheduler(flusher);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ActionLogScheduler(
+                flusher,
+                new ActionLogFlushProperties(100, 10, 300_000L, 60_000L, HIGH_WATERMARK, HIGH_WATERMARK / 2, 1000L, 1_800_000L),
+                meterRegistry
+        );
     }
 
     /**
-     * GIVEN: READ 로그 배출 스케줄이 실행될 때
-     * WHEN: flushReadLogs()가 호출되면
-     * THEN: flusher.flushByCrudCode(CrudCode.R, 100) 이 호출되어야 한다.
+     * GIVEN: 버퍼 사용량이 고수위 미만일 때
+     * WHEN: checkBuffers()가 호출되면
+     * THEN: 각 CRUD 코드에 대해 해당 임계값과 최대 보관 시간으로 flushDue()가 호출되어야 한다.
      */
     @Test
-    public void flushReadLogs_shouldDelegateToFlusherWithReadThreshold() {
-        scheduler.flushReadLogs();
-        verify(flusher).flushByCrudCode(CrudCode.R, 100);
+    public void checkBuffers_shouldFlushDueLogsPerCrudCode() {
+        when(flusher.getBufferedBytes()).thenReturn(0L);
+        when(flusher.flushDue(CrudCode.C, 10, 60_000L)).thenReturn(1);
+
+        scheduler.checkBuffers();
+
+        verify(flusher).flushDue(CrudCode.R, 100, 300_000L);
+        verify(flusher).flushDue(CrudCode.C, 10, 60_000L);
+        verify(flusher).flushDue(CrudCode.U, 10, 60_000L);
+        verify(flusher).flushDue(CrudCode.D, 10, 60_000L);
+        verify(flusher).flushDue(CrudCode.X, 10, 60_000L);
+        verify(flusher, never()).flushAll();
+        assertThat(triggeredCount(FlushTrigger.AGE)).isEqualTo(1.0);
     }
 
     /**
-     * GIVEN: C/U/D/X 로그 배출 스케줄이 실행될 때
-     * WHEN: flushOtherLogs()가 호출되면
-     * THEN: 각 CRUD 코드에 대해 flusher.flushByCrudCode(code, 10) 이 호출되어야 한다.
+     * GIVEN: 버퍼 사용량이 고수위 이상일 때
+     * WHEN: checkBuffers()가 호출되면
+     * THEN: CRUD 코드별 배출 대신 flushAll()이 호출되어야 한다.
      */
     @Test
-    public void flushOtherLogs_shouldFlushEachCrudCodeWithOtherThreshold() {
-        scheduler.flushOtherLogs();
+    public void checkBuffers_shouldFlushAll_whenAboveHighWatermark() {
+        when(flusher.getBufferedBytes()).thenReturn(HIGH_WATERMARK);
+
+        scheduler.checkBuffers();
 
-        verify(flusher).flushByCrudCode(CrudCode.C, 10);
-        verify(flusher).flushByCrudCode(CrudCode.U, 10);
-        verify(flusher).flushByCrudCode(CrudCode.D, 10);
-        verify(flusher).flushByCrudCode(CrudCode.X, 10);
+        verify(flusher).flushAll();
+        verify(flusher, never()).flushDue(any(), anyInt(), anyLong());
+        assertThat(triggeredCount(FlushTrigger.HIGH_WATERMARK)).isEqualTo(1.0);
+    }
+
+    /**
+     * GIVEN: 키별 임계 건수 도달 이벤트가 발행되었을 때
+     * WHEN: flushOnReady()가 호출되면
+     * THEN: 해당 CRUD 코드만 flushDue()로 배출되어야 한다.
+     */
+    @Test
+    public void flushOnReady_shouldFlushSingleCrudCode_whenKeyCountReached() {
+        scheduler.flushOnReady(new LogBufferReadyEvent(CrudCode.R, FlushTrigger.KEY_COUNT));
+
+        verify(flusher).flushDue(CrudCode.R, 100, 300_000L);
+        verifyNoMoreInteractions(flusher);
+        assertThat(triggeredCount(FlushTrigger.KEY_COUNT)).isEqualTo(1.0);
+    }
+
+    /**
+     * GIVEN: 고수위 도달 이벤트가 발행되었을 때
+     * WHEN: flushOnReady()가 호출되면
+     * THEN: flusher.flushAll() 이 호출되어야 한다.
+     */
+    @Test
+    public void flushOnReady_shouldFlushAll_whenHighWatermarkReached() {
+        scheduler.flushOnReady(new LogBufferReadyEvent(CrudCode.C, FlushTrigger.HIGH_WATERMARK));
+        verify(flusher).flushAll();
     }
 
     /**
@@ -64,4 +120,103 @@ public class ActionLogSchedulerTest {
         verify(flusher).flushAll();
     }
 
+    /**
+     * GIVEN: 버퍼 용량 초과 이벤트가 발행되었을 때
+     * WHEN: flushOnOverflow()가 호출되면
+     * THEN: flusher.flushAll() 이 호출되어야 한다.
+     */
+    @Test
+    public void flushOnOverflow_shouldFlushAllLogs() {
+        scheduler.flushOnOverflow(new LogBufferOverflowEvent(CrudCode.R));
+        verify(flusher).flushAll();
+    }
+
+    /**
+     * GIVEN: 전체 배출이 실행 중일 때
+     * WHEN: 키별 임계 건수 도달 이벤트가 두 번 들어오면
+     * THEN: 요청은 겹쳐 실행되지 않고, 진행 중인 배출이 끝난 뒤 한 번의 재점검으로 처리되어야 한다.
+     */
+    @Test
+    public void flush_shouldNotOverlap_andCoalesceConcurrentRequests() {
+        doAnswer(invocation -> {
+            scheduler.flushOnReady(new LogBufferReadyEvent(CrudCode.R, FlushTrigger.KEY_COUNT));
+            scheduler.flushOnReady(new LogBufferReadyEvent(CrudCode.C, FlushTrigger.KEY_COUNT));
+            return null;
+        }).when(flusher).flushAll();
+
+        scheduler.flushAllLogsForcefully();
+
+        verify(flusher, times(1)).flushAll();
+        verify(flusher, times(1)).flushDue(CrudCode.R, 100, 300_000L);
+        verify(flusher, times(1)).flushDue(CrudCode.C, 10, 60_000L);
+        assertThat(meterRegistry.get("actionlog.flush.coalesced").counter().count()).isEqualTo(2.0);
+    }
+
+    /**
+     * GIVEN: 점검 주기의 CRUD 코드별 배출이 실행 중일 때
+     * WHEN: 주기적 전체 배출과 용량 초과 이벤트가 들어오면
+     * THEN: 두 요청은 버려지지 않고 진행 중인 배출이 끝난 직후 한 번의 flushAll()로 실행되며, 원인별로 집계되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldRunAfterInFlightFlush_whenRequestedDuringCheck() {
+        when(flusher.getBufferedBytes()).thenReturn(0L);
+        doAnswer(invocation -> {
+            scheduler.flushAllLogsForcefully();
+            scheduler.flushOnOverflow(new LogBufferOverflowEvent(CrudCode.R));
+            return 0;
+        }).when(flusher).flushDue(CrudCode.R, 100, 300_000L);
+
+        scheduler.checkBuffers();
+
+        InOrder inOrder = inOrder(flusher);
+        inOrder.verify(flusher).flushDue(CrudCode.R, 100, 300_000L);
+        inOrder.verify(flusher).flushAll();
+        verify(flusher, times(1)).flushAll();
+        assertThat(triggeredCount(FlushTrigger.PERIODIC)).isEqualTo(1.0);
+        assertThat(triggeredCount(FlushTrigger.OVERFLOW)).isEqualTo(1.0);
+    }
+
+    /**
+     * GIVEN: 주기적 전체 배출이 실행 중일 때
+     * WHEN: 용량 초과 이벤트가 들어오면
+     * THEN: 재점검에서 CRUD 코드별 배출 대신 flushAll()이 한 번 더 실행되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldRunAgain_whenOverflowDuringFullFlush() {
+        doAnswer(invocation -> {
+            scheduler.flushOnOverflow(new LogBufferOverflowEvent(CrudCode.R));
+            return null;
+        }).doNothing().when(flusher).flushAll();
+
+        scheduler.flushAllLogsForcefully();
+
+        verify(flusher, times(2)).flushAll();
+        verify(flusher, never()).flushDue(any(), anyInt(), anyLong());
+        assertThat(triggeredCount(FlushTrigger.PERIODIC)).isEqualTo(1.0);
+        assertThat(triggeredCount(FlushTrigger.OVERFLOW)).isEqualTo(1.0);
+    }
+
+    /**
+     * GIVEN: 애플리케이션이 종료될 때
+     * WHEN: flushOnShutdown()이 호출되면
+     * THEN: flushAll()이 한 번 실행되고, 이후의 배출 요청은 실행되지 않아야 한다.
+     */
+    @Test
+    public void flushOnShutdown_shouldFlushAllOnce_andIgnoreLaterRequests() {
+        scheduler.flushOnShutdown();
+        scheduler.checkBuffers();
+        scheduler.flushAllLogsForcefully();
+
+        verify(flusher, times(1)).flushAll();
+        verify(flusher, never()).flushDue(any(), anyInt(), anyLong());
+        assertThat(triggeredCount(FlushTrigger.SHUTDOWN)).isEqualTo(1.0);
+    }
+
+    private double triggeredCount(FlushTrigger trigger) {
+        return meterRegistry.get("actionlog.flush.triggered")
+                .tag("trigger", trigger.name())
+                .counter()
+                .count();
+    }
+
 }
@@ -3,26 +3,44 @@ package kodanect.domain.logging.service.impl;
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
 import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.properties.ActionLogIngestProperties;
+import kodanect.common.config.properties.ActionLogReadAggregationProperties;
+import kodanect.common.useragent.UserAgentInfo;
+import kodanect.domain.logging.aggregate.ReadLogAggregator;
 import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.event.RequestActionContext;
+import kodanect.domain.logging.event.RequestActionEvent;
+import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.ingest.FrontendLogStreamReader;
+import kodanect.domain.logging.spool.ActionLogSpool;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.slf4j.MDC;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
  * {@link ActionLogServiceImpl} 클래스의 동작을 검증하는 단위 테스트입니다.
  *
  * 프론트엔드 로그, 백엔드 로그, 시스템 정보 저장 로직의 위임 여부와
- * MDC 기반 데이터 수집 기능을 검증합니다.
+ * {@link RequestActionEvent} 기반 데이터 수집 기능을 검증합니다.
  */
 public class ActionLogServiceImplTest {
 
     private FrontendLogBuffer frontendLogBuffer;
     private BackendLogBuffer backendLogBuffer;
     private SystemInfoBuffer systemInfoBuffer;
+    private ActionLogSpool spool;
+    private ReadLogAggregator readLogAggregator;
+    private FrontendLogStreamReader streamReader;
 
     private ActionLogServiceImpl service;
 
@@ -34,12 +52,26 @@ public class ActionLogServiceImplTest {
         frontendLogBuffer = mock(FrontendLogBuffer.class);
         backendLogBuffer = mock(BackendLogBuffer.class);
         systemInfoBuffer = mock(SystemInfoBuffer.class);
+        spool = mock(ActionLogSpool.class);
+        readLogAggregator = new ReadLogAggregator(new ActionLogReadAggregationProperties(false, 100));
+        streamReader = new FrontendLogStreamReader(
+                Jackson2ObjectMapperBuilder.json().build(),
+                new ActionLogIngestProperties(100, 1024, 4096)
+        );
+
+        service = new ActionLogServiceImpl(frontendLogBuffer, backendLogBuffer, systemInfoBuffer, spool, readLogAggregator, streamReader);
+    }
 
-        service = new ActionLogServiceImpl(frontendLogBuffer, backendLogBuffer, systemInfoBuffer);
+    /**
+     * 테스트 종료 후 현재 스레드의 요청 이벤트를 제거합니다.
+     */
+    @After
+    public void tearDown() {
+        RequestActionContext.clear();
     }
 
     /**
-     * GIVEN: 세션 ID와 프론트엔드 로그 리스트가 주어졌을 때
+     * GIVEN: 현재 요청에 세션 ID가 담긴 이벤트가 캡처되어 있고 프론트엔드 로그 리스트가 주어졌을 때
      * WHEN: saveFrontendLog()를 호출하면
      * THEN: FrontendLogBuffer의 add() 메서드가 호출되어야 한다.
      */
@@ -47,7 +79,7 @@ public class ActionLogServiceImplTest {
     public void saveFrontendLog_shouldDelegateToBuffer() {
         String sessionId = "session-123";
 
-        MDC.put("sessionId", sessionId);
+        RequestActionContext.set(RequestActionEvent.builder().sessionId(sessionId).build());
 
         List<FrontendLogDto> logs = List.of(
                 FrontendLogDto.builder().eventType("clickButton").build()
@@ -56,26 +88,35 @@ public class ActionLogServiceImplTest {
         service.saveFrontendLog(logs);
 
         verify(frontendLogBuffer).add(sessionId, logs);
+        verify(spool).append(argThat(spooled ->
+                sessionId.equals(spooled.getSessionId()) && spooled.getFrontendLog() == logs.get(0)
+        ));
     }
 
     /**
-     * GIVEN: MDC에 백엔드 로그 관련 정보가 채워져 있을 때
-     * WHEN: saveBackendLog()를 호출하면
-     * THEN: BackendLogBuffer에 해당 로그가 저장되어야 한다.
+     * GIVEN: AOP가 캡처한 요청 이벤트가 주어졌을 때
+     * WHEN: saveRequestLog()를 호출하면
+     * THEN: MDC 없이 이벤트 값만으로 BackendLogBuffer와 SystemInfoBuffer에 저장되어야 한다.
      */
     @Test
-    public void saveBackendLog_shouldExtractFromMdcAndStore() {
+    public void saveRequestLog_shouldStoreBackendLogAndSystemInfoFromEvent() {
         String sessionId = "session-456";
-
-        MDC.put("sessionId", sessionId);
-        MDC.put("httpMethod", "POST");
-        MDC.put("endpoint", "/api/test");
-        MDC.put("controller", "TestController");
-        MDC.put("method", "testMethod");
-        MDC.put("parameters", "{\"id\":1}");
-        MDC.put("timestamp", "2025-06-16T00:00:00Z");
-
-        service.saveBackendLog();
+        UserAgentInfo userAgent = UserAgentInfo.parse(
+                "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/114.0.0.0 Safari/537.36");
+        RequestActionEvent event = RequestActionEvent.builder()
+                .sessionId(sessionId)
+                .ipAddress("127.0.0.1")
+                .httpMethod("POST")
+                .endpoint("/api/test")
+                .controller("TestController")
+                .method("testMethod")
+                .parameters("{\"id\":1}")
+                .timestamp("2025-06-16T00:00:00Z")
+                .userAgent(userAgent)
+                .locale("ko-KR")
+                .build();
+
+        service.saveRequestLog(event);
 
         verify(backendLogBuffer).add(eq(sessionId), argThat(log ->
                 "POST".equals(log.getHttpMethod()) &&
@@ -85,33 +126,125 @@ public class ActionLogServiceImplTest {
                         "{\"id\":1}".equals(log.getParameters()) &&
                         "2025-06-16T00:00:00Z".equals(log.getTimestamp())
         ));
+        verify(systemInfoBuffer).add(eq(sessionId), argThat(info ->
+                userAgent.getBrowserName().equals(info.getBrowserName()) &&
+                        userAgent.getBrowserVersion().equals(info.getBrowserVersion()) &&
+                        userAgent.getOperatingSystem().equals(info.getOperatingSystem()) &&
+                        userAgent.getDevice().equals(info.getDevice()) &&
+                        "ko-KR".equals(info.getLocale())
+        ));
+        verify(spool, times(2)).append(argThat(spooled -> sessionId.equals(spooled.getSessionId())));
     }
 
     /**
-     * GIVEN: MDC에 시스템 정보가 채워져 있을 때
-     * WHEN: saveSystemInfo()를 호출하면
-     * THEN: SystemInfoBuffer에 해당 정보가 저장되어야 한다
+     * GIVEN: 조회 로그 사전 집계가 활성화되어 있을 때
+     * WHEN: 조회 이벤트와 생성 이벤트가 섞인 프론트엔드 로그를 저장하면
+     * THEN: 조회 이벤트는 집계 건수로만 기록되고, 나머지 로그만 스풀과 버퍼에 저장되어야 한다.
      */
     @Test
-    public void saveSystemInfo_shouldExtractFromMdcAndStore() {
-        String sessionId = "session-789";
+    public void saveFrontendLog_shouldAggregateReadEvents_whenEnabled() {
+        enableReadAggregation();
+        RequestActionContext.set(RequestActionEvent.builder().sessionId("session-789").build());
+
+        FrontendLogDto read = FrontendLogDto.builder().eventType("clickMenu").pageUrl("/notices").build();
+        FrontendLogDto create = FrontendLogDto.builder().eventType("submitForm").pageUrl("/letters").build();
+
+        service.saveFrontendLog(List.of(read, read, create));
+
+        verify(frontendLogBuffer).add("session-789", List.of(create));
+        verify(spool, times(1)).append(any());
+        assertThat(readLogAggregator.drainAll())
+                .singleElement()
+                .satisfies(aggregate -> {
+                    assertThat(aggregate.getUrlName()).isEqualTo("/notices");
+                    assertThat(aggregate.getCount()).isEqualTo(2L);
+                });
+    }
 
-        MDC.put("sessionId", sessionId);
-        MDC.put("browserName", "Chrome");
-        MDC.put("browserVersion", "114.0");
-        MDC.put("operatingSystem", "Mac OS");
-        MDC.put("device", "Computer");
-        MDC.put("locale", "ko-KR");
+    /**
+     * GIVEN: 조회 로그 사전 집계가 활성화되어 있을 때
+     * WHEN: GET 요청 이벤트를 저장하면
+     * THEN: 백엔드 로그는 집계하지 않고 시스템 정보와 함께 그대로 저장되어야 한다.
+     */
+    @Test
+    public void saveRequestLog_shouldNotAggregateBackendLogs_whenEnabled() {
+        enableReadAggregation();
+        RequestActionEvent event = RequestActionEvent.builder()
+                .sessionId("session-789")
+                .httpMethod("GET")
+                .endpoint("/api/notices")
+                .userAgent(UserAgentInfo.parse(null))
+                .build();
+
+        service.saveRequestLog(event);
+
+        verify(backendLogBuffer).add(eq("session-789"), any());
+        verify(systemInfoBuffer).add(eq("session-789"), any());
+        assertThat(readLogAggregator.getBucketCount()).isZero();
+    }
 
-        service.saveSystemInfo();
+    /**
+     * GIVEN: 현재 요청에 세션 ID가 담긴 이벤트가 캡처되어 있고 NDJSON 본문이 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: 레코드마다 스풀과 버퍼에 한 건씩 저장되어야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldBufferEachRecord() throws IOException {
+        RequestActionContext.set(RequestActionEvent.builder().sessionId("session-321").build());
+        String body = "{\"eventType\":\"submitForm\"}\n{\"eventType\":\"deleteComment\"}\n";
 
-        verify(systemInfoBuffer).add(eq(sessionId), argThat(info ->
-                "Chrome".equals(info.getBrowserName()) &&
-                        "114.0".equals(info.getBrowserVersion()) &&
-                        "Mac OS".equals(info.getOperatingSystem()) &&
-                        "Computer".equals(info.getDevice()) &&
-                        "ko-KR".equals(info.getLocale())
-        ));
+        int count = service.saveFrontendLogStream(ndjson(body), false, -1);
+
+        assertThat(count).isEqualTo(2);
+        verify(frontendLogBuffer, times(2)).add(eq("session-321"), any(FrontendLogDto.class));
+        verify(spool, times(2)).append(any());
+    }
+
+    /**
+     * GIVEN: 레코드가 없는 NDJSON 본문이 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: EmptyFrontendLogListException이 발생해야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldThrow_whenNoRecords() {
+        assertThatThrownBy(() -> service.saveFrontendLogStream(ndjson("\n"), false, -1))
+                .isInstanceOf(EmptyFrontendLogListException.class);
+    }
+
+    /**
+     * GIVEN: 샘플링에서 제외되어 현재 요청에 이벤트가 캡처되지 않았을 때
+     * WHEN: saveFrontendLog()를 호출하면
+     * THEN: 스풀과 버퍼에 아무것도 저장되지 않아야 한다.
+     */
+    @Test
+    public void saveFrontendLog_shouldSkip_whenNoRequestEvent() {
+        service.saveFrontendLog(List.of(FrontendLogDto.builder().eventType("submitForm").build()));
+
+        verifyNoInteractions(frontendLogBuffer, spool);
+    }
+
+    /**
+     * GIVEN: 샘플링에서 제외되어 현재 요청에 이벤트가 캡처되지 않았을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: 본문은 끝까지 읽어 건수를 반환하지만 스풀과 버퍼에는 저장되지 않아야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldReadButSkipBuffering_whenNoRequestEvent() throws IOException {
+        String body = "{\"eventType\":\"submitForm\"}\n{\"eventType\":\"deleteComment\"}\n";
+
+        int count = service.saveFrontendLogStream(ndjson(body), false, -1);
+
+        assertThat(count).isEqualTo(2);
+        verifyNoInteractions(frontendLogBuffer, spool);
+    }
+
+    private static ByteArrayInputStream ndjson(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void enableReadAggregation() {
+        readLogAggregator = new ReadLogAggregator(new ActionLogReadAggregationProperties(true, 100));
+        service = new ActionLogServiceImpl(frontendLogBuffer, backendLogBuffer, systemInfoBuffer, spool, readLogAggregator, streamReader);
     }
 
 }
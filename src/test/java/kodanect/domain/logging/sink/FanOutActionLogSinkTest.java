@@ -0,0 +1,70 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link FanOutActionLogSink} 클래스의 주 저장소/보조 저장소 실패 처리 동작을 검증하는 단위 테스트입니다.
+ */
+public class FanOutActionLogSinkTest {
+
+    private final List<ActionLog> logs = List.of(ActionLog.builder().urlName("/notices").crudCode("R").build());
+
+    private ActionLogSink primary;
+    private ActionLogSink secondary;
+    private FanOutActionLogSink sink;
+
+    /**
+     * 테스트 실행 전 주 저장소와 보조 저장소를 mock으로 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        primary = mock(ActionLogSink.class);
+        secondary = mock(ActionLogSink.class);
+        when(primary.getName()).thenReturn("database");
+        when(secondary.getName()).thenReturn("file");
+
+        sink = new FanOutActionLogSink(List.of(primary, secondary));
+    }
+
+    /**
+     * GIVEN: 보조 저장소 기록이 실패할 때
+     * WHEN: write()를 호출하면
+     * THEN: 예외는 전파되지 않고 주 저장소의 저장 행 수가 반환되어야 한다.
+     */
+    @Test
+    public void write_secondaryFailure_shouldNotPropagate() {
+        when(primary.write(anyList())).thenReturn(1);
+        when(secondary.write(anyList())).thenThrow(new ActionLogWriteException(1, new RuntimeException("disk full")));
+
+        assertThat(sink.write(logs)).isEqualTo(1);
+        verify(secondary).write(logs);
+    }
+
+    /**
+     * GIVEN: 주 저장소 기록이 실패할 때
+     * WHEN: write()를 호출하면
+     * THEN: 예외가 전파되고 보조 저장소에는 기록하지 않아야 한다.
+     */
+    @Test
+    public void write_primaryFailure_shouldPropagateAndSkipSecondaries() {
+        when(primary.write(anyList())).thenThrow(new ActionLogWriteException(1, new RuntimeException("db down")));
+
+        assertThatThrownBy(() -> sink.write(logs)).isInstanceOf(ActionLogWriteException.class);
+        verify(secondary, never()).write(anyList());
+        assertThat(sink.getName()).isEqualTo("fan-out(database,file)");
+    }
+
+}
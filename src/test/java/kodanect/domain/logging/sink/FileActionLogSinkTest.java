@@ -0,0 +1,273 @@
+package kodanect.domain.logging.sink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogSinkProperties;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FileActionLogSink} 클래스의 NDJSON 기록, gzip 멤버 분할, 파일 교체 및 보관 개수 제한을 검증하는 단위 테스트입니다.
+ */
+public class FileActionLogSinkTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FileActionLogSink sink;
+
+    /**
+     * 테스트 종료 후 활성 파일을 닫습니다.
+     */
+    @After
+    public void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    /**
+     * GIVEN: 묶음 크기가 2인 파일 저장소에
+     * WHEN: 3건을 기록하면
+     * THEN: 여러 gzip 멤버로 나뉘어도 한 파일에서 3줄의 NDJSON으로 읽히고, log_text는 JSON 객체로 포함되어야 한다.
+     */
+    @Test
+    public void write_shouldAppendGzipMembersAsNdjson() throws IOException {
+        sink = createSink(Long.MAX_VALUE, 10, 2);
+
+        int written = sink.write(List.of(createLog("/a"), createLog("/b"), createLog("/c")));
+
+        List<JsonNode> lines = readAll();
+        assertThat(written).isEqualTo(3);
+        assertThat(lines).extracting(line -> line.get("urlName").asText()).containsExactly("/a", "/b", "/c");
+        assertThat(lines.get(0).get("logText").get("sessionId").asText()).isEqualTo("session-1");
+        assertThat(lines.get(0).get("writeTime").asText()).isEqualTo("2025-06-16T10:15");
+    }
+
+    /**
+     * GIVEN: 파일 최대 크기가 매우 작고 보관 개수가 2인 파일 저장소에
+     * WHEN: 여러 번 나누어 기록하면
+     * THEN: 기록마다 새 파일로 교체되고, 가장 최근 2개 파일만 남아야 한다.
+     */
+    @Test
+    public void write_shouldRollBySizeAndKeepMaxFiles() throws IOException {
+        sink = createSink(1, 2, 10);
+
+        for (int i = 0; i < 4; i++) {
+            sink.write(List.of(createLog("/page-" + i)));
+        }
+
+        assertThat(listFiles()).hasSize(2);
+        assertThat(readAll()).extracting(line -> line.get("urlName").asText()).containsExactly("/page-2", "/page-3");
+    }
+
+    /**
+     * GIVEN: 첫 파일에 한 건이 기록된 뒤 다음 gzip 멤버가 절반만 기록되고 실패할 때
+     * WHEN: write()를 호출하면
+     * THEN: 첫 파일의 불완전한 멤버는 잘려 온전히 읽히고, 실패한 행은 새 파일에 한 번만 기록되어야 한다.
+     */
+    @Test
+    public void write_shouldTruncatePartialMember_whenAppendFails() throws IOException {
+        List<FailingChannel> channels = new ArrayList<>();
+        sink = new FileActionLogSink(objectMapper.getFactory(), createProperties(Long.MAX_VALUE, 10, 10)) {
+            @Override
+            FileChannel openChannel(Path file) throws IOException {
+                FailingChannel channel = new FailingChannel(super.openChannel(file));
+                channels.add(channel);
+                return channel;
+            }
+        };
+
+        sink.write(List.of(createLog("/a")));
+        long firstMemberBytes = Files.size(listFiles().get(0));
+        channels.get(0).failNextWrite = true;
+
+        int written = sink.write(List.of(createLog("/b")));
+
+        assertThat(written).isEqualTo(1);
+        assertThat(listFiles()).hasSize(2);
+        assertThat(Files.size(listFiles().get(0))).isEqualTo(firstMemberBytes);
+        assertThat(readAll()).extracting(line -> line.get("urlName").asText()).containsExactly("/a", "/b");
+    }
+
+    private FileActionLogSink createSink(long maxBytes, int maxFiles, int batchSize) {
+        return new FileActionLogSink(objectMapper.getFactory(), createProperties(maxBytes, maxFiles, batchSize));
+    }
+
+    private ActionLogSinkProperties createProperties(long maxBytes, int maxFiles, int batchSize) {
+        return new ActionLogSinkProperties(
+                List.of(ActionLogSinkType.FILE),
+                temporaryFolder.getRoot().getAbsolutePath(),
+                maxBytes,
+                Duration.ofHours(1),
+                maxFiles,
+                batchSize);
+    }
+
+    private ActionLog createLog(String urlName) {
+        return ActionLog.builder()
+                .urlName(urlName)
+                .crudCode("R")
+                .ipAddr("127.0.0.1")
+                .logText("{\"sessionId\":\"session-1\"}")
+                .writeTime(LocalDateTime.of(2025, 6, 16, 10, 15))
+                .build();
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<JsonNode> readAll() throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+
+        for (Path file : listFiles()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    lines.add(objectMapper.readTree(line));
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 요청 시 다음 기록을 절반만 반영하고 실패시키는 {@link FileChannel}입니다.
+     */
+    private static final class FailingChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        private boolean failNextWrite;
+
+        private FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                ByteBuffer half = src.duplicate();
+                half.limit(src.position() + src.remaining() / 2);
+                delegate.write(half);
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,231 @@
+package kodanect.domain.logging.spool;
+
+import kodanect.common.config.properties.ActionLogSpoolProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogSpool} 클래스의 기록, 복원, 체크포인트 동작을 검증하는 단위 테스트입니다.
+ *
+ * 임시 디렉터리에 실제 세그먼트 파일을 만들어 재기동 상황을 재현합니다.
+ */
+public class ActionLogSpoolTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path directory;
+    private ActionLogSpool spool;
+
+    /**
+     * 테스트 실행 전 임시 디렉터리에 스풀을 엽니다.
+     */
+    @Before
+    public void setUp() throws IOException {
+        directory = temporaryFolder.getRoot().toPath();
+        spool = openSpool();
+    }
+
+    /**
+     * 테스트 종료 후 스풀을 닫습니다.
+     */
+    @After
+    public void tearDown() {
+        spool.close();
+    }
+
+    /**
+     * GIVEN: 스풀에 세 종류의 레코드를 기록한 뒤 프로세스가 종료되었을 때
+     * WHEN: 새 스풀을 열어 재처리 대상 세그먼트를 replay()하면
+     * THEN: 기록한 순서대로 모든 필드가 복원되어야 한다.
+     */
+    @Test
+    public void replay_shouldRestoreRecordsWrittenByPreviousProcess() throws IOException {
+        spool.append(SpoolRecord.frontend("session-1", FrontendLogDto.builder()
+                .eventType("clickButton").pageUrl("/page").timestamp("2025-06-16T00:00:00").build()));
+        spool.append(SpoolRecord.backend("session-1", BackendLogDto.builder()
+                .httpMethod("GET").endpoint("/api/test").parameters("{\"id\":\"1\"}").build()));
+        spool.append(SpoolRecord.systemInfo("session-1", SystemInfoDto.builder()
+                .browserName("Chrome").locale("ko-KR").ipAddress("203.0.113.7").build()));
+        spool.close();
+
+        ActionLogSpool restarted = openSpool();
+        List<SpoolRecord> restored = new ArrayList<>();
+
+        for (Path segment : restarted.getPendingSegments()) {
+            restarted.replay(segment, restored::add);
+        }
+        restarted.close();
+
+        assertThat(restored).extracting(SpoolRecord::getType)
+                .containsExactly(SpoolRecordType.FRONTEND, SpoolRecordType.BACKEND, SpoolRecordType.SYSTEM_INFO);
+        assertThat(restored.get(0).getFrontendLog().getEventType()).isEqualTo("clickButton");
+        assertThat(restored.get(0).getFrontendLog().getElementId()).isNull();
+        assertThat(restored.get(1).getBackendLog().getParameters()).isEqualTo("{\"id\":\"1\"}");
+        assertThat(restored.get(2).getSystemInfo().getLocale()).isEqualTo("ko-KR");
+        assertThat(restored.get(2).getSystemInfo().getIpAddress()).isEqualTo("203.0.113.7");
+    }
+
+    /**
+     * GIVEN: IP 주소 필드가 추가되기 전 포맷으로 기록된 시스템 정보 레코드가 있을 때
+     * WHEN: SpoolRecordCodec.decode()로 복원하면
+     * THEN: 나머지 필드는 그대로 복원되고 IP 주소는 null이어야 한다.
+     */
+    @Test
+    public void decode_shouldRestoreSystemInfoWrittenBeforeIpAddressField() {
+        byte[] encoded = SpoolRecordCodec.encode(SpoolRecord.systemInfo("session-1", SystemInfoDto.builder()
+                .browserName("Chrome").locale("ko-KR").build()));
+        ByteBuffer legacy = ByteBuffer.wrap(encoded, 0, encoded.length - Integer.BYTES).slice();
+
+        SpoolRecord restored = SpoolRecordCodec.decode(legacy);
+
+        assertThat(restored.getSystemInfo().getLocale()).isEqualTo("ko-KR");
+        assertThat(restored.getSystemInfo().getIpAddress()).isNull();
+    }
+
+    /**
+     * GIVEN: 세그먼트의 두 번째 레코드가 기록 도중 손상되었을 때
+     * WHEN: replay()를 호출하면
+     * THEN: CRC가 일치하는 첫 번째 레코드까지만 복원되어야 한다.
+     */
+    @Test
+    public void replay_shouldStopAtCorruptedFrame() throws IOException {
+        spool.append(SpoolRecord.backend("session-1", BackendLogDto.builder().endpoint("/first").build()));
+        spool.append(SpoolRecord.backend("session-1", BackendLogDto.builder().endpoint("/second").build()));
+        spool.close();
+
+        Path segment = listSegments().get(0);
+        corruptLastByteOfSecondFrame(segment);
+
+        List<SpoolRecord> restored = new ArrayList<>();
+        int count = spool.replay(segment, restored::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(restored.get(0).getBackendLog().getEndpoint()).isEqualTo("/first");
+    }
+
+    /**
+     * GIVEN: 레코드를 기록한 뒤 체크포인트를 만들었을 때
+     * WHEN: commit()을 호출하면
+     * THEN: 체크포인트 이전 세그먼트만 삭제되고 활성 세그먼트는 유지되어야 한다.
+     */
+    @Test
+    public void commit_shouldDeleteSegmentsBeforeCheckpoint() throws IOException {
+        spool.append(SpoolRecord.backend("session-1", BackendLogDto.builder().endpoint("/e").build()));
+
+        long checkpoint = spool.checkpoint();
+        assertThat(listSegments()).hasSize(2);
+
+        spool.commit(checkpoint);
+
+        assertThat(listSegments()).hasSize(1);
+    }
+
+    /**
+     * GIVEN: 두 세그먼트에 여러 세션의 로그가 기록되었을 때
+     * WHEN: 배출 직전 위치로 키를 하나씩 release()하면
+     * THEN: 남은 키가 없는 세그먼트만 삭제되고, 그 위치 이후에 기록된 레코드가 있는 세그먼트는 유지되어야 한다.
+     */
+    @Test
+    public void release_shouldDeleteSegmentOnceEveryKeyIsFlushed() throws IOException {
+        spool.append(largeBackendRecord("session-a"));
+        spool.append(largeBackendRecord("session-b"));
+        spool.append(largeBackendRecord("session-c"));
+        long position = spool.position();
+        spool.append(largeBackendRecord("session-a"));
+        spool.append(largeBackendRecord("session-d"));
+        assertThat(listSegments()).hasSize(3);
+
+        spool.release(List.of(readKey("session-a"), readKey("session-c")), position);
+        assertThat(listSegments()).hasSize(3);
+
+        spool.release(List.of(readKey("session-b")), position);
+        assertThat(listSegments()).hasSize(2);
+
+        spool.release(List.of(readKey("session-a")), spool.position());
+        assertThat(listSegments()).hasSize(1);
+    }
+
+    /**
+     * GIVEN: 스풀이 비활성화되어 있을 때
+     * WHEN: 레코드를 기록하고 체크포인트를 요청하면
+     * THEN: 파일이 생성되지 않고 NO_CHECKPOINT가 반환되어야 한다.
+     */
+    @Test
+    public void disabledSpool_shouldDoNothing() throws IOException {
+        Path disabledDirectory = directory.resolve("disabled");
+        ActionLogSpool disabled = new ActionLogSpool(
+                new ActionLogSpoolProperties(false, disabledDirectory.toString(), SEGMENT_BYTES));
+        disabled.open();
+
+        disabled.append(SpoolRecord.backend("session-1", BackendLogDto.builder().build()));
+
+        assertThat(disabled.checkpoint()).isEqualTo(ActionLogSpool.NO_CHECKPOINT);
+        assertThat(Files.exists(disabledDirectory)).isFalse();
+    }
+
+    /**
+     * 세그먼트 하나에 두 건만 들어가는 크기의 조회 백엔드 로그 레코드를 만듭니다.
+     */
+    private SpoolRecord largeBackendRecord(String sessionId) {
+        return SpoolRecord.backend(sessionId, BackendLogDto.builder()
+                .httpMethod("GET").endpoint("/" + "a".repeat(SEGMENT_BYTES / 3)).build());
+    }
+
+    private UserActionKey readKey(String sessionId) {
+        return new UserActionKey(sessionId, CrudCode.R);
+    }
+
+    private ActionLogSpool openSpool() throws IOException {
+        ActionLogSpool opened = new ActionLogSpool(
+                new ActionLogSpoolProperties(true, directory.toString(), SEGMENT_BYTES));
+        opened.open();
+        return opened;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private void corruptLastByteOfSecondFrame(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(header, 0);
+            header.flip();
+
+            int firstFrameEnd = Integer.BYTES * 2 + header.getInt();
+            header.clear();
+            channel.read(header, firstFrameEnd);
+            header.flip();
+
+            long lastByte = firstFrameEnd + Integer.BYTES * 2L + header.getInt() - 1;
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0x7F}), lastByte);
+        }
+    }
+
+}
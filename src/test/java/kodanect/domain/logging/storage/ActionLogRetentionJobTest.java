@@ -0,0 +1,105 @@
+package kodanect.domain.logging.storage;
+
+import kodanect.common.config.properties.ActionLogStorageProperties;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogRetentionJob} 클래스의 집계 후 삭제 동작과 {@link ActionLogPartition}의 구간 계산을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogRetentionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 15);
+
+    private ActionLogPartitionManager partitionManager;
+    private JdbcTemplate jdbcTemplate;
+    private ActionLogRetentionJob job;
+
+    /**
+     * 테스트 실행 전 보관 기간 90일로 작업을 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        partitionManager = mock(ActionLogPartitionManager.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        job = new ActionLogRetentionJob(partitionManager, jdbcTemplate, transactionManager,
+                new ActionLogStorageProperties(ActionLogStorageMode.DAILY, 90, "0 30 3 * * *"));
+    }
+
+    /**
+     * GIVEN: 보관 기간이 지난 테이블과 지나지 않은 테이블이 있을 때
+     * WHEN: applyRetention()을 호출하면
+     * THEN: 지난 테이블만 log_count 합계로 구간 집계를 다시 만든 뒤 DROP 되어야 한다.
+     */
+    @Test
+    public void applyRetention_shouldRollupThenDropExpiredPartitionsOnly() {
+        ActionLogPartition expired = partition("tb25_940_action_log_20250616");
+        ActionLogPartition retained = partition("tb25_940_action_log_20250617");
+        when(partitionManager.listPartitions()).thenReturn(List.of(expired, retained));
+
+        int dropped = job.applyRetention(TODAY);
+
+        assertThat(dropped).isEqualTo(1);
+        InOrder inOrder = inOrder(jdbcTemplate, partitionManager);
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM tb25_941_action_log_daily"),
+                eq(Date.valueOf("2025-06-16")), eq(Date.valueOf("2025-06-17")));
+        inOrder.verify(jdbcTemplate).update(contains("SUM(log_count) FROM tb25_940_action_log_20250616 GROUP BY"));
+        inOrder.verify(partitionManager).drop(expired);
+        verify(partitionManager, never()).drop(retained);
+    }
+
+    /**
+     * GIVEN: 집계 중 DB 오류가 발생할 때
+     * WHEN: applyRetention()을 호출하면
+     * THEN: 원본 테이블은 삭제되지 않아야 한다.
+     */
+    @Test
+    public void applyRetention_shouldKeepPartition_whenRollupFails() {
+        ActionLogPartition expired = partition("tb25_940_action_log_202505");
+        when(partitionManager.listPartitions()).thenReturn(List.of(expired));
+        when(jdbcTemplate.update(contains("GROUP BY"))).thenThrow(new DataAccessResourceFailureException("lock wait timeout"));
+
+        assertThat(job.applyRetention(TODAY)).isZero();
+        verify(partitionManager, never()).drop(any());
+    }
+
+    /**
+     * GIVEN: 일별, 월별, 그 외 이름의 테이블이 주어졌을 때
+     * WHEN: ActionLogPartition.parse()를 호출하면
+     * THEN: 분할 테이블만 인식하고 보관 구간을 올바르게 계산해야 한다.
+     */
+    @Test
+    public void parse_shouldRecognizeDailyAndMonthlyTables() {
+        ActionLogPartition monthly = partition("TB25_940_ACTION_LOG_202502");
+
+        assertThat(monthly.getStart()).isEqualTo(LocalDate.of(2025, 2, 1));
+        assertThat(monthly.getEnd()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(monthly.getTableName()).isEqualTo("tb25_940_action_log_202502");
+        assertThat(ActionLogPartition.parse("tb25_940_action_log")).isEmpty();
+        assertThat(ActionLogPartition.parse("tb25_941_action_log_daily")).isEmpty();
+        assertThat(ActionLogPartition.parse("tb25_940_action_log_2025xx16")).isEmpty();
+    }
+
+    private ActionLogPartition partition(String tableName) {
+        return ActionLogPartition.parse(tableName).orElseThrow();
+    }
+
+}
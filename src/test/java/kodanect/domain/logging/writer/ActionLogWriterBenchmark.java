@@ -0,0 +1,79 @@
+package kodanect.domain.logging.writer;
+
+import kodanect.KodanectBootApplication;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.repository.ActionLogRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ActionLogRepository#saveAll}과 {@link ActionLogWriter#write}의 저장 시간을 H2에서 비교하는 벤치마크입니다.
+ *
+ * 테스트 프로필(H2, MySQL 모드)로 웹 서버 없이 컨텍스트를 띄운 뒤 10k / 100k / 1M 행을 저장합니다.
+ * 단위 테스트 실행 대상이 아니므로 main()으로 직접 실행합니다.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=kodanect.domain.logging.writer.ActionLogWriterBenchmark
+ * </pre>
+ */
+public class ActionLogWriterBenchmark {
+
+    private static final int[] ROW_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROWS = 5_000;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KodanectBootApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(args)) {
+
+            ActionLogRepository repository = context.getBean(ActionLogRepository.class);
+            ActionLogWriter writer = context.getBean(ActionLogWriter.class);
+
+            repository.saveAll(createLogs(WARMUP_ROWS));
+            writer.write(createLogs(WARMUP_ROWS));
+            repository.deleteAllInBatch();
+
+            for (int rows : ROW_COUNTS) {
+                long saveAllMillis = measure(() -> repository.saveAll(createLogs(rows)));
+                repository.deleteAllInBatch();
+
+                long writerMillis = measure(() -> writer.write(createLogs(rows)));
+                repository.deleteAllInBatch();
+
+                System.out.printf("rows=%,d  saveAll=%,d ms  ActionLogWriter=%,d ms%n", rows, saveAllMillis, writerMillis);
+            }
+        }
+    }
+
+    private static long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / NANOS_PER_MILLI;
+    }
+
+    private static List<ActionLog> createLogs(int count) {
+        List<ActionLog> logs = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < count; i++) {
+            logs.add(ActionLog.builder()
+                    .urlName("/api/benchmark/" + (i % 100))
+                    .crudCode("R")
+                    .ipAddr("127.0.0.1")
+                    .logText("{\"seq\":" + i + "}")
+                    .writeTime(now)
+                    .build());
+        }
+
+        return logs;
+    }
+
+}
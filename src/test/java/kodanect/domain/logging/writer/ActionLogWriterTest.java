@@ -0,0 +1,270 @@
+package kodanect.domain.logging.writer;
+
+import kodanect.common.config.properties.ActionLogStorageProperties;
+import kodanect.common.config.properties.ActionLogWriterProperties;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogWriteException;
+import kodanect.domain.logging.storage.ActionLogPartitionManager;
+import kodanect.domain.logging.storage.ActionLogStorageMode;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogWriter} 클래스의 청크 분할, 청크별 커밋, 재시도 동작을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 테스트 실행 전 Mock 객체를 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    /**
+     * GIVEN: 청크 크기가 2이고 로그 5건이 주어졌을 때
+     * WHEN: write()를 호출하면
+     * THEN: 2, 2, 1건의 batch가 전송되고 청크마다 커밋되어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldSplitIntoChunksAndCommitEach() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(2, 0, 0), partitionManager(ActionLogStorageMode.SINGLE));
+        List<Integer> batchSizes = new ArrayList<>();
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<ActionLog> chunk = invocation.getArgument(1);
+                    batchSizes.add(chunk.size());
+                    return new int[0][];
+                });
+
+        int written = writer.write(createLogs(5));
+
+        assertThat(written).isEqualTo(5);
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    /**
+     * GIVEN: 첫 번째 시도에서 DB 오류가 발생할 때
+     * WHEN: write()를 호출하면
+     * THEN: 실패한 청크를 롤백한 뒤 재시도하여 저장에 성공해야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldRetryFailedChunk() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 2, 0), partitionManager(ActionLogStorageMode.SINGLE));
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(new int[0][]);
+
+        int written = writer.write(createLogs(3));
+
+        assertThat(written).isEqualTo(3);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    /**
+     * GIVEN: 재시도 횟수를 모두 소진해도 DB 오류가 계속될 때
+     * WHEN: write()를 호출하면
+     * THEN: ActionLogWriteException이 발생해야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldThrow_whenRetriesExhausted() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 1, 0), partitionManager(ActionLogStorageMode.SINGLE));
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+        assertThatThrownBy(() -> writer.write(createLogs(3)))
+                .isInstanceOf(ActionLogWriteException.class);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    /**
+     * GIVEN: 청크 안의 한 행이 제약 조건을 위반할 때
+     * WHEN: write()를 호출하면
+     * THEN: 청크를 재시도하지 않고 행마다 저장하며, 위반한 행만 건너뛰어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldFallBackToRowByRow_whenChunkHasBadRow() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 3, 0), partitionManager(ActionLogStorageMode.SINGLE));
+        List<String> savedUrls = new ArrayList<>();
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<ActionLog> chunk = invocation.getArgument(1);
+                    if (chunk.stream().anyMatch(actionLog -> "/api/test/1".equals(actionLog.getUrlName()))) {
+                        throw new DataIntegrityViolationException("Data too long for column 'url_name'");
+                    }
+                    chunk.forEach(actionLog -> savedUrls.add(actionLog.getUrlName()));
+                    return new int[0][];
+                });
+
+        int written = writer.write(createLogs(3));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(savedUrls).containsExactly("/api/test/0", "/api/test/2");
+        verify(jdbcTemplate, times(4)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    /**
+     * GIVEN: 행 단위 저장 도중 DB 연결 오류가 발생할 때
+     * WHEN: write()를 호출하면
+     * THEN: 행을 건너뛰지 않고 ActionLogWriteException이 발생해야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldThrow_whenRowByRowFailsWithResourceError() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 3, 0), partitionManager(ActionLogStorageMode.SINGLE));
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+        assertThatThrownBy(() -> writer.write(createLogs(3)))
+                .isInstanceOf(ActionLogWriteException.class);
+    }
+
+    /**
+     * GIVEN: 빈 로그 목록이 주어졌을 때
+     * WHEN: write()를 호출하면
+     * THEN: DB 호출 없이 0을 반환해야 한다.
+     */
+    @Test
+    public void write_shouldSkipEmptyList() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 0, 0), partitionManager(ActionLogStorageMode.SINGLE));
+
+        assertThat(writer.write(List.of())).isZero();
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+
+    /**
+     * GIVEN: 일별 분할 모드에서 서로 다른 날짜의 로그가 주어졌을 때
+     * WHEN: write()를 호출하면
+     * THEN: 날짜별 테이블을 생성한 뒤 테이블마다 따로 batch가 전송되어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldRouteLogsToDailyTables() {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 0, 0), partitionManager(ActionLogStorageMode.DAILY));
+        List<String> statements = new ArrayList<>();
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    statements.add(invocation.getArgument(0));
+                    return new int[0][];
+                });
+
+        List<ActionLog> logs = List.of(
+                createLog(LocalDateTime.of(2025, 6, 16, 23, 59)),
+                createLog(LocalDateTime.of(2025, 6, 17, 0, 1)),
+                createLog(LocalDateTime.of(2025, 6, 16, 10, 0)));
+
+        assertThat(writer.write(logs)).isEqualTo(3);
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).startsWith("INSERT INTO tb25_940_action_log_20250616 ");
+        assertThat(statements.get(1)).startsWith("INSERT INTO tb25_940_action_log_20250617 ");
+        assertThat(statements).allMatch(sql -> sql.contains("log_count"));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS tb25_940_action_log_20250616 "));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS tb25_940_action_log_20250617 "));
+    }
+
+    /**
+     * GIVEN: 일별 분할 모드에서 집계 건수가 있는 로그와 없는 로그가 주어졌을 때
+     * WHEN: write()를 호출하면
+     * THEN: log_count에 집계 건수 또는 1이 기록되어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void write_shouldBindLogCount_whenPartitioned() throws Exception {
+        ActionLogWriter writer = new ActionLogWriter(jdbcTemplate, transactionManager,
+                new ActionLogWriterProperties(10, 0, 0), partitionManager(ActionLogStorageMode.DAILY));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        LocalDateTime writeTime = LocalDateTime.of(2025, 6, 16, 10, 0);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<ActionLog> chunk = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<ActionLog> setter = invocation.getArgument(3);
+                    for (ActionLog actionLog : chunk) {
+                        setter.setValues(statement, actionLog);
+                    }
+                    return new int[0][];
+                });
+
+        ActionLog aggregated = ActionLog.builder()
+                .urlName("/notices").crudCode("R").logText("{}").writeTime(writeTime).logCount(42L).build();
+
+        writer.write(List.of(aggregated, createLog(writeTime)));
+
+        verify(statement).setLong(6, 42L);
+        verify(statement).setLong(6, 1L);
+    }
+
+    private ActionLogPartitionManager partitionManager(ActionLogStorageMode mode) {
+        return new ActionLogPartitionManager(jdbcTemplate, new ActionLogStorageProperties(mode, 90, "0 30 3 * * *"));
+    }
+
+    private ActionLog createLog(LocalDateTime writeTime) {
+        return ActionLog.builder()
+                .urlName("/api/test")
+                .crudCode("R")
+                .logText("{}")
+                .writeTime(writeTime)
+                .build();
+    }
+
+    private List<ActionLog> createLogs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ActionLog.builder()
+                        .urlName("/api/test/" + i)
+                        .crudCode("R")
+                        .ipAddr("127.0.0.1")
+                        .logText("{}")
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -28,6 +28,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -145,7 +147,7 @@ public class RecipientControllerTest {
         dto.setWriteTime(LocalDateTime.now());
         dto.setModifyTime(LocalDateTime.now());
 
-        when(recipientService.selectRecipient(letterSeq)).thenReturn(dto);
+        when(recipientService.selectRecipient(eq(letterSeq), anyString())).thenReturn(dto);
 
         mockMvc.perform(get("/recipientLetters/{letterSeq}", letterSeq))
                 .andExpect(status().isOk())
@@ -153,7 +155,7 @@ public class RecipientControllerTest {
                 .andExpect(jsonPath("$.message").value("게시물 조회 성공"))
                 .andExpect(jsonPath("$.data").exists());
 
-        verify(recipientService, times(1)).selectRecipient(letterSeq);
+        verify(recipientService, times(1)).selectRecipient(eq(letterSeq), anyString());
     }
 
     @Test
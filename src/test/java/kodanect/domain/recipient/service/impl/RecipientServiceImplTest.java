@@ -1,6 +1,15 @@
 package kodanect.domain.recipient.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.config.properties.FirstPageCacheProperties;
 import kodanect.common.config.properties.GlobalsProperties;
+import kodanect.common.config.properties.SearchCacheProperties;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.search.SearchResultCache;
+import kodanect.common.util.ViewDedupService;
 import kodanect.domain.recipient.dto.RecipientDetailResponseDto;
 import kodanect.domain.recipient.dto.RecipientRequestDto;
 import kodanect.domain.recipient.entity.RecipientCommentEntity;
@@ -26,6 +35,7 @@ import org.springframework.util.FileSystemUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -47,6 +57,15 @@ public class RecipientServiceImplTest {
     @Mock
     private GlobalsProperties globalsProperties;
 
+    @Mock
+    private ViewDedupService viewDedupService;
+
+    @Mock
+    private ReadCountAggregator readCountAggregator;
+
+    @Mock
+    private BoardCountRegistry boardCountRegistry;
+
     private RecipientServiceImpl recipientService;
 
     private Path tempUploadDir;
@@ -69,6 +88,11 @@ public class RecipientServiceImplTest {
                 recipientRepository,
                 recipientCommentRepository,
                 globalsProperties,
+                viewDedupService,
+                readCountAggregator,
+                boardCountRegistry,
+                new SearchResultCache(new SearchCacheProperties(true, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry()),
+                new FirstPageCache(new FirstPageCacheProperties(true, 50, Duration.ofMinutes(1)), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry()),
                 ORGAN_CODE_DIRECT_INPUT,
                 ANONYMOUS_WRITER_VALUE
         );
@@ -135,7 +159,7 @@ public class RecipientServiceImplTest {
 
         Mockito.lenient().when(recipientRepository.findById(letterSeq)).thenReturn(Optional.of(deletedEntity));
 
-        recipientService.selectRecipient(letterSeq);
+        recipientService.selectRecipient(letterSeq, "127.0.0.1");
     }
 
     // 게시물 수정 - ORGAN000 선택 시 organEtc 필수 입력 예외 테스트
@@ -0,0 +1,137 @@
+package kodanect.domain.remembrance.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.MemorialDetailCacheProperties;
+import kodanect.domain.remembrance.dto.MemorialDetailResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MemorialDetailCache} 클래스의 read-through 조회, 복사본 반환, 무효화, 크기 기준 제거, 메트릭을 검증하는 단위 테스트입니다.
+ */
+public class MemorialDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private Function<Integer, MemorialDetailResponse> loader;
+
+    /**
+     * 테스트 실행 전 메트릭 레지스트리와 호출 횟수를 세는 loader를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+        loader = donateSeq -> {
+            loads.incrementAndGet();
+            return createResponse(donateSeq);
+        };
+    }
+
+    /**
+     * GIVEN: 같은 게시글을 두 번 조회할 때
+     * WHEN: get()을 호출하면
+     * THEN: loader는 한 번만 호출되고, hit/miss 메트릭이 각각 1이어야 한다.
+     */
+    @Test
+    public void get_shouldLoadOnceAndRecordHitAndMiss() {
+        MemorialDetailCache cache = createCache(true, 1_048_576L);
+
+        cache.get(1, loader);
+        cache.get(1, loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * GIVEN: 캐시에서 받은 응답에 반영 대기 이모지 값을 더했을 때
+     * WHEN: 같은 게시글을 다시 조회하면
+     * THEN: 캐시에 보관된 값은 변경되지 않아야 한다.
+     */
+    @Test
+    public void get_shouldReturnCopy() {
+        MemorialDetailCache cache = createCache(true, 1_048_576L);
+
+        cache.get(1, loader).addPendingEmotionCounts(new long[]{5, 0, 0, 0, 0, 0, 0});
+
+        assertThat(cache.get(1, loader).getFlowerCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 캐시에 보관된 게시글이 무효화되었을 때
+     * WHEN: 다시 조회하면
+     * THEN: 해당 게시글만 loader로 다시 조회해야 한다.
+     */
+    @Test
+    public void invalidate_shouldReloadOnlyThatMemorial() {
+        MemorialDetailCache cache = createCache(true, 1_048_576L);
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        cache.invalidate(1);
+        cache.get(1, loader);
+        cache.get(2, loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    /**
+     * GIVEN: 응답 하나보다 작은 크기 상한일 때
+     * WHEN: 조회 후 캐시 정리가 끝나면
+     * THEN: 보관된 크기 합계가 상한 이하로 유지되어야 한다.
+     */
+    @Test
+    public void maxWeight_shouldEvictByEstimatedBytes() {
+        long limit = MemorialDetailCache.estimateBytes(createResponse(1)) * 2L;
+        MemorialDetailCache cache = createCache(true, limit);
+
+        for (int donateSeq = 1; donateSeq <= 10; donateSeq++) {
+            cache.get(donateSeq, loader);
+        }
+        cache.cleanUp();
+
+        assertThat(cache.getWeightedBytes()).isLessThanOrEqualTo(limit);
+    }
+
+    /**
+     * GIVEN: 캐시를 사용하지 않도록 설정했을 때
+     * WHEN: 같은 게시글을 두 번 조회하면
+     * THEN: 매번 loader를 호출해야 한다.
+     */
+    @Test
+    public void disabled_shouldAlwaysLoad() {
+        MemorialDetailCache cache = createCache(false, 1_048_576L);
+
+        cache.get(1, loader);
+        cache.get(1, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private MemorialDetailCache createCache(boolean enabled, long maxWeightBytes) {
+        return new MemorialDetailCache(new MemorialDetailCacheProperties(enabled, maxWeightBytes, Duration.ofMinutes(10)), meterRegistry);
+    }
+
+    private static MemorialDetailResponse createResponse(Integer donateSeq) {
+        return MemorialDetailResponse.builder()
+                .donateSeq(donateSeq)
+                .donorName("홍길동")
+                .donateTitle("기억합니다")
+                .donateDate("20240101")
+                .genderFlag("M")
+                .donateAge(40)
+                .flowerCount(1)
+                .writeTime(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+}
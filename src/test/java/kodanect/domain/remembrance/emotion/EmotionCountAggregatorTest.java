@@ -0,0 +1,140 @@
+package kodanect.domain.remembrance.emotion;
+
+import kodanect.common.config.properties.MemorialEmotionProperties;
+import kodanect.common.util.EmotionType;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
+import kodanect.domain.remembrance.exception.MemorialNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link EmotionCountAggregator} 클래스의 이모지 누적, 게시글 단위 일괄 반영, 실패 시 보존 동작을 검증하는 단위 테스트입니다.
+ */
+public class EmotionCountAggregatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private MemorialIdCache memorialIdCache;
+    private MemorialDetailCache memorialDetailCache;
+    private EmotionCountAggregator aggregator;
+
+    /**
+     * 테스트 실행 전 JdbcTemplate, 트랜잭션 매니저, 게시글 번호 목록, 상세 조회 캐시 mock과 EmotionCountAggregator를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        memorialIdCache = mock(MemorialIdCache.class);
+        memorialDetailCache = mock(MemorialDetailCache.class);
+        when(memorialIdCache.exists(1)).thenReturn(true);
+
+        aggregator = new EmotionCountAggregator(jdbcTemplate, mock(PlatformTransactionManager.class),
+                memorialIdCache, memorialDetailCache, new MemorialEmotionProperties(5000L, 500, 4, 600_000L));
+    }
+
+    /**
+     * GIVEN: 한 게시글에 헌화 2번, 슬퍼요 1번을 눌렀을 때
+     * WHEN: flush()를 호출하면
+     * THEN: 7개 컬럼을 한 번에 올리는 UPDATE 한 건으로 반영하고, 반영 대기 값은 0이 되며 상세 조회 캐시가 무효화되어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_shouldApplyAllEmotionsInOneStatementPerMemorial() {
+        aggregator.increment(1, EmotionType.FLOWER);
+        aggregator.increment(1, EmotionType.FLOWER);
+        aggregator.increment(1, EmotionType.SAD);
+
+        assertThat(aggregator.pending(1)).containsExactly(2, 0, 0, 0, 0, 0, 1);
+
+        int flushed = aggregator.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(EmotionCountAggregator.UPDATE_SQL), captor.capture());
+
+        assertThat(flushed).isEqualTo(1);
+        assertThat(EmotionCountAggregator.UPDATE_SQL).isEqualTo("UPDATE tb25_400_memorial SET "
+                + "flower_count = flower_count + ?, love_count = love_count + ?, see_count = see_count + ?, "
+                + "miss_count = miss_count + ?, proud_count = proud_count + ?, hard_count = hard_count + ?, "
+                + "sad_count = sad_count + ? WHERE donate_seq = ?");
+        assertThat(captor.getValue()).singleElement()
+                .isEqualTo(new Object[]{2L, 0L, 0L, 0L, 0L, 0L, 1L, 1});
+        assertThat(aggregator.pending(1)).containsOnly(0L);
+        verify(memorialDetailCache).invalidate(1);
+    }
+
+    /**
+     * GIVEN: DB 반영이 실패할 때
+     * WHEN: flush()를 호출하면
+     * THEN: 반영 대기 값이 유지되어 다음 주기에 다시 반영되어야 한다.
+     */
+    @Test
+    public void flush_failure_shouldKeepPendingCounts() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        aggregator.increment(1, EmotionType.LOVE);
+
+        int flushed = aggregator.flush();
+
+        assertThat(flushed).isZero();
+        assertThat(aggregator.pending(1)[EmotionType.LOVE.ordinal()]).isEqualTo(1);
+        verify(memorialDetailCache, never()).invalidate(1);
+    }
+
+    /**
+     * GIVEN: 존재하지 않는 게시글 번호일 때
+     * WHEN: increment()를 호출하면
+     * THEN: MemorialNotFoundException이 발생하고 카운터를 만들지 않아야 한다.
+     */
+    @Test
+    public void increment_unknownMemorial_shouldThrow() {
+        assertThatThrownBy(() -> aggregator.increment(999, EmotionType.FLOWER))
+                .isInstanceOf(MemorialNotFoundException.class);
+
+        assertThat(aggregator.pending(999)).isNull();
+        aggregator.flush();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    /**
+     * GIVEN: 같은 게시글에 여러 번 클릭했을 때
+     * WHEN: increment()를 반복 호출하면
+     * THEN: 게시글 존재 확인은 카운터를 만들 때 한 번만 수행되어야 한다.
+     */
+    @Test
+    public void increment_shouldCheckExistenceOnlyOnce() {
+        aggregator.increment(1, EmotionType.SEE);
+        aggregator.increment(1, EmotionType.SEE);
+        aggregator.increment(1, EmotionType.MISS);
+
+        verify(memorialIdCache, times(1)).exists(1);
+    }
+
+    /**
+     * GIVEN: stripe 설정값이 주어졌을 때
+     * WHEN: stripeCount()를 호출하면
+     * THEN: 2의 거듭제곱으로 올린 값이어야 한다.
+     */
+    @Test
+    public void stripeCount_shouldRoundUpToPowerOfTwo() {
+        assertThat(EmotionCountAggregator.stripeCount(1)).isEqualTo(1);
+        assertThat(EmotionCountAggregator.stripeCount(3)).isEqualTo(4);
+        assertThat(EmotionCountAggregator.stripeCount(8)).isEqualTo(8);
+        assertThat(Integer.bitCount(EmotionCountAggregator.stripeCount(0))).isEqualTo(1);
+    }
+
+}
@@ -3,12 +3,14 @@ package kodanect.domain.remembrance.service;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.util.MemorialFinder;
 import kodanect.common.util.MemorialCommentFinder;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.dto.MemorialCommentCreateRequest;
 import kodanect.domain.remembrance.dto.MemorialCommentPasswordRequest;
 import kodanect.domain.remembrance.dto.MemorialCommentResponse;
 import kodanect.domain.remembrance.dto.MemorialCommentUpdateRequest;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.entity.MemorialComment;
+import kodanect.domain.remembrance.exception.CommentAlreadyDeleteException;
 import kodanect.domain.remembrance.repository.MemorialCommentRepository;
 import kodanect.domain.remembrance.service.impl.MemorialCommentServiceImpl;
 import org.junit.Test;
@@ -24,6 +26,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +45,9 @@ public class MemorialCommentServiceImplTest {
     @Mock
     private MemorialCommentFinder memorialCommentFinder;
 
+    @Mock
+    private MemorialDetailCache memorialDetailCache;
+
 
     @Test
     @DisplayName("추모관 댓글 생성")
@@ -62,6 +68,7 @@ public class MemorialCommentServiceImplTest {
         memorialCommentService.createComment(donateSeq, request);
 
         verify(memorialCommentRepository, times(1)).save(any(MemorialComment.class));
+        verify(memorialDetailCache, times(1)).invalidate(donateSeq);
     }
 
     @Test
@@ -90,6 +97,7 @@ public class MemorialCommentServiceImplTest {
 
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
         when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
+        when(memorialCommentRepository.updateCommentContents(commentSeq, "수정 내용", "홍길동")).thenReturn(1);
 
         memorialCommentService.updateComment(donateSeq, commentSeq, request);
 
@@ -118,12 +126,41 @@ public class MemorialCommentServiceImplTest {
 
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
         when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
-        when(memorialCommentRepository.save(any(MemorialComment.class))).thenReturn(null);
+        when(memorialCommentRepository.softDeleteComment(commentSeq)).thenReturn(1);
 
         memorialCommentService.deleteComment(donateSeq, commentSeq, request);
 
-        assertEquals("Y", mockComment.getDelFlag());
-        verify(memorialCommentRepository, times(1)).save(mockComment);
+        verify(memorialCommentRepository, times(1)).softDeleteComment(commentSeq);
+        verify(memorialCommentRepository, never()).save(any(MemorialComment.class));
+        verify(memorialDetailCache, times(1)).invalidate(donateSeq);
+    }
+
+    @Test
+    @DisplayName("추모관 댓글 삭제 - 조회 이후 다른 요청이 먼저 삭제")
+    public void 추모관_댓글_동시_삭제() {
+
+        Integer donateSeq = 1;
+        Integer commentSeq = 1;
+
+        MemorialCommentPasswordRequest request =
+                MemorialCommentPasswordRequest
+                        .builder()
+                        .commentPasscode("1234")
+                        .build();
+
+        MemorialComment mockComment = MemorialComment.builder()
+                .commentSeq(commentSeq)
+                .donateSeq(donateSeq)
+                .commentPasscode("1234")
+                .delFlag("N")
+                .build();
+
+        when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
+        when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
+        when(memorialCommentRepository.softDeleteComment(commentSeq)).thenReturn(0);
+
+        assertThrows(CommentAlreadyDeleteException.class,
+                () -> memorialCommentService.deleteComment(donateSeq, commentSeq, request));
     }
 
     @Test
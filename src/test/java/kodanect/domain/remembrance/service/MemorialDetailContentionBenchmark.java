@@ -0,0 +1,225 @@
+package kodanect.domain.remembrance.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.config.properties.MemorialDetailCacheProperties;
+import kodanect.common.config.properties.MemorialEmotionProperties;
+import kodanect.common.listcache.FirstPageCache;
+import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
+import kodanect.common.util.MemorialCommentFinder;
+import kodanect.common.util.MemorialFinder;
+import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
+import kodanect.domain.heaven.service.HeavenService;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
+import kodanect.domain.remembrance.dto.MemorialCommentUpdateRequest;
+import kodanect.domain.remembrance.emotion.EmotionCountAggregator;
+import kodanect.domain.remembrance.emotion.MemorialIdCache;
+import kodanect.domain.remembrance.entity.Memorial;
+import kodanect.domain.remembrance.entity.MemorialComment;
+import kodanect.domain.remembrance.repository.MemorialCommentRepository;
+import kodanect.domain.remembrance.repository.MemorialRepository;
+import kodanect.domain.remembrance.service.impl.MemorialCommentServiceImpl;
+import kodanect.domain.remembrance.service.impl.MemorialServiceImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 이모지 클릭과 댓글 수정이 몰리는 동안 추모관 상세 조회 처리량을 비교하는 벤치마크입니다.
+ *
+ * 한 게시글에 대해 조회 스레드와 쓰기 스레드(이모지 클릭, 댓글 수정 교대)를 동시에 실행하고,
+ * 다음 두 방식의 조회 처리량, 조회 지연(p50/p99), 쓰기 처리량을 출력합니다.
+ * - PER_POST_LOCK: 이전 방식과 같이 조회는 게시글별 읽기 락, 쓰기는 쓰기 락 안에서 수행
+ * - LOCK_FREE: 현재 서비스에서 상세 조회 캐시만 끈 상태 (조회는 잠금 없음, 쓰기는 조건부 UPDATE / 메모리 누적)
+ * - LOCK_FREE_CACHED: 현재 서비스 그대로 (상세 조회 캐시 사용, 댓글 수정 시 무효화)
+ * 리포지토리 호출은 QUERY_MICROS 만큼 지연시켜 DB 왕복을 흉내 냅니다. (상세 조회 1건 = 쿼리 5개)
+ * 단위 테스트 실행 대상이 아니므로 main()으로 직접 실행합니다.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=kodanect.domain.remembrance.service.MemorialDetailContentionBenchmark
+ * </pre>
+ */
+public class MemorialDetailContentionBenchmark {
+
+    private static final int DONATE_SEQ = 1;
+    private static final int COMMENT_SEQ = 1;
+    private static final int READERS = 16;
+    private static final int WRITERS = 4;
+    private static final long QUERY_MICROS = 1_000L;
+    private static final long DURATION_MILLIS = 5_000L;
+    private static final int MAX_SAMPLES = 1 << 16;
+    private static final double P50 = 0.50;
+    private static final double P99 = 0.99;
+
+    private enum Mode { PER_POST_LOCK, LOCK_FREE, LOCK_FREE_CACHED }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (Mode mode : Mode.values()) {
+            run(mode);
+        }
+    }
+
+    private static void run(Mode mode) throws InterruptedException {
+        MemorialFinder memorialFinder = stub(MemorialFinder.class);
+        MemorialCommentFinder memorialCommentFinder = stub(MemorialCommentFinder.class);
+        MemorialCommentRepository memorialCommentRepository = stub(MemorialCommentRepository.class);
+        HeavenService heavenService = stub(HeavenService.class);
+        MemorialIdCache memorialIdCache = stub(MemorialIdCache.class);
+
+        when(memorialFinder.findByIdOrThrow(DONATE_SEQ)).thenAnswer(invocation -> query(createMemorial()));
+        when(memorialCommentFinder.findByIdOrThrow(COMMENT_SEQ)).thenAnswer(invocation -> query(createComment()));
+        when(memorialCommentRepository.findByCursor(eq(DONATE_SEQ), isNull(), any(Pageable.class))).thenAnswer(invocation -> query(List.of()));
+        when(memorialCommentRepository.countByDonateSeq(DONATE_SEQ)).thenAnswer(invocation -> query(0L));
+        when(memorialCommentRepository.updateCommentContents(eq(COMMENT_SEQ), anyString(), anyString())).thenAnswer(invocation -> query(1));
+        when(heavenService.getMemorialHeavenList(eq(DONATE_SEQ), isNull(), anyInt())).thenAnswer(invocation -> query(emptyLetters()));
+        when(memorialIdCache.exists(DONATE_SEQ)).thenReturn(true);
+
+        MemorialDetailCache detailCache = new MemorialDetailCache(
+                new MemorialDetailCacheProperties(mode == Mode.LOCK_FREE_CACHED, Long.MAX_VALUE, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        MemorialCommentService commentService = new MemorialCommentServiceImpl(memorialCommentRepository, memorialFinder, memorialCommentFinder, detailCache);
+        EmotionCountAggregator aggregator = new EmotionCountAggregator(stub(JdbcTemplate.class), stub(PlatformTransactionManager.class),
+                memorialIdCache, detailCache, new MemorialEmotionProperties(DURATION_MILLIS, 500, 0, DURATION_MILLIS));
+        MemorialService memorialService = new MemorialServiceImpl(stub(MemorialRepository.class), commentService, memorialFinder, heavenService, aggregator, detailCache,
+                stub(BoardCountRegistry.class), stub(SearchResultCache.class), stub(FirstPageCache.class));
+        MemorialCommentUpdateRequest updateRequest = MemorialCommentUpdateRequest.builder().commentWriter("홍길동").contents("수정 내용").build();
+
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        LongAdder writes = new LongAdder();
+        long[][] latencies = new long[READERS][];
+        int[] readCounts = new int[READERS];
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        CountDownLatch done = new CountDownLatch(READERS + WRITERS);
+
+        for (int r = 0; r < READERS; r++) {
+            int reader = r;
+            latencies[reader] = new long[MAX_SAMPLES];
+
+            new Thread(() -> {
+                while (System.nanoTime() < deadline && readCounts[reader] < MAX_SAMPLES) {
+                    long start = System.nanoTime();
+                    guarded(mode, lock, false, () -> memorialService.getMemorialByDonateSeq(DONATE_SEQ));
+                    latencies[reader][readCounts[reader]++] = System.nanoTime() - start;
+                }
+                done.countDown();
+            }).start();
+        }
+
+        for (int w = 0; w < WRITERS; w++) {
+            new Thread(() -> {
+                for (long i = 0; System.nanoTime() < deadline; i++) {
+                    if (i % 2 == 0) {
+                        guarded(mode, lock, true, () -> memorialService.emotionCountUpdate(DONATE_SEQ, "flower"));
+                    } else {
+                        guarded(mode, lock, true, () -> commentService.updateComment(DONATE_SEQ, COMMENT_SEQ, updateRequest));
+                    }
+                    writes.increment();
+                }
+                done.countDown();
+            }).start();
+        }
+
+        done.await();
+
+        long[] merged = new long[Arrays.stream(readCounts).sum()];
+        int offset = 0;
+
+        for (int r = 0; r < READERS; r++) {
+            System.arraycopy(latencies[r], 0, merged, offset, readCounts[r]);
+            offset += readCounts[r];
+        }
+        Arrays.sort(merged);
+
+        double seconds = DURATION_MILLIS / 1000.0;
+        System.out.printf("%-16s reads: %,8.0f/s  read p50: %6.2f ms  read p99: %7.2f ms  writes: %,8.0f/s%n",
+                mode, merged.length / seconds, percentileMillis(merged, P50), percentileMillis(merged, P99), writes.sum() / seconds);
+    }
+
+    /**
+     * PER_POST_LOCK 방식이면 이전 서비스와 같이 게시글별 락 안에서 실행합니다.
+     */
+    private static void guarded(Mode mode, ReentrantReadWriteLock lock, boolean write, Runnable action) {
+        if (mode != Mode.PER_POST_LOCK) {
+            action.run();
+            return;
+        }
+
+        Lock held = write ? lock.writeLock() : lock.readLock();
+        held.lock();
+
+        try {
+            action.run();
+        } finally {
+            held.unlock();
+        }
+    }
+
+    private static <T> T query(T result) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(QUERY_MICROS));
+        return result;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * percentile))] / 1_000_000.0;
+    }
+
+    private static Memorial createMemorial() {
+        return Memorial.builder()
+                .donateSeq(DONATE_SEQ)
+                .donorName("홍길동")
+                .anonymityFlag("N")
+                .donateTitle("기억합니다")
+                .donateDate("20240101")
+                .genderFlag("M")
+                .donateAge(40)
+                .writeTime(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .delFlag("N")
+                .build();
+    }
+
+    private static MemorialComment createComment() {
+        return MemorialComment.builder()
+                .commentSeq(COMMENT_SEQ)
+                .donateSeq(DONATE_SEQ)
+                .commentPasscode("1234")
+                .delFlag("N")
+                .build();
+    }
+
+    private static CursorPaginationResponse<MemorialHeavenResponse, Integer> emptyLetters() {
+        return CursorPaginationResponse.<MemorialHeavenResponse, Integer>builder()
+                .content(List.of())
+                .nextCursor(null)
+                .hasNext(false)
+                .build();
+    }
+
+}
@@ -1,6 +1,15 @@
 package kodanect.domain.remembrance.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.boardcount.BoardCountRegistry;
+import kodanect.common.boardcount.CountedBoard;
+import kodanect.common.config.properties.FirstPageCacheProperties;
+import kodanect.common.config.properties.SearchCacheProperties;
+import kodanect.common.listcache.FirstPageCache;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.search.SearchResultCache;
+import kodanect.common.util.EmotionType;
 import kodanect.common.util.FormatUtils;
 import kodanect.common.util.MemorialFinder;
 import kodanect.common.util.MemorialHtmlNormalizer;
@@ -8,11 +17,13 @@ import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
 import kodanect.domain.heaven.service.HeavenService;
 import kodanect.domain.remembrance.TestHeavenMemorialResponse;
 import kodanect.domain.remembrance.TestMemorialResponse;
+import kodanect.domain.remembrance.cache.MemorialDetailCache;
 import kodanect.domain.remembrance.dto.HeavenMemorialResponse;
 import kodanect.domain.remembrance.dto.MemorialDetailResponse;
 import kodanect.domain.remembrance.dto.MemorialResponse;
 import kodanect.domain.remembrance.dto.MemorialCommentResponse;
 import kodanect.domain.remembrance.dto.common.MemorialNextCursor;
+import kodanect.domain.remembrance.emotion.EmotionCountAggregator;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.repository.MemorialRepository;
 import kodanect.domain.remembrance.service.impl.MemorialServiceImpl;
@@ -21,13 +32,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -56,6 +70,22 @@ public class MemorialServiceImplTest {
     @Mock
     private MemorialHtmlNormalizer memorialHtmlNormalizer;
 
+    @Mock
+    private EmotionCountAggregator emotionCountAggregator;
+
+    @Mock
+    private MemorialDetailCache memorialDetailCache;
+
+    @Mock
+    private BoardCountRegistry boardCountRegistry;
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(
+            new SearchCacheProperties(true, 100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+    @Spy
+    private FirstPageCache firstPageCache = new FirstPageCache(
+            new FirstPageCacheProperties(true, 50, Duration.ofMinutes(1)), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+
     @Test
     @DisplayName("추모관 이모지 카운팅")
     public void 추모관_이모지_카운팅() {
@@ -70,42 +100,6 @@ public class MemorialServiceImplTest {
         final String PROUD = "PROUD";
         final String LOVE = "love";
 
-        Memorial memorial = Memorial.builder()
-                .donateSeq(donateSeq)
-                .donorName("홍길동")
-                .anonymityFlag("N")
-                .donateTitle("기억합니다")
-                .areaCode("A1")
-                .contents("내용입니다")
-                .fileName("img.jpg")
-                .orgFileName("origin.jpg")
-                .writer("관리자")
-                .donateDate("20240101")
-                .genderFlag("M")
-                .donateAge(40)
-                .flowerCount(1)
-                .loveCount(2)
-                .seeCount(3)
-                .missCount(4)
-                .proudCount(5)
-                .hardCount(6)
-                .sadCount(7)
-                .writeTime(LocalDateTime.of(2024, 1, 1, 12, 0))
-                .writerId("admin")
-                .modifyTime(LocalDateTime.of(2024, 1, 2, 12, 0))
-                .modifierId("admin")
-                .delFlag("N")
-                .build();
-
-        when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(memorial);
-        doNothing().when(memorialRepository).incrementFlower(donateSeq);
-        doNothing().when(memorialRepository).incrementHard(donateSeq);
-        doNothing().when(memorialRepository).incrementLove(donateSeq);
-        doNothing().when(memorialRepository).incrementMiss(donateSeq);
-        doNothing().when(memorialRepository).incrementSad(donateSeq);
-        doNothing().when(memorialRepository).incrementProud(donateSeq);
-        doNothing().when(memorialRepository).incrementSee(donateSeq);
-
         memorialService.emotionCountUpdate(donateSeq, FLOWER);
         memorialService.emotionCountUpdate(donateSeq, HARD);
         memorialService.emotionCountUpdate(donateSeq, LOVE);
@@ -114,13 +108,13 @@ public class MemorialServiceImplTest {
         memorialService.emotionCountUpdate(donateSeq, PROUD);
         memorialService.emotionCountUpdate(donateSeq, SEE);
 
-        verify(memorialRepository, times(1)).incrementFlower(donateSeq);
-        verify(memorialRepository, times(1)).incrementProud(donateSeq);
-        verify(memorialRepository, times(1)).incrementSad(donateSeq);
-        verify(memorialRepository, times(1)).incrementMiss(donateSeq);
-        verify(memorialRepository, times(1)).incrementSee(donateSeq);
-        verify(memorialRepository, times(1)).incrementLove(donateSeq);
-        verify(memorialRepository, times(1)).incrementHard(donateSeq);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.FLOWER);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.PROUD);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.SAD);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.MISS);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.SEE);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.LOVE);
+        verify(emotionCountAggregator, times(1)).increment(donateSeq, EmotionType.HARD);
 
     }
 
@@ -166,6 +160,39 @@ public class MemorialServiceImplTest {
         assertEquals(5, item.getCommentCount());
     }
 
+    /**
+     * GIVEN: 같은 조건의 검색 첫 페이지를 조회한 뒤
+     * WHEN: 첫 페이지를 다시 조회하고 "더 보기" 페이지를 조회하면
+     * THEN: 검색 개수와 첫 페이지는 한 번만 DB에서 조회하고, 다음 페이지만 DB에서 조회해야 한다.
+     */
+    @Test
+    @DisplayName("추모관 게시글 검색 결과 캐시")
+    public void 추모관_게시글_검색_결과_캐시() {
+        List<MemorialResponse> firstPage = List.of(
+                new TestMemorialResponse(3, "홍길동", "2023-01-03", "M", 42, 3, 3),
+                new TestMemorialResponse(2, "홍길동", "2023-01-02", "M", 40, 5, 3)
+        );
+
+        when(memorialRepository.findSearchByCursor(isNull(), isNull(), eq("20230101"), eq("20240101"), eq("%홍길동%"), any(Pageable.class)))
+                .thenReturn(firstPage);
+        when(memorialRepository.findSearchByCursor(eq("20230102"), eq(2), eq("20230101"), eq("20240101"), eq("%홍길동%"), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(memorialRepository.countBySearch("20230101", "20240101", "%홍길동%")).thenReturn(2L);
+
+        memorialService.getSearchMemorialList("2023-01-01", "2024-01-01", "홍길동", new MemorialNextCursor(null, null), 1);
+        CursorPaginationResponse<MemorialResponse, MemorialNextCursor> cached =
+                memorialService.getSearchMemorialList("2023-01-01", "2024-01-01", " 홍길동 ", new MemorialNextCursor(null, null), 1);
+        CursorPaginationResponse<MemorialResponse, MemorialNextCursor> next =
+                memorialService.getSearchMemorialList("2023-01-01", "2024-01-01", "홍길동", new MemorialNextCursor(2, "2023-01-02"), 1);
+
+        assertEquals(1, cached.getContent().size());
+        assertEquals(Long.valueOf(2L), cached.getTotalCount());
+        assertEquals(0, next.getContent().size());
+        assertEquals(Long.valueOf(2L), next.getTotalCount());
+        verify(memorialRepository, times(1)).findSearchByCursor(isNull(), isNull(), anyString(), anyString(), anyString(), any(Pageable.class));
+        verify(memorialRepository, times(1)).countBySearch("20230101", "20240101", "%홍길동%");
+    }
+
     @Test
     @DisplayName("추모관 게시글 하늘나라 팝업 검색 조회")
     public void 추모관_게시글_하늘나라_팝업_검색_조회() {
@@ -223,11 +250,13 @@ public class MemorialServiceImplTest {
         );
 
         when(memorialRepository.findByCursor(eq(nextCursor.getCursor()), eq(nextCursor.getDate()), any(Pageable.class))).thenReturn(content);
+        when(boardCountRegistry.get(CountedBoard.MEMORIAL)).thenReturn(2L);
 
         CursorPaginationResponse<MemorialResponse, MemorialNextCursor> page = memorialService.getMemorialList(nextCursor, size);
 
         assertNotNull(page);
         assertEquals(2, page.getContent().size());
+        assertEquals(Long.valueOf(2L), page.getTotalCount());
 
         MemorialResponse dto1 = page.getContent().get(0);
         assertEquals(Integer.valueOf(1), dto1.getDonateSeq());
@@ -309,6 +338,9 @@ public class MemorialServiceImplTest {
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(memorial);
         when(memorialCommentService.getMemorialCommentList(eq(donateSeq), eq(null), anyInt())).thenReturn(page);
         when(heavenService.getMemorialHeavenList(eq(donateSeq), eq(null), anyInt())).thenReturn(letters);
+        when(emotionCountAggregator.pending(donateSeq)).thenReturn(new long[]{2, 0, 0, 0, 0, 0, 1});
+        when(memorialDetailCache.get(eq(donateSeq), any())).thenAnswer(invocation ->
+                invocation.<Function<Integer, MemorialDetailResponse>>getArgument(1).apply(donateSeq));
 
         MemorialDetailResponse result = memorialService.getMemorialByDonateSeq(donateSeq);
 
@@ -322,13 +354,13 @@ public class MemorialServiceImplTest {
         assertEquals("2024-01-01", result.getDonateDate());
         assertEquals("M", result.getGenderFlag());
         assertEquals(Integer.valueOf(40), result.getDonateAge());
-        assertEquals(1, result.getFlowerCount());
+        assertEquals(3, result.getFlowerCount());
         assertEquals(2, result.getLoveCount());
         assertEquals(3, result.getSeeCount());
         assertEquals(4, result.getMissCount());
         assertEquals(5, result.getProudCount());
         assertEquals(6, result.getHardCount());
-        assertEquals(7, result.getSadCount());
+        assertEquals(8, result.getSadCount());
         assertEquals("2024-01-01", result.getWriteTime());
         assertEquals(1, result.getHeavenLetterResponses().getContent().get(0).getLetterSeq());
     }